@@ -24,7 +24,9 @@ rootProject.name = "xgradle"
 include("xgradle-resolution-plugin")
 include("xgradle-cli")
 include("xgradle-sbom-generator")
+include("xgradle-pom-core")
 
 project(":xgradle-resolution-plugin").projectDir = file("xgradle-resolution-plugin")
 project(":xgradle-cli").projectDir = file("xgradle-cli")
 project(":xgradle-sbom-generator").projectDir = file("xgradle-sbom-generator")
+project(":xgradle-pom-core").projectDir = file("xgradle-pom-core")
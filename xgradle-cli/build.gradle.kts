@@ -23,6 +23,7 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":xgradle-pom-core"))
     implementation(libs.bundles.maven.tooling)
     implementation(libs.bundles.logging)
     implementation(libs.jcommander)
@@ -34,6 +35,7 @@ dependencies {
     testImplementation(libs.bundles.testing)
     testRuntimeOnly(libs.bundles.testing.platform)
 
+    shadow(project(":xgradle-pom-core"))
     shadow(libs.bundles.maven.tooling)
     shadow(libs.bundles.logging)
     shadow(libs.jcommander)
@@ -18,9 +18,16 @@ package org.altlinux.xgradle.impl;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.util.Modules;
 
 import org.altlinux.xgradle.interfaces.application.Application;
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
 import org.altlinux.xgradle.impl.di.XGradleToolModule;
+import org.altlinux.xgradle.impl.server.CliServerClient;
+import org.altlinux.xgradle.impl.stats.StatsModule;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+
+import java.util.OptionalInt;
 
 /**
  * Main entry point for the XGradle tool application.
@@ -30,8 +37,18 @@ import org.altlinux.xgradle.impl.di.XGradleToolModule;
 public class Main {
 
     public static void main(String[] args) {
-        Injector injector = Guice.createInjector(new XGradleToolModule());
-        int code = injector.getInstance(Application.class).run(args).getExitCode();
+        OptionalInt forwarded = CliServerClient.tryRun(args);
+        if (forwarded.isPresent()) {
+            System.exit(forwarded.getAsInt());
+        }
+
+        boolean statsEnabled = CliArgumentsContainer.requestsStats(args) || CliArgumentsContainer.requestsServer(args);
+        Injector injector = Guice.createInjector(Modules.override(new XGradleToolModule())
+                .with(new StatsModule(statsEnabled)));
+        int code;
+        try (TaskExecutor taskExecutor = injector.getInstance(TaskExecutor.class)) {
+            code = injector.getInstance(Application.class).run(args).getExitCode();
+        }
         System.exit(code);
     }
 }
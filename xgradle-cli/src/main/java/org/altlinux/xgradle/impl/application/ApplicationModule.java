@@ -18,6 +18,7 @@ package org.altlinux.xgradle.impl.application;
 
 import com.google.inject.AbstractModule;
 import org.altlinux.xgradle.interfaces.application.Application;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Application bindings.
  *
@@ -28,6 +29,8 @@ public final class ApplicationModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new StatsModule());
+
         bind(Application.class).to(DefaultApplication.class);
     }
 }
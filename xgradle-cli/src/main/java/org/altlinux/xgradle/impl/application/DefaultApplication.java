@@ -26,18 +26,25 @@ import org.altlinux.xgradle.interfaces.application.Application;
 import org.altlinux.xgradle.interfaces.controllers.ArtifactsInstallationController;
 import org.altlinux.xgradle.interfaces.controllers.PomRedactionController;
 import org.altlinux.xgradle.interfaces.controllers.XmvnCompatController;
+import org.altlinux.xgradle.interfaces.server.CliServer;
+import org.altlinux.xgradle.interfaces.stats.StatsReporter;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Bom;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Javadoc;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Library;
 import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
 import org.altlinux.xgradle.impl.cli.commands.CliVersion;
+import org.altlinux.xgradle.impl.config.ToolConfig;
 import org.altlinux.xgradle.impl.enums.ExitCode;
+import org.altlinux.xgradle.impl.enums.StatsFormat;
 import org.altlinux.xgradle.impl.exceptions.CliUsageException;
+import org.altlinux.xgradle.impl.server.CliServerClient;
 
 import org.slf4j.Logger;
 
 import javax.inject.Provider;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Default implementation of {@link Application}.
@@ -57,6 +64,9 @@ final class DefaultApplication implements Application {
     private final Provider<XmvnCompatController> javadocXmvnController;
     private final Provider<ArtifactsInstallationController> pluginsController;
     private final Provider<PomRedactionController> pomRedactionController;
+    private final Provider<CliServer> cliServer;
+    private final Provider<ToolConfig> toolConfig;
+    private final Provider<StatsReporter> statsReporter;
 
     @Inject
     DefaultApplication(
@@ -67,7 +77,10 @@ final class DefaultApplication implements Application {
             @Bom Provider<XmvnCompatController> bomXmvnController,
             @Javadoc Provider<XmvnCompatController> javadocXmvnController,
             Provider<ArtifactsInstallationController> pluginsController,
-            Provider<PomRedactionController> pomRedactionController
+            Provider<PomRedactionController> pomRedactionController,
+            Provider<CliServer> cliServer,
+            Provider<ToolConfig> toolConfig,
+            Provider<StatsReporter> statsReporter
     ) {
         this.jCommander = jCommander;
         this.cliArgs = cliArgs;
@@ -77,12 +90,15 @@ final class DefaultApplication implements Application {
         this.javadocXmvnController = javadocXmvnController;
         this.pluginsController = pluginsController;
         this.pomRedactionController = pomRedactionController;
+        this.cliServer = cliServer;
+        this.toolConfig = toolConfig;
+        this.statsReporter = statsReporter;
     }
 
     @Override
     public ExitCode run(String[] args) {
         try {
-            jCommander.parse(args);
+            jCommander.parse(CliArgumentsContainer.expandBareStats(args));
             cliArgs.validateMutuallyExclusive();
         } catch (ParameterException e) {
             logger.error("Invalid CLI arguments: {}", e.getMessage());
@@ -98,6 +114,16 @@ final class DefaultApplication implements Application {
             return ExitCode.SUCCESS;
         }
 
+        if (cliArgs.isServer() || cliArgs.isStopServer()) {
+            return runServer();
+        }
+
+        ExitCode exitCode = runCommand(args);
+        reportStats();
+        return exitCode;
+    }
+
+    private ExitCode runCommand(String[] args) {
         if (cliArgs.hasPomRedaction()) {
             try {
                 pomRedactionController.get().configure();
@@ -133,4 +159,32 @@ final class DefaultApplication implements Application {
             return ExitCode.ERROR;
         }
     }
+
+    private void reportStats() {
+        StatsFormat format = toolConfig.get().getStatsFormat();
+        if (format == null) {
+            return;
+        }
+
+        Path statsFile = toolConfig.get().getStatsFile();
+        try {
+            statsReporter.get().report(format, statsFile);
+        } catch (IOException e) {
+            logger.error("Failed to write stats report: {}", statsFile, e);
+        }
+    }
+
+    private ExitCode runServer() {
+        Path socket = toolConfig.get().getServerSocket();
+        if (socket == null) {
+            logger.error("Server socket is not set: use --socket or the {} environment variable",
+                    CliServerClient.SOCKET_ENV);
+            return ExitCode.ERROR;
+        }
+        if (cliArgs.isStopServer()) {
+            logger.info("No xgradle-cli server is listening on {}", socket);
+            return ExitCode.SUCCESS;
+        }
+        return cliServer.get().serve(socket, toolConfig.get().getServerIdleTimeout());
+    }
 }
@@ -16,7 +16,11 @@
 package org.altlinux.xgradle.impl.caches;
 
 import com.google.inject.AbstractModule;
+import org.altlinux.xgradle.impl.pom.PomModule;
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Caches bindings.
  *
@@ -27,6 +31,11 @@ public final class CachesModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new PomModule());
+        install(new StatsModule());
+
         bind(ArtifactCache.class).to(DefaultArtifactCache.class);
+        bind(ModelCache.class).to(DefaultModelCache.class);
+        bind(PomCatalog.class).to(DefaultPomCatalog.class);
     }
 }
@@ -18,14 +18,18 @@ package org.altlinux.xgradle.impl.caches;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.enums.StatsCounter;
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactData;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
 
 /**
  * Default implementation of ArtifactCache.
+ * Lookups and additions that find an already cached artifact are counted as hits in {@link RunStats}.
  * Implements {@link ArtifactCache}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -34,17 +38,23 @@ import org.altlinux.xgradle.interfaces.model.ArtifactData;
 final class DefaultArtifactCache implements ArtifactCache {
     private final Cache<ArtifactCoordinates, ArtifactData> artifactCache =
             CacheBuilder.newBuilder().build();
+    private final RunStats runStats;
+
+    @Inject
+    DefaultArtifactCache(RunStats runStats) {
+        this.runStats = runStats;
+    }
 
     @Override
     public boolean contains(ArtifactCoordinates coordinates) {
-        return artifactCache.getIfPresent(coordinates) != null;
+        return hit(artifactCache.getIfPresent(coordinates) != null);
     }
 
     @Override
     public boolean add(ArtifactData artifactData) {
-        return artifactCache
+        return !hit(artifactCache
                 .asMap()
-                .putIfAbsent(artifactData.getCoordinates(), artifactData) == null;
+                .putIfAbsent(artifactData.getCoordinates(), artifactData) != null);
     }
 
     @Override
@@ -57,4 +67,11 @@ final class DefaultArtifactCache implements ArtifactCache {
         long sz = artifactCache.size();
         return sz > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sz;
     }
+
+    private boolean hit(boolean cached) {
+        if (cached) {
+            runStats.increment(StatsCounter.ARTIFACT_CACHE_HITS);
+        }
+        return cached;
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.caches;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.pom.PomReader;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import org.apache.maven.model.Model;
+
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Default implementation of ModelCache.
+ * Concurrent lookups of the same path share a single parse done by the shared {@link PomReader}.
+ * Every entry remembers the size, modification time and file key of its file, and a lookup
+ * parses the file again when they changed, so a long-running server never serves a stale model.
+ * The cache is bounded by the total weight of its models, roughly the number of dependencies and
+ * properties they declare, and its values are softly referenced, so a server reading many POMs
+ * drops the least recently used models and reads them again on demand.
+ * Implements {@link ModelCache}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultModelCache implements ModelCache {
+
+    private static final int MAX_CACHE_WEIGHT = 200_000;
+
+    private final Cache<Path, CachedModel> modelCache = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHE_WEIGHT)
+            .weigher((Weigher<Path, CachedModel>) (path, cached) -> weigh(cached.model))
+            .softValues()
+            .build();
+    private final PomReader pomReader;
+    private final RunStats runStats;
+
+    @Inject
+    DefaultModelCache(PomReader pomReader, RunStats runStats) {
+        this.pomReader = pomReader;
+        this.runStats = runStats;
+    }
+
+    @Override
+    public Model get(Path pomPath) throws IOException, XmlPullParserException {
+        try {
+            Path key = key(pomPath);
+            FileStamp stamp = FileStamp.of(key);
+            CachedModel cached = modelCache.get(key, () -> read(key));
+            if (!cached.stamp.equals(stamp)) {
+                modelCache.asMap().remove(key, cached);
+                cached = modelCache.get(key, () -> read(key));
+            }
+            return cached.model;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof XmlPullParserException) {
+                throw (XmlPullParserException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to read POM: " + pomPath, cause);
+        }
+    }
+
+    @Override
+    public void invalidate(Path pomPath) {
+        modelCache.invalidate(key(pomPath));
+    }
+
+    @Override
+    public void invalidateAll() {
+        modelCache.invalidateAll();
+    }
+
+    @Override
+    public int size() {
+        long sz = modelCache.size();
+        return sz > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sz;
+    }
+
+    private CachedModel read(Path pomPath) throws IOException, XmlPullParserException {
+        try (PhaseTimer ignored = runStats.time(StatsPhase.PARSE)) {
+            runStats.increment(StatsCounter.POMS_PARSED);
+            FileStamp stamp = FileStamp.of(pomPath);
+            return new CachedModel(stamp, pomReader.read(pomPath));
+        }
+    }
+
+    private static int weigh(Model model) {
+        int weight = 1 + model.getDependencies().size() + model.getProperties().size();
+        if (model.getDependencyManagement() != null) {
+            weight += model.getDependencyManagement().getDependencies().size();
+        }
+        return weight;
+    }
+
+    private static Path key(Path pomPath) {
+        return pomPath.toAbsolutePath().normalize();
+    }
+
+    private static final class CachedModel {
+
+        private final FileStamp stamp;
+        private final Model model;
+
+        private CachedModel(FileStamp stamp, Model model) {
+            this.stamp = stamp;
+            this.model = model;
+        }
+    }
+}
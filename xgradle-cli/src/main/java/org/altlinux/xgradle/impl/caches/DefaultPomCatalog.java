@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.caches;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.impl.model.ArtifactNameMatcher;
+import org.altlinux.xgradle.impl.pom.PomHeader;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
+import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.pom.PomReader;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of PomCatalog.
+ * Walks every searching directory once through {@link PomCollector}, collecting POM files and
+ * Javadoc JARs in the same walk, and serves all later lookups from memory.
+ * Headers are read in header-only mode of the shared {@link PomReader} and kept together with
+ * the size, modification time and file key of the POM they were read from,
+ * so a file rewritten in place, e.g. by a redactor, is read again on the next lookup.
+ * Implements {@link PomCatalog}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultPomCatalog implements PomCatalog {
+
+    private static final String POM_SUFFIX = ".pom";
+    private static final String JAVADOC_SUFFIX = "-javadoc.jar";
+
+    private final PomCollector pomCollector;
+    private final PomReader pomReader;
+    private final RunStats runStats;
+    private final Logger logger;
+
+    private final Map<Path, DirectoryScan> scans = new ConcurrentHashMap<>();
+    private final Map<Path, CachedHeader> headers = new ConcurrentHashMap<>();
+
+    @Inject
+    DefaultPomCatalog(PomCollector pomCollector, PomReader pomReader, RunStats runStats, Logger logger) {
+        this.pomCollector = pomCollector;
+        this.pomReader = pomReader;
+        this.runStats = runStats;
+        this.logger = logger;
+    }
+
+    @Override
+    public Set<Path> getAllPoms(String searchingDir) {
+        return scan(searchingDir).poms;
+    }
+
+    @Override
+    public Set<Path> getSelectedPoms(String searchingDir, List<String> artifactNames) {
+        Objects.requireNonNull(artifactNames, "artifactNames can not be null");
+
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(artifactNames);
+        Set<Path> selected = scan(searchingDir).poms.stream()
+                .filter(path -> matcher.matches(path.getFileName().toString()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(selected);
+    }
+
+    @Override
+    public Optional<Path> findByFileName(String searchingDir, String fileName) {
+        return Optional.ofNullable(scan(searchingDir).byFileName.get(fileName));
+    }
+
+    @Override
+    public Optional<PomHeader> getHeader(Path pomPath) {
+        FileStamp stamp = FileStamp.of(pomPath);
+        CachedHeader cached = headers.get(pomPath);
+        if (cached != null && cached.stamp.equals(stamp)) {
+            return cached.header;
+        }
+        return headers.compute(pomPath, (path, current) -> current != null && current.stamp.equals(stamp)
+                ? current
+                : new CachedHeader(stamp, readHeader(path))).header;
+    }
+
+    @Override
+    public Map<String, Path> getPomsByCoordinates(String searchingDir) {
+        DirectoryScan scan = scan(searchingDir);
+        Map<String, Path> byCoordinates = scan.byCoordinates;
+        if (byCoordinates == null) {
+            synchronized (scan) {
+                byCoordinates = scan.byCoordinates;
+                if (byCoordinates == null) {
+                    byCoordinates = indexByCoordinates(scan.poms);
+                    scan.byCoordinates = byCoordinates;
+                }
+            }
+        }
+        return byCoordinates;
+    }
+
+    @Override
+    public Map<Path, Map<String, Path>> getJavadocJars(String searchingDir) {
+        DirectoryScan scan = scan(searchingDir);
+        Map<Path, Map<String, Path>> javadocJars = scan.javadocJars;
+        if (javadocJars == null) {
+            synchronized (scan) {
+                javadocJars = scan.javadocJars;
+                if (javadocJars == null) {
+                    javadocJars = indexByDirectory(scan.javadocJarFiles);
+                    scan.javadocJars = javadocJars;
+                    logger.debug("Cataloged Javadoc JARs of {} directories in {}",
+                            javadocJars.size(), key(searchingDir));
+                }
+            }
+        }
+        return javadocJars;
+    }
+
+    @Override
+    public void invalidate(String searchingDir) {
+        Path key = key(searchingDir);
+        scans.remove(key);
+        headers.keySet().removeIf(pomPath -> pomPath.toAbsolutePath().normalize().startsWith(key));
+        logger.debug("Invalidated POM catalog of {}", key);
+    }
+
+    private static Path key(String searchingDir) {
+        return Path.of(searchingDir).toAbsolutePath().normalize();
+    }
+
+    private DirectoryScan scan(String searchingDir) {
+        Path key = key(searchingDir);
+        return scans.computeIfAbsent(key, ignored -> {
+            Map<String, Set<Path>> collected = pomCollector.collectBySuffix(searchingDir, POM_SUFFIX, JAVADOC_SUFFIX);
+            DirectoryScan scan = new DirectoryScan(
+                    collected.getOrDefault(POM_SUFFIX, Set.of()),
+                    collected.getOrDefault(JAVADOC_SUFFIX, Set.of())
+            );
+            logger.debug("Cataloged {} POM files in {}", scan.poms.size(), key);
+            return scan;
+        });
+    }
+
+    private Map<String, Path> indexByCoordinates(Set<Path> poms) {
+        poms.parallelStream().forEach(this::getHeader);
+
+        Map<String, Path> index = new LinkedHashMap<>();
+        poms.forEach(pomPath -> getHeader(pomPath)
+                .map(PomHeader::coordinatesKey)
+                .ifPresent(key -> index.putIfAbsent(key, pomPath)));
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static Map<Path, Map<String, Path>> indexByDirectory(Set<Path> files) {
+        Map<Path, Map<String, Path>> index = new LinkedHashMap<>();
+        files.stream()
+                .sorted()
+                .forEach(path -> index.computeIfAbsent(path.getParent(), ignored -> new LinkedHashMap<>())
+                        .putIfAbsent(path.getFileName().toString(), path));
+        index.replaceAll((directory, byFileName) -> Collections.unmodifiableMap(byFileName));
+        return Collections.unmodifiableMap(index);
+    }
+
+    private Optional<PomHeader> readHeader(Path pomPath) {
+        try (PhaseTimer ignored = runStats.time(StatsPhase.PARSE)) {
+            runStats.increment(StatsCounter.POM_HEADERS_READ);
+            return Optional.of(pomReader.readHeader(pomPath));
+        } catch (IOException e) {
+            logger.error("Failed to read POM header: {}", pomPath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static final class CachedHeader {
+
+        private final FileStamp stamp;
+        private final Optional<PomHeader> header;
+
+        private CachedHeader(FileStamp stamp, Optional<PomHeader> header) {
+            this.stamp = stamp;
+            this.header = header;
+        }
+    }
+
+    private static final class DirectoryScan {
+
+        private final Set<Path> poms;
+        private final Set<Path> javadocJarFiles;
+        private final Map<String, Path> byFileName;
+        private volatile Map<String, Path> byCoordinates;
+        private volatile Map<Path, Map<String, Path>> javadocJars;
+
+        private DirectoryScan(Set<Path> collected, Set<Path> javadocJarFiles) {
+            Set<Path> sorted = collected.stream()
+                    .sorted()
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<String, Path> fileNames = new LinkedHashMap<>();
+            sorted.forEach(path -> fileNames.putIfAbsent(path.getFileName().toString(), path));
+
+            this.poms = Collections.unmodifiableSet(sorted);
+            this.javadocJarFiles = javadocJarFiles;
+            this.byFileName = Collections.unmodifiableMap(fileNames);
+        }
+    }
+}
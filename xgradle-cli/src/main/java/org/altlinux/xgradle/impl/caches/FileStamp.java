@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.caches;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size, modification time and file key of a file, used to detect that a cached file was rewritten.
+ * Files that cannot be read share one stamp.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class FileStamp {
+
+    private static final FileStamp MISSING = new FileStamp(-1L, -1L, null);
+
+    private final long size;
+    private final long modifiedNanos;
+    private final Object fileKey;
+
+    private FileStamp(long size, long modifiedNanos, Object fileKey) {
+        this.size = size;
+        this.modifiedNanos = modifiedNanos;
+        this.fileKey = fileKey;
+    }
+
+    static FileStamp of(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileStamp(
+                    attributes.size(),
+                    attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+                    attributes.fileKey()
+            );
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FileStamp)) {
+            return false;
+        }
+        FileStamp that = (FileStamp) other;
+        return size == that.size
+                && modifiedNanos == that.modifiedNanos
+                && Objects.equals(fileKey, that.fileKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, modifiedNanos, fileKey);
+    }
+}
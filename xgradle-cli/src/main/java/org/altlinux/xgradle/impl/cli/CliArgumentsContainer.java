@@ -18,8 +18,14 @@ package org.altlinux.xgradle.impl.cli;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.ParameterException;
 import com.beust.jcommander.Parameters;
+import com.beust.jcommander.validators.PositiveInteger;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.impl.enums.RedactionBackend;
+import org.altlinux.xgradle.impl.enums.RegisterMode;
+import org.altlinux.xgradle.impl.enums.StatsFormat;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -76,7 +82,8 @@ public class CliArgumentsContainer {
 
     @Parameter(
             names = "--artifacts",
-            description = "Processes all artifacts whose names begin with the passed value (comma-separated listing)",
+            description = "Processes all artifacts whose names begin with the passed value (comma-separated listing; "
+                    + "values with *, ? or [ are globs, values starting with regex: are regular expressions)",
             order = 7
     )
     private List<String> artifactNames;
@@ -97,7 +104,8 @@ public class CliArgumentsContainer {
 
     @Parameter(
             names = "--exclude-artifacts",
-            description = "Excludes all artifacts whose names begin with the passed value (comma-separated listing)",
+            description = "Excludes all artifacts whose names begin with the passed value (comma-separated listing; "
+                    + "globs and regex: patterns are accepted as for --artifacts)",
             order = 10
     )
     private List<String> excludedArtifacts;
@@ -160,6 +168,83 @@ public class CliArgumentsContainer {
     )
     private List<String> changeDependencies;
 
+    @Parameter(
+            names = "--jobs",
+            description = "Number of parallel workers for POM parsing (0 = number of available processors)",
+            validateWith = PositiveInteger.class,
+            order = 19
+    )
+    private int jobs;
+
+    @Parameter(
+            names = "--link-mode",
+            description = "How installed files are placed: copy, hardlink, reflink or symlink "
+                    + "(falls back to copy when linking is not possible)",
+            order = 20
+    )
+    private LinkMode linkMode = LinkMode.COPY;
+
+    @Parameter(
+            names = "--register-mode",
+            description = "How the register command is invoked: sequential, parallel (up to --jobs at once) "
+                    + "or batch (many artifacts per invocation, the command must accept them)",
+            order = 21
+    )
+    private RegisterMode registerMode = RegisterMode.SEQUENTIAL;
+
+    @Parameter(
+            names = "--redaction-backend",
+            description = "How POM redactions are applied: model (rewrite the parsed model) "
+                    + "or streaming (patch only the affected regions, keeping formatting and comments)",
+            order = 22
+    )
+    private RedactionBackend redactionBackend = RedactionBackend.MODEL;
+
+    @Parameter(
+            names = "--server",
+            description = "Serve later invocations over the --socket Unix domain socket, keeping POM caches warm",
+            order = 23
+    )
+    private boolean server;
+
+    @Parameter(
+            names = "--socket",
+            description = "Unix domain socket of the xgradle-cli server (default: $XGRADLE_CLI_SOCKET); "
+                    + "other invocations are forwarded to a running server when it is set",
+            order = 24
+    )
+    private String socket;
+
+    @Parameter(
+            names = "--stop-server",
+            description = "Stop the xgradle-cli server listening on --socket",
+            order = 25
+    )
+    private boolean stopServer;
+
+    @Parameter(
+            names = "--idle-timeout",
+            description = "Seconds without requests after which the server stops (at least 1)",
+            validateWith = PositiveSeconds.class,
+            order = 26
+    )
+    private int idleTimeout = 600;
+
+    @Parameter(
+            names = "--stats",
+            description = "Report phase wall times, counters and peak heap when done: "
+                    + "plain --stats for a text table, --stats=json for a JSON object",
+            order = 27
+    )
+    private StatsFormat stats;
+
+    @Parameter(
+            names = "--stats-file",
+            description = "Write the --stats report to this file instead of stderr",
+            order = 28
+    )
+    private String statsFile;
+
     public void validateMutuallyExclusive() {
         List<String> conflictingParams = new ArrayList<>();
 
@@ -338,6 +423,94 @@ public class CliArgumentsContainer {
         return changeDependencies;
     }
 
+    public int getJobs() {
+        return jobs > 0 ? jobs : Runtime.getRuntime().availableProcessors();
+    }
+
+    public LinkMode getLinkMode() {
+        return linkMode;
+    }
+
+    public RegisterMode getRegisterMode() {
+        return registerMode;
+    }
+
+    public RedactionBackend getRedactionBackend() {
+        return redactionBackend;
+    }
+
+    public boolean isServer() {
+        return server;
+    }
+
+    public String getSocket() {
+        return socket;
+    }
+
+    public boolean isStopServer() {
+        return stopServer;
+    }
+
+    public int getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public StatsFormat getStats() {
+        return stats;
+    }
+
+    public String getStatsFile() {
+        return statsFile;
+    }
+
+    /**
+     * Checks raw command-line arguments for {@code --stats} before they are parsed,
+     * so statistics can be disabled while the injector is created.
+     *
+     * @param args raw command-line arguments
+     * @return {@code true} if {@code --stats} is given, with or without a format
+     */
+    public static boolean requestsStats(String[] args) {
+        for (String arg : args) {
+            if ("--stats".equals(arg) || arg.startsWith("--stats=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks raw command-line arguments for {@code --server} before they are parsed.
+     *
+     * @param args raw command-line arguments
+     * @return {@code true} if {@code --server} is given
+     */
+    public static boolean requestsServer(String[] args) {
+        for (String arg : args) {
+            if ("--server".equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rewrites a bare {@code --stats} into {@code --stats=text}.
+     * JCommander options that take a value cannot be given without one.
+     *
+     * @param args raw command-line arguments
+     * @return arguments ready for parsing
+     */
+    public static String[] expandBareStats(String[] args) {
+        String[] expanded = args.clone();
+        for (int i = 0; i < expanded.length; i++) {
+            if ("--stats".equals(expanded[i])) {
+                expanded[i] = "--stats=text";
+            }
+        }
+        return expanded;
+    }
+
     public boolean hasPomRedaction() {
         return hasAddDependencies() || hasRemoveDependencies() || hasChangeDependencies();
     }
@@ -24,6 +24,7 @@ import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
 import org.altlinux.xgradle.interfaces.cli.CommandLineParser;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 /**
@@ -36,6 +37,8 @@ public final class CliModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new StatsModule());
+
         bind(CommandExecutor.class).to(DefaultCommandExecutor.class);
         bind(CommandLineParser.class).to(DefaultCommandLineParser.class);
     }
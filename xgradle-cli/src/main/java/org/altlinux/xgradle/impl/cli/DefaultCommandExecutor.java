@@ -15,16 +15,21 @@
  */
 package org.altlinux.xgradle.impl.cli;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.enums.StatsCounter;
 import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.function.Consumer;
 
 /**
  * Default implementation of CommandExecutor.
+ * Every started process and its run time are recorded in {@link RunStats}.
  * Implements {@link CommandExecutor}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -32,14 +37,37 @@ import java.io.InputStreamReader;
 @Singleton
 final class DefaultCommandExecutor implements CommandExecutor {
 
+    private final RunStats runStats;
+
+    @Inject
+    DefaultCommandExecutor(RunStats runStats) {
+        this.runStats = runStats;
+    }
+
     @Override
     public int execute(ProcessBuilder processBuilder) throws IOException, InterruptedException {
+        return execute(processBuilder, System.out::println);
+    }
+
+    @Override
+    public int execute(ProcessBuilder processBuilder, StringBuilder output) throws IOException, InterruptedException {
+        return execute(processBuilder, line -> output.append(line).append(System.lineSeparator()));
+    }
+
+    private int execute(ProcessBuilder processBuilder, Consumer<String> lines)
+            throws IOException, InterruptedException {
         processBuilder.redirectErrorStream(true);
+        long started = System.nanoTime();
         Process process = processBuilder.start();
+        runStats.increment(StatsCounter.PROCESSES_SPAWNED);
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            reader.lines().forEach(System.out::println);
+            reader.lines().forEach(lines);
         }
 
-        return process.waitFor();
+        try {
+            return process.waitFor();
+        } finally {
+            runStats.add(StatsCounter.PROCESS_NANOS, System.nanoTime() - started);
+        }
     }
 }
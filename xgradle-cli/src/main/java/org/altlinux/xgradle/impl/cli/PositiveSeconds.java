@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.cli;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+
+/**
+ * JCommander validator for durations given in whole seconds that must be at least one second.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class PositiveSeconds implements IParameterValidator {
+
+    @Override
+    public void validate(String name, String value) {
+        int seconds;
+        try {
+            seconds = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ParameterException("Parameter " + name + " should be a number of seconds (found " + value + ")");
+        }
+        if (seconds < 1) {
+            throw new ParameterException("Parameter " + name + " should be at least 1 second (found " + value + ")");
+        }
+    }
+}
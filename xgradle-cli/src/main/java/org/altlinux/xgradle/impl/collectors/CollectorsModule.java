@@ -19,6 +19,8 @@ import com.google.inject.AbstractModule;
 
 import org.altlinux.xgradle.interfaces.collectors.ArtifactCollector;
 import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.impl.files.FilesModule;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Collectors bindings.
  *
@@ -29,6 +31,9 @@ public final class CollectorsModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new FilesModule());
+        install(new StatsModule());
+
         bind(ArtifactCollector.class).to(DefaultArtifactCollector.class);
         bind(PomCollector.class).to(DefaultPomCollector.class);
     }
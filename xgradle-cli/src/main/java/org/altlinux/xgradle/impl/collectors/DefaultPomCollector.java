@@ -15,21 +15,36 @@
  */
 package org.altlinux.xgradle.impl.collectors;
 
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.impl.files.WalkOptions;
+import org.altlinux.xgradle.impl.model.ArtifactNameMatcher;
 import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.files.FileWalker;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.slf4j.Logger;
+
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.HashSet;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 /**
  * Default implementation of PomCollector for collecting POM files from directories.
+ * Selection is applied while walking with the shared {@link FileWalker}, so files that are
+ * not selected are never collected, and version control directories are not descended into.
+ * Symbolic links to files are collected like regular files, as system repositories link POMs and JARs.
  * Implements {@link PomCollector}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -37,17 +52,22 @@ import java.util.stream.Stream;
 @Singleton
 final class DefaultPomCollector implements PomCollector {
 
+    private static final String POM_SUFFIX = ".pom";
+
+    private final FileWalker fileWalker;
+    private final RunStats runStats;
+    private final Logger logger;
+
+    @Inject
+    DefaultPomCollector(FileWalker fileWalker, RunStats runStats, Logger logger) {
+        this.fileWalker = fileWalker;
+        this.runStats = runStats;
+        this.logger = logger;
+    }
+
     @Override
     public Set<Path> collectAll(String searchingDir) {
-        Set<Path> result = new HashSet<>();
-        try (Stream<Path> paths = Files.walk(Path.of(searchingDir), Integer.MAX_VALUE)) {
-            paths.filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".pom"))
-                    .forEach(result::add);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        return result;
+        return collect(searchingDir, POM_SUFFIX, fileName -> true);
     }
 
     @Override
@@ -55,19 +75,46 @@ final class DefaultPomCollector implements PomCollector {
 
         Objects.requireNonNull(artifactNames, "artifactNames can not be null");
 
-        Set<Path> result = new HashSet<>();
-        try (Stream<Path> paths = Files.walk(Path.of(searchingDir), Integer.MAX_VALUE)) {
-            paths.filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".pom"))
-                    .filter(path -> {
-                        String fileName = path.getFileName().toString();
-                        return artifactNames.stream()
-                                .anyMatch(fileName::startsWith);
-                    })
-                    .forEach(result::add);
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(artifactNames);
+        return collect(searchingDir, POM_SUFFIX, matcher::matches);
+    }
+
+    @Override
+    public Map<String, Set<Path>> collectBySuffix(String searchingDir, String... suffixes) {
+        Map<String, Set<Path>> bySuffix = new LinkedHashMap<>();
+        for (Path path : walk(searchingDir, suffixes, fileName -> true)) {
+            String fileName = path.getFileName().toString();
+            for (String suffix : suffixes) {
+                if (fileName.endsWith(suffix)) {
+                    bySuffix.computeIfAbsent(suffix, ignored -> new HashSet<>()).add(path);
+                    break;
+                }
+            }
+        }
+        return bySuffix;
+    }
+
+    private Set<Path> collect(String searchingDir, String suffix, Predicate<String> fileNameFilter) {
+        return new HashSet<>(walk(searchingDir, new String[]{suffix}, fileNameFilter));
+    }
+
+    private List<Path> walk(String searchingDir, String[] suffixes, Predicate<String> fileNameFilter) {
+        LongAdder walked = new LongAdder();
+        WalkOptions options = WalkOptions.builder()
+                .fileSuffix(suffixes)
+                .fileNameFilter(fileNameFilter)
+                .pruneDirectories(".git", ".svn", ".hg")
+                .includeLinkedFiles()
+                .visitCounter(walked)
+                .onFailure((directory, e) -> logger.warn("Cannot list directory {}: {}", directory, e.getMessage()))
+                .build();
+
+        try (PhaseTimer ignored = runStats.time(StatsPhase.WALK)) {
+            return fileWalker.walk(Path.of(searchingDir), options);
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            runStats.add(StatsCounter.FILES_WALKED, walked.sum());
         }
-        return result;
     }
 }
@@ -16,7 +16,14 @@
 package org.altlinux.xgradle.impl.config;
 
 import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.impl.enums.RedactionBackend;
+import org.altlinux.xgradle.impl.enums.RegisterMode;
+import org.altlinux.xgradle.impl.enums.StatsFormat;
+import org.altlinux.xgradle.impl.server.CliServerClient;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -54,4 +61,44 @@ public final class ToolConfig {
     public boolean isRecursive() {
         return arguments.isRecursive();
     }
+
+    public int getJobs() {
+        return arguments.getJobs();
+    }
+
+    public LinkMode getLinkMode() {
+        LinkMode linkMode = arguments.getLinkMode();
+        return linkMode != null ? linkMode : LinkMode.COPY;
+    }
+
+    public RegisterMode getRegisterMode() {
+        RegisterMode registerMode = arguments.getRegisterMode();
+        return registerMode != null ? registerMode : RegisterMode.SEQUENTIAL;
+    }
+
+    public RedactionBackend getRedactionBackend() {
+        RedactionBackend redactionBackend = arguments.getRedactionBackend();
+        return redactionBackend != null ? redactionBackend : RedactionBackend.MODEL;
+    }
+
+    public Path getServerSocket() {
+        String socket = arguments.getSocket();
+        if (socket == null || socket.isBlank()) {
+            socket = System.getenv(CliServerClient.SOCKET_ENV);
+        }
+        return socket == null || socket.isBlank() ? null : Path.of(socket);
+    }
+
+    public Duration getServerIdleTimeout() {
+        return Duration.ofSeconds(arguments.getIdleTimeout());
+    }
+
+    public StatsFormat getStatsFormat() {
+        return arguments.getStats();
+    }
+
+    public Path getStatsFile() {
+        String statsFile = arguments.getStatsFile();
+        return statsFile == null || statsFile.isBlank() ? null : Path.of(statsFile);
+    }
 }
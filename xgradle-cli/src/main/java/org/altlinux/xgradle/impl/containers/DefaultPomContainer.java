@@ -18,7 +18,7 @@ package org.altlinux.xgradle.impl.containers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
-import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
 
 import java.nio.file.Path;
@@ -27,26 +27,27 @@ import java.util.Set;
 
 /**
  * Default implementation of PomContainer for managing POM file collections.
+ * All lookups are served from the shared {@link PomCatalog}, so a directory is walked once per invocation.
  * Implements {@link PomContainer}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
 @Singleton
 final class DefaultPomContainer implements PomContainer {
-    private final PomCollector pomCollector;
+    private final PomCatalog pomCatalog;
 
     @Inject
-    DefaultPomContainer(PomCollector pomCollector) {
-        this.pomCollector = pomCollector;
+    DefaultPomContainer(PomCatalog pomCatalog) {
+        this.pomCatalog = pomCatalog;
     }
 
     @Override
     public Set<Path> getAllPoms(String searchingDir) {
-        return pomCollector.collectAll(searchingDir);
+        return pomCatalog.getAllPoms(searchingDir);
     }
 
     @Override
     public Set<Path> getSelectedPoms(String searchingDir, List<String> artifactName) {
-        return pomCollector.collectSelected(searchingDir, artifactName);
+        return pomCatalog.getSelectedPoms(searchingDir, artifactName);
     }
 }
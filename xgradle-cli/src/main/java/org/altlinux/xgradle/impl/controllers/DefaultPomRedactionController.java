@@ -23,11 +23,13 @@ import org.altlinux.xgradle.interfaces.controllers.PomRedactionController;
 import org.altlinux.xgradle.impl.config.ToolConfig;
 import org.altlinux.xgradle.interfaces.services.PomService;
 import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
 
 import java.nio.file.Path;
 import java.util.List;
 /**
  * Controller for POM Redaction.
+ * All requested edits are compiled into one redaction plan.
  * Implements {@link PomRedactionController}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -52,19 +54,21 @@ final class DefaultPomRedactionController implements PomRedactionController {
         Path path = Path.of(arguments.getSearchingDirectory());
         boolean recursive = toolConfig.isRecursive();
 
+        RedactionPlan.Builder plan = RedactionPlan.builder();
+
         if (arguments.hasRemoveDependencies()) {
-            arguments.getRemoveDependencies().forEach(c -> pomService.removeDependency(path, c, recursive));
-            return;
+            arguments.getRemoveDependencies().forEach(plan::removeDependency);
         }
 
         if (arguments.hasAddDependencies()) {
-            arguments.getAddDependencies().forEach(c -> pomService.addDependency(path, c, recursive));
-            return;
+            arguments.getAddDependencies().forEach(plan::addDependency);
         }
 
         if (arguments.hasChangeDependencies()) {
             List<String> pair = arguments.getChangeDependencies();
-            pomService.changeDependency(path, pair.get(0), pair.get(1), recursive);
+            plan.changeDependency(pair.get(0), pair.get(1));
         }
+
+        pomService.redact(path, plan.build(), recursive);
     }
 }
@@ -28,6 +28,8 @@ import org.altlinux.xgradle.impl.containers.ContainersModule;
 
 import org.altlinux.xgradle.impl.controllers.*;
 
+import org.altlinux.xgradle.impl.executors.ExecutorsModule;
+
 import org.altlinux.xgradle.impl.installers.InstallersModule;
 import org.altlinux.xgradle.impl.model.ModelModule;
 import org.altlinux.xgradle.impl.parsers.*;
@@ -35,7 +37,9 @@ import org.altlinux.xgradle.impl.processors.*;
 import org.altlinux.xgradle.impl.redactors.RedactorsModule;
 import org.altlinux.xgradle.impl.registrars.RegistrarsModule;
 
+import org.altlinux.xgradle.impl.server.ServerModule;
 import org.altlinux.xgradle.impl.services.ServicesModule;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 import org.altlinux.xgradle.impl.resolvers.ResolversModule;
 
 /**
@@ -74,8 +78,14 @@ public final class XGradleToolModule extends AbstractModule {
 
         install(new CachesModule());
 
+        install(new ExecutorsModule());
+
         install(new ConfigModule());
 
+        install(new ServerModule());
+
+        install(new StatsModule());
+
         install(new ApplicationModule());
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.enums;
+
+/**
+ * Enumeration of the ways artifact files can be placed into an installation directory.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public enum LinkMode {
+    /** Full copy of the file contents */
+    COPY("Copied"),
+
+    /** Hard link to the source file, copy when crossing filesystems */
+    HARDLINK("Hard-linked"),
+
+    /** Copy-on-write clone of the source file, copy when unsupported */
+    REFLINK("Reflinked"),
+
+    /** Symbolic link to the absolute source path */
+    SYMLINK("Symlinked");
+
+    private final String action;
+
+    LinkMode(String action) {
+        this.action = action;
+    }
+
+    /**
+     * Returns the past-tense verb used when logging an installed file.
+     *
+     * @return action label
+     */
+    public String getAction() {
+        return action;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.enums;
+
+/**
+ * Enumeration of the counters reported by {@code --stats}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public enum StatsCounter {
+    /** Directory entries visited while walking */
+    FILES_WALKED("filesWalked"),
+
+    /** Full POM models read from disk */
+    POMS_PARSED("pomsParsed"),
+
+    /** POM headers read from disk */
+    POM_HEADERS_READ("pomHeadersRead"),
+
+    /** Artifact cache lookups that found an already processed artifact */
+    ARTIFACT_CACHE_HITS("artifactCacheHits"),
+
+    /** Bytes written by full copies */
+    BYTES_COPIED("bytesCopied"),
+
+    /** External processes started */
+    PROCESSES_SPAWNED("processesSpawned"),
+
+    /** Cumulative run time of external processes in nanoseconds */
+    PROCESS_NANOS("processNanos");
+
+    private final String key;
+
+    StatsCounter(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.enums;
+
+/**
+ * Enumeration of the timed phases reported by {@code --stats}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public enum StatsPhase {
+    /** Walking searching directories for POM and Javadoc files */
+    WALK("walk"),
+
+    /** Reading POM models and headers */
+    PARSE("parse"),
+
+    /** Excluding artifacts, snapshots and parent blocks */
+    FILTER("filter"),
+
+    /** Copying or linking files into installation directories */
+    COPY("copy"),
+
+    /** Running the register command */
+    REGISTER("register"),
+
+    /** Rewriting POM files */
+    REDACT("redact");
+
+    private final String key;
+
+    StatsPhase(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.executors;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Default implementation of TaskExecutor.
+ * Workers pull fixed-size batches from a shared cursor instead of one task per item.
+ * Virtual threads are used when the runtime provides them (Java 21+), platform daemon threads otherwise.
+ * Implements {@link TaskExecutor}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultTaskExecutor implements TaskExecutor {
+
+    private static final int BATCHES_PER_WORKER = 4;
+    private static final String THREAD_NAME_PREFIX = "xgradle-worker-";
+
+    private final ToolConfig toolConfig;
+    private ExecutorService executor;
+
+    @Inject
+    DefaultTaskExecutor(ToolConfig toolConfig) {
+        this.toolConfig = toolConfig;
+    }
+
+    @Override
+    public <T> void forEach(Collection<? extends T> items, Consumer<? super T> action) {
+        List<T> work = new ArrayList<>(items);
+        int workers = Math.min(parallelism(), work.size());
+        if (workers <= 1) {
+            work.forEach(action);
+            return;
+        }
+
+        int batchSize = Math.max(1, work.size() / (workers * BATCHES_PER_WORKER));
+        AtomicInteger cursor = new AtomicInteger();
+        Runnable worker = () -> {
+            int start;
+            while ((start = cursor.getAndAdd(batchSize)) < work.size()) {
+                int end = Math.min(work.size(), start + batchSize);
+                for (int index = start; index < end; index++) {
+                    action.accept(work.get(index));
+                }
+            }
+        };
+
+        ExecutorService service = executor();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(worker, service));
+        }
+
+        try {
+            worker.run();
+        } finally {
+            awaitAll(futures);
+        }
+    }
+
+    @Override
+    public int parallelism() {
+        return toolConfig.getJobs();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = createExecutor(parallelism());
+        }
+        return executor;
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.installers;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.interfaces.installers.FileTransfer;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default implementation of FileTransfer.
+ * Links are attempted first and fall back to a zero-copy channel transfer when the filesystem refuses them.
+ * Target directories that rejected a link are remembered so later files go straight to copying.
+ * Implements {@link FileTransfer}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultFileTransfer implements FileTransfer {
+
+    private final ToolConfig toolConfig;
+    private final RunStats runStats;
+    private final Logger logger;
+    private final Set<Path> linkUnsupportedDirs = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    DefaultFileTransfer(ToolConfig toolConfig, RunStats runStats, Logger logger) {
+        this.toolConfig = toolConfig;
+        this.runStats = runStats;
+        this.logger = logger;
+    }
+
+    @Override
+    public LinkMode transfer(Path source, Path target) throws IOException {
+        try (PhaseTimer ignored = runStats.time(StatsPhase.COPY)) {
+            return place(source, target);
+        }
+    }
+
+    private LinkMode place(Path source, Path target) throws IOException {
+        Path absoluteSource = source.toAbsolutePath().normalize();
+        Path absoluteTarget = target.toAbsolutePath().normalize();
+        if (absoluteSource.equals(absoluteTarget)) {
+            throw new IOException("Source and target are the same file: " + source);
+        }
+
+        Files.deleteIfExists(absoluteTarget);
+
+        LinkMode mode = getLinkMode();
+        Path targetDir = absoluteTarget.getParent();
+        if (mode != LinkMode.COPY && !linkUnsupportedDirs.contains(targetDir)) {
+            if (link(mode, absoluteSource, absoluteTarget)) {
+                return mode;
+            }
+            if (linkUnsupportedDirs.add(targetDir)) {
+                logger.debug("Link mode {} is not available for {}, falling back to copy", mode, targetDir);
+            }
+        }
+
+        runStats.add(StatsCounter.BYTES_COPIED, copy(absoluteSource, absoluteTarget));
+        return LinkMode.COPY;
+    }
+
+    @Override
+    public LinkMode getLinkMode() {
+        return toolConfig.getLinkMode();
+    }
+
+    private boolean link(LinkMode mode, Path source, Path target) throws IOException {
+        try {
+            switch (mode) {
+                case HARDLINK:
+                    Files.createLink(target, source);
+                    return true;
+                case SYMLINK:
+                    Files.createSymbolicLink(target, source);
+                    return true;
+                case REFLINK:
+                    return reflink(source, target);
+                default:
+                    return false;
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Failed to {} {} -> {}: {}", mode, source, target, e.getMessage());
+            Files.deleteIfExists(target);
+            return false;
+        }
+    }
+
+    private boolean reflink(Path source, Path target) throws IOException {
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(
+                "cp", "--reflink=always", "--", source.toString(), target.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        runStats.increment(StatsCounter.PROCESSES_SPAWNED);
+        try {
+            if (process.waitFor() == 0) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+        } finally {
+            runStats.add(StatsCounter.PROCESS_NANOS, System.nanoTime() - started);
+        }
+        Files.deleteIfExists(target);
+        return false;
+    }
+
+    private static long copy(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target,
+                     StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = in.transferTo(position, size - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.installers;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.interfaces.installers.InstallManifest;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default implementation of InstallManifest.
+ * The manifest lives in the working directory next to the .mfiles files, so it never ends up in the buildroot.
+ * A target is up to date when its source has the recorded size and either the recorded mtime or content hash.
+ * The source is hashed only when its size or mtime differs from the recorded entry.
+ * File lists such as {@code .mfiles-javadoc} are collected here and written once by {@link #save()},
+ * only when a line is missing.
+ * Implements {@link InstallManifest}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultInstallManifest implements InstallManifest {
+
+    private static final String MANIFEST_NAME = ".xgradle-install-manifest";
+    private static final String HEADER = "# xgradle install manifest v1";
+    private static final String SEPARATOR = "\t";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Logger logger;
+    private final Path manifestPath;
+    private final Map<Path, Set<String>> pendingFileLists = new LinkedHashMap<>();
+    private Map<String, Entry> entries;
+    private volatile boolean dirty;
+
+    @Inject
+    DefaultInstallManifest(Logger logger) {
+        this.logger = logger;
+        this.manifestPath = Paths.get(".").toAbsolutePath().normalize().resolve(MANIFEST_NAME);
+    }
+
+    @Override
+    public boolean isUpToDate(Path source, Path target, LinkMode linkMode) {
+        Path absoluteTarget = target.toAbsolutePath().normalize();
+        Entry entry = entries().get(absoluteTarget.toString());
+        Path absoluteSource = source.toAbsolutePath().normalize();
+        if (entry == null || entry.linkMode != linkMode || !entry.source.equals(absoluteSource.toString())) {
+            return false;
+        }
+
+        try {
+            if (!Files.isRegularFile(absoluteTarget)
+                    || Files.getLastModifiedTime(absoluteTarget).toMillis() != entry.targetModified) {
+                return false;
+            }
+
+            BasicFileAttributes attributes = Files.readAttributes(absoluteSource, BasicFileAttributes.class);
+            if (attributes.size() != entry.size) {
+                return false;
+            }
+            if (attributes.lastModifiedTime().toMillis() == entry.sourceModified) {
+                return true;
+            }
+
+            if (!hash(absoluteSource).equals(entry.hash)) {
+                return false;
+            }
+            entries.put(absoluteTarget.toString(), entry.withSourceModified(attributes.lastModifiedTime().toMillis()));
+            dirty = true;
+            return true;
+        } catch (IOException e) {
+            logger.debug("Cannot check install manifest entry for {}: {}", target, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void record(Path source, Path target, LinkMode linkMode) throws IOException {
+        Path absoluteSource = source.toAbsolutePath().normalize();
+        Path absoluteTarget = target.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(absoluteSource, BasicFileAttributes.class);
+        long size = attributes.size();
+        long sourceModified = attributes.lastModifiedTime().toMillis();
+
+        Entry previous = entries().get(absoluteTarget.toString());
+        String hash = previous != null
+                && previous.source.equals(absoluteSource.toString())
+                && previous.size == size
+                && previous.sourceModified == sourceModified
+                ? previous.hash
+                : hash(absoluteSource);
+
+        entries().put(absoluteTarget.toString(), new Entry(
+                absoluteSource.toString(),
+                linkMode,
+                size,
+                sourceModified,
+                Files.getLastModifiedTime(absoluteTarget).toMillis(),
+                hash
+        ));
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void addFileListEntry(Path fileList, String line) {
+        pendingFileLists.computeIfAbsent(fileList.toAbsolutePath().normalize(), ignored -> new LinkedHashSet<>())
+                .add(line);
+    }
+
+    @Override
+    public synchronized void save() {
+        if (dirty) {
+            saveEntries();
+        }
+        pendingFileLists.forEach(this::saveFileList);
+        pendingFileLists.clear();
+    }
+
+    private void saveEntries() {
+        StringBuilder content = new StringBuilder(HEADER).append(System.lineSeparator());
+        new TreeMap<>(entries()).forEach((target, entry) -> content
+                .append(target).append(SEPARATOR)
+                .append(entry.source).append(SEPARATOR)
+                .append(entry.linkMode).append(SEPARATOR)
+                .append(entry.size).append(SEPARATOR)
+                .append(entry.sourceModified).append(SEPARATOR)
+                .append(entry.targetModified).append(SEPARATOR)
+                .append(entry.hash).append(System.lineSeparator()));
+
+        try {
+            Path temp = manifestPath.resolveSibling(MANIFEST_NAME + ".tmp");
+            Files.write(temp, content.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Failed to write install manifest {}: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    private void saveFileList(Path fileList, Set<String> lines) {
+        try {
+            Set<String> content = new LinkedHashSet<>();
+            if (Files.isRegularFile(fileList)) {
+                Files.readAllLines(fileList, StandardCharsets.UTF_8).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty())
+                        .forEach(content::add);
+            }
+            if (!content.addAll(lines)) {
+                logger.info("Paths already exist in {}: {}", fileList.getFileName(), lines);
+                return;
+            }
+
+            Path temp = fileList.resolveSibling(fileList.getFileName() + ".tmp");
+            Files.write(temp, String.join(System.lineSeparator(), content).getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, fileList, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Updated {} with: {}", fileList, lines);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to update " + fileList.getFileName() + " file", e);
+        }
+    }
+
+    private synchronized Map<String, Entry> entries() {
+        if (entries == null) {
+            entries = new ConcurrentHashMap<>();
+            load();
+        }
+        return entries;
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(manifestPath)) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(SEPARATOR, -1);
+                if (fields.length != 7) {
+                    continue;
+                }
+                entries.put(fields[0], new Entry(
+                        fields[1],
+                        LinkMode.valueOf(fields[2]),
+                        Long.parseLong(fields[3]),
+                        Long.parseLong(fields[4]),
+                        Long.parseLong(fields[5]),
+                        fields[6]
+                ));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Ignoring unreadable install manifest {}: {}", manifestPath, e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        byte[] bytes = digest.digest();
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static final class Entry {
+        private final String source;
+        private final LinkMode linkMode;
+        private final long size;
+        private final long sourceModified;
+        private final long targetModified;
+        private final String hash;
+
+        private Entry(String source, LinkMode linkMode, long size, long sourceModified, long targetModified,
+                      String hash) {
+            this.source = source;
+            this.linkMode = linkMode;
+            this.size = size;
+            this.sourceModified = sourceModified;
+            this.targetModified = targetModified;
+            this.hash = hash;
+        }
+
+        private Entry withSourceModified(long modified) {
+            return new Entry(source, linkMode, size, modified, targetModified, hash);
+        }
+    }
+}
@@ -20,31 +20,31 @@ import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.impl.enums.ProcessingType;
 import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.collectors.ArtifactCollector;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.installers.FileTransfer;
+import org.altlinux.xgradle.interfaces.installers.InstallManifest;
 import org.altlinux.xgradle.interfaces.installers.JavadocInstaller;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 /**
  * Default implementation of JavadocInstaller for installing Javadoc artifacts.
+ * Javadoc JARs are installed in parallel using the configured link mode.
+ * The installation directory is added to {@code .mfiles-javadoc} through the install manifest,
+ * which writes the file once after all transfers.
  * Implements {@link JavadocInstaller}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -52,18 +52,32 @@ import java.util.stream.Collectors;
 @Singleton
 final class DefaultJavadocInstaller implements JavadocInstaller {
 
+    private static final String MFILES_JAVADOC = ".mfiles-javadoc";
+
     private final ArtifactCollector artifactCollector;
     private final ToolConfig toolConfig;
+    private final ModelCache modelCache;
+    private final FileTransfer fileTransfer;
+    private final InstallManifest installManifest;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
     DefaultJavadocInstaller(
             ArtifactCollector artifactCollector,
             ToolConfig toolConfig,
+            ModelCache modelCache,
+            FileTransfer fileTransfer,
+            InstallManifest installManifest,
+            TaskExecutor taskExecutor,
             Logger logger
     ) {
         this.artifactCollector = artifactCollector;
         this.toolConfig = toolConfig;
+        this.modelCache = modelCache;
+        this.fileTransfer = fileTransfer;
+        this.installManifest = installManifest;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -96,7 +110,7 @@ final class DefaultJavadocInstaller implements JavadocInstaller {
             throw new RuntimeException("Failed to create target directory", e);
         }
 
-        AtomicInteger copiedCount = new AtomicInteger(0);
+        TransferPlan plan = new TransferPlan(logger);
 
         javadocMap.entrySet().forEach(entry -> {
             Path pomPath = Paths.get(entry.getKey());
@@ -108,9 +122,10 @@ final class DefaultJavadocInstaller implements JavadocInstaller {
                     String newJavadocName = artifactId + "-javadoc.jar";
                     Path targetJavadocPath = targetDir.resolve(newJavadocName);
 
-                    Files.copy(javadocPath, targetJavadocPath, StandardCopyOption.REPLACE_EXISTING);
-                    logger.info("Copied Javadoc: {} -> {}", javadocPath.getFileName(), targetJavadocPath);
-                    copiedCount.incrementAndGet();
+                    plan.add(javadocPath, targetJavadocPath,
+                            mode -> logger.info("{} Javadoc: {} -> {}",
+                                    mode.getAction(), javadocPath.getFileName(), targetJavadocPath),
+                            e -> logger.error("Failed to process Javadoc artifact: {}", javadocPath, e));
                 } else {
                     logger.warn("Could not extract artifactId from POM: {}, skipping Javadoc: {}",
                             pomPath, javadocPath.getFileName());
@@ -120,10 +135,13 @@ final class DefaultJavadocInstaller implements JavadocInstaller {
             }
         });
 
-        String pathForMfiles = preparePathForMfiles(jarInstallationDir);
-        updateMfilesJavadocFile(pathForMfiles);
+        installManifest.addFileListEntry(
+                Paths.get(".").toAbsolutePath().resolve(MFILES_JAVADOC),
+                preparePathForMfiles(jarInstallationDir)
+        );
+        int copiedCount = plan.execute(fileTransfer, installManifest, taskExecutor);
 
-        logger.debug("Successfully installed {} Javadoc artifacts to {}", copiedCount.get(), targetDir);
+        logger.debug("Successfully installed {} Javadoc artifacts to {}", copiedCount, targetDir);
     }
 
     private String preparePathForMfiles(String originalPath) {
@@ -144,43 +162,9 @@ final class DefaultJavadocInstaller implements JavadocInstaller {
         return originalPath;
     }
 
-    private void updateMfilesJavadocFile(String targetPath) {
-        try {
-            Path currentDir = Paths.get(".").toAbsolutePath();
-            Path mfilesJavadoc = currentDir.resolve(".mfiles-javadoc");
-
-            if (!Files.exists(mfilesJavadoc)) {
-
-                Files.write(mfilesJavadoc, targetPath.getBytes());
-                logger.info("Created .mfiles-javadoc file in {} with content: {}",
-                        currentDir, targetPath);
-            } else {
-
-                List<String> lines = Files.readAllLines(mfilesJavadoc);
-                Set<String> existingPaths = lines.stream()
-                        .map(String::trim)
-                        .filter(trimmedLine -> !trimmedLine.isEmpty())
-                        .collect(Collectors.toSet());
-
-                if (!existingPaths.contains(targetPath)) {
-
-                    Files.write(mfilesJavadoc, System.lineSeparator().getBytes(), StandardOpenOption.APPEND);
-                    Files.write(mfilesJavadoc, targetPath.getBytes(), StandardOpenOption.APPEND);
-
-                    logger.info("Appended new path to .mfiles-javadoc file: {}", targetPath);
-                } else {
-                    logger.info("Path already exists in .mfiles-javadoc file: {}", targetPath);
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to update .mfiles-javadoc file", e);
-        }
-    }
-
     private String extractArtifactIdFromPom(Path pomPath) {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            Model model = reader.read(fis);
+        try {
+            Model model = modelCache.get(pomPath);
             String artifactId = model.getArtifactId();
 
             if (artifactId == null && model.getParent() != null) {
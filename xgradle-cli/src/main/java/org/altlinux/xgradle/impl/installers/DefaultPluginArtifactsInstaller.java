@@ -20,23 +20,21 @@ import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.impl.enums.ProcessingType;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.installers.ArtifactsInstaller;
+import org.altlinux.xgradle.interfaces.installers.FileTransfer;
+import org.altlinux.xgradle.interfaces.installers.InstallManifest;
 import org.altlinux.xgradle.interfaces.resolvers.PluginPomChainResolver;
 import org.altlinux.xgradle.interfaces.resolvers.PluginPomChainResult;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
-
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -45,6 +43,7 @@ import java.util.List;
 
 /**
  * Default implementation of ArtifactsInstaller for Gradle plugin artifacts.
+ * Files are planned sequentially and installed in parallel using the configured link mode.
  * Implements {@link ArtifactsInstaller}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -54,16 +53,25 @@ final class DefaultPluginArtifactsInstaller implements ArtifactsInstaller {
 
     private final ArtifactContainer artifactContainer;
     private final PluginPomChainResolver pomChainResolver;
+    private final FileTransfer fileTransfer;
+    private final InstallManifest installManifest;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
     DefaultPluginArtifactsInstaller(
             ArtifactContainer artifactContainer,
             PluginPomChainResolver pomChainResolver,
+            FileTransfer fileTransfer,
+            InstallManifest installManifest,
+            TaskExecutor taskExecutor,
             Logger logger
     ) {
         this.artifactContainer = artifactContainer;
         this.pomChainResolver = pomChainResolver;
+        this.fileTransfer = fileTransfer;
+        this.installManifest = installManifest;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -127,18 +135,16 @@ final class DefaultPluginArtifactsInstaller implements ArtifactsInstaller {
         });
 
         Set<Path> pomPathsToCopy = pomChain.getPomPaths();
+        TransferPlan plan = new TransferPlan(logger);
 
         pomPathsToCopy.forEach(pomPath -> {
             Model model = pomModels.get(pomPath);
             if (model != null && model.getArtifactId() != null) {
                 String newPomName = model.getArtifactId() + ".pom";
                 Path targetPom = targetPomDir.resolve(newPomName);
-                try {
-                    Files.copy(pomPath, targetPom, StandardCopyOption.REPLACE_EXISTING);
-                    logger.info("Copied POM: {} -> {}", pomPath, targetPom);
-                } catch (IOException e) {
-                    logger.error("Failed to copy POM: {}", pomPath, e);
-                }
+                plan.add(pomPath, targetPom,
+                        mode -> logger.info("{} POM: {} -> {}", mode.getAction(), pomPath, targetPom),
+                        e -> logger.error("Failed to copy POM: {}", pomPath, e));
             }
         });
 
@@ -155,13 +161,10 @@ final class DefaultPluginArtifactsInstaller implements ArtifactsInstaller {
                 if (model != null && model.getArtifactId() != null) {
                     String newJarName = model.getArtifactId() + ".jar";
                     Path targetJar = targetJarDir.resolve(newJarName);
-                    try {
-                        Files.copy(jarPath, targetJar, StandardCopyOption.REPLACE_EXISTING);
-                        logger.info("Copied JAR from main POM: {} -> {} (POM: {})",
-                                jarPath, targetJar, mainPomPath);
-                    } catch (IOException e) {
-                        logger.error("Failed to copy JAR from main POM: {}", jarPath, e);
-                    }
+                    plan.add(jarPath, targetJar,
+                            mode -> logger.info("{} JAR from main POM: {} -> {} (POM: {})",
+                                    mode.getAction(), jarPath, targetJar, mainPomPath),
+                            e -> logger.error("Failed to copy JAR from main POM: {}", jarPath, e));
                 }
             } else {
                 Path firstPomPath = Paths.get(entry.getKey());
@@ -170,13 +173,10 @@ final class DefaultPluginArtifactsInstaller implements ArtifactsInstaller {
                 if (model != null && model.getArtifactId() != null) {
                     String newJarName = model.getArtifactId() + ".jar";
                     Path targetJar = targetJarDir.resolve(newJarName);
-                    try {
-                        Files.copy(jarPath, targetJar, StandardCopyOption.REPLACE_EXISTING);
-                        logger.warn("Copied JAR without main POM: {} -> {} (POM: {})",
-                                jarPath, targetJar, firstPomPath);
-                    } catch (IOException e) {
-                        logger.error("Failed to copy JAR without main POM: {}", jarPath, e);
-                    }
+                    plan.add(jarPath, targetJar,
+                            mode -> logger.warn("{} JAR without main POM: {} -> {} (POM: {})",
+                                    mode.getAction(), jarPath, targetJar, firstPomPath),
+                            e -> logger.error("Failed to copy JAR without main POM: {}", jarPath, e));
                 }
             }
         });
@@ -193,20 +193,13 @@ final class DefaultPluginArtifactsInstaller implements ArtifactsInstaller {
             }
 
             Path targetJar = targetJarDir.resolve(model.getArtifactId() + ".jar");
-            try {
-                Files.copy(jarPath, targetJar, StandardCopyOption.REPLACE_EXISTING);
-                logger.info("Copied JAR from POM-only entry: {} -> {} (POM: {})", jarPath, targetJar, pomPath);
-            } catch (IOException e) {
-                logger.error("Failed to copy JAR from POM-only entry: {}", jarPath, e);
-            }
+            plan.add(jarPath, targetJar,
+                    mode -> logger.info("{} JAR from POM-only entry: {} -> {} (POM: {})",
+                            mode.getAction(), jarPath, targetJar, pomPath),
+                    e -> logger.error("Failed to copy JAR from POM-only entry: {}", jarPath, e));
         });
-    }
 
-    private Model readPomModel(Path pomPath) throws IOException, XmlPullParserException {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            return reader.read(fis);
-        }
+        plan.execute(fileTransfer, installManifest, taskExecutor);
     }
 
     private Path resolveJarPath(Path pomPath, Model model) {
@@ -17,7 +17,10 @@ package org.altlinux.xgradle.impl.installers;
 
 import com.google.inject.AbstractModule;
 import org.altlinux.xgradle.interfaces.installers.ArtifactsInstaller;
+import org.altlinux.xgradle.interfaces.installers.FileTransfer;
+import org.altlinux.xgradle.interfaces.installers.InstallManifest;
 import org.altlinux.xgradle.interfaces.installers.JavadocInstaller;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Installers bindings.
  *
@@ -28,7 +31,11 @@ public final class InstallersModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new StatsModule());
+
         bind(ArtifactsInstaller.class).to(DefaultPluginArtifactsInstaller.class);
         bind(JavadocInstaller.class).to(DefaultJavadocInstaller.class);
+        bind(FileTransfer.class).to(DefaultFileTransfer.class);
+        bind(InstallManifest.class).to(DefaultInstallManifest.class);
     }
 }
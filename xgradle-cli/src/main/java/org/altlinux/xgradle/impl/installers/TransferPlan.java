@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.installers;
+
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.installers.FileTransfer;
+import org.altlinux.xgradle.interfaces.installers.InstallManifest;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Ordered list of file installations executed in parallel.
+ * Results are reported in the order the transfers were added, so logs do not depend on thread scheduling.
+ * Transfers sharing a target run sequentially in insertion order, so the last one still wins.
+ * Targets recorded as up to date in the install manifest are skipped.
+ * A transfer that completed is reported as installed even if it cannot be recorded in the manifest.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class TransferPlan {
+
+    private final List<Transfer> transfers = new ArrayList<>();
+    private final Logger logger;
+
+    TransferPlan(Logger logger) {
+        this.logger = logger;
+    }
+
+    void add(Path source, Path target, Consumer<LinkMode> onSuccess, Consumer<IOException> onFailure) {
+        transfers.add(new Transfer(source, target, onSuccess, onFailure));
+    }
+
+    /**
+     * Executes all transfers and reports their outcomes in insertion order.
+     *
+     * @param fileTransfer transfer strategy
+     * @param manifest install manifest used to skip unchanged targets
+     * @param taskExecutor executor running the transfers
+     * @return number of successful or skipped transfers
+     */
+    int execute(FileTransfer fileTransfer, InstallManifest manifest, TaskExecutor taskExecutor) {
+        int size = transfers.size();
+        LinkMode linkMode = fileTransfer.getLinkMode();
+        LinkMode[] modes = new LinkMode[size];
+        boolean[] upToDate = new boolean[size];
+        IOException[] failures = new IOException[size];
+
+        Map<Path, List<Integer>> byTarget = new LinkedHashMap<>();
+        for (int index = 0; index < size; index++) {
+            Path target = transfers.get(index).target.toAbsolutePath().normalize();
+            byTarget.computeIfAbsent(target, key -> new ArrayList<>()).add(index);
+        }
+
+        taskExecutor.forEach(byTarget.values(), group -> {
+            for (int index : group) {
+                Transfer transfer = transfers.get(index);
+                if (manifest.isUpToDate(transfer.source, transfer.target, linkMode)) {
+                    upToDate[index] = true;
+                    continue;
+                }
+                try {
+                    modes[index] = fileTransfer.transfer(transfer.source, transfer.target);
+                } catch (IOException e) {
+                    failures[index] = e;
+                    continue;
+                }
+                try {
+                    manifest.record(transfer.source, transfer.target, linkMode);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Failed to record {} in install manifest: {}", transfer.target, e.getMessage());
+                }
+            }
+        });
+        manifest.save();
+
+        int succeeded = 0;
+        for (int index = 0; index < size; index++) {
+            Transfer transfer = transfers.get(index);
+            if (failures[index] != null) {
+                transfer.onFailure.accept(failures[index]);
+            } else if (upToDate[index]) {
+                logger.info("Up to date: {} -> {}", transfer.source, transfer.target);
+                succeeded++;
+            } else {
+                transfer.onSuccess.accept(modes[index]);
+                succeeded++;
+            }
+        }
+        return succeeded;
+    }
+
+    private static final class Transfer {
+        private final Path source;
+        private final Path target;
+        private final Consumer<LinkMode> onSuccess;
+        private final Consumer<IOException> onFailure;
+
+        private Transfer(Path source, Path target, Consumer<LinkMode> onSuccess, Consumer<IOException> onFailure) {
+            this.source = source;
+            this.target = target;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled matcher for artifact name lists such as {@code --artifacts} and {@code --exclude-artifacts}.
+ * Plain names are file name prefixes and are stored in a prefix trie, so a lookup costs
+ * one pass over the file name regardless of how many names were given.
+ * Names containing {@code *}, {@code ?} or {@code [} are globs, where {@code [!...]} is a negated
+ * character class; names starting with {@code regex:} are regular expressions.
+ * Both are anchored at the start of the file name, like plain prefixes.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class ArtifactNameMatcher {
+
+    private static final String REGEX_PREFIX = "regex:";
+    private static final ArtifactNameMatcher EMPTY = new ArtifactNameMatcher(new Node(), List.of());
+
+    private final Node prefixes;
+    private final List<Pattern> patterns;
+
+    private ArtifactNameMatcher(Node prefixes, List<Pattern> patterns) {
+        this.prefixes = prefixes;
+        this.patterns = patterns;
+    }
+
+    /**
+     * Compiles a list of artifact names.
+     *
+     * @param names prefixes, globs or {@code regex:} patterns; {@code null} matches nothing
+     * @return compiled matcher
+     * @throws IllegalArgumentException if a glob or regular expression is invalid
+     */
+    public static ArtifactNameMatcher compile(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EMPTY;
+        }
+
+        Node root = new Node();
+        List<Pattern> patterns = new ArrayList<>();
+        for (String name : names) {
+            Objects.requireNonNull(name, "artifact name can not be null");
+            if (name.startsWith(REGEX_PREFIX)) {
+                patterns.add(compilePattern(name.substring(REGEX_PREFIX.length()), name));
+            } else if (isGlob(name)) {
+                patterns.add(compilePattern(globToRegex(name), name));
+            } else {
+                root.insert(name);
+            }
+        }
+        return new ArtifactNameMatcher(root, List.copyOf(patterns));
+    }
+
+    /**
+     * @return {@code true} if no name was compiled into this matcher
+     */
+    public boolean isEmpty() {
+        return !prefixes.terminal && prefixes.children.isEmpty() && patterns.isEmpty();
+    }
+
+    /**
+     * Tests a file name against the compiled names.
+     *
+     * @param fileName file name without directories
+     * @return {@code true} if any prefix, glob or regular expression matches
+     */
+    public boolean matches(String fileName) {
+        Node node = prefixes;
+        if (node.terminal) {
+            return true;
+        }
+        for (int i = 0; i < fileName.length() && node != null; i++) {
+            node = node.children.get(fileName.charAt(i));
+            if (node != null && node.terminal) {
+                return true;
+            }
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(fileName).lookingAt()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGlob(String name) {
+        return name.indexOf('*') >= 0 || name.indexOf('?') >= 0 || name.indexOf('[') >= 0;
+    }
+
+    private static Pattern compilePattern(String regex, String source) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid artifact pattern: " + source, e);
+        }
+    }
+
+    private static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        boolean inClass = false;
+        boolean classStart = false;
+        boolean literalBracket = false;
+        for (char c : glob.toCharArray()) {
+            if (inClass) {
+                if (classStart && c == '!') {
+                    regex.append('^');
+                    classStart = false;
+                    continue;
+                }
+                if (c == ']' && !literalBracket) {
+                    inClass = false;
+                    regex.append(']');
+                } else if (c == '\\' || c == '[' || c == ']' || c == '&') {
+                    regex.append('\\').append(c);
+                } else {
+                    regex.append(c);
+                }
+                classStart = false;
+                literalBracket = false;
+                continue;
+            }
+            switch (c) {
+                case '*':
+                    regex.append(".*");
+                    break;
+                case '?':
+                    regex.append('.');
+                    break;
+                case '[':
+                    inClass = true;
+                    classStart = true;
+                    literalBracket = true;
+                    regex.append('[');
+                    break;
+                default:
+                    regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean terminal;
+
+        private void insert(String prefix) {
+            Node node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), ignored -> new Node());
+            }
+            node.terminal = true;
+        }
+    }
+}
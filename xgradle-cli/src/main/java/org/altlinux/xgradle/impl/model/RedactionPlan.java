@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ordered set of edits applied to a POM file in a single read and write.
+ * Coordinates are parsed when the plan is built, so malformed input fails before any file is touched.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class RedactionPlan {
+
+    private final List<Operation> operations;
+
+    private RedactionPlan(List<Operation> operations) {
+        this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return operations.toString();
+    }
+
+    /**
+     * Kind of a single redaction edit.
+     */
+    public enum Kind {
+        ADD_DEPENDENCY,
+        REMOVE_DEPENDENCY,
+        CHANGE_DEPENDENCY,
+        REMOVE_PARENT
+    }
+
+    /**
+     * Single redaction edit with its parsed coordinates.
+     */
+    public static final class Operation {
+
+        private final Kind kind;
+        private final DependencySpec dependency;
+        private final DependencySpec target;
+
+        private Operation(Kind kind, DependencySpec dependency, DependencySpec target) {
+            this.kind = kind;
+            this.dependency = dependency;
+            this.target = target;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public DependencySpec getDependency() {
+            return dependency;
+        }
+
+        public DependencySpec getTarget() {
+            return target;
+        }
+
+        @Override
+        public String toString() {
+            if (kind == Kind.REMOVE_PARENT) {
+                return kind.toString();
+            }
+            return kind + " " + dependency + (target == null ? "" : " -> " + target);
+        }
+    }
+
+    /**
+     * Builder collecting edits in application order.
+     */
+    public static final class Builder {
+
+        private final List<Operation> operations = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder addDependency(String coords) {
+            operations.add(new Operation(Kind.ADD_DEPENDENCY, DependencySpec.parse(coords), null));
+            return this;
+        }
+
+        public Builder removeDependency(String coords) {
+            operations.add(new Operation(Kind.REMOVE_DEPENDENCY, DependencySpec.parse(coords), null));
+            return this;
+        }
+
+        public Builder changeDependency(String sourceCoords, String targetCoords) {
+            operations.add(new Operation(
+                    Kind.CHANGE_DEPENDENCY,
+                    DependencySpec.parse(sourceCoords),
+                    DependencySpec.parse(Objects.requireNonNull(targetCoords, "targetCoords"))
+            ));
+            return this;
+        }
+
+        public Builder removeParent() {
+            operations.add(new Operation(Kind.REMOVE_PARENT, null, null));
+            return this;
+        }
+
+        public RedactionPlan build() {
+            return new RedactionPlan(operations);
+        }
+    }
+}
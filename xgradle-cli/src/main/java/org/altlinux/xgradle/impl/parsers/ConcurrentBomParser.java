@@ -19,28 +19,25 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactData;
 import org.altlinux.xgradle.interfaces.model.ArtifactFactory;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Parser for BOM (Bill of Materials) POM files with duplicate prevention.
@@ -54,18 +51,24 @@ final class ConcurrentBomParser implements PomParser<Set<Path>> {
     private final ArtifactFactory artifactFactory;
     private final PomContainer pomContainer;
     private final ArtifactCache artifactCache;
+    private final ModelCache modelCache;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
     ConcurrentBomParser(
             PomContainer pomContainer,
             ArtifactCache artifactCache,
+            ModelCache modelCache,
             ArtifactFactory artifactFactory,
+            TaskExecutor taskExecutor,
             Logger logger
     ) {
         this.pomContainer = pomContainer;
         this.artifactCache = artifactCache;
+        this.modelCache = modelCache;
         this.artifactFactory = artifactFactory;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -79,24 +82,15 @@ final class ConcurrentBomParser implements PomParser<Set<Path>> {
             pomPaths = pomContainer.getAllPoms(searchingDir);
         }
 
-        int threadCount = Runtime.getRuntime().availableProcessors();
-        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         Set<Path> bomSet = ConcurrentHashMap.newKeySet();
 
-        try {
-            CompletableFuture.allOf(pomPaths.stream()
-                            .map(pomPath -> CompletableFuture.runAsync(() -> {
-                                try {
-                                    processBomFile(pomPath, bomSet);
-                                } catch (Exception e) {
-                                    logger.error("Error processing BOM file: {}", pomPath, e);
-                                }
-                            }, executor))
-                            .toArray(CompletableFuture[]::new))
-                    .join();
-        } finally {
-            executor.shutdown();
-        }
+        taskExecutor.forEach(pomPaths, pomPath -> {
+            try {
+                processBomFile(pomPath, bomSet);
+            } catch (Exception e) {
+                logger.error("Error processing BOM file: {}", pomPath, e);
+            }
+        });
 
         logger.info("Processed {} unique BOM artifacts from {} POM files",
                 bomSet.size(), pomPaths.size());
@@ -128,10 +122,8 @@ final class ConcurrentBomParser implements PomParser<Set<Path>> {
     }
 
     private boolean isBom(Path pomPath) {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-
-        try (FileInputStream fis = new FileInputStream(String.valueOf(pomPath))) {
-            Model model = reader.read(fis);
+        try {
+            Model model = modelCache.get(pomPath);
             return "pom".equals(model.getPackaging())
                     && model.getDependencyManagement() != null;
         } catch (IOException | XmlPullParserException e) {
@@ -141,10 +133,8 @@ final class ConcurrentBomParser implements PomParser<Set<Path>> {
     }
 
     private ArtifactData extractArtifactData(Path pomPath) {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            Model model = reader.read(fis);
+        try {
+            Model model = modelCache.get(pomPath);
 
             String groupId = model.getGroupId();
             String artifactId = model.getArtifactId();
@@ -18,26 +18,35 @@ package org.altlinux.xgradle.impl.parsers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.pom.PomHeader;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Concurrent parser for Javadoc JAR files.
+ * Javadoc JARs are listed once per searching directory through the {@link PomCatalog} and joined
+ * against POM header coordinates, so only POM files that have Javadoc JARs next to them are read,
+ * and only in header mode. A full parse is used only when the header lacks artifactId or version.
+ * Lookups run in parallel on the shared {@link TaskExecutor}.
  * Implements {@link PomParser<HashMap<String} and {@link Path>>}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -45,12 +54,26 @@ import java.util.List;
 @Singleton
 final class ConcurrentJavadocParser implements PomParser<HashMap<String, Path>> {
 
+    private static final String JAVADOC_SUFFIX = "-javadoc.jar";
+
     private final PomContainer pomContainer;
+    private final PomCatalog pomCatalog;
+    private final ModelCache modelCache;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
-    ConcurrentJavadocParser(PomContainer pomContainer, Logger logger) {
+    ConcurrentJavadocParser(
+            PomContainer pomContainer,
+            PomCatalog pomCatalog,
+            ModelCache modelCache,
+            TaskExecutor taskExecutor,
+            Logger logger
+    ) {
         this.pomContainer = pomContainer;
+        this.pomCatalog = pomCatalog;
+        this.modelCache = modelCache;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -64,12 +87,20 @@ final class ConcurrentJavadocParser implements PomParser<HashMap<String, Path>>
             pomPaths = pomContainer.getAllPoms(searchingDir);
         }
 
-        HashMap<String, Path> javadocMap = new HashMap<>();
+        Map<Path, Map<String, Path>> javadocJars = pomCatalog.getJavadocJars(searchingDir);
+        List<Path> candidates = pomPaths.stream()
+                .filter(pomPath -> javadocJars.containsKey(pomPath.getParent()))
+                .collect(Collectors.toList());
+
+        Map<String, Path> javadocMap = new ConcurrentHashMap<>();
 
-        pomPaths.forEach(pomPath -> {
+        taskExecutor.forEach(candidates, pomPath -> {
             try {
-                Path javadocPath = findJavadocForPom(pomPath);
-                if (javadocPath != null && Files.exists(javadocPath)) {
+                String javadocFileName = javadocFileName(pomPath);
+                Path javadocPath = javadocFileName != null
+                        ? javadocJars.get(pomPath.getParent()).get(javadocFileName)
+                        : null;
+                if (javadocPath != null) {
                     javadocMap.put(pomPath.toString(), javadocPath);
                 }
             } catch (Exception e) {
@@ -78,27 +109,29 @@ final class ConcurrentJavadocParser implements PomParser<HashMap<String, Path>>
         });
 
         logger.info("Found {} Javadoc JAR files from {} POM files", javadocMap.size(), pomPaths.size());
-        return javadocMap;
+        return new HashMap<>(javadocMap);
     }
 
-    private Path findJavadocForPom(Path pomPath) throws IOException, XmlPullParserException {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            Model model = reader.read(fis);
-            String artifactId = model.getArtifactId();
-            String version = model.getVersion();
+    private String javadocFileName(Path pomPath) throws IOException, XmlPullParserException {
+        Optional<PomHeader> header = pomCatalog.getHeader(pomPath);
+        String artifactId = header.map(PomHeader::getArtifactId).orElse(null);
+        String version = header.map(PomHeader::getVersion).orElse(null);
+
+        if (artifactId == null || version == null) {
+            Model model = modelCache.get(pomPath);
+            artifactId = model.getArtifactId();
+            version = model.getVersion();
 
             if (version == null && model.getParent() != null) {
                 version = model.getParent().getVersion();
             }
+        }
 
-            if (artifactId == null || version == null) {
-                logger.warn("Could not determine artifactId or version for POM: {}", pomPath);
-                return null;
-            }
-
-            String javadocFileName = artifactId + "-" + version + "-javadoc.jar";
-            return pomPath.getParent().resolve(javadocFileName);
+        if (artifactId == null || version == null) {
+            logger.warn("Could not determine artifactId or version for POM: {}", pomPath);
+            return null;
         }
+
+        return artifactId + "-" + version + JAVADOC_SUFFIX;
     }
 }
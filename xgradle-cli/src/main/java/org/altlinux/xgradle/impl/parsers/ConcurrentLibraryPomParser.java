@@ -19,28 +19,25 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactData;
 import org.altlinux.xgradle.interfaces.model.ArtifactFactory;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.List;
 
 /**
@@ -55,18 +52,24 @@ final class ConcurrentLibraryPomParser implements PomParser<HashMap<String, Path
     private final ArtifactFactory artifactFactory;
     private final PomContainer pomContainer;
     private final ArtifactCache artifactCache;
+    private final ModelCache modelCache;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
     ConcurrentLibraryPomParser(
             PomContainer pomContainer,
             ArtifactCache artifactCache,
+            ModelCache modelCache,
             ArtifactFactory artifactFactory,
+            TaskExecutor taskExecutor,
             Logger logger
     ) {
         this.artifactFactory = artifactFactory;
         this.pomContainer = pomContainer;
         this.artifactCache = artifactCache;
+        this.modelCache = modelCache;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -80,22 +83,15 @@ final class ConcurrentLibraryPomParser implements PomParser<HashMap<String, Path
             pomPaths = pomContainer.getAllPoms(searchingDir);
         }
 
-        int threadCount = Runtime.getRuntime().availableProcessors();
-        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         ConcurrentHashMap<String, Path> artifactCoordinatesMap = new ConcurrentHashMap<>();
 
-        try {
-            CompletableFuture.allOf(pomPaths.stream()
-                    .map(pomPath -> CompletableFuture.runAsync(() -> {
-                        try {
-                            processPomFile(pomPath, artifactCoordinatesMap);
-                        } catch (Exception e) {
-                            logger.error("Error processing POM file: {}", pomPath, e);
-                        }
-                    }, executor)).toArray(CompletableFuture[]::new)).join();
-        } finally {
-            executor.shutdown();
-        }
+        taskExecutor.forEach(pomPaths, pomPath -> {
+            try {
+                processPomFile(pomPath, artifactCoordinatesMap);
+            } catch (Exception e) {
+                logger.error("Error processing POM file: {}", pomPath, e);
+            }
+        });
 
         logger.info("Processed {} unique artifacts from {} POM files",
                 artifactCoordinatesMap.size(), pomPaths.size());
@@ -125,10 +121,8 @@ final class ConcurrentLibraryPomParser implements PomParser<HashMap<String, Path
     }
 
     private ArtifactData extractArtifactData(Path pomPath) {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            Model model = reader.read(fis);
+        try {
+            Model model = modelCache.get(pomPath);
 
             String groupId = model.getGroupId();
             String artifactId = model.getArtifactId();
@@ -18,8 +18,11 @@ package org.altlinux.xgradle.impl.parsers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.model.ArtifactNameMatcher;
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactData;
 import org.altlinux.xgradle.interfaces.model.ArtifactFactory;
@@ -27,13 +30,11 @@ import org.altlinux.xgradle.interfaces.parsers.PomParser;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -42,6 +43,9 @@ import java.util.stream.Collectors;
 
 /**
  * Parser for Gradle plugin POM files with duplicate prevention.
+ * Selected POM models are read in parallel first; the order-dependent analysis then runs sequentially.
+ * Nested BOMs are looked up in a file name index built once per call and expanded by an explicit
+ * depth-first worklist; every BOM is expanded at most once per call, which also breaks import cycles.
  * Implements {@link PomParser<HashMap<String} and {@link Path>>}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -52,18 +56,24 @@ final class DefaultPluginPomParser implements PomParser<HashMap<String, Path>> {
     private final ArtifactFactory artifactFactory;
     private final PomContainer pomContainer;
     private final ArtifactCache artifactCache;
+    private final ModelCache modelCache;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
     DefaultPluginPomParser(
             PomContainer pomContainer,
             ArtifactCache artifactCache,
+            ModelCache modelCache,
             ArtifactFactory artifactFactory,
+            TaskExecutor taskExecutor,
             Logger logger
     ) {
         this.artifactFactory = artifactFactory;
         this.pomContainer = pomContainer;
         this.artifactCache = artifactCache;
+        this.modelCache = modelCache;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -74,22 +84,23 @@ final class DefaultPluginPomParser implements PomParser<HashMap<String, Path>> {
         }
 
         HashMap<String, Path> result = new HashMap<>();
-        List<String> artifactNameValues = artifactNames;
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(artifactNames);
 
         Collection<Path> allPomPaths = pomContainer.getAllPoms(searchingDir);
 
         List<Path> filteredPomPaths = allPomPaths.stream()
-                .filter(path -> {
-                    String fileName = path.getFileName().toString();
-                    return artifactNameValues.stream()
-                            .anyMatch(fileName::startsWith);
-                })
+                .filter(path -> matcher.matches(path.getFileName().toString()))
                 .collect(Collectors.toList());
 
         if (filteredPomPaths.isEmpty()) {
             return result;
         }
 
+        taskExecutor.forEach(filteredPomPaths, this::preloadModel);
+
+        Map<String, Path> pomsByFileName = indexByFileName(allPomPaths);
+        Set<Path> expandedBoms = new HashSet<>();
+
         filteredPomPaths.forEach(pomPath -> {
             try {
                 Model model = readModel(pomPath);
@@ -103,7 +114,7 @@ final class DefaultPluginPomParser implements PomParser<HashMap<String, Path>> {
                 }
 
                 if ("pom".equals(model.getPackaging())) {
-                    analyzePomDependencies(searchingDir, pomPath, model, result);
+                    analyzePomDependencies(pomPath, model, pomsByFileName, expandedBoms, result);
                 } else {
                     Path jarPath = findJarForPom(pomPath, model);
                     if (jarPath != null && Files.exists(jarPath)) {
@@ -122,71 +133,104 @@ final class DefaultPluginPomParser implements PomParser<HashMap<String, Path>> {
         return result;
     }
 
-    private void analyzePomDependencies(String searchingDir, Path pomPath, Model model,
-                                        HashMap<String, Path> result) {
-        if (model.getDependencies() == null) {
+    private void analyzePomDependencies(Path bomPath, Model bomModel, Map<String, Path> pomsByFileName,
+                                        Set<Path> expandedBoms, HashMap<String, Path> result) {
+        if (!expandedBoms.add(bomPath)) {
+            logger.debug("Skipping already expanded BOM: {}", bomPath);
             return;
         }
 
-        Collection<Path> allPomPaths = pomContainer.getAllPoms(searchingDir);
-        Set<String> allPomFileNames = allPomPaths.stream()
-                .map(path -> path.getFileName().toString())
-                .collect(Collectors.toSet());
+        Deque<BomFrame> worklist = new ArrayDeque<>();
+        worklist.push(new BomFrame(bomPath, bomModel));
+
+        while (!worklist.isEmpty()) {
+            BomFrame frame = worklist.peek();
+            if (!frame.dependencies.hasNext()) {
+                worklist.pop();
+                continue;
+            }
 
-        model.getDependencies().forEach(dependency -> {
-            String dependencyType = dependency.getType();
+            Dependency dependency = frame.dependencies.next();
             String dependencyArtifactId = dependency.getArtifactId();
             String dependencyVersion = dependency.getVersion();
 
             if (dependencyArtifactId == null || dependencyVersion == null) {
-                return;
+                continue;
             }
 
-            String expectedPomName = dependencyArtifactId + "-" + dependencyVersion + ".pom";
-
-            if ("pom".equals(dependencyType) && allPomFileNames.contains(expectedPomName)) {
-                Path dependencyPomPath = allPomPaths.stream()
-                        .filter(path -> path.getFileName().toString().equals(expectedPomName))
-                        .findFirst()
-                        .orElse(null);
-
+            if ("pom".equals(dependency.getType())) {
+                Path dependencyPomPath = pomsByFileName.get(dependencyArtifactId + "-" + dependencyVersion + ".pom");
                 if (dependencyPomPath != null) {
-                    try {
-                        Model dependencyModel = readModel(dependencyPomPath);
-                        ArtifactCoordinates depCoordinates = extractCoordinates(dependencyModel);
-
-                        if (!artifactCache.contains(depCoordinates)) {
-                            analyzePomDependencies(searchingDir, dependencyPomPath, dependencyModel,
-                                    result);
-                        } else {
-                            logger.debug("Skipping duplicate dependency: {}", depCoordinates);
-                        }
-                    } catch (Exception e) {
-                        logger.error("Error processing dependency POM: {}", dependencyPomPath, e);
+                    BomFrame nested = expandNestedBom(dependencyPomPath, expandedBoms);
+                    if (nested != null) {
+                        worklist.push(nested);
                     }
                 }
-            } else if (!"pom".equals(dependencyType)) {
-                String jarFileName = dependencyArtifactId + "-" + dependencyVersion + ".jar";
-                Path jarPath = pomPath.getParent().resolve(jarFileName);
-
-                if (Files.exists(jarPath)) {
-                    ArtifactCoordinates coordinates = artifactFactory.coordinates(
-                            dependency.getGroupId(), dependencyArtifactId, dependencyVersion);
-
-                    if (!artifactCache.contains(coordinates)) {
-                        try {
-                            Model jarModel = createModelForDependency(dependency);
-                            ArtifactData artifactData = artifactFactory.data(coordinates, jarModel, pomPath, jarPath);
-                            if (artifactCache.add(artifactData)) {
-                                result.put(pomPath.toString(), jarPath);
-                            }
-                        } catch (Exception e) {
-                            logger.error("Error creating model for dependency: {}", coordinates, e);
-                        }
-                    }
+            } else {
+                addDependencyJar(frame.pomPath, dependency, result);
+            }
+        }
+    }
+
+    private BomFrame expandNestedBom(Path dependencyPomPath, Set<Path> expandedBoms) {
+        if (expandedBoms.contains(dependencyPomPath)) {
+            logger.debug("Skipping already expanded BOM: {}", dependencyPomPath);
+            return null;
+        }
+
+        try {
+            Model dependencyModel = readModel(dependencyPomPath);
+            ArtifactCoordinates depCoordinates = extractCoordinates(dependencyModel);
+
+            if (artifactCache.contains(depCoordinates)) {
+                logger.debug("Skipping duplicate dependency: {}", depCoordinates);
+                return null;
+            }
+
+            expandedBoms.add(dependencyPomPath);
+            return new BomFrame(dependencyPomPath, dependencyModel);
+        } catch (Exception e) {
+            logger.error("Error processing dependency POM: {}", dependencyPomPath, e);
+            return null;
+        }
+    }
+
+    private void addDependencyJar(Path pomPath, Dependency dependency, HashMap<String, Path> result) {
+        String jarFileName = dependency.getArtifactId() + "-" + dependency.getVersion() + ".jar";
+        Path jarPath = pomPath.getParent().resolve(jarFileName);
+
+        if (!Files.exists(jarPath)) {
+            return;
+        }
+
+        ArtifactCoordinates coordinates = artifactFactory.coordinates(
+                dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+
+        if (!artifactCache.contains(coordinates)) {
+            try {
+                Model jarModel = createModelForDependency(dependency);
+                ArtifactData artifactData = artifactFactory.data(coordinates, jarModel, pomPath, jarPath);
+                if (artifactCache.add(artifactData)) {
+                    result.put(pomPath.toString(), jarPath);
                 }
+            } catch (Exception e) {
+                logger.error("Error creating model for dependency: {}", coordinates, e);
             }
-        });
+        }
+    }
+
+    private static Map<String, Path> indexByFileName(Collection<Path> pomPaths) {
+        Map<String, Path> index = new HashMap<>();
+        pomPaths.forEach(path -> index.putIfAbsent(path.getFileName().toString(), path));
+        return index;
+    }
+
+    private void preloadModel(Path pomPath) {
+        try {
+            modelCache.get(pomPath);
+        } catch (IOException | XmlPullParserException | RuntimeException e) {
+            logger.debug("Deferred POM read failure: {}", pomPath, e);
+        }
     }
 
     private ArtifactCoordinates extractCoordinates(Model model) {
@@ -229,9 +273,19 @@ final class DefaultPluginPomParser implements PomParser<HashMap<String, Path>> {
     }
 
     private Model readModel(Path pomPath) throws IOException, XmlPullParserException {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            return reader.read(fis);
+        return modelCache.get(pomPath);
+    }
+
+    private static final class BomFrame {
+
+        private final Path pomPath;
+        private final Iterator<Dependency> dependencies;
+
+        private BomFrame(Path pomPath, Model model) {
+            this.pomPath = pomPath;
+            this.dependencies = model.getDependencies() != null
+                    ? model.getDependencies().iterator()
+                    : Collections.emptyIterator();
         }
     }
 }
@@ -18,6 +18,7 @@ package org.altlinux.xgradle.impl.processors;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactFactory;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Javadoc;
@@ -27,13 +28,11 @@ import org.altlinux.xgradle.interfaces.processors.PomProcessor;
 import org.altlinux.xgradle.interfaces.services.PomService;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -54,6 +53,7 @@ final class DefaultJavadocProcessor implements PomProcessor<HashMap<String, Path
     private final PomParser<HashMap<String, Path>> javadocParser;
     private final PomService pomService;
     private final ToolConfig toolConfig;
+    private final ModelCache modelCache;
     private final Logger logger;
 
     @Inject
@@ -62,12 +62,14 @@ final class DefaultJavadocProcessor implements PomProcessor<HashMap<String, Path
             @Javadoc PomParser<HashMap<String, Path>> javadocParser,
             PomService pomService,
             ToolConfig toolConfig,
+            ModelCache modelCache,
             Logger logger
     ) {
         this.artifactFactory = artifactFactory;
         this.javadocParser = javadocParser;
         this.pomService = pomService;
         this.toolConfig = toolConfig;
+        this.modelCache = modelCache;
         this.logger = logger;
     }
 
@@ -121,27 +123,24 @@ final class DefaultJavadocProcessor implements PomProcessor<HashMap<String, Path
     }
 
     private ArtifactCoordinates extractCoordinatesFromPom(Path pomPath) throws IOException, XmlPullParserException {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileInputStream fis = new FileInputStream(pomPath.toFile())) {
-            Model model = reader.read(fis);
+        Model model = modelCache.get(pomPath);
 
-            String groupId = model.getGroupId();
-            String artifactId = model.getArtifactId();
-            String version = model.getVersion();
+        String groupId = model.getGroupId();
+        String artifactId = model.getArtifactId();
+        String version = model.getVersion();
 
-            if (groupId == null && model.getParent() != null) {
-                groupId = model.getParent().getGroupId();
-            }
-            if (version == null && model.getParent() != null) {
-                version = model.getParent().getVersion();
-            }
-
-            if (groupId == null || artifactId == null) {
-                logger.warn("Could not determine groupId or artifactId for POM: {}", pomPath);
-                return null;
-            }
+        if (groupId == null && model.getParent() != null) {
+            groupId = model.getParent().getGroupId();
+        }
+        if (version == null && model.getParent() != null) {
+            version = model.getParent().getVersion();
+        }
 
-            return artifactFactory.coordinates(groupId, artifactId, version != null ? version : "unknown");
+        if (groupId == null || artifactId == null) {
+            logger.warn("Could not determine groupId or artifactId for POM: {}", pomPath);
+            return null;
         }
+
+        return artifactFactory.coordinates(groupId, artifactId, version != null ? version : "unknown");
     }
 }
@@ -18,31 +18,49 @@ package org.altlinux.xgradle.impl.redactors;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.enums.RedactionBackend;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
 import org.altlinux.xgradle.impl.model.DependencySpec;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
 
 import org.slf4j.Logger;
 
-import java.io.Reader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 /**
  * Redactor for POM.
+ * Models are taken from the shared {@link ModelCache} and copied before editing;
+ * the cache entry is invalidated whenever a file is rewritten.
+ * All edits of a plan are applied to one parsed model; the file is replaced atomically
+ * and only when the serialized result differs from its current content.
+ * With the {@link RedactionBackend#STREAMING} backend the plan is applied by {@link StreamingPomPatcher}
+ * to the file text instead, leaving formatting and comments outside the edited regions untouched.
  * Implements {@link PomRedactor}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -51,18 +69,98 @@ import java.util.stream.Collectors;
 @Singleton
 final class DefaultPomRedactor implements PomRedactor {
 
+    private static final Pattern XML_ENCODING =
+            Pattern.compile("^\\s*<\\?xml[^>]*encoding\\s*=\\s*[\"']([A-Za-z0-9._-]+)[\"']");
+
+    private final ModelCache modelCache;
+    private final StreamingPomPatcher streamingPomPatcher;
+    private final ToolConfig toolConfig;
+    private final RunStats runStats;
     private final Logger logger;
 
     @Inject
-    DefaultPomRedactor(Logger logger) {
+    DefaultPomRedactor(
+            ModelCache modelCache,
+            StreamingPomPatcher streamingPomPatcher,
+            ToolConfig toolConfig,
+            RunStats runStats,
+            Logger logger
+    ) {
+        this.modelCache = modelCache;
+        this.streamingPomPatcher = streamingPomPatcher;
+        this.toolConfig = toolConfig;
+        this.runStats = runStats;
         this.logger = logger;
     }
 
     @Override
-    public void addDependency(Path pomPath, String coords) {
-        DependencySpec spec = DependencySpec.parse(coords);
-        Model model = readModel(pomPath);
+    public void removeParent(Path pomPath) {
+        apply(pomPath, RedactionPlan.builder().removeParent().build());
+    }
+
+    @Override
+    public boolean apply(Path pomPath, RedactionPlan plan) {
+        try (PhaseTimer ignored = runStats.time(StatsPhase.REDACT)) {
+            if (toolConfig.getRedactionBackend() == RedactionBackend.STREAMING) {
+                return applyStreaming(pomPath, plan);
+            }
+
+            Model model = readModel(pomPath);
+
+            boolean changed = false;
+            for (RedactionPlan.Operation operation : plan.getOperations()) {
+                changed |= applyOperation(pomPath, model, operation);
+            }
+
+            return changed && writeModel(pomPath, model);
+        }
+    }
+
+    private boolean applyStreaming(Path pomPath, RedactionPlan plan) {
+        byte[] original;
+        try {
+            original = Files.readAllBytes(pomPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read POM: " + pomPath, e);
+        }
+
+        Charset charset = detectCharset(original);
+        String text = new String(original, charset);
+        String patched = streamingPomPatcher.patch(pomPath, text, plan);
+
+        return !patched.equals(text) && writeContent(pomPath, patched.getBytes(charset));
+    }
+
+    private static Charset detectCharset(byte[] content) {
+        String head = new String(content, 0, Math.min(content.length, 256), StandardCharsets.ISO_8859_1);
+        Matcher matcher = XML_ENCODING.matcher(head.startsWith("\u00EF\u00BB\u00BF") ? head.substring(3) : head);
+        if (matcher.find() && Charset.isSupported(matcher.group(1))) {
+            return Charset.forName(matcher.group(1));
+        }
+        return StandardCharsets.UTF_8;
+    }
 
+    private boolean applyOperation(Path pomPath, Model model, RedactionPlan.Operation operation) {
+        switch (operation.getKind()) {
+            case ADD_DEPENDENCY:
+                return addDependency(model, operation.getDependency());
+            case REMOVE_DEPENDENCY:
+                return removeDependency(model, operation.getDependency());
+            case CHANGE_DEPENDENCY:
+                return changeDependency(model, operation.getDependency(), operation.getTarget());
+            case REMOVE_PARENT:
+                if (model.getParent() == null) {
+                    logger.warn("POM file hasn`t parent block, cannot remove: {}", pomPath);
+                    return false;
+                }
+                model.setParent(null);
+                return true;
+            default:
+                throw new IllegalArgumentException("Unsupported redaction: " + operation.getKind());
+        }
+    }
+
+    private boolean addDependency(Model model, DependencySpec spec) {
         boolean changedDeps = addToList(ensureDependencies(model), spec);
         boolean changedMgmt = false;
 
@@ -70,16 +168,10 @@ final class DefaultPomRedactor implements PomRedactor {
             changedMgmt = addToList(ensureDependencyManagementDeps(model.getDependencyManagement()), spec);
         }
 
-        if (changedDeps || changedMgmt) {
-            writeModel(pomPath, model);
-        }
+        return changedDeps || changedMgmt;
     }
 
-    @Override
-    public void removeDependency(Path pomPath, String coords) {
-        DependencySpec spec = DependencySpec.parse(coords);
-        Model model = readModel(pomPath);
-
+    private boolean removeDependency(Model model, DependencySpec spec) {
         boolean removedDeps = removeFromList(ensureDependencies(model), spec);
         boolean removedMgmt = false;
 
@@ -90,18 +182,10 @@ final class DefaultPomRedactor implements PomRedactor {
             }
         }
 
-        if (removedDeps || removedMgmt) {
-            writeModel(pomPath, model);
-        }
+        return removedDeps || removedMgmt;
     }
 
-    @Override
-    public void changeDependency(Path pomPath, String origCoords, String targetCoords) {
-        DependencySpec from = DependencySpec.parse(origCoords);
-        DependencySpec to = DependencySpec.parse(targetCoords);
-
-        Model model = readModel(pomPath);
-
+    private boolean changeDependency(Model model, DependencySpec from, DependencySpec to) {
         boolean changedDeps = changeInList(ensureDependencies(model), from, to);
         boolean changedMgmt = false;
 
@@ -109,43 +193,74 @@ final class DefaultPomRedactor implements PomRedactor {
             changedMgmt = changeInList(ensureDependencyManagementDeps(model.getDependencyManagement()), from, to);
         }
 
-        if (changedDeps || changedMgmt) {
-            writeModel(pomPath, model);
-        }
+        return changedDeps || changedMgmt;
     }
 
-    @Override
-    public void removeParent(Path pomPath) {
-        Model model = readModel(pomPath);
-
-        if (model.getParent() == null) {
-            logger.warn("POM file hasn`t parent block, cannot remove: {}", pomPath);
-            return;
+    private Model readModel(Path pomPath) {
+        try {
+            return modelCache.get(pomPath).clone();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to read POM: " + pomPath, e);
         }
-
-        model.setParent(null);
-        writeModel(pomPath, model);
     }
 
-    private Model readModel(Path pomPath) {
-        try (Reader reader = Files.newBufferedReader(pomPath, StandardCharsets.UTF_8)) {
-            return new MavenXpp3Reader().read(reader);
+    private boolean writeModel(Path pomPath, Model model) {
+        byte[] content;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8)) {
+                new MavenXpp3Writer().write(writer, model);
+            }
+            content = buffer.toByteArray();
         } catch (Exception e) {
-            throw new RuntimeException("Failed to read POM: " + pomPath, e);
+            modelCache.invalidate(pomPath);
+            throw new RuntimeException("Failed to write POM: " + pomPath, e);
         }
+        return writeContent(pomPath, content);
     }
 
-    private void writeModel(Path pomPath, Model model) {
-        try (Writer writer = Files.newBufferedWriter(
-                pomPath,
-                StandardCharsets.UTF_8,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING,
-                StandardOpenOption.WRITE
-        )) {
-            new MavenXpp3Writer().write(writer, model);
+    private boolean writeContent(Path pomPath, byte[] content) {
+        Path temp = null;
+        try {
+            if (Files.exists(pomPath) && Arrays.equals(content, Files.readAllBytes(pomPath))) {
+                logger.debug("POM is unchanged after redaction: {}", pomPath);
+                return false;
+            }
+
+            Path dir = pomPath.toAbsolutePath().getParent();
+            temp = Files.createTempFile(dir, "." + pomPath.getFileName(), ".tmp");
+            Files.write(temp, content);
+            copyPermissions(pomPath, temp);
+            Files.move(temp, pomPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            return true;
         } catch (Exception e) {
             throw new RuntimeException("Failed to write POM: " + pomPath, e);
+        } finally {
+            deleteQuietly(temp);
+            modelCache.invalidate(pomPath);
+        }
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        } catch (UnsupportedOperationException e) {
+            // Non-POSIX file system: keep the default permissions of the temporary file
+        }
+    }
+
+    private void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            logger.debug("Failed to delete temporary file {}: {}", temp, e.getMessage());
         }
     }
 
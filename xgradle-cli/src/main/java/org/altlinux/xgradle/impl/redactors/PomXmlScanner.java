@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.redactors;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Single-pass scanner that records the exact character ranges of the top levels of a POM document.
+ * Only elements up to {@link #MAX_DEPTH} are kept; deeper content is tokenized and skipped.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class PomXmlScanner {
+
+    static final int MAX_DEPTH = 5;
+
+    private PomXmlScanner() {
+    }
+
+    /**
+     * Scans the document and returns its root element.
+     *
+     * @param xml document text
+     * @return root element with recorded descendants
+     * @throws IllegalArgumentException if the document is not well-formed
+     */
+    static Element scan(String xml) {
+        Deque<Element> stack = new ArrayDeque<>();
+        Element root = null;
+        int depth = 0;
+        int length = xml.length();
+        int index = 0;
+
+        while (index < length) {
+            int lt = xml.indexOf('<', index);
+            if (lt < 0) {
+                break;
+            }
+
+            if (xml.startsWith("<!--", lt)) {
+                index = skipPast(xml, lt + 4, "-->");
+            } else if (xml.startsWith("<![CDATA[", lt)) {
+                index = skipPast(xml, lt + 9, "]]>");
+            } else if (xml.startsWith("<?", lt)) {
+                index = skipPast(xml, lt + 2, "?>");
+            } else if (xml.startsWith("<!", lt)) {
+                index = skipDeclaration(xml, lt + 2);
+            } else if (xml.startsWith("</", lt)) {
+                int gt = xml.indexOf('>', lt);
+                if (gt < 0 || depth == 0) {
+                    throw malformed(lt);
+                }
+                if (depth <= MAX_DEPTH) {
+                    Element element = stack.pop();
+                    if (!element.qualifiedName.equals(xml.substring(lt + 2, gt).trim())) {
+                        throw malformed(lt);
+                    }
+                    element.contentEnd = lt;
+                    element.end = gt + 1;
+                }
+                depth--;
+                index = gt + 1;
+            } else {
+                int gt = startTagEnd(xml, lt);
+                boolean selfClosing = xml.charAt(gt - 1) == '/';
+                depth++;
+                if (depth <= MAX_DEPTH) {
+                    Element element = new Element(tagName(xml, lt + 1), lt, gt + 1);
+                    if (stack.isEmpty()) {
+                        if (root != null) {
+                            throw malformed(lt);
+                        }
+                        root = element;
+                    } else {
+                        stack.peek().children.add(element);
+                    }
+                    if (selfClosing) {
+                        element.selfClosing = true;
+                        element.contentEnd = gt + 1;
+                        element.end = gt + 1;
+                    } else {
+                        stack.push(element);
+                    }
+                }
+                if (selfClosing) {
+                    depth--;
+                }
+                index = gt + 1;
+            }
+        }
+
+        if (root == null || depth != 0) {
+            throw new IllegalArgumentException("Malformed XML document: unbalanced elements");
+        }
+        return root;
+    }
+
+    private static int skipPast(String xml, int from, String terminator) {
+        int index = xml.indexOf(terminator, from);
+        if (index < 0) {
+            throw malformed(from);
+        }
+        return index + terminator.length();
+    }
+
+    private static int skipDeclaration(String xml, int from) {
+        int brackets = 0;
+        for (int index = from; index < xml.length(); index++) {
+            char c = xml.charAt(index);
+            if (c == '"' || c == '\'') {
+                index = xml.indexOf(c, index + 1);
+                if (index < 0) {
+                    break;
+                }
+            } else if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == '>' && brackets <= 0) {
+                return index + 1;
+            }
+        }
+        throw malformed(from);
+    }
+
+    private static int startTagEnd(String xml, int lt) {
+        for (int index = lt + 1; index < xml.length(); index++) {
+            char c = xml.charAt(index);
+            if (c == '"' || c == '\'') {
+                index = xml.indexOf(c, index + 1);
+                if (index < 0) {
+                    break;
+                }
+            } else if (c == '>') {
+                return index;
+            }
+        }
+        throw malformed(lt);
+    }
+
+    private static String tagName(String xml, int from) {
+        int index = from;
+        while (index < xml.length()) {
+            char c = xml.charAt(index);
+            if (Character.isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            index++;
+        }
+        return xml.substring(from, index);
+    }
+
+    private static IllegalArgumentException malformed(int offset) {
+        return new IllegalArgumentException("Malformed XML document at offset " + offset);
+    }
+
+    /**
+     * Element with the character ranges of its tags and content.
+     */
+    static final class Element {
+
+        private final String qualifiedName;
+        private final String name;
+        private final int start;
+        private final int startTagEnd;
+        private final List<Element> children = new ArrayList<>();
+        private int contentEnd;
+        private int end;
+        private boolean selfClosing;
+
+        private Element(String qualifiedName, int start, int startTagEnd) {
+            this.qualifiedName = qualifiedName;
+            int colon = qualifiedName.indexOf(':');
+            this.name = colon < 0 ? qualifiedName : qualifiedName.substring(colon + 1);
+            this.start = start;
+            this.startTagEnd = startTagEnd;
+        }
+
+        String getQualifiedName() {
+            return qualifiedName;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        int getStartTagEnd() {
+            return startTagEnd;
+        }
+
+        int getContentEnd() {
+            return contentEnd;
+        }
+
+        int getEnd() {
+            return end;
+        }
+
+        boolean isSelfClosing() {
+            return selfClosing;
+        }
+
+        List<Element> getChildren() {
+            return Collections.unmodifiableList(children);
+        }
+
+        Element child(String childName) {
+            for (Element child : children) {
+                if (child.name.equals(childName)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        List<Element> children(String childName) {
+            return children.stream()
+                    .filter(child -> child.name.equals(childName))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Returns the trimmed character data of this element with entities and CDATA sections resolved.
+         *
+         * @param xml document text the element was scanned from
+         * @return element text, empty for self-closing elements
+         */
+        String text(String xml) {
+            StringBuilder text = new StringBuilder();
+            int index = startTagEnd;
+            while (index < contentEnd) {
+                if (xml.startsWith("<![CDATA[", index)) {
+                    int close = xml.indexOf("]]>", index + 9);
+                    text.append(xml, index + 9, close);
+                    index = close + 3;
+                } else if (xml.startsWith("<!--", index)) {
+                    index = xml.indexOf("-->", index + 4) + 3;
+                } else if (xml.charAt(index) == '<') {
+                    index = xml.indexOf('>', index) + 1;
+                } else if (xml.charAt(index) == '&') {
+                    int semicolon = xml.indexOf(';', index);
+                    if (semicolon < 0 || semicolon > contentEnd) {
+                        text.append('&');
+                        index++;
+                    } else {
+                        text.append(decodeEntity(xml.substring(index + 1, semicolon)));
+                        index = semicolon + 1;
+                    }
+                } else {
+                    text.append(xml.charAt(index));
+                    index++;
+                }
+            }
+            return text.toString().trim();
+        }
+
+        private static String decodeEntity(String entity) {
+            switch (entity) {
+                case "amp":
+                    return "&";
+                case "lt":
+                    return "<";
+                case "gt":
+                    return ">";
+                case "quot":
+                    return "\"";
+                case "apos":
+                    return "'";
+                default:
+                    if (entity.startsWith("#x") || entity.startsWith("#X")) {
+                        return new String(Character.toChars(Integer.parseInt(entity.substring(2), 16)));
+                    }
+                    if (entity.startsWith("#")) {
+                        return new String(Character.toChars(Integer.parseInt(entity.substring(1))));
+                    }
+                    return "&" + entity + ";";
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.altlinux.xgradle.impl.redactors;
 import com.google.inject.AbstractModule;
 
 import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Redactors bindings.
  *
@@ -28,6 +29,8 @@ public final class RedactorsModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new StatsModule());
+
         bind(PomRedactor.class).to(DefaultPomRedactor.class);
     }
 }
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.redactors;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.model.DependencySpec;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
+
+import org.slf4j.Logger;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a {@link RedactionPlan} to the text of a POM file.
+ * Only the affected {@code <parent>}, {@code <dependencies>} and {@code <dependencyManagement>}
+ * regions are rewritten; all other characters are copied unchanged, so comments, ordering and
+ * indentation survive. New elements reuse the indentation and line separator found in the file.
+ * The edit semantics match the model-based redaction in {@link DefaultPomRedactor}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class StreamingPomPatcher {
+
+    private static final String DEFAULT_INDENT = "    ";
+
+    private final Logger logger;
+
+    @Inject
+    StreamingPomPatcher(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Applies every operation of the plan in order.
+     *
+     * @param pomPath POM file, used for diagnostics
+     * @param xml current file text
+     * @param plan operations to apply
+     * @return patched text, equal to {@code xml} when nothing changed
+     */
+    String patch(Path pomPath, String xml, RedactionPlan plan) {
+        String result = xml;
+        for (RedactionPlan.Operation operation : plan.getOperations()) {
+            result = patch(pomPath, result, operation);
+        }
+        return result;
+    }
+
+    private String patch(Path pomPath, String xml, RedactionPlan.Operation operation) {
+        PomXmlScanner.Element project = PomXmlScanner.scan(xml);
+        if (!"project".equals(project.getName())) {
+            throw new IllegalArgumentException("Root element is not <project>: " + pomPath);
+        }
+
+        Edits edits = new Edits(xml, project);
+        switch (operation.getKind()) {
+            case ADD_DEPENDENCY:
+                addDependency(edits, project, operation.getDependency());
+                break;
+            case REMOVE_DEPENDENCY:
+                removeDependency(edits, project, operation.getDependency());
+                break;
+            case CHANGE_DEPENDENCY:
+                changeDependency(edits, project, operation.getDependency(), operation.getTarget());
+                break;
+            case REMOVE_PARENT:
+                PomXmlScanner.Element parent = project.child("parent");
+                if (parent == null) {
+                    logger.warn("POM file hasn`t parent block, cannot remove: {}", pomPath);
+                    break;
+                }
+                edits.remove(parent);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported redaction: " + operation.getKind());
+        }
+        return edits.apply();
+    }
+
+    private void addDependency(Edits edits, PomXmlScanner.Element project, DependencySpec spec) {
+        addToDependencies(edits, project, spec);
+
+        PomXmlScanner.Element management = project.child("dependencyManagement");
+        if (management != null) {
+            addToDependencies(edits, management, spec);
+        }
+    }
+
+    private void addToDependencies(Edits edits, PomXmlScanner.Element owner, DependencySpec spec) {
+        PomXmlScanner.Element dependencies = owner.child("dependencies");
+        if (dependencies == null) {
+            String blockIndent = edits.childIndent(owner, "dependencies");
+            String dependencyIndent = blockIndent + edits.indentUnit;
+            String nl = edits.lineSeparator;
+            edits.appendChild(owner, blockIndent + "<dependencies>" + nl
+                    + renderDependency(spec, dependencyIndent, dependencyIndent + edits.indentUnit, nl)
+                    + blockIndent + "</dependencies>" + nl);
+            return;
+        }
+
+        boolean exists = dependencies.children("dependency").stream()
+                .anyMatch(d -> sameGA(edits.xml, d, spec));
+        if (exists) {
+            return;
+        }
+
+        String dependencyIndent = edits.childIndent(dependencies, "dependency");
+        String coordinateIndent = dependencies.children("dependency").stream()
+                .flatMap(d -> d.getChildren().stream())
+                .map(child -> edits.lineIndent(child.getStart()))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(dependencyIndent + edits.indentUnit);
+        edits.appendChild(dependencies,
+                renderDependency(spec, dependencyIndent, coordinateIndent, edits.lineSeparator));
+    }
+
+    private void removeDependency(Edits edits, PomXmlScanner.Element project, DependencySpec spec) {
+        PomXmlScanner.Element dependencies = project.child("dependencies");
+        if (dependencies != null) {
+            removeMatching(edits, dependencies, dependencies, spec);
+        }
+
+        PomXmlScanner.Element management = project.child("dependencyManagement");
+        PomXmlScanner.Element managed = management != null ? management.child("dependencies") : null;
+        if (managed != null) {
+            removeMatching(edits, managed, management, spec);
+        }
+    }
+
+    private void removeMatching(
+            Edits edits,
+            PomXmlScanner.Element dependencies,
+            PomXmlScanner.Element removableWhenEmpty,
+            DependencySpec spec
+    ) {
+        List<PomXmlScanner.Element> all = dependencies.children("dependency");
+        List<PomXmlScanner.Element> matching = all.stream()
+                .filter(d -> matches(edits.xml, d, spec))
+                .collect(Collectors.toList());
+
+        if (matching.isEmpty()) {
+            return;
+        }
+        if (matching.size() == all.size()) {
+            edits.remove(removableWhenEmpty);
+            return;
+        }
+        matching.forEach(edits::remove);
+    }
+
+    private void changeDependency(
+            Edits edits,
+            PomXmlScanner.Element project,
+            DependencySpec from,
+            DependencySpec to
+    ) {
+        List<PomXmlScanner.Element> targets = new ArrayList<>();
+        PomXmlScanner.Element dependencies = project.child("dependencies");
+        if (dependencies != null) {
+            targets.addAll(dependencies.children("dependency"));
+        }
+        PomXmlScanner.Element management = project.child("dependencyManagement");
+        PomXmlScanner.Element managed = management != null ? management.child("dependencies") : null;
+        if (managed != null) {
+            targets.addAll(managed.children("dependency"));
+        }
+
+        for (PomXmlScanner.Element dependency : targets) {
+            if (!matches(edits.xml, dependency, from)) {
+                continue;
+            }
+            setCoordinate(edits, dependency, "groupId", to.getGroupId());
+            setCoordinate(edits, dependency, "artifactId", to.getArtifactId());
+            setCoordinate(edits, dependency, "version", to.getVersion().orElse(null));
+            setCoordinate(edits, dependency, "scope", to.getScope().orElse(null));
+        }
+    }
+
+    private void setCoordinate(Edits edits, PomXmlScanner.Element dependency, String name, String value) {
+        PomXmlScanner.Element child = dependency.child(name);
+        if (value == null) {
+            if (child != null) {
+                edits.remove(child);
+            }
+            return;
+        }
+        if (child == null) {
+            String indent = edits.childIndent(dependency, name);
+            edits.appendChild(dependency, indent + element(name, value) + edits.lineSeparator);
+            return;
+        }
+        if (value.equals(child.text(edits.xml))) {
+            return;
+        }
+        if (child.isSelfClosing()) {
+            edits.replace(child.getStart(), child.getEnd(), element(name, value));
+        } else {
+            edits.replace(child.getStartTagEnd(), child.getContentEnd(), escape(value));
+        }
+    }
+
+    private static String renderDependency(DependencySpec spec, String indent, String childIndent, String nl) {
+        StringBuilder out = new StringBuilder();
+        out.append(indent).append("<dependency>").append(nl);
+        out.append(childIndent).append(element("groupId", spec.getGroupId())).append(nl);
+        out.append(childIndent).append(element("artifactId", spec.getArtifactId())).append(nl);
+        spec.getVersion().ifPresent(v -> out.append(childIndent).append(element("version", v)).append(nl));
+        spec.getScope().ifPresent(s -> out.append(childIndent).append(element("scope", s)).append(nl));
+        out.append(indent).append("</dependency>").append(nl);
+        return out.toString();
+    }
+
+    private static String element(String name, String value) {
+        return "<" + name + ">" + escape(value) + "</" + name + ">";
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String coordinate(String xml, PomXmlScanner.Element dependency, String name) {
+        PomXmlScanner.Element child = dependency.child(name);
+        return child != null ? child.text(xml) : null;
+    }
+
+    private static boolean sameGA(String xml, PomXmlScanner.Element dependency, DependencySpec spec) {
+        return Objects.equals(coordinate(xml, dependency, "groupId"), spec.getGroupId())
+                && Objects.equals(coordinate(xml, dependency, "artifactId"), spec.getArtifactId());
+    }
+
+    private static boolean matches(String xml, PomXmlScanner.Element dependency, DependencySpec spec) {
+        if (!sameGA(xml, dependency, spec)) {
+            return false;
+        }
+        boolean versionOk = spec.getVersion()
+                .map(v -> Objects.equals(coordinate(xml, dependency, "version"), v))
+                .orElse(true);
+        boolean scopeOk = spec.getScope()
+                .map(s -> Objects.equals(coordinate(xml, dependency, "scope"), s))
+                .orElse(true);
+        return versionOk && scopeOk;
+    }
+
+    /**
+     * Non-overlapping replacements collected against one version of the document text.
+     */
+    private static final class Edits {
+
+        private final String xml;
+        private final String lineSeparator;
+        private final String indentUnit;
+        private final List<Splice> splices = new ArrayList<>();
+
+        private Edits(String xml, PomXmlScanner.Element root) {
+            this.xml = xml;
+            this.lineSeparator = xml.contains("\r\n") ? "\r\n" : "\n";
+            this.indentUnit = detectIndentUnit(root);
+        }
+
+        private String detectIndentUnit(PomXmlScanner.Element root) {
+            for (PomXmlScanner.Element child : root.getChildren()) {
+                String indent = lineIndent(child.getStart());
+                if (indent != null && !indent.isEmpty()) {
+                    String rootIndent = lineIndent(root.getStart());
+                    return rootIndent != null && indent.startsWith(rootIndent)
+                            ? indent.substring(rootIndent.length())
+                            : indent;
+                }
+            }
+            return DEFAULT_INDENT;
+        }
+
+        /**
+         * Returns the whitespace between the start of the line and {@code offset},
+         * or {@code null} when other content precedes it on that line.
+         */
+        private String lineIndent(int offset) {
+            int index = offset;
+            while (index > 0 && (xml.charAt(index - 1) == ' ' || xml.charAt(index - 1) == '\t')) {
+                index--;
+            }
+            if (index == 0 || xml.charAt(index - 1) == '\n') {
+                return xml.substring(index, offset);
+            }
+            return null;
+        }
+
+        private String childIndent(PomXmlScanner.Element parent, String preferredName) {
+            String fallback = null;
+            for (PomXmlScanner.Element child : parent.getChildren()) {
+                String indent = lineIndent(child.getStart());
+                if (indent == null) {
+                    continue;
+                }
+                if (child.getName().equals(preferredName)) {
+                    return indent;
+                }
+                if (fallback == null) {
+                    fallback = indent;
+                }
+            }
+            if (fallback != null) {
+                return fallback;
+            }
+            String parentIndent = lineIndent(parent.getStart());
+            return (parentIndent != null ? parentIndent : "") + indentUnit;
+        }
+
+        private void appendChild(PomXmlScanner.Element parent, String block) {
+            String parentIndent = lineIndent(parent.getStart());
+            String closingIndent = parentIndent != null ? parentIndent : "";
+
+            if (parent.isSelfClosing()) {
+                String openTag = xml.substring(parent.getStart(), parent.getEnd() - 2).stripTrailing() + ">";
+                replace(parent.getStart(), parent.getEnd(), openTag + lineSeparator + block
+                        + closingIndent + "</" + parent.getQualifiedName() + ">");
+                return;
+            }
+
+            String indentBeforeClose = lineIndent(parent.getContentEnd());
+            if (indentBeforeClose != null) {
+                int lineStart = parent.getContentEnd() - indentBeforeClose.length();
+                replace(lineStart, lineStart, block);
+            } else {
+                replace(parent.getContentEnd(), parent.getContentEnd(), lineSeparator + block + closingIndent);
+            }
+        }
+
+        /**
+         * Removes an element together with its line when nothing else shares that line.
+         */
+        private void remove(PomXmlScanner.Element element) {
+            int start = element.getStart();
+            int end = element.getEnd();
+
+            String indent = lineIndent(start);
+            if (indent != null) {
+                int after = end;
+                while (after < xml.length() && (xml.charAt(after) == ' ' || xml.charAt(after) == '\t')) {
+                    after++;
+                }
+                if (xml.startsWith("\r\n", after)) {
+                    start -= indent.length();
+                    end = after + 2;
+                } else if (after == xml.length() || xml.charAt(after) == '\n') {
+                    start -= indent.length();
+                    end = Math.min(after + 1, xml.length());
+                }
+            }
+            replace(start, end, "");
+        }
+
+        private void replace(int start, int end, String replacement) {
+            splices.add(new Splice(start, end, replacement));
+        }
+
+        private String apply() {
+            if (splices.isEmpty()) {
+                return xml;
+            }
+            splices.sort(Comparator.comparingInt((Splice s) -> s.start).thenComparingInt(s -> s.end));
+
+            StringBuilder out = new StringBuilder(xml.length() + 256);
+            int cursor = 0;
+            for (Splice splice : splices) {
+                if (splice.start < cursor) {
+                    throw new IllegalStateException("Overlapping POM edits at offset " + splice.start);
+                }
+                out.append(xml, cursor, splice.start).append(splice.replacement);
+                cursor = splice.end;
+            }
+            return out.append(xml, cursor, xml.length()).toString();
+        }
+    }
+
+    private static final class Splice {
+
+        private final int start;
+        private final int end;
+        private final String replacement;
+
+        private Splice(int start, int end, String replacement) {
+            this.start = start;
+            this.end = end;
+            this.replacement = replacement;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.google.inject.AbstractModule;
 import org.altlinux.xgradle.interfaces.registrars.Registrar;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Bom;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Library;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Registrars bindings.
  *
@@ -30,6 +31,7 @@ public final class RegistrarsModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new StatsModule());
 
         bind(Registrar.class)
                 .annotatedWith(Library.class)
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.registrars;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.enums.ExitCode;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.impl.exceptions.CommandExecutionException;
+import org.altlinux.xgradle.impl.exceptions.RegistrationFailedException;
+import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a register command for a list of artifacts according to the configured register mode.
+ * Parallel invocations buffer their output and report it in artifact order once all of them finished.
+ * Batches are sized to stay well below the kernel limit on argument length.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class RegistrationRunner {
+
+    private static final int MAX_BATCH_ARGUMENT_BYTES = 128 * 1024;
+
+    private final CommandExecutor commandExecutor;
+    private final TaskExecutor taskExecutor;
+    private final ToolConfig toolConfig;
+    private final RunStats runStats;
+    private final Logger logger;
+
+    @Inject
+    RegistrationRunner(
+            CommandExecutor commandExecutor,
+            TaskExecutor taskExecutor,
+            ToolConfig toolConfig,
+            RunStats runStats,
+            Logger logger
+    ) {
+        this.commandExecutor = commandExecutor;
+        this.taskExecutor = taskExecutor;
+        this.toolConfig = toolConfig;
+        this.runStats = runStats;
+        this.logger = logger;
+    }
+
+    /**
+     * Registers every artifact by appending its arguments to the base command.
+     *
+     * @param baseCommand parsed register command
+     * @param artifacts arguments of each artifact in registration order
+     * @param logTemplate log message template with a single placeholder for the full command
+     */
+    void run(List<String> baseCommand, List<List<String>> artifacts, String logTemplate) {
+        try (PhaseTimer ignored = runStats.time(StatsPhase.REGISTER)) {
+            switch (toolConfig.getRegisterMode()) {
+                case PARALLEL:
+                    runParallel(baseCommand, artifacts, logTemplate);
+                    break;
+                case BATCH:
+                    batches(baseCommand, artifacts).forEach(batch -> runSingle(batch, logTemplate));
+                    break;
+                default:
+                    artifacts.forEach(arguments -> runSingle(command(baseCommand, arguments), logTemplate));
+                    break;
+            }
+        }
+    }
+
+    private void runSingle(List<String> command, String logTemplate) {
+        logger.info(logTemplate, String.join(" ", command));
+
+        try {
+            int exitCode = commandExecutor.execute(new ProcessBuilder(command));
+            if (exitCode != ExitCode.SUCCESS.getExitCode()) {
+                throw new RegistrationFailedException(command, exitCode);
+            }
+        } catch (IOException | InterruptedException e) {
+            throw new CommandExecutionException(command, e);
+        }
+    }
+
+    private void runParallel(List<String> baseCommand, List<List<String>> artifacts, String logTemplate) {
+        int size = artifacts.size();
+        List<List<String>> commands = artifacts.stream()
+                .map(arguments -> command(baseCommand, arguments))
+                .collect(Collectors.toList());
+        StringBuilder[] outputs = new StringBuilder[size];
+        int[] exitCodes = new int[size];
+        Exception[] failures = new Exception[size];
+
+        List<Integer> indexes = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        taskExecutor.forEach(indexes, index -> {
+            outputs[index] = new StringBuilder();
+            try {
+                exitCodes[index] = commandExecutor.execute(new ProcessBuilder(commands.get(index)), outputs[index]);
+            } catch (IOException e) {
+                failures[index] = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures[index] = e;
+            }
+        });
+
+        for (int index = 0; index < size; index++) {
+            List<String> command = commands.get(index);
+            logger.info(logTemplate, String.join(" ", command));
+            System.out.print(outputs[index]);
+
+            if (failures[index] != null) {
+                throw new CommandExecutionException(command, failures[index]);
+            }
+            if (exitCodes[index] != ExitCode.SUCCESS.getExitCode()) {
+                throw new RegistrationFailedException(command, exitCodes[index]);
+            }
+        }
+    }
+
+    private static List<List<String>> batches(List<String> baseCommand, List<List<String>> artifacts) {
+        int baseBytes = argumentBytes(baseCommand);
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>(baseCommand);
+        int currentBytes = baseBytes;
+
+        for (List<String> arguments : artifacts) {
+            int bytes = argumentBytes(arguments);
+            if (current.size() > baseCommand.size() && currentBytes + bytes > MAX_BATCH_ARGUMENT_BYTES) {
+                batches.add(current);
+                current = new ArrayList<>(baseCommand);
+                currentBytes = baseBytes;
+            }
+            current.addAll(arguments);
+            currentBytes += bytes;
+        }
+
+        if (current.size() > baseCommand.size()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private static int argumentBytes(List<String> arguments) {
+        int bytes = 0;
+        for (String argument : arguments) {
+            bytes += argument.getBytes(StandardCharsets.UTF_8).length + 1 + Long.BYTES;
+        }
+        return bytes;
+    }
+
+    private static List<String> command(List<String> baseCommand, List<String> arguments) {
+        List<String> command = new ArrayList<>(baseCommand.size() + arguments.size());
+        command.addAll(baseCommand);
+        command.addAll(arguments);
+        return command;
+    }
+}
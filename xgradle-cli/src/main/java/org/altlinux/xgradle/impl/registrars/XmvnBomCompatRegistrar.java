@@ -19,25 +19,21 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Bom;
-import org.altlinux.xgradle.impl.enums.ExitCode;
-import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
 import org.altlinux.xgradle.interfaces.cli.CommandLineParser;
 import org.altlinux.xgradle.interfaces.processors.PomProcessor;
 import org.altlinux.xgradle.interfaces.registrars.Registrar;
 
-import org.altlinux.xgradle.impl.exceptions.CommandExecutionException;
 import org.altlinux.xgradle.impl.exceptions.EmptyRegisterCommandException;
-import org.altlinux.xgradle.impl.exceptions.RegistrationFailedException;
 import org.slf4j.Logger;
 
-import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Registrar implementation for XMvn compatibility with BOM artifacts.
+ * BOM files are passed to the register command according to the configured register mode.
  * Implements {@link Registrar}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -46,19 +42,19 @@ import java.util.Set;
 final class XmvnBomCompatRegistrar implements Registrar {
 
     private final PomProcessor<Set<Path>> pomProcessor;
-    private final CommandExecutor commandExecutor;
+    private final RegistrationRunner registrationRunner;
     private final CommandLineParser commandLineParser;
     private final Logger logger;
 
     @Inject
     XmvnBomCompatRegistrar(
             @Bom PomProcessor<Set<Path>> pomProcessor,
-            CommandExecutor commandExecutor,
+            RegistrationRunner registrationRunner,
             CommandLineParser commandLineParser,
             Logger logger
     ) {
         this.pomProcessor = pomProcessor;
-        this.commandExecutor = commandExecutor;
+        this.registrationRunner = registrationRunner;
         this.commandLineParser = commandLineParser;
         this.logger = logger;
     }
@@ -73,23 +69,10 @@ final class XmvnBomCompatRegistrar implements Registrar {
             throw new EmptyRegisterCommandException(command);
         }
 
-        artifacts.forEach(part -> {
-            List<String> currentCommand = new ArrayList<>(commandParts);
-            currentCommand.add(part.toString());
-            logger.info("Registering BOM: {}", String.join(" ", currentCommand));
-
-            ProcessBuilder processBuilder = new ProcessBuilder(currentCommand);
-
-            try {
-                int exitCode = commandExecutor.execute(processBuilder);
-
-                if (exitCode != ExitCode.SUCCESS.getExitCode()) {
-                    throw new RegistrationFailedException(currentCommand, exitCode);
-                }
-            } catch (IOException | InterruptedException e) {
-                throw new CommandExecutionException(currentCommand, e);
-            }
-        });
+        List<List<String>> boms = artifacts.stream()
+                .map(bom -> List.of(bom.toString()))
+                .collect(Collectors.toList());
+        registrationRunner.run(commandParts, boms, "Registering BOM: {}");
 
         if (artifacts.isEmpty()) {
             logger.info("No BOM registered");
@@ -18,25 +18,22 @@ package org.altlinux.xgradle.impl.registrars;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
-import org.altlinux.xgradle.impl.enums.ExitCode;
 import org.altlinux.xgradle.impl.enums.ProcessingType;
-import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
 import org.altlinux.xgradle.interfaces.cli.CommandLineParser;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
 import org.altlinux.xgradle.interfaces.registrars.Registrar;
 
-import org.altlinux.xgradle.impl.exceptions.CommandExecutionException;
 import org.altlinux.xgradle.impl.exceptions.EmptyRegisterCommandException;
 import org.slf4j.Logger;
 
-import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Registrar implementation for XMvn compatibility with library artifacts.
+ * POM and JAR pairs are passed to the register command according to the configured register mode.
  * Implements {@link Registrar}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -45,19 +42,19 @@ import java.util.List;
 final class XmvnCompatRegistrar implements Registrar {
 
     private final ArtifactContainer artifactContainer;
-    private final CommandExecutor commandExecutor;
+    private final RegistrationRunner registrationRunner;
     private final CommandLineParser commandLineParser;
     private final Logger logger;
 
     @Inject
     XmvnCompatRegistrar(
             ArtifactContainer artifactContainer,
-            CommandExecutor commandExecutor,
+            RegistrationRunner registrationRunner,
             CommandLineParser commandLineParser,
             Logger logger
     ) {
         this.artifactContainer = artifactContainer;
-        this.commandExecutor = commandExecutor;
+        this.registrationRunner = registrationRunner;
         this.commandLineParser = commandLineParser;
         this.logger = logger;
     }
@@ -76,8 +73,10 @@ final class XmvnCompatRegistrar implements Registrar {
             throw new EmptyRegisterCommandException(registerCommand);
         }
 
-        artifacts.entrySet().stream()
-                .forEachOrdered(artifactEntry -> registerSingleArtifact(baseCommand, artifactEntry));
+        List<List<String>> pairs = artifacts.entrySet().stream()
+                .map(entry -> List.of(entry.getKey(), entry.getValue().toString()))
+                .collect(Collectors.toList());
+        registrationRunner.run(baseCommand, pairs, "\nRegistering pair: {}");
 
         if (artifacts.isEmpty()) {
             logger.info("No artifacts registered");
@@ -85,29 +84,4 @@ final class XmvnCompatRegistrar implements Registrar {
             logger.info("Artifacts registered successfully");
         }
     }
-
-    private void registerSingleArtifact(
-            List<String> baseCommand,
-            Map.Entry<String, Path> artifactEntry
-    ) {
-        String pomPath = artifactEntry.getKey();
-        Path jarPath = artifactEntry.getValue();
-
-        List<String> currentCommand = new ArrayList<>(baseCommand);
-        currentCommand.add(pomPath);
-        currentCommand.add(jarPath.toString());
-
-        logger.info("\nRegistering pair: {}", String.join(" ", currentCommand));
-
-        ProcessBuilder processBuilder = new ProcessBuilder(currentCommand);
-
-        try {
-            int exitCode = commandExecutor.execute(processBuilder);
-            if (exitCode != ExitCode.SUCCESS.getExitCode()) {
-                throw new RuntimeException("Failed to register artifact, exit code: " + exitCode);
-            }
-        } catch (IOException | InterruptedException exception) {
-            throw new CommandExecutionException(currentCommand, exception);
-        }
-    }
 }
@@ -21,44 +21,58 @@ import org.altlinux.xgradle.interfaces.resolvers.PluginPomChainResult;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
-import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.impl.pom.PomHeader;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 
-import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.slf4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Resolves full POM chain for Gradle plugins (parent + pom dependencies).
+ * Resolution is demand-driven: starting from the selected POMs, every referenced coordinate is looked up
+ * first by the {@code artifactId-version.pom} file name convention and then among POM files whose names
+ * contain the artifactId, confirming candidates by their {@link PomCatalog} headers. Only when both miss
+ * is the catalog's coordinates index consulted, which reads the header of every POM file once.
+ * Full models are read only for reachable POMs, one BFS level at a time on the shared {@link TaskExecutor}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
 @Singleton
 public final class DefaultPluginPomChainResolver implements PluginPomChainResolver {
 
-    private final PomContainer pomContainer;
+    private final PomCatalog pomCatalog;
+    private final ModelCache modelCache;
+    private final TaskExecutor taskExecutor;
     private final Logger logger;
 
     @Inject
-    public DefaultPluginPomChainResolver(PomContainer pomContainer, Logger logger) {
-        this.pomContainer = pomContainer;
+    public DefaultPluginPomChainResolver(
+            PomCatalog pomCatalog,
+            ModelCache modelCache,
+            TaskExecutor taskExecutor,
+            Logger logger
+    ) {
+        this.pomCatalog = pomCatalog;
+        this.modelCache = modelCache;
+        this.taskExecutor = taskExecutor;
         this.logger = logger;
     }
 
@@ -67,37 +81,18 @@ public final class DefaultPluginPomChainResolver implements PluginPomChainResolv
             List<String> artifactNames,
             Map<String, Path> artifactsMap
     ) {
-        Map<Path, Model> pomModels = new HashMap<>();
-        Map<String, Path> pomByCoords = new HashMap<>();
-        indexPoms(searchingDirectory, pomModels, pomByCoords);
+        Map<Path, Model> pomModels = new ConcurrentHashMap<>();
+        PomLocator pomLocator = new PomLocator(searchingDirectory);
 
         Set<Path> pomPaths = resolvePomChain(
                 searchingDirectory,
                 artifactNames,
                 artifactsMap,
                 pomModels,
-                pomByCoords
+                pomLocator
         );
 
-        return new PluginPomChainResult(pomModels, pomPaths);
-    }
-
-    private void indexPoms(String searchingDirectory,
-                           Map<Path, Model> pomModels,
-                           Map<String, Path> pomByCoords) {
-        Set<Path> allPomPaths = pomContainer.getAllPoms(searchingDirectory);
-        allPomPaths.forEach(pomPath -> {
-            try {
-                Model model = readPomModel(pomPath);
-                pomModels.put(pomPath, model);
-                String key = coordinatesKey(model);
-                if (key != null) {
-                    pomByCoords.putIfAbsent(key, pomPath);
-                }
-            } catch (IOException | XmlPullParserException exception) {
-                logger.error("Failed to read POM file: {}", pomPath, exception);
-            }
-        });
+        return new PluginPomChainResult(new HashMap<>(pomModels), pomPaths);
     }
 
     private Set<Path> resolvePomChain(
@@ -105,90 +100,107 @@ public final class DefaultPluginPomChainResolver implements PluginPomChainResolv
             List<String> artifactNames,
             Map<String, Path> artifactsMap,
             Map<Path, Model> pomModels,
-            Map<String, Path> pomByCoords
+            PomLocator pomLocator
     ) {
-        LinkedHashSet<Path> collected = new LinkedHashSet<>();
+        LinkedHashSet<Path> visited = new LinkedHashSet<>();
 
         if (artifactsMap != null) {
-            artifactsMap.keySet().forEach(pomPathStr -> collected.add(Paths.get(pomPathStr)));
+            artifactsMap.keySet().forEach(pomPathStr -> visited.add(Paths.get(pomPathStr)));
         }
 
         if (artifactNames != null && !artifactNames.isEmpty()) {
-            collected.addAll(pomContainer.getSelectedPoms(searchingDirectory, artifactNames));
+            visited.addAll(pomCatalog.getSelectedPoms(searchingDirectory, artifactNames));
         }
 
-        Deque<Path> queue = new ArrayDeque<>(collected);
-        Set<Path> visited = new HashSet<>(collected);
+        List<Path> level = new ArrayList<>(visited);
 
-        while (!queue.isEmpty()) {
-            Path current = queue.removeFirst();
-            Model model = pomModels.get(current);
-            if (model == null) {
-                continue;
-            }
+        while (!level.isEmpty()) {
+            taskExecutor.forEach(level, pomPath -> loadModel(pomPath, pomModels));
 
-            Parent parent = model.getParent();
-            Path parentPath = resolvePom(parent, pomByCoords);
-            if (parentPath != null && visited.add(parentPath)) {
-                queue.add(parentPath);
-            }
+            List<Path> nextLevel = new ArrayList<>();
+            for (Path current : level) {
+                Model model = pomModels.get(current);
+                if (model == null) {
+                    continue;
+                }
+
+                Parent parent = model.getParent();
+                Path parentPath = parent != null
+                        ? pomLocator.find(parent.getGroupId(), parent.getArtifactId(), parent.getVersion())
+                        : null;
+                if (parentPath != null && visited.add(parentPath)) {
+                    nextLevel.add(parentPath);
+                }
 
-            if (model.getDependencies() != null) {
-                model.getDependencies().stream()
-                        .map(dependency -> resolvePom(dependency, pomByCoords))
-                        .filter(depPath -> depPath != null && visited.add(depPath))
-                        .forEach(queue::add);
+                if (model.getDependencies() != null) {
+                    model.getDependencies().stream()
+                            .map(dependency -> pomLocator.find(
+                                    dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion()))
+                            .filter(depPath -> depPath != null && visited.add(depPath))
+                            .forEach(nextLevel::add);
+                }
             }
+            level = nextLevel;
         }
 
-        collected.clear();
-        collected.addAll(visited);
-        return collected;
+        return visited;
     }
 
-    private Path resolvePom(Parent parent, Map<String, Path> pomByCoords) {
-        if (parent == null) {
-            return null;
+    private void loadModel(Path pomPath, Map<Path, Model> pomModels) {
+        if (pomModels.containsKey(pomPath) || !pomPath.toFile().isFile()) {
+            return;
+        }
+        try {
+            pomModels.put(pomPath, modelCache.get(pomPath));
+        } catch (IOException | XmlPullParserException exception) {
+            logger.error("Failed to read POM file: {}", pomPath, exception);
         }
-        return pomByCoords.get(coordinatesKey(parent.getGroupId(), parent.getArtifactId(), parent.getVersion()));
     }
 
-    private Path resolvePom(Dependency dependency, Map<String, Path> pomByCoords) {
-        if (dependency == null) {
+    private static String coordinatesKey(String groupId, String artifactId, String version) {
+        if (groupId == null || artifactId == null || version == null) {
             return null;
         }
-        return pomByCoords.get(
-                coordinatesKey(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion()));
+        return groupId + ":" + artifactId + ":" + version;
     }
 
-    private String coordinatesKey(Model model) {
-        if (model == null) {
-            return null;
-        }
-        String groupId = model.getGroupId();
-        String artifactId = model.getArtifactId();
-        String version = model.getVersion();
+    private final class PomLocator {
+
+        private final String searchingDirectory;
+        private final Map<String, Optional<Path>> located = new HashMap<>();
 
-        if (groupId == null && model.getParent() != null) {
-            groupId = model.getParent().getGroupId();
+        private PomLocator(String searchingDirectory) {
+            this.searchingDirectory = searchingDirectory;
         }
-        if (version == null && model.getParent() != null) {
-            version = model.getParent().getVersion();
+
+        private Path find(String groupId, String artifactId, String version) {
+            String key = coordinatesKey(groupId, artifactId, version);
+            if (key == null) {
+                return null;
+            }
+            return located.computeIfAbsent(key, ignored -> Optional.ofNullable(locate(key, artifactId, version)))
+                    .orElse(null);
         }
-        return coordinatesKey(groupId, artifactId, version);
-    }
 
-    private String coordinatesKey(String groupId, String artifactId, String version) {
-        if (groupId == null || artifactId == null || version == null) {
-            return null;
+        private Path locate(String key, String artifactId, String version) {
+            Optional<Path> byConvention = pomCatalog.findByFileName(
+                    searchingDirectory, artifactId + "-" + version + ".pom");
+            if (byConvention.isPresent() && hasCoordinates(byConvention.get(), key)) {
+                return byConvention.get();
+            }
+
+            return pomCatalog.getAllPoms(searchingDirectory).stream()
+                    .filter(pomPath -> pomPath.getFileName().toString().contains(artifactId))
+                    .filter(pomPath -> hasCoordinates(pomPath, key))
+                    .findFirst()
+                    .orElseGet(() -> pomCatalog.getPomsByCoordinates(searchingDirectory).get(key));
         }
-        return groupId + ":" + artifactId + ":" + version;
-    }
 
-    private Model readPomModel(Path pomPath) throws IOException, XmlPullParserException {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileInputStream inputStream = new FileInputStream(pomPath.toFile())) {
-            return reader.read(inputStream);
+        private boolean hasCoordinates(Path pomPath, String key) {
+            return pomCatalog.getHeader(pomPath)
+                    .map(PomHeader::coordinatesKey)
+                    .filter(key::equals)
+                    .isPresent();
         }
     }
 }
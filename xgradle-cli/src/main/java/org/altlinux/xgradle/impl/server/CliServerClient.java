@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * Thin client that forwards an invocation to a running xgradle-cli server.
+ * It runs before any dependency injection is set up, so a forwarded invocation costs
+ * little more than JVM startup. When no server is reachable, or the server cannot serve
+ * the request, the caller runs the invocation locally.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class CliServerClient {
+
+    /** Environment variable with the server socket, used when {@code --socket} is not given */
+    public static final String SOCKET_ENV = "XGRADLE_CLI_SOCKET";
+
+    private CliServerClient() {
+    }
+
+    /**
+     * Forwards the invocation to the server configured by {@code --socket} or {@value #SOCKET_ENV}.
+     *
+     * @param args command-line arguments
+     * @return exit code of the forwarded invocation, or empty if it has to run locally
+     */
+    public static OptionalInt tryRun(String[] args) {
+        return tryRun(args, System.getenv(SOCKET_ENV), System.out, System.err);
+    }
+
+    static OptionalInt tryRun(String[] args, String socketFromEnv, PrintStream stdout, PrintStream stderr) {
+        if (Arrays.asList(args).contains("--server")) {
+            return OptionalInt.empty();
+        }
+        Path socket = socketPath(args, socketFromEnv);
+        if (socket == null) {
+            return OptionalInt.empty();
+        }
+        boolean stop = Arrays.asList(args).contains("--stop-server");
+
+        SocketChannel channel;
+        try {
+            channel = UnixSockets.connect(socket);
+        } catch (IOException | UnsupportedOperationException e) {
+            return stop ? OptionalInt.of(0) : OptionalInt.empty();
+        }
+
+        boolean received = false;
+        try (SocketChannel ignored = channel) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+
+            String workingDirectory = Path.of("").toAbsolutePath().toString();
+            ServerProtocol.writeRequest(out,
+                    stop ? ServerProtocol.REQUEST_STOP : ServerProtocol.REQUEST_RUN, workingDirectory, args);
+
+            while (true) {
+                byte type = in.readByte();
+                received = true;
+                switch (type) {
+                    case ServerProtocol.FRAME_STDOUT:
+                    case ServerProtocol.FRAME_STDERR:
+                        byte[] data = new byte[in.readInt()];
+                        in.readFully(data);
+                        PrintStream target = type == ServerProtocol.FRAME_STDOUT ? stdout : stderr;
+                        target.write(data, 0, data.length);
+                        target.flush();
+                        break;
+                    case ServerProtocol.FRAME_EXIT:
+                        return OptionalInt.of(in.readInt());
+                    case ServerProtocol.FRAME_FALLBACK:
+                        in.readInt();
+                        return OptionalInt.empty();
+                    default:
+                        throw new IOException("Unexpected server frame: " + type);
+                }
+            }
+        } catch (EOFException e) {
+            if (!received) {
+                return OptionalInt.empty();
+            }
+            stderr.println("xgradle-cli server closed the connection unexpectedly");
+            return OptionalInt.of(1);
+        } catch (IOException e) {
+            if (!received) {
+                return OptionalInt.empty();
+            }
+            stderr.println("xgradle-cli server request failed: " + e.getMessage());
+            return OptionalInt.of(1);
+        }
+    }
+
+    static Path socketPath(String[] args, String socketFromEnv) {
+        for (String arg : args) {
+            if (arg.startsWith("--socket=")) {
+                return toPath(arg.substring("--socket=".length()));
+            }
+        }
+        return toPath(socketFromEnv);
+    }
+
+    private static Path toPath(String value) {
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+}
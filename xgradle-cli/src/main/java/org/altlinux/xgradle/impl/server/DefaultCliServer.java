@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.server;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import com.google.inject.util.Modules;
+
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.di.XGradleToolModule;
+import org.altlinux.xgradle.impl.enums.ExitCode;
+import org.altlinux.xgradle.impl.stats.StatsModule;
+import org.altlinux.xgradle.interfaces.application.Application;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.server.CliServer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Default implementation of {@link CliServer}.
+ * Requests are served one at a time. Each one runs in a fresh injector, so command-line state never
+ * leaks between invocations, while {@link ModelCache} and {@link PomCatalog} are shared.
+ * The shared caches report into one {@link RunStats}, which is reset at the start of every request
+ * and bound into requests that give {@code --stats}; other requests get no-op statistics.
+ * The searching directory of a request is watched before the request runs, and its cached scans and
+ * models are dropped before the next request when anything below it changed.
+ * Requests from another working directory are handed back to the client, since relative paths
+ * would resolve differently here.
+ * A client has to send its request within a read timeout, at most the idle timeout,
+ * so a stalled connection cannot block the server.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultCliServer implements CliServer {
+
+    private static final Duration REQUEST_READ_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ModelCache modelCache;
+    private final PomCatalog pomCatalog;
+    private final RunStats runStats;
+    private final Logger logger;
+    private final String workingDirectory;
+
+    @Inject
+    DefaultCliServer(ModelCache modelCache, PomCatalog pomCatalog, RunStats runStats, Logger logger) {
+        this.modelCache = modelCache;
+        this.pomCatalog = pomCatalog;
+        this.runStats = runStats;
+        this.logger = logger;
+        this.workingDirectory = Path.of("").toAbsolutePath().toString();
+    }
+
+    @Override
+    public ExitCode serve(Path socket, Duration idleTimeout) {
+        ServerSocketChannel server;
+        try {
+            server = UnixSockets.bind(socket);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.error("Cannot serve on {}: {}", socket, e.getMessage());
+            return ExitCode.ERROR;
+        }
+
+        try (ServerSocketChannel ignored = server;
+             Selector selector = Selector.open();
+             DirectoryWatcher watcher = new DirectoryWatcher()) {
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            logger.info("Serving xgradle-cli requests on {} (idle timeout: {}s)", socket, idleTimeout.getSeconds());
+
+            while (true) {
+                if (selector.select(idleTimeout.toMillis()) == 0) {
+                    logger.info("No requests for {}s, stopping server", idleTimeout.getSeconds());
+                    return ExitCode.SUCCESS;
+                }
+                selector.selectedKeys().clear();
+
+                SocketChannel channel = server.accept();
+                if (channel == null) {
+                    continue;
+                }
+                if (!handle(channel, watcher, idleTimeout)) {
+                    logger.info("Stop requested, stopping server");
+                    return ExitCode.SUCCESS;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Server on {} failed: {}", socket, e.getMessage());
+            return ExitCode.ERROR;
+        } finally {
+            deleteSocket(socket);
+        }
+    }
+
+    /**
+     * Serves one connection.
+     *
+     * @return {@code false} if the client asked the server to stop
+     */
+    private boolean handle(SocketChannel channel, DirectoryWatcher watcher, Duration idleTimeout) {
+        try (SocketChannel ignored = channel) {
+            ServerProtocol.Request request;
+            try (ServerProtocol.DeadlineInputStream in = new ServerProtocol.DeadlineInputStream(
+                    channel, readTimeout(idleTimeout))) {
+                request = ServerProtocol.readRequest(new DataInputStream(new BufferedInputStream(in)));
+            }
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+            if (request.getKind() == ServerProtocol.REQUEST_STOP) {
+                ServerProtocol.writeStatus(out, ServerProtocol.FRAME_EXIT, ExitCode.SUCCESS.getExitCode());
+                return false;
+            }
+            if (!workingDirectory.equals(request.getWorkingDirectory())) {
+                logger.debug("Handing request from {} back to the client", request.getWorkingDirectory());
+                ServerProtocol.writeStatus(out, ServerProtocol.FRAME_FALLBACK, 0);
+                return true;
+            }
+
+            invalidateChanged(watcher);
+            int code = run(request.getArgs(), out, watcher);
+            ServerProtocol.writeStatus(out, ServerProtocol.FRAME_EXIT, code);
+        } catch (IOException e) {
+            logger.warn("Failed to serve request: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private static Duration readTimeout(Duration idleTimeout) {
+        return idleTimeout.compareTo(REQUEST_READ_TIMEOUT) < 0 ? idleTimeout : REQUEST_READ_TIMEOUT;
+    }
+
+    private int run(String[] args, DataOutputStream out, DirectoryWatcher watcher) {
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        PrintStream requestOut = new PrintStream(
+                new ServerProtocol.FrameOutputStream(out, ServerProtocol.FRAME_STDOUT), true);
+        PrintStream requestErr = new PrintStream(
+                new ServerProtocol.FrameOutputStream(out, ServerProtocol.FRAME_STDERR), true);
+
+        System.setOut(requestOut);
+        System.setErr(requestErr);
+        runStats.reset();
+        try {
+            boolean statsRequested = CliArgumentsContainer.requestsStats(args);
+            Injector injector = Guice.createInjector(Modules.override(new XGradleToolModule())
+                    .with(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(ModelCache.class).toInstance(modelCache);
+                            bind(PomCatalog.class).toInstance(pomCatalog);
+                            if (statsRequested) {
+                                bind(RunStats.class).toInstance(runStats);
+                            } else {
+                                install(new StatsModule(false));
+                            }
+                        }
+                    }));
+            Path searchingDirectory = searchingDirectory(args);
+            if (searchingDirectory != null) {
+                watcher.watch(searchingDirectory);
+            }
+            try (TaskExecutor taskExecutor = injector.getInstance(TaskExecutor.class)) {
+                return injector.getInstance(Application.class).run(args).getExitCode();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Request failed", e);
+            return ExitCode.ERROR.getExitCode();
+        } finally {
+            requestOut.flush();
+            requestErr.flush();
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+    }
+
+    /**
+     * Reads the searching directory of a request before it runs, so changes made while the
+     * request scans it are reported to the next one.
+     *
+     * @return normalized absolute directory, or {@code null} if the request has none or cannot be parsed
+     */
+    private static Path searchingDirectory(String[] args) {
+        CliArgumentsContainer arguments = new CliArgumentsContainer();
+        try {
+            JCommander.newBuilder()
+                    .addObject(arguments)
+                    .acceptUnknownOptions(true)
+                    .build()
+                    .parse(CliArgumentsContainer.expandBareStats(args));
+        } catch (ParameterException e) {
+            return null;
+        }
+        if (!arguments.hasSearchingDirectory()) {
+            return null;
+        }
+        try {
+            return Path.of(arguments.getSearchingDirectory()).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private void invalidateChanged(DirectoryWatcher watcher) {
+        for (Path root : watcher.drainChanged()) {
+            logger.debug("Searching directory changed, dropping cached POMs: {}", root);
+            pomCatalog.invalidate(root.toString());
+            modelCache.invalidateAll();
+        }
+    }
+
+    private void deleteSocket(Path socket) {
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            logger.debug("Failed to delete socket {}: {}", socket, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Watches searching directories recursively and reports the ones whose contents changed.
+ * A directory that cannot be watched, e.g. because the watch limit is exhausted,
+ * is reported as changed every time.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class DirectoryWatcher implements Closeable {
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> keyRoots = new HashMap<>();
+    private final Set<Path> roots = new HashSet<>();
+    private final Set<Path> unwatched = new HashSet<>();
+    private final Set<Path> changed = new LinkedHashSet<>();
+
+    DirectoryWatcher() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Starts watching a directory tree unless it is already watched.
+     *
+     * @param root normalized absolute directory
+     */
+    void watch(Path root) {
+        if (!roots.add(root) || !Files.isDirectory(root)) {
+            return;
+        }
+        try {
+            register(root, root);
+        } catch (IOException e) {
+            unwatched.add(root);
+        }
+    }
+
+    /**
+     * Returns watched roots changed since the previous call, including roots that cannot be watched.
+     *
+     * @return changed roots
+     */
+    Set<Path> drainChanged() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path root = keyRoots.get(key);
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (root == null) {
+                    continue;
+                }
+                changed.add(root);
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    Path child = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(child)) {
+                        try {
+                            register(root, child);
+                        } catch (IOException e) {
+                            unwatched.add(root);
+                        }
+                    }
+                }
+            }
+            if (!key.reset()) {
+                keyRoots.remove(key);
+            }
+        }
+
+        Set<Path> result = new LinkedHashSet<>(changed);
+        result.addAll(unwatched);
+        changed.clear();
+        return result;
+    }
+
+    private void register(Path root, Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                WatchKey key = dir.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                keyRoots.put(key, root);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
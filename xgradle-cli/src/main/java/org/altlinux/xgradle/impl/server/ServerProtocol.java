@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wire format shared by {@link CliServerClient} and {@link DefaultCliServer}.
+ * A request carries its kind, the client working directory and the arguments.
+ * The response is a sequence of output frames closed by an exit frame, or a single
+ * fallback frame telling the client to run the invocation itself.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class ServerProtocol {
+
+    static final int VERSION = 1;
+
+    static final byte REQUEST_RUN = 1;
+    static final byte REQUEST_STOP = 2;
+
+    static final byte FRAME_STDOUT = 1;
+    static final byte FRAME_STDERR = 2;
+    static final byte FRAME_EXIT = 3;
+    static final byte FRAME_FALLBACK = 4;
+
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    private ServerProtocol() {
+    }
+
+    static void writeRequest(DataOutputStream out, byte kind, String workingDirectory, String[] args)
+            throws IOException {
+        out.writeInt(VERSION);
+        out.writeByte(kind);
+        writeString(out, workingDirectory);
+        out.writeInt(args.length);
+        for (String arg : args) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported protocol version: " + version);
+        }
+        byte kind = in.readByte();
+        String workingDirectory = readString(in);
+        int count = in.readInt();
+        if (count < 0 || count > 4096) {
+            throw new IOException("Invalid argument count: " + count);
+        }
+        String[] args = new String[count];
+        for (int i = 0; i < count; i++) {
+            args[i] = readString(in);
+        }
+        return new Request(kind, workingDirectory, args);
+    }
+
+    static void writeFrame(DataOutputStream out, byte type, byte[] data, int offset, int length) throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            out.writeInt(length);
+            out.write(data, offset, length);
+        }
+    }
+
+    static void writeStatus(DataOutputStream out, byte type, int code) throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            out.writeInt(code);
+            out.flush();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decoded client request.
+     */
+    static final class Request {
+
+        private final byte kind;
+        private final String workingDirectory;
+        private final String[] args;
+
+        private Request(byte kind, String workingDirectory, String[] args) {
+            this.kind = kind;
+            this.workingDirectory = workingDirectory;
+            this.args = args;
+        }
+
+        byte getKind() {
+            return kind;
+        }
+
+        String getWorkingDirectory() {
+            return workingDirectory;
+        }
+
+        String[] getArgs() {
+            return args.clone();
+        }
+    }
+
+    /**
+     * Input stream over a non-blocking channel that fails once a deadline passes,
+     * so a client that connects and never sends its request cannot stall the server.
+     */
+    static final class DeadlineInputStream extends InputStream {
+
+        private final SocketChannel channel;
+        private final Selector selector;
+        private final long deadlineNanos;
+
+        DeadlineInputStream(SocketChannel channel, Duration timeout) throws IOException {
+            this.channel = channel;
+            this.selector = Selector.open();
+            this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_READ);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int read = channel.read(ByteBuffer.wrap(b, off, len));
+                if (read != 0) {
+                    return read;
+                }
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new SocketTimeoutException("Timed out waiting for the request");
+                }
+                selector.select(remainingMillis);
+                selector.selectedKeys().clear();
+            }
+        }
+
+        /**
+         * Releases the selector and puts the channel back into blocking mode for the response.
+         */
+        @Override
+        public void close() throws IOException {
+            selector.close();
+            channel.configureBlocking(true);
+        }
+    }
+
+    /**
+     * Output stream that sends everything written to it as frames of one type.
+     */
+    static final class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                writeFrame(out, type, b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.server;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Unix domain socket channels.
+ * The API appeared in Java 16 and is reached reflectively, so the tool still builds and runs on Java 11,
+ * where server mode is simply unavailable.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class UnixSockets {
+
+    private UnixSockets() {
+    }
+
+    /**
+     * Connects to a listening socket.
+     *
+     * @throws IOException if nothing listens on the socket
+     * @throws UnsupportedOperationException if the runtime has no Unix domain socket support
+     */
+    static SocketChannel connect(Path socket) throws IOException {
+        SocketChannel channel = (SocketChannel) open(SocketChannel.class);
+        try {
+            channel.connect(address(socket));
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Binds a server channel, replacing a stale socket file left by a server that is gone.
+     * The socket is created in a private directory next to it, restricted to its owner and only
+     * then moved into place, so other local users can never connect to it.
+     *
+     * @throws IOException if another server already listens on the socket or binding fails
+     * @throws UnsupportedOperationException if the runtime has no Unix domain socket support
+     */
+    static ServerSocketChannel bind(Path socket) throws IOException {
+        if (Files.exists(socket)) {
+            if (isListening(socket)) {
+                throw new IOException("Another server is already listening on " + socket);
+            }
+            Files.delete(socket);
+        }
+
+        Path parent = socket.toAbsolutePath().getParent();
+        Path privateDir = Files.createTempDirectory(parent, ".xgradle-cli-",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        Path privateSocket = privateDir.resolve("s");
+        ServerSocketChannel channel = (ServerSocketChannel) open(ServerSocketChannel.class);
+        try {
+            channel.bind(address(privateSocket));
+            Files.setPosixFilePermissions(privateSocket, PosixFilePermissions.fromString("rw-------"));
+            Files.move(privateSocket, socket, StandardCopyOption.ATOMIC_MOVE);
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(privateSocket);
+            throw e;
+        } finally {
+            Files.deleteIfExists(privateDir);
+        }
+    }
+
+    private static boolean isListening(Path socket) {
+        try (SocketChannel ignored = connect(socket)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Object open(Class<?> channelType) throws IOException {
+        ProtocolFamily unix;
+        try {
+            unix = StandardProtocolFamily.valueOf("UNIX");
+        } catch (IllegalArgumentException e) {
+            throw unsupported(e);
+        }
+        return invoke(channelType, "open", ProtocolFamily.class, unix);
+    }
+
+    private static SocketAddress address(Path socket) throws IOException {
+        try {
+            Class<?> addressType = Class.forName("java.net.UnixDomainSocketAddress");
+            return (SocketAddress) invoke(addressType, "of", Path.class, socket);
+        } catch (ClassNotFoundException e) {
+            throw unsupported(e);
+        }
+    }
+
+    private static Object invoke(Class<?> type, String method, Class<?> parameterType, Object argument)
+            throws IOException {
+        try {
+            return type.getMethod(method, parameterType).invoke(null, argument);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw unsupported(e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static UnsupportedOperationException unsupported(Exception cause) {
+        UnsupportedOperationException e =
+                new UnsupportedOperationException("Unix domain sockets require Java 16 or newer");
+        e.initCause(cause);
+        return e;
+    }
+}
@@ -19,17 +19,21 @@ package org.altlinux.xgradle.impl.services;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.impl.model.ArtifactNameMatcher;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
 import org.altlinux.xgradle.interfaces.services.PomService;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
 
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -41,6 +45,7 @@ import java.util.stream.Stream;
 
 /**
  * Service for POM file processing operations.
+ * Redaction plans are applied to every target POM in parallel.
  * Implements {@link PomService}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -49,27 +54,32 @@ import java.util.stream.Stream;
 final class PomRedactorService implements PomService {
     private final PomRedactor pomRedactor;
     private final PomContainer pomContainer;
+    private final ModelCache modelCache;
+    private final TaskExecutor taskExecutor;
+    private final RunStats runStats;
 
     @Inject
-    PomRedactorService(PomRedactor pomRedactor, PomContainer pomContainer) {
+    PomRedactorService(
+            PomRedactor pomRedactor,
+            PomContainer pomContainer,
+            ModelCache modelCache,
+            TaskExecutor taskExecutor,
+            RunStats runStats
+    ) {
         this.pomRedactor = pomRedactor;
         this.pomContainer = pomContainer;
-
-    }
-
-    @Override
-    public void addDependency(Path pomOrDir, String coords, boolean recursive) {
-        targets(pomOrDir, recursive).forEach(p -> pomRedactor.addDependency(p, coords));
+        this.modelCache = modelCache;
+        this.taskExecutor = taskExecutor;
+        this.runStats = runStats;
     }
 
     @Override
-    public void removeDependency(Path pomOrDir, String coords, boolean recursive) {
-        targets(pomOrDir, recursive).forEach(p -> pomRedactor.removeDependency(p, coords));
-    }
-
-    @Override
-    public void changeDependency(Path pomOrDir, String sourceCoords, String targetCoords, boolean recursive) {
-        targets(pomOrDir, recursive).forEach(p -> pomRedactor.changeDependency(p, sourceCoords, targetCoords));
+    public void redact(Path pomOrDir, RedactionPlan plan, boolean recursive) {
+        if (plan.isEmpty()) {
+            return;
+        }
+        List<Path> poms = targets(pomOrDir, recursive).collect(Collectors.toList());
+        taskExecutor.forEach(poms, p -> pomRedactor.apply(p, plan));
     }
 
     private Stream<Path> targets(Path pomOrDir, boolean recursive) {
@@ -83,95 +93,101 @@ final class PomRedactorService implements PomService {
             List<String> excludedArtifacts,
             HashMap<String, Path> artifactCoordinatesMap
     ) {
-        if (excludedArtifacts != null && !excludedArtifacts.isEmpty()) {
-            return artifactCoordinatesMap.entrySet().stream()
-                    .filter(entry -> {
-                        Path pomPath = Path.of(entry.getKey());
-                        String filename = pomPath.getFileName().toString();
-                        return excludedArtifacts.stream()
-                                .noneMatch(filename::startsWith);
-                    })
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue,
-                            (existing, replacement) -> existing,
-                            HashMap::new
-                    ));
-        } else {
-            return artifactCoordinatesMap;
+        try (PhaseTimer ignored = runStats.time(StatsPhase.FILTER)) {
+            if (excludedArtifacts != null && !excludedArtifacts.isEmpty()) {
+                ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(excludedArtifacts);
+                return artifactCoordinatesMap.entrySet().stream()
+                        .filter(entry -> !matcher.matches(Path.of(entry.getKey()).getFileName().toString()))
+                        .collect(Collectors.toMap(
+                                Map.Entry::getKey,
+                                Map.Entry::getValue,
+                                (existing, replacement) -> existing,
+                                HashMap::new
+                        ));
+            } else {
+                return artifactCoordinatesMap;
+            }
         }
     }
 
     @Override
     public Set<Path> excludeArtifacts(List<String> excludedArtifacts, Set<Path> artifactCoords) {
-        if (excludedArtifacts != null && !excludedArtifacts.isEmpty()) {
-            return artifactCoords.stream()
-                    .filter(path -> excludedArtifacts.stream()
-                            .noneMatch(path.getFileName().toString()::startsWith))
-                    .collect(Collectors.toSet());
+        try (PhaseTimer ignored = runStats.time(StatsPhase.FILTER)) {
+            if (excludedArtifacts != null && !excludedArtifacts.isEmpty()) {
+                ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(excludedArtifacts);
+                return artifactCoords.stream()
+                        .filter(path -> !matcher.matches(path.getFileName().toString()))
+                        .collect(Collectors.toSet());
+            }
+            return artifactCoords;
         }
-        return artifactCoords;
     }
 
     @Override
     public void removeParentBlocks(HashMap<String, Path> artifacts, List<String> removeParentPoms) {
-        if (removeParentPoms == null || removeParentPoms.isEmpty()) {
-            return;
-        }
-        artifacts.forEach((pom, jar) -> {
-            Path pomPath = Path.of(pom);
-            String filename = pomPath.getFileName().toString();
-
-            boolean shouldRemove = removeParentPoms.contains("all") ||
-                    removeParentPoms.stream().anyMatch(filename::startsWith);
-
-            if (shouldRemove) {
-                pomRedactor.removeParent(pomPath);
+        try (PhaseTimer ignored = runStats.time(StatsPhase.REDACT)) {
+            if (removeParentPoms == null || removeParentPoms.isEmpty()) {
+                return;
             }
-        });
+            boolean removeAll = removeParentPoms.contains("all");
+            ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(removeParentPoms);
+            artifacts.forEach((pom, jar) -> {
+                Path pomPath = Path.of(pom);
+                boolean shouldRemove = removeAll || matcher.matches(pomPath.getFileName().toString());
+
+                if (shouldRemove) {
+                    pomRedactor.removeParent(pomPath);
+                }
+            });
+        }
     }
 
     @Override
     public void removeParentBlocks(Set<Path> bomFiles, List<String> removeParentPoms) {
-        if (removeParentPoms == null || removeParentPoms.isEmpty()) {
-            return;
-        }
+        try (PhaseTimer ignored = runStats.time(StatsPhase.REDACT)) {
+            if (removeParentPoms == null || removeParentPoms.isEmpty()) {
+                return;
+            }
 
-        bomFiles.forEach(bomFile -> {
-            String fileName = bomFile.getFileName().toString();
-            boolean shouldRemove = removeParentPoms.contains("all") ||
-                    removeParentPoms.stream().anyMatch(fileName::startsWith);
+            boolean removeAll = removeParentPoms.contains("all");
+            ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(removeParentPoms);
+            bomFiles.forEach(bomFile -> {
+                boolean shouldRemove = removeAll || matcher.matches(bomFile.getFileName().toString());
 
-            if (shouldRemove) {
-                pomRedactor.removeParent(bomFile);
-            }
-        });
+                if (shouldRemove) {
+                    pomRedactor.removeParent(bomFile);
+                }
+            });
+        }
     }
 
     @Override
     public Set<Path> excludeSnapshots(Set<Path> pomFiles) {
-        return pomFiles.stream()
-                .filter(pomPath -> !isSnapshotPom(pomPath))
-                .collect(Collectors.toSet());
+        try (PhaseTimer ignored = runStats.time(StatsPhase.FILTER)) {
+            return pomFiles.stream()
+                    .filter(pomPath -> !isSnapshotPom(pomPath))
+                    .collect(Collectors.toSet());
+        }
     }
 
     @Override
     public HashMap<String, Path> excludeSnapshots(HashMap<String, Path> artifactsMap) {
-        return artifactsMap.entrySet().stream().
-                filter (entry -> {
-                    Path pomPath = Path.of(entry.getKey());
-
-                    return !isSnapshotPom(pomPath);
-                }).collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue,
-                        HashMap::new
-                ));
+        try (PhaseTimer ignored = runStats.time(StatsPhase.FILTER)) {
+            return artifactsMap.entrySet().stream().
+                    filter (entry -> {
+                        Path pomPath = Path.of(entry.getKey());
+
+                        return !isSnapshotPom(pomPath);
+                    }).collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            Map.Entry::getValue,
+                            (oldValue, newValue) -> oldValue,
+                            HashMap::new
+                    ));
+        }
     }
 
     private boolean isSnapshotPom(Path pomPath) {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
         Model model;
 
         if (pomPath.getFileName().toString().toLowerCase().contains("snapshot")) {
@@ -179,8 +195,7 @@ final class PomRedactorService implements PomService {
         }
 
         try {
-            File pomFile = new File(String.valueOf(pomPath));
-            model = reader.read(new FileReader(pomFile));
+            model = modelCache.get(pomPath);
 
             if (model.getVersion() != null && model.getVersion().toLowerCase().contains("snapshot")) {
                 return true;
@@ -17,6 +17,7 @@ package org.altlinux.xgradle.impl.services;
 
 import com.google.inject.AbstractModule;
 import org.altlinux.xgradle.interfaces.services.PomService;
+import org.altlinux.xgradle.impl.stats.StatsModule;
 /**
  * Guice module for Services bindings.
  *
@@ -27,6 +28,8 @@ public final class ServicesModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new StatsModule());
+
         bind(PomService.class).to(PomRedactorService.class);
     }
 }
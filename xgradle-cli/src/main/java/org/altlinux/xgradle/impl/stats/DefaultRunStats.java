@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.stats;
+
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default implementation of RunStats.
+ * Counters are {@link LongAdder}s; every phase keeps the number of running measurements
+ * and accumulates time only while at least one of them is running.
+ * Peak heap is the largest total heap usage sampled by a shared daemon thread every
+ * {@value #HEAP_SAMPLE_INTERVAL_MILLIS} ms, on reset and when the peak is read, so measurements
+ * themselves never touch the memory bean. Per-pool peaks are not summed, since pools peak at different times.
+ * The sampler only weakly references the statistics and stops sampling them once they are collected.
+ * Implements {@link RunStats}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultRunStats implements RunStats {
+
+    static final long HEAP_SAMPLE_INTERVAL_MILLIS = 20;
+
+    private static final ScheduledExecutorService HEAP_SAMPLER = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "xgradle-heap-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<StatsPhase, PhaseClock> phases = new EnumMap<>(StatsPhase.class);
+    private final Map<StatsCounter, LongAdder> counters = new EnumMap<>(StatsCounter.class);
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private volatile long startNanos = System.nanoTime();
+
+    DefaultRunStats() {
+        for (StatsPhase phase : StatsPhase.values()) {
+            phases.put(phase, new PhaseClock());
+        }
+        for (StatsCounter counter : StatsCounter.values()) {
+            counters.put(counter, new LongAdder());
+        }
+        HeapSample sample = new HeapSample(this);
+        sample.future = HEAP_SAMPLER.scheduleAtFixedRate(
+                sample, HEAP_SAMPLE_INTERVAL_MILLIS, HEAP_SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public PhaseTimer time(StatsPhase phase) {
+        PhaseClock clock = phases.get(phase);
+        clock.enter();
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                clock.exit();
+            }
+        };
+    }
+
+    @Override
+    public void add(StatsCounter counter, long amount) {
+        counters.get(counter).add(amount);
+    }
+
+    @Override
+    public void increment(StatsCounter counter) {
+        counters.get(counter).increment();
+    }
+
+    @Override
+    public Duration getWallTime(StatsPhase phase) {
+        return Duration.ofNanos(phases.get(phase).total());
+    }
+
+    @Override
+    public long getCount(StatsCounter counter) {
+        return counters.get(counter).sum();
+    }
+
+    @Override
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public long getPeakHeapBytes() {
+        return sampleHeap();
+    }
+
+    @Override
+    public void reset() {
+        phases.values().forEach(PhaseClock::reset);
+        counters.values().forEach(LongAdder::reset);
+        peakHeapBytes.set(memory.getHeapMemoryUsage().getUsed());
+        startNanos = System.nanoTime();
+    }
+
+    private long sampleHeap() {
+        return peakHeapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private static final class HeapSample implements Runnable {
+
+        private final WeakReference<DefaultRunStats> stats;
+        private volatile ScheduledFuture<?> future;
+
+        private HeapSample(DefaultRunStats stats) {
+            this.stats = new WeakReference<>(stats);
+        }
+
+        @Override
+        public void run() {
+            DefaultRunStats current = stats.get();
+            if (current != null) {
+                current.sampleHeap();
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static final class PhaseClock {
+
+        private int running;
+        private long since;
+        private long totalNanos;
+
+        private synchronized void enter() {
+            if (running++ == 0) {
+                since = System.nanoTime();
+            }
+        }
+
+        private synchronized void exit() {
+            if (running > 0 && --running == 0) {
+                totalNanos += System.nanoTime() - since;
+            }
+        }
+
+        private synchronized long total() {
+            return running > 0 ? totalNanos + System.nanoTime() - since : totalNanos;
+        }
+
+        private synchronized void reset() {
+            totalNanos = 0;
+            since = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.stats;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsFormat;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+import org.altlinux.xgradle.interfaces.stats.StatsReporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Default implementation of StatsReporter.
+ * The text format is an aligned table for people; the JSON format is a single object
+ * with stable keys, so reports of different versions can be compared by scripts.
+ * Implements {@link StatsReporter}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultStatsReporter implements StatsReporter {
+
+    private static final String TOTAL = "total";
+    private static final String PROCESS_TIME = "processTime";
+    private static final String PEAK_HEAP = "peakHeapBytes";
+
+    private final RunStats runStats;
+
+    @Inject
+    DefaultStatsReporter(RunStats runStats) {
+        this.runStats = runStats;
+    }
+
+    @Override
+    public String render(StatsFormat format) {
+        return format == StatsFormat.JSON ? renderJson() : renderText();
+    }
+
+    @Override
+    public void report(StatsFormat format, Path file) throws IOException {
+        String report = render(format);
+        if (file == null) {
+            System.err.print(report);
+            System.err.flush();
+            return;
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, report, StandardCharsets.UTF_8);
+    }
+
+    private String renderText() {
+        StringBuilder text = new StringBuilder("xgradle-cli stats").append(System.lineSeparator());
+        textLine(text, TOTAL, millis(runStats.getElapsed()) + " ms");
+        for (StatsPhase phase : StatsPhase.values()) {
+            textLine(text, phase.getKey(), millis(runStats.getWallTime(phase)) + " ms");
+        }
+        for (StatsCounter counter : StatsCounter.values()) {
+            if (counter != StatsCounter.PROCESS_NANOS) {
+                textLine(text, counter.getKey(), Long.toString(runStats.getCount(counter)));
+            }
+        }
+        textLine(text, PROCESS_TIME, millis(processTime()) + " ms");
+        textLine(text, PEAK_HEAP, Long.toString(runStats.getPeakHeapBytes()));
+        return text.toString();
+    }
+
+    private String renderJson() {
+        StringBuilder json = new StringBuilder("{");
+        json.append('"').append(TOTAL).append("Ms\":").append(millis(runStats.getElapsed()));
+
+        json.append(",\"phasesMs\":{");
+        StatsPhase[] phases = StatsPhase.values();
+        for (int i = 0; i < phases.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(phases[i].getKey()).append("\":").append(millis(runStats.getWallTime(phases[i])));
+        }
+
+        json.append("},\"counters\":{");
+        boolean first = true;
+        for (StatsCounter counter : StatsCounter.values()) {
+            if (counter == StatsCounter.PROCESS_NANOS) {
+                continue;
+            }
+            if (!first) {
+                json.append(',');
+            }
+            json.append('"').append(counter.getKey()).append("\":").append(runStats.getCount(counter));
+            first = false;
+        }
+
+        json.append("},\"").append(PROCESS_TIME).append("Ms\":").append(millis(processTime()));
+        json.append(",\"").append(PEAK_HEAP).append("\":").append(runStats.getPeakHeapBytes());
+        return json.append('}').append(System.lineSeparator()).toString();
+    }
+
+    private Duration processTime() {
+        return Duration.ofNanos(runStats.getCount(StatsCounter.PROCESS_NANOS));
+    }
+
+    private static void textLine(StringBuilder text, String key, String value) {
+        text.append(String.format(Locale.ROOT, "  %-18s %14s", key, value)).append(System.lineSeparator());
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000.0);
+    }
+}
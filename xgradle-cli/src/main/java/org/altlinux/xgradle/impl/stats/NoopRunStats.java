@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.stats;
+
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+
+import java.time.Duration;
+
+/**
+ * RunStats bound when {@code --stats} is not given.
+ * Measurements and counters are dropped without any locking or heap sampling.
+ * Implements {@link RunStats}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class NoopRunStats implements RunStats {
+
+    private static final PhaseTimer NOOP_TIMER = () -> { };
+
+    @Override
+    public PhaseTimer time(StatsPhase phase) {
+        return NOOP_TIMER;
+    }
+
+    @Override
+    public void add(StatsCounter counter, long amount) {
+    }
+
+    @Override
+    public void increment(StatsCounter counter) {
+    }
+
+    @Override
+    public Duration getWallTime(StatsPhase phase) {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public long getCount(StatsCounter counter) {
+        return 0;
+    }
+
+    @Override
+    public Duration getElapsed() {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public long getPeakHeapBytes() {
+        return 0;
+    }
+
+    @Override
+    public void reset() {
+    }
+}
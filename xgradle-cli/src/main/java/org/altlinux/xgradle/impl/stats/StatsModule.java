@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.stats;
+
+import com.google.inject.AbstractModule;
+
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+import org.altlinux.xgradle.interfaces.stats.StatsReporter;
+
+/**
+ * Guice module for Stats bindings.
+ * Binds a no-op {@link RunStats} when statistics are disabled, so measurements cost nothing
+ * unless {@code --stats} is given.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class StatsModule extends AbstractModule {
+
+    private final boolean enabled;
+
+    public StatsModule() {
+        this(true);
+    }
+
+    public StatsModule(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void configure() {
+        bind(RunStats.class).to(enabled ? DefaultRunStats.class : NoopRunStats.class);
+        bind(StatsReporter.class).to(DefaultStatsReporter.class);
+    }
+}
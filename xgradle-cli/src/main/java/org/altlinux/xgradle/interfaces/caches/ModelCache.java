@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.caches;
+
+import org.apache.maven.model.Model;
+
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Interface for a shared cache of parsed POM models keyed by file path.
+ * Each POM is parsed once unless it is invalidated or its size, modification time or file key changed.
+ * Returned models are shared and must not be modified; callers that edit a model must copy it first.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface ModelCache {
+
+    /**
+     * Returns parsed model of the POM file, reading it on first access.
+     *
+     * @param pomPath POM file path
+     * @return shared parsed model
+     * @throws IOException if the file cannot be read
+     * @throws XmlPullParserException if the file is not a valid POM
+     */
+    Model get(Path pomPath) throws IOException, XmlPullParserException;
+
+    /**
+     * Drops cached model of the POM file, e.g. after the file was rewritten.
+     *
+     * @param pomPath POM file path
+     */
+    void invalidate(Path pomPath);
+
+    /**
+     * Drops all cached models, e.g. after files changed outside of this process.
+     */
+    void invalidateAll();
+
+    /**
+     * Gets the number of cached models.
+     *
+     * @return number of cached models
+     */
+    int size();
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.caches;
+
+import org.altlinux.xgradle.impl.pom.PomHeader;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Per-invocation catalog of POM files found in a searching directory.
+ * A long-lived server keeps the catalog between invocations and invalidates changed directories.
+ * Each directory is walked only once; POM headers are parsed on demand and kept for reuse
+ * until the POM file is rewritten.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface PomCatalog {
+
+    /**
+     * Returns all POM files found in the specified directory and its subdirectories.
+     *
+     * @param searchingDir the directory to search for POM files
+     * @return unmodifiable set of POM file paths
+     */
+    Set<Path> getAllPoms(String searchingDir);
+
+    /**
+     * Returns POM files whose file names start with one of the given artifact names.
+     *
+     * @param searchingDir the directory to search for POM files
+     * @param artifactNames artifact name prefixes to filter by
+     * @return unmodifiable set of filtered POM file paths
+     */
+    Set<Path> getSelectedPoms(String searchingDir, List<String> artifactNames);
+
+    /**
+     * Finds a POM file by its exact file name.
+     *
+     * @param searchingDir the directory to search for POM files
+     * @param fileName POM file name, e.g. {@code foo-1.0.pom}
+     * @return first matching POM path in path order
+     */
+    Optional<Path> findByFileName(String searchingDir, String fileName);
+
+    /**
+     * Returns parsed header of a POM file.
+     * The cached header is read again when the size, modification time or identity of the file changed.
+     *
+     * @param pomPath POM file path
+     * @return POM header, or empty if the file cannot be read
+     */
+    Optional<PomHeader> getHeader(Path pomPath);
+
+    /**
+     * Returns POM files of the directory indexed by {@code groupId:artifactId:version}.
+     * When several files share coordinates, the first one in path order wins.
+     *
+     * @param searchingDir the directory to search for POM files
+     * @return unmodifiable coordinates index
+     */
+    Map<String, Path> getPomsByCoordinates(String searchingDir);
+
+    /**
+     * Returns Javadoc JAR files of the directory indexed by their parent directory and file name.
+     * Javadoc JARs are collected in the same walk as the POM files of the directory.
+     *
+     * @param searchingDir the directory to search for Javadoc JAR files
+     * @return unmodifiable index of parent directory to Javadoc JAR file name to path
+     */
+    Map<Path, Map<String, Path>> getJavadocJars(String searchingDir);
+
+    /**
+     * Forgets the scan of a directory and the headers of POM files below it,
+     * so the next lookup walks the directory again.
+     *
+     * @param searchingDir the directory whose contents changed
+     */
+    void invalidate(String searchingDir);
+}
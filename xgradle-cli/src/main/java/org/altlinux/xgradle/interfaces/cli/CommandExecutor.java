@@ -23,7 +23,6 @@ import java.io.IOException;
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
-@FunctionalInterface
 public interface CommandExecutor {
 
     /**
@@ -35,4 +34,15 @@ public interface CommandExecutor {
      * @throws InterruptedException if the process is interrupted
      */
     int execute(ProcessBuilder processBuilder) throws IOException, InterruptedException;
+
+    /**
+     * Executes the specified process builder and collects its combined output instead of printing it.
+     *
+     * @param processBuilder the process builder to execute
+     * @param output buffer receiving the process output lines
+     * @return the exit code of the executed process
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the process is interrupted
+     */
+    int execute(ProcessBuilder processBuilder, StringBuilder output) throws IOException, InterruptedException;
 }
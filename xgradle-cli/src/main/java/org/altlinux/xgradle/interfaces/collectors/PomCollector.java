@@ -17,6 +17,7 @@ package org.altlinux.xgradle.interfaces.collectors;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -43,4 +44,14 @@ public interface PomCollector {
      * @return set of filtered POM file paths
      */
     Set<Path> collectSelected(String searchingDir, List<String> artifactName);
+
+    /**
+     * Collects files ending with any of the given suffixes in a single walk of the directory,
+     * e.g. POM files together with the Javadoc JARs ({@code *-javadoc.jar}) next to them.
+     *
+     * @param searchingDir the directory to search
+     * @param suffixes file name suffixes, each file is put under the first one it ends with
+     * @return found file paths by suffix; suffixes without files are absent
+     */
+    Map<String, Set<Path>> collectBySuffix(String searchingDir, String... suffixes);
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.executors;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Interface for the shared bounded executor used by CLI parsers.
+ * Work is split into batches processed by at most {@code --jobs} workers.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface TaskExecutor extends AutoCloseable {
+
+    /**
+     * Applies the action to every item in parallel and waits for completion.
+     * The calling thread takes part in the work.
+     *
+     * @param items items to process
+     * @param action action applied to each item; must be thread-safe
+     * @param <T> item type
+     * @throws RuntimeException first failure thrown by the action
+     */
+    <T> void forEach(Collection<? extends T> items, Consumer<? super T> action);
+
+    /**
+     * Gets the maximum number of concurrently working threads.
+     *
+     * @return parallelism level
+     */
+    int parallelism();
+
+    /**
+     * Shuts down worker threads. The executor is recreated on next use.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.installers;
+
+import org.altlinux.xgradle.impl.enums.LinkMode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Places a single artifact file into an installation directory using the configured link mode.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface FileTransfer {
+
+    /**
+     * Installs source at target, replacing any existing target file.
+     *
+     * @param source file to install
+     * @param target destination path
+     * @return link mode that was actually used, which is {@link LinkMode#COPY} after a fallback
+     * @throws IOException if the file cannot be installed
+     */
+    LinkMode transfer(Path source, Path target) throws IOException;
+
+    /**
+     * Returns the requested link mode.
+     *
+     * @return configured link mode
+     */
+    LinkMode getLinkMode();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.installers;
+
+import org.altlinux.xgradle.impl.enums.LinkMode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Record of installed files used to skip targets that are already up to date.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface InstallManifest {
+
+    /**
+     * Checks whether target was installed from the unchanged source with the same link mode.
+     *
+     * @param source file to install
+     * @param target destination path
+     * @param linkMode requested link mode
+     * @return true if the installation can be skipped
+     */
+    boolean isUpToDate(Path source, Path target, LinkMode linkMode);
+
+    /**
+     * Records a completed installation.
+     *
+     * @param source installed file
+     * @param target destination path
+     * @param linkMode requested link mode
+     * @throws IOException if the source or target cannot be read
+     */
+    void record(Path source, Path target, LinkMode linkMode) throws IOException;
+
+    /**
+     * Queues a line for a file list such as {@code .mfiles-javadoc}.
+     * Each file list is written once by {@link #save()}, and only when the line is missing from it.
+     *
+     * @param fileList file list path
+     * @param line line to ensure in the file list
+     */
+    void addFileListEntry(Path fileList, String line);
+
+    /**
+     * Writes pending changes and queued file list lines to disk, each file in a single write.
+     */
+    void save();
+}
@@ -15,6 +15,8 @@
  */
 package org.altlinux.xgradle.interfaces.redactors;
 
+import org.altlinux.xgradle.impl.model.RedactionPlan;
+
 import java.nio.file.Path;
 
 /**
@@ -31,22 +33,13 @@ public interface PomRedactor {
      * @param pomPath path to the POM file to modify
      */
     void removeParent(Path pomPath);
-/**
-  * Removes dependency.
-
- */
-
-    void removeDependency(Path pomPath, String coords);
-/**
-  * Change dependency.
-
- */
 
-    void changeDependency(Path pomPath, String origCoords, String targetCoords);
-/**
-  * Adds dependency.
-
- */
-
-    void addDependency(Path pomPath, String coords);
+    /**
+     * Applies all edits of the plan with a single read and at most one write.
+     *
+     * @param pomPath path to the POM file to modify
+     * @param plan edits to apply in order
+     * @return true if the file was rewritten
+     */
+    boolean apply(Path pomPath, RedactionPlan plan);
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.server;
+
+import org.altlinux.xgradle.impl.enums.ExitCode;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Long-lived server that runs xgradle-cli invocations forwarded over a Unix domain socket.
+ * Parsed POM models and directory catalogs are kept between invocations.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface CliServer {
+
+    /**
+     * Serves requests until stopped or until no request arrives within the idle timeout.
+     *
+     * @param socket socket file to listen on
+     * @param idleTimeout time without requests after which the server stops
+     * @return exit code of the server process
+     */
+    ExitCode serve(Path socket, Duration idleTimeout);
+}
@@ -15,6 +15,8 @@
  */
 package org.altlinux.xgradle.interfaces.services;
 
+import org.altlinux.xgradle.impl.model.RedactionPlan;
+
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Set;
@@ -79,30 +81,11 @@ public interface PomService {
     HashMap<String, Path> excludeSnapshots(HashMap<String, Path> artifactsMap);
 
     /**
-     * Adds a dependency to the specified POM file or directory.
-     *
-     * @param pomOrDir POM file or directory to update
-     * @param coords dependency coordinates to add
-     * @param recursive whether to process subdirectories
-     */
-    void addDependency(Path pomOrDir, String coords, boolean recursive);
-
-    /**
-     * Removes a dependency from the specified POM file or directory.
-     *
-     * @param pomOrDir POM file or directory to update
-     * @param coords dependency coordinates to remove
-     * @param recursive whether to process subdirectories
-     */
-    void removeDependency(Path pomOrDir, String coords, boolean recursive);
-
-    /**
-     * Replaces one dependency with another in the specified POM file or directory.
+     * Applies all edits of a redaction plan to the specified POM file or directory, one write per file.
      *
      * @param pomOrDir POM file or directory to update
-     * @param sourceCoords dependency coordinates to replace
-     * @param targetCoords dependency coordinates to add
+     * @param plan edits to apply
      * @param recursive whether to process subdirectories
      */
-    void changeDependency(Path pomOrDir, String sourceCoords, String targetCoords, boolean recursive);
+    void redact(Path pomOrDir, RedactionPlan plan, boolean recursive);
 }
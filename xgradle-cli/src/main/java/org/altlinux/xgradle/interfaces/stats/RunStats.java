@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.stats;
+
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+
+import java.time.Duration;
+
+/**
+ * Collects phase timings and counters of one CLI invocation for {@code --stats}.
+ * Phase time is wall time: overlapping measurements of the same phase from several threads
+ * are counted once. All methods are thread-safe. Unless {@code --stats} is given, a no-op
+ * implementation is bound, so measuring costs nothing.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface RunStats {
+
+    /**
+     * Starts measuring a phase.
+     *
+     * @param phase measured phase
+     * @return handle that stops the measurement when closed
+     */
+    PhaseTimer time(StatsPhase phase);
+
+    /**
+     * Adds an amount to a counter.
+     *
+     * @param counter counter to update
+     * @param amount amount to add
+     */
+    void add(StatsCounter counter, long amount);
+
+    /**
+     * Adds one to a counter.
+     *
+     * @param counter counter to update
+     */
+    void increment(StatsCounter counter);
+
+    /**
+     * Gets the wall time spent in a phase so far.
+     *
+     * @param phase measured phase
+     * @return accumulated wall time
+     */
+    Duration getWallTime(StatsPhase phase);
+
+    /**
+     * Gets the current value of a counter.
+     *
+     * @param counter counter to read
+     * @return counter value
+     */
+    long getCount(StatsCounter counter);
+
+    /**
+     * Gets the wall time since the statistics were created or last reset.
+     *
+     * @return elapsed wall time
+     */
+    Duration getElapsed();
+
+    /**
+     * Gets the peak heap usage since the statistics were created or last reset.
+     * Heap usage is sampled periodically, so the peak is the largest sampled total.
+     *
+     * @return largest sampled total heap usage in bytes
+     */
+    long getPeakHeapBytes();
+
+    /**
+     * Clears all timings, counters and heap peaks and restarts the elapsed time.
+     */
+    void reset();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.stats;
+
+import org.altlinux.xgradle.impl.enums.StatsFormat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes the collected {@link RunStats} of an invocation.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface StatsReporter {
+
+    /**
+     * Renders the statistics in the given format.
+     *
+     * @param format output format
+     * @return rendered report ending with a line separator
+     */
+    String render(StatsFormat format);
+
+    /**
+     * Writes the statistics to a file, or to stderr when no file is given.
+     *
+     * @param format output format
+     * @param file target file, or {@code null} for stderr
+     * @throws IOException if the file cannot be written
+     */
+    void report(StatsFormat format, Path file) throws IOException;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests;
+
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * TaskExecutor test double that runs all work on the calling thread.
+ */
+public final class SameThreadTaskExecutor implements TaskExecutor {
+
+    @Override
+    public <T> void forEach(Collection<? extends T> items, Consumer<? super T> action) {
+        items.forEach(action);
+    }
+
+    @Override
+    public int parallelism() {
+        return 1;
+    }
+
+    @Override
+    public void close() {
+    }
+}
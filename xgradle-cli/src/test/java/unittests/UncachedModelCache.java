@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests;
+
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ModelCache test double that parses the POM on every lookup.
+ */
+public final class UncachedModelCache implements ModelCache {
+
+    @Override
+    public Model get(Path pomPath) throws IOException, XmlPullParserException {
+        try (InputStream inputStream = Files.newInputStream(pomPath)) {
+            return new MavenXpp3Reader().read(inputStream);
+        }
+    }
+
+    @Override
+    public void invalidate(Path pomPath) {
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+}
@@ -26,11 +26,13 @@ import org.altlinux.xgradle.interfaces.application.Application;
 import org.altlinux.xgradle.interfaces.controllers.ArtifactsInstallationController;
 import org.altlinux.xgradle.interfaces.controllers.PomRedactionController;
 import org.altlinux.xgradle.interfaces.controllers.XmvnCompatController;
+import org.altlinux.xgradle.interfaces.server.CliServer;
 import org.altlinux.xgradle.impl.application.ApplicationModule;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Bom;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Javadoc;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Library;
 import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
 import org.altlinux.xgradle.impl.enums.ExitCode;
 import org.altlinux.xgradle.impl.exceptions.CliUsageException;
 
@@ -43,6 +45,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -79,6 +84,9 @@ class ApplicationTests {
     @Mock
     private PomRedactionController pomRedactionController;
 
+    @Mock
+    private CliServer cliServer;
+
     private Application application;
 
     @BeforeEach
@@ -97,6 +105,8 @@ class ApplicationTests {
 
                         bind(ArtifactsInstallationController.class).toInstance(pluginsController);
                         bind(PomRedactionController.class).toInstance(pomRedactionController);
+                        bind(CliServer.class).toInstance(cliServer);
+                        bind(ToolConfig.class).toInstance(new ToolConfig(cliArgs));
                     }
                 })
         );
@@ -146,6 +156,27 @@ class ApplicationTests {
         );
     }
 
+    @Test
+    @DisplayName("run: --server serves on the socket with the idle timeout and skips other commands")
+    void serverModeDelegatesToCliServer() {
+        when(cliArgs.isServer()).thenReturn(true);
+        when(cliArgs.getSocket()).thenReturn("/tmp/xgradle.sock");
+        when(cliArgs.getIdleTimeout()).thenReturn(30);
+        when(cliServer.serve(Path.of("/tmp/xgradle.sock"), Duration.ofSeconds(30))).thenReturn(ExitCode.SUCCESS);
+
+        ExitCode code = application.run(new String[]{"--server", "--socket=/tmp/xgradle.sock"});
+
+        assertEquals(ExitCode.SUCCESS, code);
+        verify(cliServer).serve(Path.of("/tmp/xgradle.sock"), Duration.ofSeconds(30));
+        verifyNoInteractions(
+                libraryXmvnController,
+                bomXmvnController,
+                javadocXmvnController,
+                pluginsController,
+                pomRedactionController
+        );
+    }
+
     @Test
     @DisplayName("run: validateMutuallyExclusive error logs, prints usage and returns ERROR")
     void validateMutuallyExclusiveErrorLogsPrintsUsageAndReturnsError() {
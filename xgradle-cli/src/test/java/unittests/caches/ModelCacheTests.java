@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.caches;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import org.altlinux.xgradle.impl.caches.CachesModule;
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.redactors.RedactorsModule;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
+import org.apache.maven.model.Model;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import unittests.PomXmlBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ModelCache contract")
+class ModelCacheTests {
+
+    @TempDir
+    Path tempDir;
+
+    private ModelCache modelCache;
+    private PomRedactor redactor;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(
+                Modules.override(new CachesModule(), new RedactorsModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(PomCollector.class).toInstance(mock(PomCollector.class));
+                                bind(ToolConfig.class).toInstance(new ToolConfig(mock(CliArgumentsContainer.class)));
+                                bind(Logger.class).toInstance(mock(Logger.class));
+                            }
+                        })
+        );
+
+        modelCache = injector.getInstance(ModelCache.class);
+        redactor = injector.getInstance(PomRedactor.class);
+    }
+
+    /**
+     * Verifies that a POM is parsed once and the same model is served for equivalent paths.
+     */
+    @Test
+    @DisplayName("Parses each POM once")
+    void parsesEachPomOnce() throws Exception {
+        Path pom = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("lib")
+                .version("1.0")
+                .writeTo(tempDir.resolve("lib-1.0.pom"));
+
+        Model first = modelCache.get(pom);
+        Model second = modelCache.get(tempDir.resolve("sub").resolve("..").resolve("lib-1.0.pom"));
+
+        assertSame(first, second);
+        assertEquals(1, modelCache.size());
+    }
+
+    /**
+     * Verifies that parse failures are reported with the original checked exception and not cached.
+     */
+    @Test
+    @DisplayName("Propagates parse failures")
+    void propagatesParseFailures() throws Exception {
+        Path broken = tempDir.resolve("broken-1.0.pom");
+        Files.writeString(broken, "<project><groupId></artifactId></project>");
+
+        assertThrows(XmlPullParserException.class, () -> modelCache.get(broken));
+        assertEquals(0, modelCache.size());
+    }
+
+    /**
+     * Verifies that rewriting a POM through the redactor drops the stale model.
+     */
+    @Test
+    @DisplayName("Redactor rewrite invalidates cached model")
+    void redactorRewriteInvalidatesCachedModel() throws Exception {
+        Path pom = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("app")
+                .version("1.0")
+                .parent("org.example", "parent", "1.0")
+                .writeTo(tempDir.resolve("app-1.0.pom"));
+
+        Model before = modelCache.get(pom);
+        redactor.removeParent(pom);
+        Model after = modelCache.get(pom);
+
+        assertNotNull(before.getParent());
+        assertNull(after.getParent());
+        assertNotSame(before, after);
+    }
+
+    /**
+     * Verifies that a POM replaced outside of the cache is parsed again on the next lookup.
+     */
+    @Test
+    @DisplayName("Parses POM again after an external rewrite")
+    void parsesAgainAfterExternalRewrite() throws Exception {
+        Path pom = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("lib")
+                .version("1.0")
+                .writeTo(tempDir.resolve("lib.pom"));
+        assertEquals("1.0", modelCache.get(pom).getVersion());
+
+        Path rewritten = tempDir.resolve(".lib.pom.tmp");
+        Files.writeString(rewritten, Files.readString(pom).replace("<version>1.0</version>", "<version>2.0</version>"));
+        Files.move(rewritten, pom, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        assertEquals("2.0", modelCache.get(pom).getVersion());
+        assertEquals(1, modelCache.size());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.caches;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import org.altlinux.xgradle.impl.caches.CachesModule;
+import org.altlinux.xgradle.impl.pom.PomHeader;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
+import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import unittests.PomXmlBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PomCatalog contract")
+class PomCatalogTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private PomCollector pomCollector;
+
+    @Mock
+    private Logger logger;
+
+    private PomCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(
+                Modules.override(new CachesModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(PomCollector.class).toInstance(pomCollector);
+                                bind(Logger.class).toInstance(logger);
+                            }
+                        })
+        );
+
+        catalog = injector.getInstance(PomCatalog.class);
+    }
+
+    /**
+     * Verifies that repeated and selective lookups reuse a single directory walk.
+     */
+    @Test
+    @DisplayName("Walks searching directory once for all lookups")
+    void walksSearchingDirectoryOnce() {
+        Path foo = tempDir.resolve("foo-1.0.pom");
+        Path bar = tempDir.resolve("bar-2.0.pom");
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(foo, bar)));
+
+        assertEquals(Set.of(foo, bar), catalog.getAllPoms(tempDir.toString()));
+        assertEquals(Set.of(foo), catalog.getSelectedPoms(tempDir.toString(), List.of("foo")));
+        assertEquals(Set.of(bar), catalog.getSelectedPoms(tempDir.toString() + "/.", List.of("bar")));
+        assertEquals(foo, catalog.findByFileName(tempDir.toString(), "foo-1.0.pom").orElseThrow());
+        assertTrue(catalog.findByFileName(tempDir.toString(), "baz-1.0.pom").isEmpty());
+
+        verify(pomCollector, times(1)).collectBySuffix(anyString(), eq(".pom"), eq("-javadoc.jar"));
+    }
+
+    /**
+     * Verifies that Javadoc JARs are indexed from the walk that collected the POM files.
+     */
+    @Test
+    @DisplayName("Indexes Javadoc JARs from the same walk as POM files")
+    void indexesJavadocJarsFromPomWalk() {
+        Path pom = tempDir.resolve("lib/lib-1.0.pom");
+        Path javadoc = tempDir.resolve("lib/lib-1.0-javadoc.jar");
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(pom), "-javadoc.jar", Set.of(javadoc)));
+
+        assertEquals(Set.of(pom), catalog.getAllPoms(tempDir.toString()));
+        assertEquals(Map.of(tempDir.resolve("lib"), Map.of("lib-1.0-javadoc.jar", javadoc)),
+                catalog.getJavadocJars(tempDir.toString()));
+
+        verify(pomCollector, times(1)).collectBySuffix(anyString(), eq(".pom"), eq("-javadoc.jar"));
+        verifyNoMoreInteractions(pomCollector);
+    }
+
+    /**
+     * Verifies that an invalidated directory is walked again on the next lookup.
+     */
+    @Test
+    @DisplayName("Walks searching directory again after invalidation")
+    void walksAgainAfterInvalidation() {
+        Path foo = tempDir.resolve("foo-1.0.pom");
+        Path bar = tempDir.resolve("bar-2.0.pom");
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(foo)), Map.of(".pom", Set.of(foo, bar)));
+
+        assertEquals(Set.of(foo), catalog.getAllPoms(tempDir.toString()));
+        catalog.invalidate(tempDir.toString() + "/.");
+        assertEquals(Set.of(foo, bar), catalog.getAllPoms(tempDir.toString()));
+
+        verify(pomCollector, times(2)).collectBySuffix(anyString(), eq(".pom"), eq("-javadoc.jar"));
+    }
+
+    /**
+     * Verifies that headers inherit group and version from the parent declaration.
+     */
+    @Test
+    @DisplayName("Reads headers with parent inheritance")
+    void readsHeadersWithParentInheritance() {
+        Path child = PomXmlBuilder.pom()
+                .parent("org.example", "parent", "3.1")
+                .artifactId("child")
+                .packaging("pom")
+                .writeTo(tempDir.resolve("child-3.1.pom"));
+
+        PomHeader header = catalog.getHeader(child).orElseThrow();
+
+        assertEquals("org.example", header.getGroupId());
+        assertEquals("child", header.getArtifactId());
+        assertEquals("3.1", header.getVersion());
+        assertEquals("pom", header.getPackaging());
+        assertEquals("parent", header.getParentArtifactId());
+        assertEquals("org.example:child:3.1", header.coordinatesKey());
+    }
+
+    /**
+     * Verifies that a POM replaced in place the way the redactor writes it is not served from the cache.
+     */
+    @Test
+    @DisplayName("Reads header again after the POM file is rewritten")
+    void readsHeaderAgainAfterRewrite() throws Exception {
+        Path pom = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("lib")
+                .version("1.0")
+                .writeTo(tempDir.resolve("lib.pom"));
+        assertEquals("1.0", catalog.getHeader(pom).orElseThrow().getVersion());
+        assertSame(catalog.getHeader(pom).orElseThrow(), catalog.getHeader(pom).orElseThrow());
+
+        Path rewritten = tempDir.resolve(".lib.pom.tmp");
+        Files.writeString(rewritten, Files.readString(pom).replace("<version>1.0</version>", "<version>2.0</version>"));
+        Files.move(rewritten, pom, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        assertEquals("2.0", catalog.getHeader(pom).orElseThrow().getVersion());
+    }
+
+    /**
+     * Verifies that unreadable POM files are skipped in the coordinates index.
+     */
+    @Test
+    @DisplayName("Indexes POM files by coordinates and skips broken files")
+    void indexesPomsByCoordinates() throws Exception {
+        Path lib = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("lib")
+                .version("1.0")
+                .writeTo(tempDir.resolve("lib-1.0.pom"));
+        Path broken = tempDir.resolve("broken-1.0.pom");
+        Files.writeString(broken, "<project><groupId>");
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(lib, broken)));
+
+        Map<String, Path> index = catalog.getPomsByCoordinates(tempDir.toString());
+
+        assertEquals(Map.of("org.example:lib:1.0", lib), index);
+        assertSame(index, catalog.getPomsByCoordinates(tempDir.toString()));
+        assertEquals("jar", catalog.getHeader(lib).orElseThrow().getPackaging());
+        assertTrue(catalog.getHeader(broken).isEmpty());
+    }
+}
@@ -18,6 +18,8 @@ package unittests.cli;
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.ParameterException;
 import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.impl.enums.StatsFormat;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +102,39 @@ public class CliArgumentsContainerTest {
         );
     }
 
+    @Test
+    @DisplayName("JCommander: --link-mode defaults to copy and accepts lower-case values")
+    void parsesLinkMode() {
+        assertEquals(LinkMode.COPY, parse().getLinkMode());
+        assertEquals(LinkMode.HARDLINK, parse("--link-mode=hardlink").getLinkMode());
+        assertEquals(LinkMode.SYMLINK, parse("--link-mode=SYMLINK").getLinkMode());
+        assertThrows(ParameterException.class, () -> parse("--link-mode=move"));
+    }
+
+    @Test
+    @DisplayName("JCommander: --stats is off by default, bare --stats means text and --stats=json selects JSON")
+    void parsesStats() {
+        assertNull(parse().getStats());
+        assertEquals(StatsFormat.TEXT,
+                parse(CliArgumentsContainer.expandBareStats(new String[]{"--stats"})).getStats());
+
+        CliArgumentsContainer json = parse("--stats=json", "--stats-file=/tmp/stats.json");
+        assertEquals(StatsFormat.JSON, json.getStats());
+        assertEquals("/tmp/stats.json", json.getStatsFile());
+    }
+
+    @Test
+    @DisplayName("Raw arguments: --stats and --server are detected before parsing")
+    void detectsStatsAndServerInRawArguments() {
+        assertTrue(CliArgumentsContainer.requestsStats(new String[]{"--xmvn-register=x", "--stats"}));
+        assertTrue(CliArgumentsContainer.requestsStats(new String[]{"--stats=json"}));
+        assertFalse(CliArgumentsContainer.requestsStats(new String[]{"--stats-file=/tmp/stats.txt"}));
+        assertFalse(CliArgumentsContainer.requestsStats(new String[0]));
+
+        assertTrue(CliArgumentsContainer.requestsServer(new String[]{"--server", "--socket=/tmp/s"}));
+        assertFalse(CliArgumentsContainer.requestsServer(new String[]{"--socket=/tmp/s"}));
+    }
+
     @Test
     @DisplayName("JCommander: parses --install-prefix and reflects in has/get")
     void parsesInstallPrefix() {
@@ -299,6 +334,16 @@ public class CliArgumentsContainerTest {
         );
     }
 
+    @Test
+    @DisplayName("--idle-timeout: rejects values below one second")
+    void rejectsNonPositiveIdleTimeout() {
+        assertEquals(5, parse("--idle-timeout=5").getIdleTimeout());
+
+        ParameterException zero = assertThrows(ParameterException.class, () -> parse("--idle-timeout=0"));
+        assertTrue(zero.getMessage().contains("--idle-timeout should be at least 1 second"));
+        assertThrows(ParameterException.class, () -> parse("--idle-timeout=-3"));
+    }
+
     @Test
     @DisplayName("validateMutuallyExclusive: rejects --change-dependency with not exactly 2 values")
     void rejectsChangeDependencyWithWrongArity() {
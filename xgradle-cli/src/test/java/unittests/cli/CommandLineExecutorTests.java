@@ -88,6 +88,27 @@ class CommandLineExecutorTests {
         );
     }
 
+    /**
+     * Ensures buffered execution collects output instead of printing it.
+     */
+    @Test
+    @DisplayName("Collects output into the buffer instead of System.out")
+    void collectsOutputIntoBuffer() throws Exception {
+        assumePosixShellAvailable();
+
+        StringBuilder output = new StringBuilder();
+        String out = captureStdout(() ->
+                assertEquals(3, executor.execute(new ProcessBuilder("sh", "-c", "echo out; echo err 1>&2; exit 3"),
+                        output))
+        );
+
+        assertAll(
+                () -> assertTrue(output.toString().contains("out")),
+                () -> assertTrue(output.toString().contains("err")),
+                () -> assertEquals("", out)
+        );
+    }
+
     /**
      * Ensures IOException is propagated when the executable cannot be started.
      */
@@ -38,6 +38,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.slf4j.Logger;
+
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
@@ -58,6 +60,9 @@ class ArtifactCollectorTests {
     @Mock
     private PomProcessor<HashMap<String, Path>> javadocProcessor;
 
+    @Mock
+    private Logger logger;
+
     private ArtifactCollector collector;
 
     @BeforeEach
@@ -87,6 +92,8 @@ class ArtifactCollectorTests {
                                                 Javadoc.class
                                         )
                                 ).toInstance(javadocProcessor);
+
+                                bind(Logger.class).toInstance(logger);
                             }
                         })
         );
@@ -29,14 +29,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.slf4j.Logger;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 @DisplayName("PomCollector contract")
 class PomCollectorTests {
@@ -60,6 +64,7 @@ class PomCollectorTests {
                                                 org.altlinux.xgradle.impl.enums.ProcessingType processingType
                                         ) -> new HashMap<String, Path>()
                                 );
+                                bind(Logger.class).toInstance(mock(Logger.class));
                             }
                         })
         );
@@ -108,6 +113,36 @@ class PomCollectorTests {
         );
     }
 
+    /**
+     * Ensures collectAll does not descend into version control directories.
+     */
+    @Test
+    @DisplayName("collectAll: skips version control directories")
+    void collectAllSkipsVersionControlDirectories() throws IOException {
+        Path pom = writeFile(tempDir.resolve("lib/lib-1.0.pom"), "<project/>");
+        writeFile(tempDir.resolve(".git/refs/stale-1.0.pom"), "<project/>");
+        writeFile(tempDir.resolve("lib/.svn/pristine/stale-1.0.pom"), "<project/>");
+
+        assertEquals(Set.of(pom), collector.collectAll(tempDir.toString()));
+    }
+
+    /**
+     * Ensures symbolic links to POM files and Javadoc JARs are collected like regular files.
+     */
+    @Test
+    @DisplayName("collectAll and collectBySuffix: include symbolic links to files")
+    void collectsSymbolicLinksToFiles() throws IOException {
+        Path pom = writeFile(tempDir.resolve("store/lib-1.0.pom"), "<project/>");
+        Path jar = writeFile(tempDir.resolve("store/lib-1.0-javadoc.jar"), "binary");
+        Path linkedPom = Files.createSymbolicLink(
+                Files.createDirectories(tempDir.resolve("repo")).resolve("lib.pom"), pom);
+        Path linkedJar = Files.createSymbolicLink(tempDir.resolve("repo/lib-javadoc.jar"), jar);
+
+        assertEquals(Set.of(pom, linkedPom), collector.collectAll(tempDir.toString()));
+        assertEquals(Set.of(jar, linkedJar), collector.collectBySuffix(tempDir.toString(), "-javadoc.jar")
+                .get("-javadoc.jar"));
+    }
+
     /**
      * Ensures collectAll returns unique paths (Set semantics).
      */
@@ -177,6 +212,21 @@ class PomCollectorTests {
         );
     }
 
+    /**
+     * Ensures collectSelected accepts glob patterns next to plain prefixes.
+     */
+    @Test
+    @DisplayName("collectSelected: accepts globs next to prefixes")
+    void collectSelectedAcceptsGlobs() throws IOException {
+        Path api = writeFile(tempDir.resolve("jackson-core-api-2.15.pom"), "<project/>");
+        Path lang = writeFile(tempDir.resolve("commons-lang3-3.12.0.pom"), "<project/>");
+        writeFile(tempDir.resolve("jackson-core-2.15.pom"), "<project/>");
+
+        Set<Path> actual = collector.collectSelected(tempDir.toString(), List.of("jackson-*-api", "commons-lang3"));
+
+        assertEquals(Set.of(api, lang), actual);
+    }
+
     /**
      * Ensures collectSelected ignores non-.pom files even if prefix matches.
      */
@@ -236,6 +286,22 @@ class PomCollectorTests {
         assertInstanceOf(IOException.class, ex.getCause(), "cause must be an IOException");
     }
 
+    /**
+     * Ensures collectBySuffix sorts POM files and Javadoc JARs into their buckets in one walk.
+     */
+    @Test
+    @DisplayName("collectBySuffix: collects .pom and *-javadoc.jar recursively and ignores others")
+    void collectBySuffixCollectsRecursively() throws IOException {
+        Path rootJar = writeFile(tempDir.resolve("a-1.0-javadoc.jar"), "binary");
+        writeFile(tempDir.resolve("a-1.0.jar"), "binary");
+        Path rootPom = writeFile(tempDir.resolve("a-1.0.pom"), "<project/>");
+        Path nestedJar = writeFile(tempDir.resolve("nested/b-2.0-javadoc.jar"), "binary");
+
+        Map<String, Set<Path>> actual = collector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar");
+
+        assertEquals(Map.of(".pom", Set.of(rootPom), "-javadoc.jar", Set.of(rootJar, nestedJar)), actual);
+    }
+
     private static Path writeFile(Path path, String content) throws IOException {
         Files.createDirectories(path.getParent());
         return Files.writeString(path, content);
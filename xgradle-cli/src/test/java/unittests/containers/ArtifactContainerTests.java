@@ -21,7 +21,7 @@ import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 
 import org.altlinux.xgradle.interfaces.collectors.ArtifactCollector;
-import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
 import org.altlinux.xgradle.impl.containers.ContainersModule;
 import org.altlinux.xgradle.impl.enums.ProcessingType;
@@ -48,7 +48,7 @@ class ArtifactContainerTests {
     private ArtifactCollector artifactCollector;
 
     @Mock
-    private PomCollector pomCollector;
+    private PomCatalog pomCatalog;
 
     private ArtifactContainer container;
 
@@ -60,7 +60,7 @@ class ArtifactContainerTests {
                             @Override
                             protected void configure() {
                                 bind(ArtifactCollector.class).toInstance(artifactCollector);
-                                bind(PomCollector.class).toInstance(pomCollector);
+                                bind(PomCatalog.class).toInstance(pomCatalog);
                             }
                         })
         );
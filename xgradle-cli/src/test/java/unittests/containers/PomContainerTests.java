@@ -19,7 +19,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
-import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
 import org.altlinux.xgradle.impl.containers.ContainersModule;
@@ -42,7 +42,7 @@ import static org.mockito.Mockito.*;
 class PomContainerTests {
 
     @Mock
-    private PomCollector pomCollector;
+    private PomCatalog pomCatalog;
 
     @Mock
     private ArtifactContainer artifactContainer;
@@ -56,7 +56,7 @@ class PomContainerTests {
                         .with(new AbstractModule() {
                             @Override
                             protected void configure() {
-                                bind(PomCollector.class).toInstance(pomCollector);
+                                bind(PomCatalog.class).toInstance(pomCatalog);
                                 bind(ArtifactContainer.class).toInstance(artifactContainer);
                             }
                         })
@@ -75,87 +75,87 @@ class PomContainerTests {
     }
 
     /**
-     * Verifies that getAllPoms delegates to PomCollector.collectAll and returns the same Set instance.
+     * Verifies that getAllPoms delegates to PomCatalog.getAllPoms and returns the same Set instance.
      */
     @Test
-    @DisplayName("getAllPoms delegates to PomCollector.collectAll")
-    void getAllPomsDelegatesToCollector() {
+    @DisplayName("getAllPoms delegates to PomCatalog.getAllPoms")
+    void getAllPomsDelegatesToCatalog() {
         Set<Path> expected = Set.of(Path.of("/repo/a.pom"), Path.of("/repo/b.pom"));
-        when(pomCollector.collectAll("/repo")).thenReturn(expected);
+        when(pomCatalog.getAllPoms("/repo")).thenReturn(expected);
 
         Set<Path> actual = container.getAllPoms("/repo");
 
         assertSame(expected, actual);
-        verify(pomCollector).collectAll("/repo");
-        verifyNoMoreInteractions(pomCollector);
+        verify(pomCatalog).getAllPoms("/repo");
+        verifyNoMoreInteractions(pomCatalog);
     }
 
     /**
-     * Verifies that getSelectedPoms delegates to PomCollector.collectSelected and returns the same Set instance.
+     * Verifies that getSelectedPoms delegates to PomCatalog.getSelectedPoms and returns the same Set instance.
      */
     @Test
-    @DisplayName("getSelectedPoms delegates to PomCollector.collectSelected")
-    void getSelectedPomsDelegatesToCollector() {
+    @DisplayName("getSelectedPoms delegates to PomCatalog.getSelectedPoms")
+    void getSelectedPomsDelegatesToCatalog() {
         List<String> prefixes = List.of("foo", "bar");
         Set<Path> expected = Set.of(Path.of("/repo/foo-1.0.pom"));
 
-        when(pomCollector.collectSelected("/repo", prefixes)).thenReturn(expected);
+        when(pomCatalog.getSelectedPoms("/repo", prefixes)).thenReturn(expected);
 
         Set<Path> actual = container.getSelectedPoms("/repo", prefixes);
 
         assertSame(expected, actual);
-        verify(pomCollector).collectSelected("/repo", prefixes);
-        verifyNoMoreInteractions(pomCollector);
+        verify(pomCatalog).getSelectedPoms("/repo", prefixes);
+        verifyNoMoreInteractions(pomCatalog);
     }
 
     /**
-     * Verifies that exceptions thrown by PomCollector.collectAll are propagated unchanged.
+     * Verifies that exceptions thrown by PomCatalog.getAllPoms are propagated unchanged.
      */
     @Test
-    @DisplayName("getAllPoms propagates collector exceptions")
-    void getAllPomsPropagatesCollectorExceptions() {
+    @DisplayName("getAllPoms propagates catalog exceptions")
+    void getAllPomsPropagatesCatalogExceptions() {
         RuntimeException boom = new RuntimeException("boom");
-        when(pomCollector.collectAll("/repo")).thenThrow(boom);
+        when(pomCatalog.getAllPoms("/repo")).thenThrow(boom);
 
         RuntimeException ex = assertThrows(RuntimeException.class, () -> container.getAllPoms("/repo"));
         assertSame(boom, ex);
 
-        verify(pomCollector).collectAll("/repo");
-        verifyNoMoreInteractions(pomCollector);
+        verify(pomCatalog).getAllPoms("/repo");
+        verifyNoMoreInteractions(pomCatalog);
     }
 
     /**
-     * Verifies that exceptions thrown by PomCollector.collectSelected are propagated unchanged.
+     * Verifies that exceptions thrown by PomCatalog.getSelectedPoms are propagated unchanged.
      */
     @Test
-    @DisplayName("getSelectedPoms propagates collector exceptions")
-    void getSelectedPomsPropagatesCollectorExceptions() {
+    @DisplayName("getSelectedPoms propagates catalog exceptions")
+    void getSelectedPomsPropagatesCatalogExceptions() {
         RuntimeException boom = new RuntimeException("boom");
         List<String> prefixes = List.of("foo");
 
-        when(pomCollector.collectSelected("/repo", prefixes)).thenThrow(boom);
+        when(pomCatalog.getSelectedPoms("/repo", prefixes)).thenThrow(boom);
 
         RuntimeException ex = assertThrows(RuntimeException.class, () -> container.getSelectedPoms("/repo", prefixes));
         assertSame(boom, ex);
 
-        verify(pomCollector).collectSelected("/repo", prefixes);
-        verifyNoMoreInteractions(pomCollector);
+        verify(pomCatalog).getSelectedPoms("/repo", prefixes);
+        verifyNoMoreInteractions(pomCatalog);
     }
 
     /**
      * Verifies current behavior:
-     * PomContainer does not validate null searchingDir and passes it through to the collector.
+     * PomContainer does not validate null searchingDir and passes it through to the catalog.
      */
     @Test
     @DisplayName("Null searchingDir is passed through (current behavior)")
     void nullSearchingDirIsPassedThrough() {
-        when(pomCollector.collectAll(null)).thenReturn(Set.of());
+        when(pomCatalog.getAllPoms(null)).thenReturn(Set.of());
 
         Set<Path> actual = container.getAllPoms(null);
 
         assertEquals(Set.of(), actual);
-        verify(pomCollector).collectAll(null);
-        verifyNoMoreInteractions(pomCollector);
+        verify(pomCatalog).getAllPoms(null);
+        verifyNoMoreInteractions(pomCatalog);
     }
 
     /**
@@ -164,12 +164,12 @@ class PomContainerTests {
     @Test
     @DisplayName("Null artifactName list is passed through (current behavior)")
     void nullArtifactNamesIsPassedThrough() {
-        when(pomCollector.collectSelected("/repo", null)).thenReturn(Set.of());
+        when(pomCatalog.getSelectedPoms("/repo", null)).thenReturn(Set.of());
 
         Set<Path> actual = container.getSelectedPoms("/repo", null);
 
         assertEquals(Set.of(), actual);
-        verify(pomCollector).collectSelected("/repo", null);
-        verifyNoMoreInteractions(pomCollector);
+        verify(pomCatalog).getSelectedPoms("/repo", null);
+        verifyNoMoreInteractions(pomCatalog);
     }
 }
@@ -31,19 +31,23 @@ import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Library;
 import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
 import org.altlinux.xgradle.impl.config.ToolConfig;
 import org.altlinux.xgradle.impl.controllers.ControllersModule;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -102,7 +106,7 @@ class PomRedactionControllerTests {
     }
 
     @Test
-    @DisplayName("configure: removeDependencies delegates to PomService.removeDependency for each coord")
+    @DisplayName("configure: removeDependencies are compiled into one redaction plan")
     void removeDependenciesDelegatesForEach() {
         when(cliArgs.getSearchingDirectory()).thenReturn("/repo");
         when(cliArgs.hasRemoveDependencies()).thenReturn(true);
@@ -111,14 +115,11 @@ class PomRedactionControllerTests {
 
         controller.configure();
 
-        Path repo = Path.of("/repo");
-        verify(pomService).removeDependency(repo, "g:a", true);
-        verify(pomService).removeDependency(repo, "g:b", true);
-        verifyNoMoreInteractions(pomService);
+        assertEquals("[REMOVE_DEPENDENCY g:a::, REMOVE_DEPENDENCY g:b::]", redactedPlan(true).toString());
     }
 
     @Test
-    @DisplayName("configure: addDependencies delegates to PomService.addDependency for each coord")
+    @DisplayName("configure: addDependencies are compiled into one redaction plan")
     void addDependenciesDelegatesForEach() {
         when(cliArgs.getSearchingDirectory()).thenReturn("/repo");
         when(cliArgs.hasAddDependencies()).thenReturn(true);
@@ -128,14 +129,11 @@ class PomRedactionControllerTests {
 
         controller.configure();
 
-        Path repo = Path.of("/repo");
-        verify(pomService).addDependency(repo, "g:a:1", false);
-        verify(pomService).addDependency(repo, "g:b:2", false);
-        verifyNoMoreInteractions(pomService);
+        assertEquals("[ADD_DEPENDENCY g:a:1:, ADD_DEPENDENCY g:b:2:]", redactedPlan(false).toString());
     }
 
     @Test
-    @DisplayName("configure: changeDependencies delegates once with pair[0], pair[1]")
+    @DisplayName("configure: changeDependencies becomes a single change with pair[0], pair[1]")
     void changeDependenciesDelegatesOnce() {
         when(cliArgs.getSearchingDirectory()).thenReturn("/repo");
         when(cliArgs.hasChangeDependencies()).thenReturn(true);
@@ -145,7 +143,24 @@ class PomRedactionControllerTests {
 
         controller.configure();
 
-        verify(pomService).changeDependency(Path.of("/repo"), "g:a:1", "g:b:2", true);
+        assertEquals("[CHANGE_DEPENDENCY g:a:1: -> g:b:2:]", redactedPlan(true).toString());
+    }
+
+    @Test
+    @DisplayName("configure: malformed coordinates fail before any POM is touched")
+    void malformedCoordinatesFailBeforeRedaction() {
+        when(cliArgs.getSearchingDirectory()).thenReturn("/repo");
+        when(cliArgs.hasAddDependencies()).thenReturn(true);
+        when(cliArgs.getAddDependencies()).thenReturn(List.of("g:a:1", "broken"));
+
+        assertThrows(IllegalArgumentException.class, () -> controller.configure());
+        verifyNoInteractions(pomService);
+    }
+
+    private RedactionPlan redactedPlan(boolean recursive) {
+        ArgumentCaptor<RedactionPlan> plan = ArgumentCaptor.forClass(RedactionPlan.class);
+        verify(pomService).redact(eq(Path.of("/repo")), plan.capture(), eq(recursive));
         verifyNoMoreInteractions(pomService);
+        return plan.getValue();
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.executors;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.executors.ExecutorsModule;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskExecutor contract")
+class TaskExecutorTests {
+
+    @Mock
+    private CliArgumentsContainer args;
+
+    private TaskExecutor taskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(args.getJobs()).thenReturn(4);
+        ToolConfig toolConfig = new ToolConfig(args);
+
+        taskExecutor = Guice.createInjector(
+                Modules.override(new ExecutorsModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(ToolConfig.class).toInstance(toolConfig);
+                            }
+                        })
+        ).getInstance(TaskExecutor.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskExecutor.close();
+    }
+
+    @Test
+    @DisplayName("Processes every item exactly once")
+    void processesEveryItemOnce() {
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+
+        taskExecutor.forEach(items, item -> assertTrue(seen.add(item)));
+
+        assertEquals(Set.copyOf(items), seen);
+    }
+
+    @Test
+    @DisplayName("Parallelism follows configured job count")
+    void parallelismFollowsJobs() {
+        assertEquals(4, taskExecutor.parallelism());
+    }
+
+    @Test
+    @DisplayName("Propagates worker exceptions to the caller")
+    void propagatesWorkerExceptions() {
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> taskExecutor.forEach(items, item -> {
+                    if (item == 42) {
+                        throw new IllegalStateException("boom");
+                    }
+                }));
+
+        assertEquals("boom", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Runs inline with a single job")
+    void runsInlineWithSingleJob() {
+        when(args.getJobs()).thenReturn(1);
+        Thread caller = Thread.currentThread();
+
+        taskExecutor.forEach(List.of(1, 2, 3), item -> assertSame(caller, Thread.currentThread()));
+    }
+
+    @Test
+    @DisplayName("Accepts empty input")
+    void acceptsEmptyInput() {
+        taskExecutor.forEach(List.of(), item -> fail("must not be called"));
+    }
+}
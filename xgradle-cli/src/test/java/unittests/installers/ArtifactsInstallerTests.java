@@ -20,6 +20,8 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.collectors.ArtifactCollector;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
 import org.altlinux.xgradle.interfaces.installers.ArtifactsInstaller;
@@ -32,6 +34,7 @@ import org.altlinux.xgradle.impl.installers.InstallersModule;
 
 import org.apache.maven.model.Model;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,9 +49,12 @@ import org.slf4j.Logger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Set;
+import unittests.SameThreadTaskExecutor;
+import unittests.UncachedModelCache;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -88,6 +94,8 @@ class ArtifactsInstallerTests {
                         .with(new AbstractModule() {
                             @Override
                             protected void configure() {
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
                                 bind(ArtifactContainer.class).toInstance(artifactContainer);
                                 bind(ArtifactCollector.class).toInstance(artifactCollector);
                                 bind(CliArgumentsContainer.class).toInstance(cliArgs);
@@ -101,6 +109,11 @@ class ArtifactsInstallerTests {
         installer = injector.getInstance(ArtifactsInstaller.class);
     }
 
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(Paths.get(".").toAbsolutePath().resolve(".xgradle-install-manifest"));
+    }
+
     @Test
     @DisplayName("Is created by Guice")
     void isCreatedByGuice() {
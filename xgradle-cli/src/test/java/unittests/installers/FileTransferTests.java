@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.installers;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.enums.LinkMode;
+import org.altlinux.xgradle.impl.installers.InstallersModule;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.collectors.ArtifactCollector;
+import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.installers.FileTransfer;
+import org.altlinux.xgradle.interfaces.resolvers.PluginPomChainResolver;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import unittests.SameThreadTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileTransfer")
+class FileTransferTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    CliArgumentsContainer cliArgs;
+
+    @Mock
+    Logger logger;
+
+    private FileTransfer fileTransfer;
+    private Path source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ToolConfig toolConfig = new ToolConfig(cliArgs);
+
+        fileTransfer = Guice.createInjector(
+                Modules.override(new InstallersModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(ToolConfig.class).toInstance(toolConfig);
+                                bind(Logger.class).toInstance(logger);
+                                bind(ModelCache.class).toInstance(mock(ModelCache.class));
+                                bind(ArtifactCollector.class).toInstance(mock(ArtifactCollector.class));
+                                bind(ArtifactContainer.class).toInstance(mock(ArtifactContainer.class));
+                                bind(PluginPomChainResolver.class).toInstance(mock(PluginPomChainResolver.class));
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                            }
+                        })
+        ).getInstance(FileTransfer.class);
+
+        source = tempDir.resolve("in.jar");
+        Files.write(source, "JAR".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Copies file contents by default and replaces an existing target")
+    void copiesByDefault() throws IOException {
+        Path target = tempDir.resolve("out.jar");
+        Files.write(target, "OLD CONTENT".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(LinkMode.COPY, fileTransfer.transfer(source, target));
+
+        assertEquals("JAR", Files.readString(target));
+        assertFalse(Files.isSameFile(source, target));
+    }
+
+    @Test
+    @DisplayName("Creates a hard link in hardlink mode")
+    void createsHardLink() throws IOException {
+        when(cliArgs.getLinkMode()).thenReturn(LinkMode.HARDLINK);
+        Path target = tempDir.resolve("out.jar");
+
+        assertEquals(LinkMode.HARDLINK, fileTransfer.transfer(source, target));
+
+        assertTrue(Files.isSameFile(source, target));
+    }
+
+    @Test
+    @DisplayName("Creates an absolute symbolic link in symlink mode")
+    void createsSymbolicLink() throws IOException {
+        when(cliArgs.getLinkMode()).thenReturn(LinkMode.SYMLINK);
+        Path target = tempDir.resolve("out.jar");
+
+        assertEquals(LinkMode.SYMLINK, fileTransfer.transfer(source, target));
+
+        assertTrue(Files.isSymbolicLink(target));
+        assertEquals(source.toAbsolutePath(), Files.readSymbolicLink(target));
+    }
+
+    @Test
+    @DisplayName("Replacing a linked target does not modify the source")
+    void replacingLinkedTargetKeepsSource() throws IOException {
+        Path target = tempDir.resolve("out.jar");
+        Files.createSymbolicLink(target, source.toAbsolutePath());
+        Path other = tempDir.resolve("other.jar");
+        Files.write(other, "OTHER".getBytes(StandardCharsets.UTF_8));
+
+        fileTransfer.transfer(other, target);
+
+        assertEquals("JAR", Files.readString(source));
+        assertEquals("OTHER", Files.readString(target));
+        assertFalse(Files.isSymbolicLink(target));
+    }
+
+    @Test
+    @DisplayName("Rejects installing a file onto itself")
+    void rejectsSameFile() {
+        assertThrows(IOException.class, () -> fileTransfer.transfer(source, source));
+        assertTrue(Files.exists(source));
+    }
+}
@@ -20,10 +20,14 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.collectors.ArtifactCollector;
 import org.altlinux.xgradle.interfaces.installers.ArtifactsInstaller;
+import org.altlinux.xgradle.interfaces.installers.InstallManifest;
 import org.altlinux.xgradle.interfaces.installers.JavadocInstaller;
 import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.enums.LinkMode;
 import org.altlinux.xgradle.impl.enums.ProcessingType;
 import org.altlinux.xgradle.impl.installers.InstallersModule;
 
@@ -39,12 +43,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.slf4j.Logger;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.HashMap;
+import unittests.SameThreadTaskExecutor;
+import unittests.UncachedModelCache;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -71,17 +78,23 @@ class JavadocInstallerTests {
 
     private JavadocInstaller installer;
     private Path mfiles;
+    private Path manifest;
 
     @BeforeEach
     void setUp() throws Exception {
         mfiles = Paths.get(".").toAbsolutePath().resolve(".mfiles-javadoc");
         Files.deleteIfExists(mfiles);
+        manifest = Paths.get(".").toAbsolutePath().resolve(".xgradle-install-manifest");
+        Files.deleteIfExists(manifest);
+        lenient().when(toolConfig.getLinkMode()).thenReturn(LinkMode.COPY);
 
         Injector injector = Guice.createInjector(
                 Modules.override(new InstallersModule())
                         .with(new AbstractModule() {
                             @Override
                             protected void configure() {
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
                                 bind(ArtifactsInstaller.class).toInstance(artifactsInstaller);
                                 bind(ArtifactCollector.class).toInstance(artifactCollector);
                                 bind(ToolConfig.class).toInstance(toolConfig);
@@ -96,6 +109,7 @@ class JavadocInstallerTests {
     @AfterEach
     void tearDown() throws Exception {
         Files.deleteIfExists(mfiles);
+        Files.deleteIfExists(manifest);
     }
 
     @Test
@@ -216,6 +230,92 @@ class JavadocInstallerTests {
         assertEquals(first, second);
     }
 
+    @Test
+    @DisplayName("Skips unchanged javadoc on repeated install and reinstalls after a source change")
+    void skipsUnchangedJavadoc() throws Exception {
+        Path repo = tempDir.resolve("repo");
+        Files.createDirectories(repo);
+
+        Path jarDir = tempDir.resolve("install");
+        Files.createDirectories(jarDir);
+
+        Path pomPath = pom()
+                .groupId("g")
+                .artifactId("lib")
+                .version("1")
+                .writeTo(repo.resolve("lib.pom"));
+
+        Path javadocJar = repo.resolve("lib-1-javadoc.jar");
+        writeBytes(javadocJar, "JD".getBytes(StandardCharsets.UTF_8));
+
+        HashMap<String, Path> map = new HashMap<>();
+        map.put(pomPath.toString(), javadocJar);
+
+        when(artifactCollector.collect(eq(repo.toString()), eq(List.of()), eq(ProcessingType.JAVADOC)))
+                .thenReturn(map);
+
+        Path copied = jarDir.resolve("lib-javadoc.jar");
+
+        installer.installJavadoc(repo.toString(), List.of(), jarDir.toString());
+        assertTrue(Files.exists(manifest));
+
+        installer.installJavadoc(repo.toString(), List.of(), jarDir.toString());
+        verify(logger).info("Up to date: {} -> {}", javadocJar, copied);
+
+        writeBytes(javadocJar, "NEW".getBytes(StandardCharsets.UTF_8));
+        installer.installJavadoc(repo.toString(), List.of(), jarDir.toString());
+
+        assertArrayEquals("NEW".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(copied));
+        verify(logger, times(1)).info("Up to date: {} -> {}", javadocJar, copied);
+    }
+
+    @Test
+    @DisplayName("Reports javadoc as installed when the install manifest cannot record it")
+    void reportsInstalledWhenManifestRecordFails() throws Exception {
+        InstallManifest failingManifest = mock(InstallManifest.class);
+        doThrow(new IOException("disk full")).when(failingManifest).record(any(), any(), any());
+        JavadocInstaller installerWithFailingManifest = Guice.createInjector(
+                Modules.override(new InstallersModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
+                                bind(ArtifactsInstaller.class).toInstance(artifactsInstaller);
+                                bind(ArtifactCollector.class).toInstance(artifactCollector);
+                                bind(ToolConfig.class).toInstance(toolConfig);
+                                bind(InstallManifest.class).toInstance(failingManifest);
+                                bind(Logger.class).toInstance(logger);
+                            }
+                        })
+        ).getInstance(JavadocInstaller.class);
+
+        Path repo = tempDir.resolve("repo");
+        Files.createDirectories(repo);
+        Path jarDir = tempDir.resolve("install");
+        Path pomPath = pom()
+                .groupId("g")
+                .artifactId("lib")
+                .version("1")
+                .writeTo(repo.resolve("lib.pom"));
+        Path javadocJar = repo.resolve("lib-1-javadoc.jar");
+        writeBytes(javadocJar, "JD".getBytes(StandardCharsets.UTF_8));
+
+        HashMap<String, Path> map = new HashMap<>();
+        map.put(pomPath.toString(), javadocJar);
+        when(artifactCollector.collect(eq(repo.toString()), eq(List.of()), eq(ProcessingType.JAVADOC)))
+                .thenReturn(map);
+
+        installerWithFailingManifest.installJavadoc(repo.toString(), List.of(), jarDir.toString());
+
+        Path copied = jarDir.resolve("lib-javadoc.jar");
+        assertTrue(Files.exists(copied));
+        verify(logger).info("{} Javadoc: {} -> {}", "Copied", javadocJar.getFileName(), copied);
+        verify(logger, never())
+                .error(eq("Failed to process Javadoc artifact: {}"), eq(javadocJar), any(Throwable.class));
+        verify(failingManifest).save();
+    }
+
     @Test
     @DisplayName("Does nothing when collector returns empty map")
     void doesNothingWhenNoArtifacts() throws Exception {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.model;
+
+import org.altlinux.xgradle.impl.model.ArtifactNameMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Ivan Khanas xeno@altlinux.org
+ */
+@DisplayName("ArtifactNameMatcher contract")
+class ArtifactNameMatcherTests {
+
+    @Test
+    @DisplayName("Plain names match as file name prefixes")
+    void plainNamesArePrefixes() {
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(List.of("commons-lang3", "commons-io", "guava"));
+
+        assertTrue(matcher.matches("commons-lang3-3.12.0.pom"));
+        assertTrue(matcher.matches("commons-io-2.11.0.pom"));
+        assertTrue(matcher.matches("guava-32.1.pom"));
+        assertFalse(matcher.matches("commons-logging-1.2.pom"));
+        assertFalse(matcher.matches("commons"));
+        assertFalse(matcher.matches("my-guava-1.0.pom"));
+    }
+
+    @Test
+    @DisplayName("Shorter prefix wins over a longer one sharing its path in the trie")
+    void nestedPrefixesMatch() {
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(List.of("commons-lang3-extra", "commons"));
+
+        assertTrue(matcher.matches("commons-io-2.11.0.pom"));
+        assertTrue(matcher.matches("commons-lang3-extra-1.pom"));
+    }
+
+    @Test
+    @DisplayName("Globs and regex: patterns are anchored at the start of the file name")
+    void globsAndRegexesAreAnchored() {
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(
+                List.of("jackson-*-api", "regex:netty-(codec|buffer)"));
+
+        assertTrue(matcher.matches("jackson-core-api-2.15.pom"));
+        assertTrue(matcher.matches("netty-codec-4.1.pom"));
+        assertTrue(matcher.matches("netty-buffer-4.1.pom"));
+        assertFalse(matcher.matches("my-jackson-core-api-2.15.pom"));
+        assertFalse(matcher.matches("netty-common-4.1.pom"));
+    }
+
+    @Test
+    @DisplayName("Glob metacharacters: ? matches one character, [] a character class, dots are literal")
+    void globMetacharacters() {
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(List.of("lib?.[0-9].pom"));
+
+        assertTrue(matcher.matches("libA.1.pom"));
+        assertFalse(matcher.matches("libA.x.pom"));
+        assertFalse(matcher.matches("libAB1.pom"));
+    }
+
+    @Test
+    @DisplayName("Glob [!...] is a negated character class")
+    void globNegatedCharacterClass() {
+        ArtifactNameMatcher matcher = ArtifactNameMatcher.compile(List.of("lib-[!0-9]*.pom"));
+
+        assertTrue(matcher.matches("lib-core.pom"));
+        assertFalse(matcher.matches("lib-1.0.pom"));
+        assertFalse(ArtifactNameMatcher.compile(List.of("lib-[!a]")).matches("lib-a"));
+        assertTrue(ArtifactNameMatcher.compile(List.of("lib-[!]]")).matches("lib-a"));
+        assertFalse(ArtifactNameMatcher.compile(List.of("lib-[!]]")).matches("lib-]"));
+    }
+
+    @Test
+    @DisplayName("Null or empty list matches nothing")
+    void emptyMatchesNothing() {
+        assertTrue(ArtifactNameMatcher.compile(null).isEmpty());
+        assertTrue(ArtifactNameMatcher.compile(List.of()).isEmpty());
+        assertFalse(ArtifactNameMatcher.compile(List.of()).matches("a.pom"));
+        assertFalse(ArtifactNameMatcher.compile(List.of("a")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Invalid regular expression is rejected with IllegalArgumentException")
+    void invalidRegexIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ArtifactNameMatcher.compile(List.of("regex:(")));
+    }
+}
@@ -24,7 +24,10 @@ import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactData;
@@ -50,6 +53,8 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import unittests.UncachedModelCache;
+import unittests.SameThreadTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -63,6 +68,9 @@ class BomParserTests {
     @Mock
     private PomContainer pomContainer;
 
+    @Mock
+    private PomCatalog pomCatalog;
+
     @Mock
     private ArtifactCache artifactCache;
 
@@ -83,7 +91,10 @@ class BomParserTests {
                 Modules.override(new ParsersModule()).with(new AbstractModule() {
                     @Override
                     protected void configure() {
+                        bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                        bind(ModelCache.class).toInstance(new UncachedModelCache());
                         bind(PomContainer.class).toInstance(pomContainer);
+                        bind(PomCatalog.class).toInstance(pomCatalog);
                         bind(ArtifactCache.class).toInstance(artifactCache);
                         bind(ArtifactFactory.class).toInstance(artifactFactory);
                         bind(Logger.class).toInstance(logger);
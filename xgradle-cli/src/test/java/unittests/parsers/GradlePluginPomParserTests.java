@@ -19,6 +19,8 @@ import unittests.PomXmlBuilder;
 
 import com.google.inject.*;
 
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.collectors.PomCollector;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.GradlePlugin;
@@ -34,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import unittests.SameThreadTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -55,7 +58,9 @@ public class GradlePluginPomParserTests {
                 new AbstractModule() {
                     @Override
                     protected void configure() {
+                        bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
                         bind(PomContainer.class).toInstance(pomContainer);
+                        bind(PomCollector.class).toInstance(mock(PomCollector.class));
                         bind(Logger.class).toInstance(logger);
                     }
                 }
@@ -147,4 +152,37 @@ public class GradlePluginPomParserTests {
         assertEquals(1, result.size());
         assertEquals(jar, result.get(pom.toString()));
     }
+
+    @Test
+    void nestedBomsAreExpandedOnceAndImportCyclesTerminate(@TempDir Path tmp) throws Exception {
+        Path markerPom = Files.writeString(tmp.resolve("marker-1.0.pom"),
+                bomXml("marker", "1.0", pomDependency("bom-a", "1.0")));
+        Path bomA = Files.writeString(tmp.resolve("bom-a-1.0.pom"),
+                bomXml("bom-a", "1.0", pomDependency("bom-b", "1.0") + pomDependency("marker", "1.0")));
+        Path bomB = Files.writeString(tmp.resolve("bom-b-1.0.pom"),
+                bomXml("bom-b", "1.0", pomDependency("bom-a", "1.0")
+                        + "<dependency><groupId>org.dep</groupId><artifactId>dep</artifactId>"
+                        + "<version>2.0</version></dependency>"));
+
+        Path depJar = tmp.resolve("dep-2.0.jar");
+        Files.write(depJar, new byte[]{0});
+
+        when(pomContainer.getAllPoms(tmp.toString())).thenReturn(Set.of(markerPom, bomA, bomB));
+
+        HashMap<String, Path> result = parser.getArtifactCoords(tmp.toString(), List.of("marker"));
+
+        assertEquals(Map.of(bomB.toString(), depJar), result);
+        verify(pomContainer, times(1)).getAllPoms(tmp.toString());
+    }
+
+    private static String bomXml(String artifactId, String version, String dependencies) {
+        return "<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                + "<artifactId>" + artifactId + "</artifactId><version>" + version + "</version>"
+                + "<packaging>pom</packaging><dependencies>" + dependencies + "</dependencies></project>";
+    }
+
+    private static String pomDependency(String artifactId, String version) {
+        return "<dependency><groupId>org.example</groupId><artifactId>" + artifactId + "</artifactId>"
+                + "<version>" + version + "</version><type>pom</type></dependency>";
+    }
 }
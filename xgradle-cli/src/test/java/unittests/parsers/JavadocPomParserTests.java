@@ -21,6 +21,8 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.collectors.PomCollector;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Javadoc;
@@ -36,6 +38,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import unittests.SameThreadTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -43,11 +46,13 @@ import static org.mockito.Mockito.*;
 public class JavadocPomParserTests {
 
     private PomContainer pomContainer;
+    private PomCollector pomCollector;
     private PomParser<HashMap<String, Path>> parser;
 
     @BeforeEach
     void setUp() {
         pomContainer = mock(PomContainer.class);
+        pomCollector = mock(PomCollector.class);
         Logger logger = LoggerFactory.getLogger("test");
 
         Injector injector = Guice.createInjector(
@@ -55,7 +60,9 @@ public class JavadocPomParserTests {
                 new ModelModule(),
                 new CachesModule(),
                 binder -> {
+                    binder.bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
                     binder.bind(PomContainer.class).toInstance(pomContainer);
+                    binder.bind(PomCollector.class).toInstance(pomCollector);
                     binder.bind(Logger.class).toInstance(logger);
                 }
         );
@@ -75,6 +82,8 @@ public class JavadocPomParserTests {
 
         Path javadoc = tmp.resolve("lib-1.0-javadoc.jar");
         Files.write(javadoc, new byte[]{0});
+        when(pomCollector.collectBySuffix(tmp.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of("-javadoc.jar", Set.of(javadoc)));
 
         when(pomContainer.getAllPoms(tmp.toString())).thenReturn(Collections.singleton(pom));
 
@@ -108,6 +117,8 @@ public class JavadocPomParserTests {
 
         Path javadoc = tmp.resolve("child-2.5-javadoc.jar");
         Files.write(javadoc, new byte[]{0});
+        when(pomCollector.collectBySuffix(tmp.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of("-javadoc.jar", Set.of(javadoc)));
 
         when(pomContainer.getAllPoms(tmp.toString())).thenReturn(Collections.singleton(pom));
 
@@ -127,6 +138,8 @@ public class JavadocPomParserTests {
 
         Path javadoc = tmp.resolve("lib-1.0-javadoc.jar");
         Files.write(javadoc, new byte[]{0});
+        when(pomCollector.collectBySuffix(tmp.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of("-javadoc.jar", Set.of(javadoc)));
 
         List<String> names = List.of("lib");
         when(pomContainer.getSelectedPoms(tmp.toString(), names)).thenReturn(Collections.singleton(pom));
@@ -139,4 +152,48 @@ public class JavadocPomParserTests {
         verify(pomContainer).getSelectedPoms(tmp.toString(), names);
         verify(pomContainer, never()).getAllPoms(anyString());
     }
+
+    @Test
+    void joinsByHeaderCoordinatesRatherThanPomFileName(@TempDir Path tmp) throws Exception {
+        Path pom = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("lib")
+                .version("1.0")
+                .writeTo(tmp.resolve("renamed.pom"));
+
+        Path javadoc = tmp.resolve("lib-1.0-javadoc.jar");
+        Files.write(javadoc, new byte[]{0});
+        Files.write(tmp.resolve("renamed-javadoc.jar"), new byte[]{0});
+        when(pomCollector.collectBySuffix(tmp.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of("-javadoc.jar", Set.of(javadoc, tmp.resolve("renamed-javadoc.jar"))));
+
+        when(pomContainer.getAllPoms(tmp.toString())).thenReturn(Collections.singleton(pom));
+
+        HashMap<String, Path> result = parser.getArtifactCoords(tmp.toString(), List.of());
+
+        assertEquals(Map.of(pom.toString(), javadoc), result);
+    }
+
+    @Test
+    void ignoresJavadocJarsFromOtherDirectories(@TempDir Path tmp) throws Exception {
+        Path pom = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("lib")
+                .version("1.0")
+                .writeTo(tmp.resolve("poms/lib-1.0.pom"));
+        Path broken = tmp.resolve("poms/broken.pom");
+        Files.writeString(broken, "<project><artifactId>");
+
+        Path javadoc = tmp.resolve("javadoc/lib-1.0-javadoc.jar");
+        Files.createDirectories(javadoc.getParent());
+        Files.write(javadoc, new byte[]{0});
+        when(pomCollector.collectBySuffix(tmp.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of("-javadoc.jar", Set.of(javadoc)));
+
+        when(pomContainer.getAllPoms(tmp.toString())).thenReturn(Set.of(pom, broken));
+
+        HashMap<String, Path> result = parser.getArtifactCoords(tmp.toString(), List.of());
+
+        assertTrue(result.isEmpty());
+    }
 }
@@ -22,7 +22,10 @@ import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.caches.ArtifactCache;
+import org.altlinux.xgradle.interfaces.caches.PomCatalog;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
 import org.altlinux.xgradle.interfaces.model.ArtifactCoordinates;
 import org.altlinux.xgradle.interfaces.model.ArtifactData;
@@ -41,6 +44,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 import org.slf4j.Logger;
 
 import unittests.PomXmlBuilder;
@@ -53,6 +57,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import unittests.UncachedModelCache;
+import unittests.SameThreadTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -65,6 +71,9 @@ class LibraryPomParserTests {
     @Mock
     private PomContainer pomContainer;
 
+    @Mock
+    private PomCatalog pomCatalog;
+
     @Mock
     private ArtifactCache artifactCache;
 
@@ -82,7 +91,10 @@ class LibraryPomParserTests {
                 Modules.override(new ParsersModule()).with(new AbstractModule() {
                     @Override
                     protected void configure() {
+                        bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                        bind(ModelCache.class).toInstance(new UncachedModelCache());
                         bind(PomContainer.class).toInstance(pomContainer);
+                        bind(PomCatalog.class).toInstance(pomCatalog);
                         bind(ArtifactCache.class).toInstance(artifactCache);
                         bind(ArtifactFactory.class).toInstance(artifactFactory);
                         bind(Logger.class).toInstance(logger);
@@ -100,7 +112,7 @@ class LibraryPomParserTests {
                     String a = inv.getArgument(1, String.class);
                     String v = inv.getArgument(2, String.class);
 
-                    ArtifactCoordinates coords = mock(ArtifactCoordinates.class);
+                    ArtifactCoordinates coords = mock(ArtifactCoordinates.class, withSettings().strictness(Strictness.LENIENT));
                     when(coords.getGroupId()).thenReturn(g);
                     when(coords.getArtifactId()).thenReturn(a);
                     when(coords.getVersion()).thenReturn(v);
@@ -113,7 +125,7 @@ class LibraryPomParserTests {
                     Path pomPath = inv.getArgument(2);
                     Path jarPath = inv.getArgument(3);
 
-                    ArtifactData data = mock(ArtifactData.class);
+                    ArtifactData data = mock(ArtifactData.class, withSettings().strictness(Strictness.LENIENT));
                     when(data.getCoordinates()).thenReturn(coords);
                     when(data.getPomPath()).thenReturn(pomPath);
                     when(data.getJarPath()).thenReturn(jarPath);
@@ -23,6 +23,7 @@ import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.model.ArtifactFactory;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
 import org.altlinux.xgradle.interfaces.processors.PomProcessor;
@@ -48,6 +49,7 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import unittests.UncachedModelCache;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -89,6 +91,7 @@ class BomProcessorTests {
                         .with(new AbstractModule() {
                             @Override
                             protected void configure() {
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
                                 bind(Key.get(new TypeLiteral<PomParser<Set<Path>>>() {}, Bom.class))
                                         .toInstance(bomParser);
 
@@ -20,7 +20,11 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
 import org.altlinux.xgradle.impl.redactors.RedactorsModule;
 
 import org.apache.maven.model.Dependency;
@@ -33,7 +37,13 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.slf4j.Logger;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import unittests.UncachedModelCache;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -57,7 +67,9 @@ class PomRedactorTests {
                         .with(new AbstractModule() {
                             @Override
                             protected void configure() {
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
                                 bind(Logger.class).toInstance(logger);
+                                bind(ToolConfig.class).toInstance(new ToolConfig(mock(CliArgumentsContainer.class)));
                             }
                         })
         );
@@ -79,7 +91,7 @@ class PomRedactorTests {
                 .dependenciesBlock()
                 .writeTo(tempDir.resolve("a.pom"));
 
-        redactor.addDependency(pom, "org.a:lib:1.0:compile");
+        redactor.apply(pom, RedactionPlan.builder().addDependency("org.a:lib:1.0:compile").build());
 
         Model model = readModel(pom);
         assertEquals(1, model.getDependencies().size());
@@ -99,7 +111,7 @@ class PomRedactorTests {
                 .dep("org.a", "lib", "1.0", "compile")
                 .writeTo(tempDir.resolve("dup.pom"));
 
-        redactor.addDependency(pom, "org.a:lib:2.0:test");
+        redactor.apply(pom, RedactionPlan.builder().addDependency("org.a:lib:2.0:test").build());
 
         Model model = readModel(pom);
         assertEquals(1, model.getDependencies().size());
@@ -120,7 +132,7 @@ class PomRedactorTests {
                 .dependencyManagementBlock()
                 .writeTo(tempDir.resolve("dm.pom"));
 
-        redactor.addDependency(pom, "org.a:lib:1.0:compile");
+        redactor.apply(pom, RedactionPlan.builder().addDependency("org.a:lib:1.0:compile").build());
 
         Model model = readModel(pom);
         assertNotNull(model.getDependencyManagement());
@@ -136,7 +148,7 @@ class PomRedactorTests {
                 .dep("org.b", "x", "2.0", null)
                 .writeTo(tempDir.resolve("rm.pom"));
 
-        redactor.removeDependency(pom, "org.a:lib");
+        redactor.apply(pom, RedactionPlan.builder().removeDependency("org.a:lib").build());
 
         Model model = readModel(pom);
         assertEquals(1, model.getDependencies().size());
@@ -152,7 +164,7 @@ class PomRedactorTests {
                 .dep("org.a", "lib", "1.0", "test")
                 .writeTo(tempDir.resolve("scope.pom"));
 
-        redactor.removeDependency(pom, "org.a:lib:1.0:test");
+        redactor.apply(pom, RedactionPlan.builder().removeDependency("org.a:lib:1.0:test").build());
 
         Model model = readModel(pom);
         assertEquals(1, model.getDependencies().size());
@@ -168,7 +180,7 @@ class PomRedactorTests {
                 .managedDep("org.a", "lib", "1.0", "compile")
                 .writeTo(tempDir.resolve("dmrm.pom"));
 
-        redactor.removeDependency(pom, "org.a:lib");
+        redactor.apply(pom, RedactionPlan.builder().removeDependency("org.a:lib").build());
 
         Model model = readModel(pom);
         assertNull(model.getDependencyManagement());
@@ -183,7 +195,9 @@ class PomRedactorTests {
                 .managedDep("org.a", "lib", "1.0", "compile")
                 .writeTo(tempDir.resolve("chg.pom"));
 
-        redactor.changeDependency(pom, "org.a:lib:1.0:compile", "org.a:lib:2.0:test");
+        redactor.apply(pom, RedactionPlan.builder()
+                .changeDependency("org.a:lib:1.0:compile", "org.a:lib:2.0:test")
+                .build());
 
         Model model = readModel(pom);
 
@@ -223,4 +237,55 @@ class PomRedactorTests {
         Model model = readModel(pom);
         assertNull(model.getParent());
     }
+
+    @Test
+    @DisplayName("Applies every edit of a plan with a single write")
+    void appliesPlanInOneWrite() throws Exception {
+        Path pom = pom()
+                .groupId("t").artifactId("a").version("1")
+                .parent("p", "parent", "9")
+                .dep("org.a", "old", "1.0", "compile")
+                .dep("org.a", "gone", "1.0", "compile")
+                .writeTo(tempDir.resolve("plan.pom"));
+
+        RedactionPlan plan = RedactionPlan.builder()
+                .removeDependency("org.a:gone")
+                .changeDependency("org.a:old", "org.a:new:2.0")
+                .addDependency("org.b:lib:3.0")
+                .removeParent()
+                .build();
+
+        assertTrue(redactor.apply(pom, plan));
+
+        Model model = readModel(pom);
+        assertNull(model.getParent());
+        assertEquals(2, model.getDependencies().size());
+        assertEquals("new", model.getDependencies().get(0).getArtifactId());
+        assertEquals("2.0", model.getDependencies().get(0).getVersion());
+        assertEquals("lib", model.getDependencies().get(1).getArtifactId());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(pom), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @DisplayName("Does not rewrite the file when the serialized model is unchanged")
+    void skipsWriteWhenSerializedModelUnchanged() throws Exception {
+        Path pom = pom()
+                .groupId("t").artifactId("a").version("1")
+                .dep("org.a", "lib", "1.0", null)
+                .writeTo(tempDir.resolve("same.pom"));
+        redactor.apply(pom, RedactionPlan.builder().removeDependency("org.a:lib").build());
+        redactor.apply(pom, RedactionPlan.builder().addDependency("org.a:lib:1.0").build());
+
+        FileTime before = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(pom, before);
+        RedactionPlan plan = RedactionPlan.builder()
+                .removeDependency("org.a:lib")
+                .addDependency("org.a:lib:1.0")
+                .build();
+
+        assertFalse(redactor.apply(pom, plan));
+        assertEquals(before, Files.getLastModifiedTime(pom));
+    }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.redactors;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
+import org.altlinux.xgradle.impl.enums.RedactionBackend;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
+import org.altlinux.xgradle.impl.redactors.RedactorsModule;
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
+import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.slf4j.Logger;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import unittests.UncachedModelCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PomRedactor with the streaming backend")
+class StreamingPomRedactorTests {
+
+    private static final String POM = String.join("\n",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+            "<!-- license header -->",
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">",
+            "  <modelVersion>4.0.0</modelVersion>",
+            "  <parent>",
+            "    <groupId>org.p</groupId>",
+            "    <artifactId>parent</artifactId>",
+            "    <version>1</version>",
+            "  </parent>",
+            "  <groupId>t</groupId>  <!-- keep me -->",
+            "  <artifactId>a</artifactId>",
+            "  <version>1</version>",
+            "  <dependencies>",
+            "    <!-- runtime -->",
+            "    <dependency>",
+            "      <groupId>org.a</groupId>",
+            "      <artifactId>lib</artifactId>",
+            "      <version>1.0</version>",
+            "    </dependency>",
+            "    <dependency>",
+            "      <groupId>org.b</groupId>",
+            "      <artifactId>other</artifactId>",
+            "      <version>2.0</version>",
+            "      <scope>test</scope>",
+            "    </dependency>",
+            "  </dependencies>",
+            "</project>",
+            "");
+
+    @TempDir
+    Path tempDir;
+
+    private PomRedactor redactor;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = mock(Logger.class);
+        CliArgumentsContainer cliArgs = mock(CliArgumentsContainer.class);
+        when(cliArgs.getRedactionBackend()).thenReturn(RedactionBackend.STREAMING);
+
+        Injector injector = Guice.createInjector(
+                Modules.override(new RedactorsModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
+                                bind(Logger.class).toInstance(logger);
+                                bind(ToolConfig.class).toInstance(new ToolConfig(cliArgs));
+                            }
+                        })
+        );
+
+        redactor = injector.getInstance(PomRedactor.class);
+    }
+
+    @Test
+    @DisplayName("Removes only the matching dependency and keeps everything else byte-for-byte")
+    void removesDependencyPreservingFormatting() throws Exception {
+        Path pom = write(POM);
+
+        redactor.apply(pom, RedactionPlan.builder().removeDependency("org.b:other").build());
+
+        String expected = POM.replace(String.join("\n",
+                "    <dependency>",
+                "      <groupId>org.b</groupId>",
+                "      <artifactId>other</artifactId>",
+                "      <version>2.0</version>",
+                "      <scope>test</scope>",
+                "    </dependency>",
+                ""), "");
+        assertEquals(expected, read(pom));
+    }
+
+    @Test
+    @DisplayName("Changes coordinates in place and drops the version when the target has none")
+    void changesDependencyInPlace() throws Exception {
+        Path pom = write(POM);
+
+        redactor.apply(pom, RedactionPlan.builder().changeDependency("org.b:other", "org.c:renamed").build());
+
+        String expected = POM.replace(String.join("\n",
+                "      <groupId>org.b</groupId>",
+                "      <artifactId>other</artifactId>",
+                "      <version>2.0</version>",
+                "      <scope>test</scope>",
+                ""), String.join("\n",
+                "      <groupId>org.c</groupId>",
+                "      <artifactId>renamed</artifactId>",
+                ""));
+        assertEquals(expected, read(pom));
+    }
+
+    @Test
+    @DisplayName("Adds a dependency using the indentation of its siblings")
+    void addsDependencyWithSiblingIndentation() throws Exception {
+        Path pom = write(POM);
+
+        redactor.apply(pom, RedactionPlan.builder().addDependency("org.new:lib:3.0:provided").build());
+
+        String expected = POM.replace("  </dependencies>\n", String.join("\n",
+                "    <dependency>",
+                "      <groupId>org.new</groupId>",
+                "      <artifactId>lib</artifactId>",
+                "      <version>3.0</version>",
+                "      <scope>provided</scope>",
+                "    </dependency>",
+                "  </dependencies>",
+                ""));
+        assertEquals(expected, read(pom));
+    }
+
+    @Test
+    @DisplayName("Creates <dependencies> and fills <dependencyManagement> like the model backend")
+    void addsDependencyBlockAndManagedDependency() throws Exception {
+        String source = String.join("\r\n",
+                "<project>",
+                "\t<artifactId>a</artifactId>",
+                "\t<dependencyManagement>",
+                "\t\t<dependencies/>",
+                "\t</dependencyManagement>",
+                "</project>",
+                "");
+        Path pom = write(source);
+
+        redactor.apply(pom, RedactionPlan.builder().addDependency("org.new:lib:3.0").build());
+
+        String expected = String.join("\r\n",
+                "<project>",
+                "\t<artifactId>a</artifactId>",
+                "\t<dependencyManagement>",
+                "\t\t<dependencies>",
+                "\t\t\t<dependency>",
+                "\t\t\t\t<groupId>org.new</groupId>",
+                "\t\t\t\t<artifactId>lib</artifactId>",
+                "\t\t\t\t<version>3.0</version>",
+                "\t\t\t</dependency>",
+                "\t\t</dependencies>",
+                "\t</dependencyManagement>",
+                "\t<dependencies>",
+                "\t\t<dependency>",
+                "\t\t\t<groupId>org.new</groupId>",
+                "\t\t\t<artifactId>lib</artifactId>",
+                "\t\t\t<version>3.0</version>",
+                "\t\t</dependency>",
+                "\t</dependencies>",
+                "</project>",
+                "");
+        assertEquals(expected, read(pom));
+    }
+
+    @Test
+    @DisplayName("Applies a whole plan with the same result as the model backend")
+    void planMatchesModelSemantics() throws Exception {
+        Path pom = write(POM);
+
+        boolean changed = redactor.apply(pom, RedactionPlan.builder()
+                .removeParent()
+                .removeDependency("org.a:lib")
+                .changeDependency("org.b:other:2.0", "org.b:other:2.1:runtime")
+                .addDependency("org.x:y:1")
+                .build());
+
+        assertTrue(changed);
+        Model model = readModel(pom);
+        assertNull(model.getParent());
+        assertEquals(2, model.getDependencies().size());
+        assertEquals("other", model.getDependencies().get(0).getArtifactId());
+        assertEquals("2.1", model.getDependencies().get(0).getVersion());
+        assertEquals("runtime", model.getDependencies().get(0).getScope());
+        assertEquals("y", model.getDependencies().get(1).getArtifactId());
+        assertTrue(read(pom).contains("<groupId>t</groupId>  <!-- keep me -->"));
+        assertTrue(read(pom).startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!-- license header -->\n"));
+    }
+
+    @Test
+    @DisplayName("Leaves the file untouched when nothing matches")
+    void leavesFileUntouchedWhenNothingMatches() throws Exception {
+        String source = POM.replace(POM.substring(POM.indexOf("  <parent>"), POM.indexOf("  <groupId>t")), "");
+        Path pom = write(source);
+
+        boolean changed = redactor.apply(pom, RedactionPlan.builder()
+                .removeDependency("org.none:none")
+                .removeParent()
+                .build());
+
+        assertFalse(changed);
+        assertEquals(source, read(pom));
+        verify(logger).warn("POM file hasn`t parent block, cannot remove: {}", pom);
+    }
+
+    private Path write(String content) throws Exception {
+        Path pom = tempDir.resolve("test.pom");
+        Files.write(pom, content.getBytes(StandardCharsets.UTF_8));
+        return pom;
+    }
+
+    private static String read(Path pom) throws Exception {
+        return new String(Files.readAllBytes(pom), StandardCharsets.UTF_8);
+    }
+
+    private static Model readModel(Path pom) throws Exception {
+        try (Reader reader = Files.newBufferedReader(pom)) {
+            return new MavenXpp3Reader().read(reader);
+        }
+    }
+}
@@ -25,11 +25,16 @@ import com.google.inject.util.Modules;
 import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
 import org.altlinux.xgradle.interfaces.cli.CommandLineParser;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.processors.PomProcessor;
 import org.altlinux.xgradle.interfaces.registrars.Registrar;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Bom;
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
 import org.altlinux.xgradle.impl.enums.ExitCode;
+import org.altlinux.xgradle.impl.enums.RegisterMode;
 import org.altlinux.xgradle.impl.exceptions.EmptyRegisterCommandException;
+import org.altlinux.xgradle.impl.exceptions.RegistrationFailedException;
 import org.altlinux.xgradle.impl.registrars.RegistrarsModule;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
@@ -47,6 +53,7 @@ import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import unittests.SameThreadTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -73,6 +80,9 @@ class XmvnBomCompatRegistrarTests {
     @Mock
     private Logger logger;
 
+    @Mock
+    private CliArgumentsContainer cliArgs;
+
     @Mock
     private ArtifactContainer artifactContainerDummy;
 
@@ -91,6 +101,8 @@ class XmvnBomCompatRegistrarTests {
                                 bind(CommandExecutor.class).toInstance(commandExecutor);
                                 bind(CommandLineParser.class).toInstance(commandLineParser);
                                 bind(Logger.class).toInstance(logger);
+                                bind(ToolConfig.class).toInstance(new ToolConfig(cliArgs));
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
 
                                 bind(ArtifactContainer.class).toInstance(artifactContainerDummy);
                             }
@@ -229,4 +241,29 @@ class XmvnBomCompatRegistrarTests {
         assertNotNull(ex.getCause());
         assertEquals(InterruptedException.class, ex.getCause().getClass());
     }
+
+    @Test
+    @DisplayName("Parallel mode: a failing BOM is reported after the buffered output of earlier BOMs")
+    void parallelModeReportsFailureInOrder() throws Exception {
+        Set<Path> boms = new LinkedHashSet<>();
+        boms.add(Path.of("/repo/bom-1.pom"));
+        boms.add(Path.of("/repo/bom-2.pom"));
+
+        when(cliArgs.getRegisterMode()).thenReturn(RegisterMode.PARALLEL);
+        when(bomPomProcessor.pomsFromDirectory(eq(DIRECTORY), eq(List.of()))).thenReturn(boms);
+        when(commandLineParser.parseCommandLine(CMD)).thenReturn(PARSED_CMD);
+        when(commandExecutor.execute(any(ProcessBuilder.class), any(StringBuilder.class)))
+                .thenReturn(ExitCode.SUCCESS.getExitCode(), ExitCode.ERROR.getExitCode());
+
+        RegistrationFailedException ex = assertThrows(
+                RegistrationFailedException.class,
+                () -> registrar.registerArtifacts(DIRECTORY, CMD, List.of())
+        );
+
+        assertTrue(ex.getMessage().contains("/repo/bom-2.pom"));
+        InOrder inOrder = inOrder(logger);
+        inOrder.verify(logger).info("Registering BOM: {}", PARSED_CMD.get(0) + " /repo/bom-1.pom");
+        inOrder.verify(logger).info("Registering BOM: {}", PARSED_CMD.get(0) + " /repo/bom-2.pom");
+        verify(logger, never()).info("BOM`s registered successfully");
+    }
 }
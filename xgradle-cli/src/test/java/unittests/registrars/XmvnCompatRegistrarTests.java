@@ -25,11 +25,15 @@ import com.google.inject.util.Modules;
 import org.altlinux.xgradle.interfaces.cli.CommandExecutor;
 import org.altlinux.xgradle.interfaces.cli.CommandLineParser;
 import org.altlinux.xgradle.interfaces.containers.ArtifactContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.processors.PomProcessor;
 import org.altlinux.xgradle.interfaces.registrars.Registrar;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Bom;
 import org.altlinux.xgradle.impl.bindingannotations.processingtypes.Library;
+import org.altlinux.xgradle.impl.cli.CliArgumentsContainer;
+import org.altlinux.xgradle.impl.config.ToolConfig;
 import org.altlinux.xgradle.impl.enums.ExitCode;
+import org.altlinux.xgradle.impl.enums.RegisterMode;
 import org.altlinux.xgradle.impl.enums.ProcessingType;
 import org.altlinux.xgradle.impl.exceptions.EmptyRegisterCommandException;
 import org.altlinux.xgradle.impl.registrars.RegistrarsModule;
@@ -52,6 +56,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import unittests.SameThreadTaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -77,6 +82,9 @@ public class XmvnCompatRegistrarTests {
     @Mock
     private Logger logger;
 
+    @Mock
+    private CliArgumentsContainer cliArgs;
+
     @Mock
     private PomProcessor<Set<Path>> bomPomProcessorDummy;
 
@@ -93,6 +101,8 @@ public class XmvnCompatRegistrarTests {
                                 bind(CommandExecutor.class).toInstance(commandExecutor);
                                 bind(CommandLineParser.class).toInstance(commandLineParser);
                                 bind(Logger.class).toInstance(logger);
+                                bind(ToolConfig.class).toInstance(new ToolConfig(cliArgs));
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
 
                                 bind(Key.get(new TypeLiteral<PomProcessor<Set<Path>>>() {}, Bom.class))
                                         .toInstance(bomPomProcessorDummy);
@@ -211,4 +221,81 @@ public class XmvnCompatRegistrarTests {
 
         assertTrue(exception.getMessage().contains("Failed to register artifact, exit code:"));
     }
+
+    @Test
+    @DisplayName("Batch mode: passes all pairs to a single invocation")
+    void batchModeRegistersPairsInOneInvocation() throws Exception {
+        Map<String, Path> artifacts = new LinkedHashMap<>();
+        artifacts.put("/repo/a.pom", Path.of("/repo/a.jar"));
+        artifacts.put("/repo/b.pom", Path.of("/repo/b.jar"));
+
+        when(cliArgs.getRegisterMode()).thenReturn(RegisterMode.BATCH);
+        when(artifactContainer.getArtifacts(eq(DIRECTORY), eq(List.of()), eq(ProcessingType.LIBRARY)))
+                .thenReturn(new LinkedHashMap<>(artifacts));
+        when(commandLineParser.parseCommandLine(CMD)).thenReturn(PARSED_CMD);
+        when(commandExecutor.execute(any(ProcessBuilder.class))).thenReturn(ExitCode.SUCCESS.getExitCode());
+
+        registrar.registerArtifacts(DIRECTORY, CMD, List.of());
+
+        ArgumentCaptor<ProcessBuilder> processBuilderCaptor = ArgumentCaptor.forClass(ProcessBuilder.class);
+        verify(commandExecutor).execute(processBuilderCaptor.capture());
+        assertEquals(
+                List.of(PARSED_CMD.get(0), "/repo/a.pom", "/repo/a.jar", "/repo/b.pom", "/repo/b.jar"),
+                processBuilderCaptor.getValue().command()
+        );
+    }
+
+    @Test
+    @DisplayName("Batch mode: splits invocations that would exceed the argument size limit")
+    void batchModeSplitsLargeArgumentLists() throws Exception {
+        Map<String, Path> artifacts = new LinkedHashMap<>();
+        String longDir = "/repo/" + "d".repeat(1000);
+        for (int i = 0; i < 200; i++) {
+            artifacts.put(longDir + "/a" + i + ".pom", Path.of(longDir + "/a" + i + ".jar"));
+        }
+
+        when(cliArgs.getRegisterMode()).thenReturn(RegisterMode.BATCH);
+        when(artifactContainer.getArtifacts(eq(DIRECTORY), eq(List.of()), eq(ProcessingType.LIBRARY)))
+                .thenReturn(new LinkedHashMap<>(artifacts));
+        when(commandLineParser.parseCommandLine(CMD)).thenReturn(PARSED_CMD);
+        when(commandExecutor.execute(any(ProcessBuilder.class))).thenReturn(ExitCode.SUCCESS.getExitCode());
+
+        registrar.registerArtifacts(DIRECTORY, CMD, List.of());
+
+        ArgumentCaptor<ProcessBuilder> processBuilderCaptor = ArgumentCaptor.forClass(ProcessBuilder.class);
+        verify(commandExecutor, atLeast(2)).execute(processBuilderCaptor.capture());
+
+        int registered = 0;
+        for (ProcessBuilder pb : processBuilderCaptor.getAllValues()) {
+            assertEquals(PARSED_CMD.get(0), pb.command().get(0));
+            assertEquals(1, pb.command().size() % 2);
+            registered += (pb.command().size() - 1) / 2;
+        }
+        assertEquals(200, registered);
+    }
+
+    @Test
+    @DisplayName("Parallel mode: buffers output per artifact and logs in artifact order")
+    void parallelModeBuffersOutput() throws Exception {
+        Map<String, Path> artifacts = new LinkedHashMap<>();
+        artifacts.put("/repo/a.pom", Path.of("/repo/a.jar"));
+        artifacts.put("/repo/b.pom", Path.of("/repo/b.jar"));
+
+        when(cliArgs.getRegisterMode()).thenReturn(RegisterMode.PARALLEL);
+        when(artifactContainer.getArtifacts(eq(DIRECTORY), eq(List.of()), eq(ProcessingType.LIBRARY)))
+                .thenReturn(new LinkedHashMap<>(artifacts));
+        when(commandLineParser.parseCommandLine(CMD)).thenReturn(PARSED_CMD);
+        when(commandExecutor.execute(any(ProcessBuilder.class), any(StringBuilder.class)))
+                .thenReturn(ExitCode.SUCCESS.getExitCode());
+
+        registrar.registerArtifacts(DIRECTORY, CMD, List.of());
+
+        verify(commandExecutor, never()).execute(any(ProcessBuilder.class));
+        verify(commandExecutor, times(2)).execute(any(ProcessBuilder.class), any(StringBuilder.class));
+
+        InOrder inOrder = inOrder(logger);
+        inOrder.verify(logger).info("\nRegistering pair: {}", PARSED_CMD.get(0) + " /repo/a.pom /repo/a.jar");
+        inOrder.verify(logger).info("\nRegistering pair: {}", PARSED_CMD.get(0) + " /repo/b.pom /repo/b.jar");
+        inOrder.verify(logger).info("Artifacts registered successfully");
+    }
 }
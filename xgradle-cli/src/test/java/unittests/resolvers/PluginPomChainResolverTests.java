@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.resolvers;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import org.altlinux.xgradle.impl.caches.CachesModule;
+import org.altlinux.xgradle.impl.resolvers.ResolversModule;
+import org.altlinux.xgradle.interfaces.collectors.PomCollector;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
+import org.altlinux.xgradle.interfaces.resolvers.PluginPomChainResolver;
+import org.altlinux.xgradle.interfaces.resolvers.PluginPomChainResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import unittests.PomXmlBuilder;
+import unittests.SameThreadTaskExecutor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PluginPomChainResolver contract")
+class PluginPomChainResolverTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private PomCollector pomCollector;
+
+    @Mock
+    private Logger logger;
+
+    private PluginPomChainResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(
+                new ResolversModule(),
+                Modules.override(new CachesModule())
+                        .with(new AbstractModule() {
+                            @Override
+                            protected void configure() {
+                                bind(PomCollector.class).toInstance(pomCollector);
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
+                                bind(Logger.class).toInstance(logger);
+                            }
+                        })
+        );
+
+        resolver = injector.getInstance(PluginPomChainResolver.class);
+    }
+
+    /**
+     * Verifies that parents and dependencies are found by file name convention and by
+     * artifactId-bearing file names, and that unreachable POM files are never read while every
+     * reference is found by name.
+     */
+    @Test
+    @DisplayName("Resolves only reachable POM files")
+    void resolvesOnlyReachablePoms() throws Exception {
+        Path plugin = PomXmlBuilder.pom()
+                .parent("org.example", "plugin-parent", "1.0")
+                .artifactId("plugin")
+                .dep("org.example", "dep", "2.0", null)
+                .writeTo(tempDir.resolve("plugin-1.0.pom"));
+        Path parent = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("plugin-parent")
+                .version("1.0")
+                .packaging("pom")
+                .writeTo(tempDir.resolve("plugin-parent-1.0.pom"));
+        Path dep = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("dep")
+                .version("2.0")
+                .writeTo(tempDir.resolve("JPP-dep.pom"));
+        Path otherDep = PomXmlBuilder.pom()
+                .groupId("org.other")
+                .artifactId("dep")
+                .version("2.0")
+                .writeTo(tempDir.resolve("JPP-dep-other.pom"));
+        Path unrelated = tempDir.resolve("unrelated-1.0.pom");
+        Files.writeString(unrelated, "<project><artifactId>");
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(plugin, parent, dep, otherDep, unrelated)));
+
+        PluginPomChainResult result = resolver.resolve(tempDir.toString(), List.of("plugin-1"), Map.of());
+
+        assertEquals(Set.of(plugin, parent, dep), result.getPomPaths());
+        assertEquals(Set.of(plugin, parent, dep), result.getPomModels().keySet());
+        verify(logger, never()).error(anyString(), any(), any());
+    }
+
+    /**
+     * Verifies that a POM whose file name does not contain its artifactId is found through the
+     * coordinates index, and that references to missing POM files are skipped.
+     */
+    @Test
+    @DisplayName("Falls back to the coordinates index when no file name matches")
+    void fallsBackToCoordinatesIndex() {
+        Path plugin = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("plugin")
+                .version("1.0")
+                .parent("org.example", "build-parent", "1.0")
+                .dep("org.example", "absent", "3.0", null)
+                .writeTo(tempDir.resolve("plugin-1.0.pom"));
+        Path parent = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("build-parent")
+                .version("1.0")
+                .packaging("pom")
+                .writeTo(tempDir.resolve("example-parent.pom"));
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(plugin, parent)));
+
+        PluginPomChainResult result = resolver.resolve(tempDir.toString(), List.of("plugin-1"), Map.of());
+
+        assertEquals(Set.of(plugin, parent), result.getPomPaths());
+    }
+
+    /**
+     * Verifies that reference cycles between POM files terminate.
+     */
+    @Test
+    @DisplayName("Terminates on reference cycles")
+    void terminatesOnCycles() {
+        Path first = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("first")
+                .version("1.0")
+                .dep("org.example", "second", "1.0", null)
+                .writeTo(tempDir.resolve("first-1.0.pom"));
+        Path second = PomXmlBuilder.pom()
+                .groupId("org.example")
+                .artifactId("second")
+                .version("1.0")
+                .dep("org.example", "first", "1.0", null)
+                .writeTo(tempDir.resolve("second-1.0.pom"));
+        when(pomCollector.collectBySuffix(tempDir.toString(), ".pom", "-javadoc.jar"))
+                .thenReturn(Map.of(".pom", Set.of(first, second)));
+
+        PluginPomChainResult result = resolver.resolve(tempDir.toString(), List.of(), Map.of(first.toString(), first));
+
+        assertEquals(Set.of(first, second), result.getPomPaths());
+    }
+}
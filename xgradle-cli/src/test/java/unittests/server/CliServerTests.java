@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.server;
+
+import com.google.inject.Guice;
+
+import org.altlinux.xgradle.impl.di.XGradleToolModule;
+import org.altlinux.xgradle.impl.enums.ExitCode;
+import org.altlinux.xgradle.impl.server.CliServerClient;
+import org.altlinux.xgradle.interfaces.server.CliServer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CliServer and CliServerClient")
+class CliServerTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Client falls back to a local run when no server listens")
+    void clientFallsBackWithoutServer() {
+        Path socket = tempDir.resolve("none.sock");
+
+        OptionalInt result = CliServerClient.tryRun(new String[]{"--help", "--socket=" + socket});
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stopping an absent server succeeds without running locally")
+    void stopWithoutServerSucceeds() {
+        Path socket = tempDir.resolve("none.sock");
+
+        OptionalInt result = CliServerClient.tryRun(new String[]{"--stop-server", "--socket=" + socket});
+
+        assertEquals(OptionalInt.of(0), result);
+    }
+
+    @Test
+    @DisplayName("Serves forwarded invocations until stopped and removes its socket")
+    void servesForwardedInvocationsUntilStopped() throws Exception {
+        Path socket = tempDir.resolve("xgradle.sock");
+        CliServer server = Guice.createInjector(new XGradleToolModule()).getInstance(CliServer.class);
+
+        CompletableFuture<ExitCode> serving =
+                CompletableFuture.supplyAsync(() -> server.serve(socket, Duration.ofSeconds(30)));
+        awaitSocket(socket, serving);
+
+        assertEquals(OptionalInt.of(0), CliServerClient.tryRun(new String[]{"--help", "--socket=" + socket}));
+        assertEquals(OptionalInt.of(0), CliServerClient.tryRun(new String[]{"--stop-server", "--socket=" + socket}));
+
+        assertEquals(ExitCode.SUCCESS, serving.get(10, TimeUnit.SECONDS));
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    @DisplayName("Creates a socket only its owner can use")
+    void restrictsSocketToOwner() throws Exception {
+        Path socket = tempDir.resolve("private.sock");
+        CliServer server = Guice.createInjector(new XGradleToolModule()).getInstance(CliServer.class);
+
+        CompletableFuture<ExitCode> serving =
+                CompletableFuture.supplyAsync(() -> server.serve(socket, Duration.ofSeconds(30)));
+        awaitSocket(socket, serving);
+
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(socket));
+        try (Stream<Path> entries = Files.list(tempDir)) {
+            assertEquals(List.of(socket), entries.collect(Collectors.toList()));
+        }
+
+        assertEquals(OptionalInt.of(0), CliServerClient.tryRun(new String[]{"--stop-server", "--socket=" + socket}));
+        assertEquals(ExitCode.SUCCESS, serving.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Stops after the idle timeout")
+    void stopsAfterIdleTimeout() throws Exception {
+        Path socket = tempDir.resolve("idle.sock");
+        CliServer server = Guice.createInjector(new XGradleToolModule()).getInstance(CliServer.class);
+
+        ExitCode code = CompletableFuture.supplyAsync(() -> server.serve(socket, Duration.ofSeconds(1)))
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(ExitCode.SUCCESS, code);
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    @DisplayName("Drops a client that connects but never sends a request")
+    void dropsStalledClient() throws Exception {
+        Path socket = tempDir.resolve("stalled.sock");
+        CliServer server = Guice.createInjector(new XGradleToolModule()).getInstance(CliServer.class);
+
+        CompletableFuture<ExitCode> serving =
+                CompletableFuture.supplyAsync(() -> server.serve(socket, Duration.ofSeconds(2)));
+        awaitSocket(socket, serving);
+
+        try (SocketChannel ignored = connectUnix(socket)) {
+            OptionalInt result = CompletableFuture
+                    .supplyAsync(() -> CliServerClient.tryRun(new String[]{"--help", "--socket=" + socket}))
+                    .get(10, TimeUnit.SECONDS);
+            assertEquals(OptionalInt.of(0), result);
+        }
+
+        assertEquals(OptionalInt.of(0), CliServerClient.tryRun(new String[]{"--stop-server", "--socket=" + socket}));
+        assertEquals(ExitCode.SUCCESS, serving.get(10, TimeUnit.SECONDS));
+    }
+
+    private static SocketChannel connectUnix(Path socket) throws Exception {
+        SocketAddress address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                .getMethod("of", Path.class)
+                .invoke(null, socket);
+        SocketChannel channel = (SocketChannel) SocketChannel.class
+                .getMethod("open", ProtocolFamily.class)
+                .invoke(null, StandardProtocolFamily.valueOf("UNIX"));
+        channel.connect(address);
+        return channel;
+    }
+
+    private static void awaitSocket(Path socket, CompletableFuture<ExitCode> serving) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!Files.exists(socket) && !serving.isDone() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.exists(socket), "server socket must be created");
+    }
+}
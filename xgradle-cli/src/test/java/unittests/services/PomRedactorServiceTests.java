@@ -20,9 +20,14 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 
+import org.altlinux.xgradle.interfaces.caches.ModelCache;
 import org.altlinux.xgradle.interfaces.containers.PomContainer;
+import org.altlinux.xgradle.interfaces.executors.TaskExecutor;
 import org.altlinux.xgradle.interfaces.redactors.PomRedactor;
 import org.altlinux.xgradle.interfaces.services.PomService;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.impl.model.RedactionPlan;
 import org.altlinux.xgradle.impl.services.ServicesModule;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -34,9 +39,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import unittests.SameThreadTaskExecutor;
+import unittests.UncachedModelCache;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +57,7 @@ class PomRedactorServiceTests {
     Path tempDir;
 
     private PomService service;
+    private RunStats runStats;
 
     @Mock
     private PomRedactor redactor;
@@ -63,6 +72,8 @@ class PomRedactorServiceTests {
                         .with(new AbstractModule() {
                             @Override
                             protected void configure() {
+                                bind(ModelCache.class).toInstance(new UncachedModelCache());
+                                bind(TaskExecutor.class).toInstance(new SameThreadTaskExecutor());
                                 bind(PomRedactor.class).toInstance(redactor);
                                 bind(PomContainer.class).toInstance(pomContainer);
                             }
@@ -70,6 +81,7 @@ class PomRedactorServiceTests {
         );
 
         service = injector.getInstance(PomService.class);
+        runStats = injector.getInstance(RunStats.class);
     }
 
     @Test
@@ -78,87 +90,6 @@ class PomRedactorServiceTests {
         assertNotNull(service);
     }
 
-    @Test
-    @DisplayName("addDependency: non-recursive delegates to redactor once")
-    void addDependencyNonRecursiveDelegatesOnce() {
-        Path pom = tempDir.resolve("a.pom");
-
-        service.addDependency(pom, "g:a:1:test", false);
-
-        verify(redactor, times(1)).addDependency(pom, "g:a:1:test");
-        verifyNoInteractions(pomContainer);
-    }
-
-    @Test
-    @DisplayName("addDependency: recursive delegates to redactor for each pom returned by container")
-    void addDependencyRecursiveDelegatesForEveryPom() {
-        Path dir = tempDir.resolve("repo");
-        Path p1 = tempDir.resolve("1.pom");
-        Path p2 = tempDir.resolve("2.pom");
-
-        when(pomContainer.getAllPoms(dir.toString())).thenReturn(Set.of(p1, p2));
-
-        service.addDependency(dir, "g:a:1:test", true);
-
-        verify(pomContainer, times(1)).getAllPoms(dir.toString());
-        verify(redactor, times(1)).addDependency(p1, "g:a:1:test");
-        verify(redactor, times(1)).addDependency(p2, "g:a:1:test");
-    }
-
-    @Test
-    @DisplayName("removeDependency: non-recursive delegates to redactor once")
-    void removeDependencyNonRecursiveDelegatesOnce() {
-        Path pom = tempDir.resolve("a.pom");
-
-        service.removeDependency(pom, "g:a", false);
-
-        verify(redactor, times(1)).removeDependency(pom, "g:a");
-        verifyNoInteractions(pomContainer);
-    }
-
-    @Test
-    @DisplayName("removeDependency: recursive delegates to redactor for each pom returned by container")
-    void removeDependencyRecursiveDelegatesForEveryPom() {
-        Path dir = tempDir.resolve("repo");
-        Path p1 = tempDir.resolve("1.pom");
-        Path p2 = tempDir.resolve("2.pom");
-
-        when(pomContainer.getAllPoms(dir.toString())).thenReturn(Set.of(p1, p2));
-
-        service.removeDependency(dir, "g:a", true);
-
-        verify(pomContainer, times(1)).getAllPoms(dir.toString());
-        verify(redactor, times(1)).removeDependency(p1, "g:a");
-        verify(redactor, times(1)).removeDependency(p2, "g:a");
-    }
-
-    @Test
-    @DisplayName("changeDependency: non-recursive delegates to redactor once")
-    void changeDependencyNonRecursiveDelegatesOnce() {
-        Path pom = tempDir.resolve("a.pom");
-
-        service.changeDependency(pom, "g:a:1:test", "g:a:2:test", false);
-
-        verify(redactor, times(1)).changeDependency(pom, "g:a:1:test", "g:a:2:test");
-        verifyNoInteractions(pomContainer);
-    }
-
-    @Test
-    @DisplayName("changeDependency: recursive delegates to redactor for each pom returned by container")
-    void changeDependencyRecursiveDelegatesForEveryPom() {
-        Path dir = tempDir.resolve("repo");
-        Path p1 = tempDir.resolve("1.pom");
-        Path p2 = tempDir.resolve("2.pom");
-
-        when(pomContainer.getAllPoms(dir.toString())).thenReturn(Set.of(p1, p2));
-
-        service.changeDependency(dir, "g:a:1:test", "g:a:2:test", true);
-
-        verify(pomContainer, times(1)).getAllPoms(dir.toString());
-        verify(redactor, times(1)).changeDependency(p1, "g:a:1:test", "g:a:2:test");
-        verify(redactor, times(1)).changeDependency(p2, "g:a:1:test", "g:a:2:test");
-    }
-
     @Test
     @DisplayName("excludeArtifacts(HashMap): returns same map when excluded list is null")
     void excludeArtifactsHashMapReturnsSameWhenNullExcludedList() {
@@ -233,6 +164,15 @@ class PomRedactorServiceTests {
         verify(redactor, times(1)).removeParent(p2);
     }
 
+    @Test
+    @DisplayName("removeParentBlocks: is timed as redaction, not as filtering")
+    void removeParentBlocksIsTimedAsRedaction() {
+        service.removeParentBlocks(Set.of(tempDir.resolve("aaa-1.pom")), List.of("all"));
+
+        assertTrue(runStats.getWallTime(StatsPhase.REDACT).toNanos() > 0);
+        assertEquals(Duration.ZERO, runStats.getWallTime(StatsPhase.FILTER));
+    }
+
     @Test
     @DisplayName("removeParentBlocks(Set): removes parent by prefix")
     void removeParentBlocksSetRemovesByPrefix() {
@@ -244,4 +184,42 @@ class PomRedactorServiceTests {
         verify(redactor, times(1)).removeParent(p1);
         verify(redactor, never()).removeParent(p2);
     }
+
+    @Test
+    @DisplayName("redact: applies one plan to every pom returned by container")
+    void redactAppliesPlanToEveryPom() {
+        Path dir = tempDir;
+        Path p1 = tempDir.resolve("a.pom");
+        Path p2 = tempDir.resolve("b.pom");
+        RedactionPlan plan = RedactionPlan.builder().addDependency("g:a").removeDependency("g:b").build();
+
+        when(pomContainer.getAllPoms(dir.toString())).thenReturn(Set.of(p1, p2));
+
+        service.redact(dir, plan, true);
+
+        verify(redactor).apply(p1, plan);
+        verify(redactor).apply(p2, plan);
+        verifyNoMoreInteractions(redactor);
+    }
+
+    @Test
+    @DisplayName("redact: non-recursive applies the plan to the given pom only")
+    void redactNonRecursiveAppliesPlanOnce() {
+        Path pom = tempDir.resolve("a.pom");
+        RedactionPlan plan = RedactionPlan.builder().changeDependency("g:a:1", "g:a:2").build();
+
+        service.redact(pom, plan, false);
+
+        verify(redactor).apply(pom, plan);
+        verifyNoMoreInteractions(redactor);
+        verifyNoInteractions(pomContainer);
+    }
+
+    @Test
+    @DisplayName("redact: empty plan touches nothing")
+    void redactWithEmptyPlanDoesNothing() {
+        service.redact(tempDir, RedactionPlan.builder().build(), true);
+
+        verifyNoInteractions(redactor, pomContainer);
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.stats;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.altlinux.xgradle.impl.enums.StatsCounter;
+import org.altlinux.xgradle.impl.enums.StatsFormat;
+import org.altlinux.xgradle.impl.enums.StatsPhase;
+import org.altlinux.xgradle.impl.stats.StatsModule;
+import org.altlinux.xgradle.interfaces.stats.PhaseTimer;
+import org.altlinux.xgradle.interfaces.stats.RunStats;
+import org.altlinux.xgradle.interfaces.stats.StatsReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RunStats and StatsReporter contract")
+class RunStatsTests {
+
+    @TempDir
+    Path tempDir;
+
+    private RunStats runStats;
+    private StatsReporter reporter;
+
+    @BeforeEach
+    void setUp() {
+        Injector injector = Guice.createInjector(new StatsModule());
+        runStats = injector.getInstance(RunStats.class);
+        reporter = injector.getInstance(StatsReporter.class);
+    }
+
+    /**
+     * Verifies that overlapping measurements of one phase are counted once as wall time.
+     */
+    @Test
+    @DisplayName("Counts overlapping measurements of a phase once")
+    void countsOverlappingMeasurementsOnce() throws Exception {
+        long started = System.nanoTime();
+        try (PhaseTimer outer = runStats.time(StatsPhase.PARSE)) {
+            try (PhaseTimer inner = runStats.time(StatsPhase.PARSE)) {
+                Thread.sleep(20);
+            }
+            Thread.sleep(20);
+        }
+        Duration measured = Duration.ofNanos(System.nanoTime() - started);
+
+        Duration parse = runStats.getWallTime(StatsPhase.PARSE);
+        assertTrue(parse.toMillis() >= 40, "parse time " + parse);
+        assertTrue(parse.compareTo(measured) <= 0, "parse time " + parse + " exceeds " + measured);
+        assertEquals(Duration.ZERO, runStats.getWallTime(StatsPhase.WALK));
+    }
+
+    /**
+     * Verifies that counters accumulate and reset clears them.
+     */
+    @Test
+    @DisplayName("Accumulates counters and clears them on reset")
+    void accumulatesAndResetsCounters() {
+        runStats.increment(StatsCounter.POMS_PARSED);
+        runStats.increment(StatsCounter.POMS_PARSED);
+        runStats.add(StatsCounter.BYTES_COPIED, 4096);
+        runStats.time(StatsPhase.COPY).close();
+
+        assertEquals(2, runStats.getCount(StatsCounter.POMS_PARSED));
+        assertEquals(4096, runStats.getCount(StatsCounter.BYTES_COPIED));
+
+        runStats.reset();
+
+        assertEquals(0, runStats.getCount(StatsCounter.POMS_PARSED));
+        assertEquals(0, runStats.getCount(StatsCounter.BYTES_COPIED));
+        assertEquals(Duration.ZERO, runStats.getWallTime(StatsPhase.COPY));
+    }
+
+    /**
+     * Verifies that heap usage reached inside a phase is kept as the peak and that the peak is
+     * a sampled total rather than a sum of per-pool peaks, which could exceed the maximum heap size.
+     */
+    @Test
+    @DisplayName("Keeps the largest sampled heap usage")
+    void keepsPeakHeapSampled() throws Exception {
+        runStats.reset();
+
+        byte[] block;
+        try (PhaseTimer ignored = runStats.time(StatsPhase.PARSE)) {
+            block = new byte[32 * 1024 * 1024];
+            Thread.sleep(100);
+        }
+        long peak = runStats.getPeakHeapBytes();
+
+        assertTrue(peak >= block.length, "peak " + peak + " is below the allocated block");
+        assertTrue(peak <= Runtime.getRuntime().maxMemory(), "peak " + peak + " exceeds the maximum heap");
+        assertTrue(runStats.getPeakHeapBytes() >= peak);
+    }
+
+    /**
+     * Verifies that disabled statistics drop measurements and counters.
+     */
+    @Test
+    @DisplayName("Records nothing when disabled")
+    void recordsNothingWhenDisabled() {
+        RunStats disabled = Guice.createInjector(new StatsModule(false)).getInstance(RunStats.class);
+
+        try (PhaseTimer ignored = disabled.time(StatsPhase.PARSE)) {
+            disabled.increment(StatsCounter.POMS_PARSED);
+            disabled.add(StatsCounter.BYTES_COPIED, 4096);
+        }
+
+        assertEquals(Duration.ZERO, disabled.getWallTime(StatsPhase.PARSE));
+        assertEquals(0, disabled.getCount(StatsCounter.POMS_PARSED));
+        assertEquals(0, disabled.getCount(StatsCounter.BYTES_COPIED));
+        assertEquals(0, disabled.getPeakHeapBytes());
+    }
+
+    /**
+     * Verifies that the JSON report contains every phase and counter under stable keys.
+     */
+    @Test
+    @DisplayName("Renders a JSON report with every phase and counter")
+    void rendersJsonReport() {
+        runStats.add(StatsCounter.FILES_WALKED, 12);
+        runStats.increment(StatsCounter.PROCESSES_SPAWNED);
+        runStats.add(StatsCounter.PROCESS_NANOS, 2_500_000);
+
+        String json = reporter.render(StatsFormat.JSON).trim();
+
+        assertTrue(json.startsWith("{\"totalMs\":"), json);
+        assertTrue(json.endsWith("}"), json);
+        for (StatsPhase phase : StatsPhase.values()) {
+            assertTrue(json.contains("\"" + phase.getKey() + "\":"), json);
+        }
+        assertTrue(json.contains("\"filesWalked\":12"), json);
+        assertTrue(json.contains("\"processesSpawned\":1"), json);
+        assertTrue(json.contains("\"processTimeMs\":2.500"), json);
+        assertFalse(json.contains("processNanos"), json);
+        assertTrue(json.contains("\"peakHeapBytes\":"), json);
+    }
+
+    /**
+     * Verifies that the text report is written to the requested file.
+     */
+    @Test
+    @DisplayName("Writes the text report to a file")
+    void writesTextReportToFile() throws Exception {
+        runStats.add(StatsCounter.BYTES_COPIED, 1024);
+        Path file = tempDir.resolve("reports/stats.txt");
+
+        reporter.report(StatsFormat.TEXT, file);
+
+        String text = Files.readString(file);
+        assertTrue(text.startsWith("xgradle-cli stats"), text);
+        assertTrue(text.matches("(?s).*bytesCopied\\s+1024.*"), text);
+        assertTrue(text.matches("(?s).*redact\\s+[0-9.]+ ms.*"), text);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.files;
+
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.interfaces.files.FileWalker;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Default implementation of {@link FileWalker}.
+ * <p>Every directory is listed by its own fork-join task, so independent subtrees are
+ * walked in parallel, which hides the latency of network and overlay filesystems.
+ * The tasks run in a pool owned by the walker rather than the common pool, so blocking
+ * directory reads do not starve unrelated parallel streams, and its idle threads exit.
+ * Each entry costs one {@code lstat}, and entries at the maximum depth whose names
+ * cannot match are not stat-ed at all. Symbolic links are resolved only when the
+ * options ask for them, and links back to a directory that is being walked are skipped.
+ * Directories that cannot be listed are skipped and reported through the options.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultFileWalker implements FileWalker {
+
+    private static final int PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private final ForkJoinPool pool = new ForkJoinPool(PARALLELISM, DefaultFileWalker::newWorker, null, false);
+
+    @Override
+    public List<Path> walk(Path root, WalkOptions options) throws IOException {
+        BasicFileAttributes rootAttributes = Files.readAttributes(root, BasicFileAttributes.class);
+        if (!rootAttributes.isDirectory()) {
+            throw new NotDirectoryException(root.toString());
+        }
+        if (options.getMaxDepth() == 0) {
+            return List.of();
+        }
+
+        Queue<Path> files = new ConcurrentLinkedQueue<>();
+        DirectoryStream<Path> rootEntries = Files.newDirectoryStream(root);
+        Ancestors ancestors = new Ancestors(directoryKey(root, rootAttributes), null);
+        pool.invoke(new DirectoryTask(root, rootEntries, 0, ancestors, options, files));
+
+        List<Path> result = new ArrayList<>(files);
+        Collections.sort(result);
+        return result;
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("xgradle-file-walker-" + worker.getPoolIndex());
+        worker.setDaemon(true);
+        return worker;
+    }
+
+    private static Object directoryKey(Path directory, BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        if (fileKey != null) {
+            return fileKey;
+        }
+        try {
+            return directory.toRealPath();
+        } catch (IOException e) {
+            return directory.toAbsolutePath().normalize();
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path, LinkOption... linkOptions) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Keys of the directories on the path from the root to a directory, used to detect link loops.
+     */
+    private static final class Ancestors {
+
+        private final Object key;
+        private final Ancestors parent;
+
+        private Ancestors(Object key, Ancestors parent) {
+            this.key = key;
+            this.parent = parent;
+        }
+
+        private boolean contains(Object candidate) {
+            for (Ancestors current = this; current != null; current = current.parent) {
+                if (current.key.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Lists one directory, collects its matching files and forks a task per subdirectory.
+     */
+    private static final class DirectoryTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Path directory;
+        private final transient DirectoryStream<Path> openedEntries;
+        private final int depth;
+        private final transient Ancestors ancestors;
+        private final transient WalkOptions options;
+        private final transient Queue<Path> files;
+
+        private DirectoryTask(
+                Path directory,
+                DirectoryStream<Path> openedEntries,
+                int depth,
+                Ancestors ancestors,
+                WalkOptions options,
+                Queue<Path> files
+        ) {
+            this.directory = directory;
+            this.openedEntries = openedEntries;
+            this.depth = depth;
+            this.ancestors = ancestors;
+            this.options = options;
+            this.files = files;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            int entryDepth = depth + 1;
+            boolean lastLevel = entryDepth >= options.getMaxDepth();
+
+            try (DirectoryStream<Path> entries = openedEntries != null
+                    ? openedEntries
+                    : Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    options.countVisit();
+                    String name = entry.getFileName().toString();
+                    if (lastLevel && !options.acceptsFile(name)) {
+                        continue;
+                    }
+                    DirectoryTask subtask = visit(entry, name, entryDepth, lastLevel);
+                    if (subtask != null) {
+                        subtasks.add(subtask);
+                    }
+                }
+            } catch (IOException e) {
+                options.reportFailure(directory, e);
+                return;
+            } catch (DirectoryIteratorException e) {
+                options.reportFailure(directory, e.getCause());
+                return;
+            }
+
+            invokeAll(subtasks);
+        }
+
+        private DirectoryTask visit(Path entry, String name, int entryDepth, boolean lastLevel) {
+            BasicFileAttributes attributes = readAttributes(entry, LinkOption.NOFOLLOW_LINKS);
+            if (attributes == null) {
+                return null;
+            }
+
+            boolean link = attributes.isSymbolicLink();
+            if (link) {
+                if (!options.isIncludeLinkedFiles() && !options.isFollowLinkedDirectories()) {
+                    return null;
+                }
+                attributes = readAttributes(entry);
+                if (attributes == null) {
+                    return null;
+                }
+            }
+
+            if (attributes.isDirectory()) {
+                if (lastLevel || options.prunesDirectory(name) || (link && !options.isFollowLinkedDirectories())) {
+                    return null;
+                }
+                Object key = directoryKey(entry, attributes);
+                if (link && ancestors.contains(key)) {
+                    return null;
+                }
+                return new DirectoryTask(entry, null, entryDepth, new Ancestors(key, ancestors), options, files);
+            }
+
+            if (attributes.isRegularFile() && (!link || options.isIncludeLinkedFiles()) && options.acceptsFile(name)) {
+                files.add(entry);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.files;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Options of a {@link org.altlinux.xgradle.interfaces.files.FileWalker} run.
+ * Depth follows {@link java.nio.file.Files#walk(java.nio.file.Path, int, java.nio.file.FileVisitOption...)}:
+ * the root is at depth 0 and entries deeper than the maximum depth are not visited.
+ * By default every regular file is accepted, nothing is pruned, symbolic links are skipped
+ * and directories that cannot be listed are skipped silently.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class WalkOptions {
+
+    private final int maxDepth;
+    private final List<String> fileSuffixes;
+    private final Predicate<String> fileNameFilter;
+    private final Set<String> prunedDirectories;
+    private final boolean pruneHiddenDirectories;
+    private final boolean includeLinkedFiles;
+    private final boolean followLinkedDirectories;
+    private final LongAdder visitCounter;
+    private final BiConsumer<Path, IOException> failureHandler;
+
+    private WalkOptions(Builder builder) {
+        this.maxDepth = builder.maxDepth;
+        this.fileSuffixes = Collections.unmodifiableList(new ArrayList<>(builder.fileSuffixes));
+        this.fileNameFilter = builder.fileNameFilter;
+        this.prunedDirectories = Collections.unmodifiableSet(new HashSet<>(builder.prunedDirectories));
+        this.pruneHiddenDirectories = builder.pruneHiddenDirectories;
+        this.includeLinkedFiles = builder.includeLinkedFiles;
+        this.followLinkedDirectories = builder.followLinkedDirectories;
+        this.visitCounter = builder.visitCounter;
+        this.failureHandler = builder.failureHandler;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public boolean isIncludeLinkedFiles() {
+        return includeLinkedFiles;
+    }
+
+    public boolean isFollowLinkedDirectories() {
+        return followLinkedDirectories;
+    }
+
+    /**
+     * Checks whether a file with the given name is returned.
+     */
+    public boolean acceptsFile(String fileName) {
+        if (!fileSuffixes.isEmpty() && fileSuffixes.stream().noneMatch(fileName::endsWith)) {
+            return false;
+        }
+        return fileNameFilter.test(fileName);
+    }
+
+    /**
+     * Checks whether a directory with the given name is skipped together with everything below it.
+     */
+    public boolean prunesDirectory(String directoryName) {
+        return prunedDirectories.contains(directoryName)
+                || (pruneHiddenDirectories && directoryName.startsWith("."));
+    }
+
+    /**
+     * Records one visited directory entry.
+     */
+    public void countVisit() {
+        if (visitCounter != null) {
+            visitCounter.increment();
+        }
+    }
+
+    /**
+     * Reports a directory below the root that could not be listed and is skipped.
+     */
+    public void reportFailure(Path directory, IOException exception) {
+        if (failureHandler != null) {
+            failureHandler.accept(directory, exception);
+        }
+    }
+
+    /**
+     * Builder for {@link WalkOptions}.
+     */
+    public static final class Builder {
+
+        private int maxDepth = Integer.MAX_VALUE;
+        private final List<String> fileSuffixes = new ArrayList<>();
+        private Predicate<String> fileNameFilter = fileName -> true;
+        private final Set<String> prunedDirectories = new HashSet<>();
+        private boolean pruneHiddenDirectories;
+        private boolean includeLinkedFiles;
+        private boolean followLinkedDirectories;
+        private LongAdder visitCounter;
+        private BiConsumer<Path, IOException> failureHandler;
+
+        private Builder() {
+        }
+
+        public Builder maxDepth(int maxDepth) {
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("maxDepth must not be negative: " + maxDepth);
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Accepts only files whose names end with one of the given suffixes.
+         */
+        public Builder fileSuffix(String... suffixes) {
+            Collections.addAll(fileSuffixes, suffixes);
+            return this;
+        }
+
+        /**
+         * Accepts only files whose names match the filter, in addition to the suffixes.
+         */
+        public Builder fileNameFilter(Predicate<String> fileNameFilter) {
+            this.fileNameFilter = Objects.requireNonNull(fileNameFilter, "fileNameFilter");
+            return this;
+        }
+
+        /**
+         * Skips directories with the given names, such as {@code .git}, {@code target} or {@code build}.
+         */
+        public Builder pruneDirectories(String... directoryNames) {
+            Collections.addAll(prunedDirectories, directoryNames);
+            return this;
+        }
+
+        /**
+         * Skips directories whose names start with a dot.
+         */
+        public Builder pruneHiddenDirectories() {
+            this.pruneHiddenDirectories = true;
+            return this;
+        }
+
+        /**
+         * Returns symbolic links to regular files as well.
+         */
+        public Builder includeLinkedFiles() {
+            this.includeLinkedFiles = true;
+            return this;
+        }
+
+        /**
+         * Descends into symbolic links to directories, skipping links back to a directory being walked.
+         */
+        public Builder followLinkedDirectories() {
+            this.followLinkedDirectories = true;
+            return this;
+        }
+
+        /**
+         * Counts every visited directory entry.
+         */
+        public Builder visitCounter(LongAdder visitCounter) {
+            this.visitCounter = visitCounter;
+            return this;
+        }
+
+        /**
+         * Receives every directory below the root that cannot be listed, together with the cause.
+         * Directories are listed in parallel, so the handler may be called from several threads at once.
+         */
+        public Builder onFailure(BiConsumer<Path, IOException> failureHandler) {
+            this.failureHandler = Objects.requireNonNull(failureHandler, "failureHandler");
+            return this;
+        }
+
+        public WalkOptions build() {
+            return new WalkOptions(this);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.pom;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.interfaces.pom.PomReader;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+
+import org.codehaus.plexus.util.xml.XmlStreamReader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Default implementation of {@link PomReader}.
+ * Full models are read in one pass through a {@link FileChannel} into a per-thread buffer
+ * and parsed by a per-thread {@link MavenXpp3Reader}. Headers are read with a streaming
+ * XML reader over a buffered channel stream. Other top-level elements such as {@code name} or
+ * {@code properties} are skipped, and reading stops once the coordinates are known or at
+ * {@code dependencies}, {@code dependencyManagement}, {@code build} or {@code profiles},
+ * so the dependency sections are never parsed.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultPomReader implements PomReader {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final int HEADER_BUFFER_SIZE = 8 * 1024;
+
+    private final ThreadLocal<MavenXpp3Reader> modelReaders = ThreadLocal.withInitial(MavenXpp3Reader::new);
+    private final ThreadLocal<ByteBuffer> buffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+    private final XMLInputFactory xmlInputFactory;
+
+    @Inject
+    DefaultPomReader() {
+        this.xmlInputFactory = XMLInputFactory.newInstance();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public Model read(Path pomPath) throws IOException, XmlPullParserException {
+        ByteBuffer content = readFully(pomPath);
+        try (XmlStreamReader reader = new XmlStreamReader(
+                new ByteArrayInputStream(content.array(), 0, content.limit()))) {
+            return modelReaders.get().read(reader, true);
+        }
+    }
+
+    @Override
+    public PomHeader readHeader(Path pomPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(pomPath, StandardOpenOption.READ);
+             InputStream inputStream = new BufferedInputStream(Channels.newInputStream(channel), HEADER_BUFFER_SIZE)) {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            try {
+                return readHeader(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to read POM header: " + pomPath, e);
+        }
+    }
+
+    private ByteBuffer readFully(Path pomPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(pomPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IOException("POM file is too large: " + pomPath);
+            }
+
+            ByteBuffer buffer = buffers.get();
+            buffer.clear();
+            if (buffer.capacity() < size + 1) {
+                buffer = ByteBuffer.allocate((int) size + 1);
+                if (buffer.capacity() <= MAX_RETAINED_BUFFER_SIZE) {
+                    buffers.set(buffer);
+                }
+            }
+
+            while (channel.read(buffer) > 0) {
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static PomHeader readHeader(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> project = new LinkedHashMap<>();
+        Map<String, String> parent = new LinkedHashMap<>();
+        int depth = 0;
+        boolean inParent = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                String name = reader.getLocalName();
+                if (depth == 2 && "parent".equals(name)) {
+                    inParent = true;
+                } else if (depth == 2 && isHeaderElement(name)) {
+                    project.put(name, reader.getElementText().trim());
+                    depth--;
+                    if (project.size() == 4) {
+                        break;
+                    }
+                } else if (depth == 2 && isBodyElement(name)) {
+                    break;
+                } else if (depth == 2) {
+                    skipElement(reader);
+                    depth--;
+                } else if (depth == 3 && inParent && isHeaderElement(name)) {
+                    parent.put(name, reader.getElementText().trim());
+                    depth--;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 2 && inParent) {
+                    inParent = false;
+                }
+                depth--;
+            }
+        }
+
+        return new PomHeader(
+                project.get("groupId"),
+                project.get("artifactId"),
+                project.get("version"),
+                project.get("packaging"),
+                parent.get("groupId"),
+                parent.get("artifactId"),
+                parent.get("version")
+        );
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int nested = 1;
+        while (nested > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                nested++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                nested--;
+            }
+        }
+    }
+
+    private static boolean isBodyElement(String name) {
+        return "dependencies".equals(name)
+                || "dependencyManagement".equals(name)
+                || "build".equals(name)
+                || "profiles".equals(name);
+    }
+
+    private static boolean isHeaderElement(String name) {
+        return "groupId".equals(name)
+                || "artifactId".equals(name)
+                || "version".equals(name)
+                || "packaging".equals(name);
+    }
+}
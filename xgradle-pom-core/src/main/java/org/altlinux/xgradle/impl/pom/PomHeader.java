@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.pom;
+
+/**
+ * Top-level coordinates of a POM file, read without building the full Maven model.
+ * Group and version fall back to the parent declaration when not set explicitly.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public final class PomHeader {
+
+    private static final String DEFAULT_PACKAGING = "jar";
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final String packaging;
+    private final String parentGroupId;
+    private final String parentArtifactId;
+    private final String parentVersion;
+
+    public PomHeader(
+            String groupId,
+            String artifactId,
+            String version,
+            String packaging,
+            String parentGroupId,
+            String parentArtifactId,
+            String parentVersion
+    ) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.packaging = packaging;
+        this.parentGroupId = parentGroupId;
+        this.parentArtifactId = parentArtifactId;
+        this.parentVersion = parentVersion;
+    }
+
+    public String getGroupId() {
+        return groupId != null ? groupId : parentGroupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getVersion() {
+        return version != null ? version : parentVersion;
+    }
+
+    public String getPackaging() {
+        return packaging != null ? packaging : DEFAULT_PACKAGING;
+    }
+
+    public String getParentGroupId() {
+        return parentGroupId;
+    }
+
+    public String getParentArtifactId() {
+        return parentArtifactId;
+    }
+
+    public String getParentVersion() {
+        return parentVersion;
+    }
+
+    /**
+     * Returns {@code groupId:artifactId:version} key, or null when coordinates are incomplete.
+     *
+     * @return coordinates key
+     */
+    public String coordinatesKey() {
+        String effectiveGroupId = getGroupId();
+        String effectiveVersion = getVersion();
+        if (effectiveGroupId == null || artifactId == null || effectiveVersion == null) {
+            return null;
+        }
+        return effectiveGroupId + ":" + artifactId + ":" + effectiveVersion;
+    }
+
+    @Override
+    public String toString() {
+        return getGroupId() + ":" + artifactId + ":" + getVersion() + ":" + getPackaging();
+    }
+}
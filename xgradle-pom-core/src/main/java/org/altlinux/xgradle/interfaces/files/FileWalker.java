@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.files;
+
+import org.altlinux.xgradle.impl.files.WalkOptions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Walks directory trees looking for files.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface FileWalker {
+
+    /**
+     * Returns the regular files below the root accepted by the options, sorted by path.
+     * Subdirectories that cannot be read are skipped and reported to the failure handler of the options.
+     *
+     * @param root directory to walk
+     * @param options depth, filters, prune rules and symbolic link handling
+     *
+     * @return matching files
+     *
+     * @throws IOException if the root cannot be read
+     */
+    List<Path> walk(Path root, WalkOptions options) throws IOException;
+}
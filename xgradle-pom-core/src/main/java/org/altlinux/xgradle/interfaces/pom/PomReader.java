@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.pom;
+
+import org.altlinux.xgradle.impl.pom.PomHeader;
+
+import org.apache.maven.model.Model;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reads POM files for every module of the project.
+ * Two modes are offered: the full Maven model, and a header with the top-level and parent
+ * coordinates only, which stops reading as soon as those are known.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface PomReader {
+
+    /**
+     * Reads the full Maven model of a POM file.
+     *
+     * @param pomPath POM file path
+     * @return parsed model
+     * @throws IOException if the file cannot be read
+     * @throws XmlPullParserException if the file is not a valid POM
+     */
+    Model read(Path pomPath) throws IOException, XmlPullParserException;
+
+    /**
+     * Reads only the coordinates, packaging and parent coordinates of a POM file.
+     *
+     * @param pomPath POM file path
+     * @return POM header
+     * @throws IOException if the file cannot be read or is not well-formed XML
+     */
+    PomHeader readHeader(Path pomPath) throws IOException;
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.files;
+
+import com.google.inject.Guice;
+
+import org.altlinux.xgradle.impl.files.FilesModule;
+import org.altlinux.xgradle.impl.files.WalkOptions;
+import org.altlinux.xgradle.interfaces.files.FileWalker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+@DisplayName("FileWalker contract")
+class FileWalkerTests {
+
+    @TempDir
+    Path tempDir;
+
+    private FileWalker walker;
+
+    @BeforeEach
+    void setUp() {
+        walker = Guice.createInjector(new FilesModule()).getInstance(FileWalker.class);
+    }
+
+    /**
+     * Verifies that suffix and name filters apply during the walk and pruned directories are skipped.
+     */
+    @Test
+    @DisplayName("Filters files and prunes directories while walking")
+    void filtersAndPrunes() throws Exception {
+        Path a = touch("a/lib-1.0.pom");
+        Path b = touch("a/b/c/d/tool-2.0.pom");
+        touch("a/lib-1.0.jar");
+        touch("a/b/skip-1.0.pom");
+        touch(".hidden/hidden.pom");
+        touch("a/.git/objects/x.pom");
+        touch("build/out.pom");
+        LongAdder visited = new LongAdder();
+
+        List<Path> files = walker.walk(tempDir, WalkOptions.builder()
+                .fileSuffix(".pom")
+                .fileNameFilter(name -> !name.startsWith("skip"))
+                .pruneDirectories(".git", "build")
+                .pruneHiddenDirectories()
+                .visitCounter(visited)
+                .build());
+
+        assertEquals(List.of(b, a), files);
+        assertEquals(11, visited.sum());
+    }
+
+    /**
+     * Verifies that depth limits match {@code Files.walk}.
+     */
+    @Test
+    @DisplayName("Honours the maximum depth like Files.walk")
+    void honoursMaxDepth() throws Exception {
+        touch("one.jar");
+        touch("a/two.jar");
+        touch("a/b/three.jar");
+        touch("a/b/c/four.jar");
+
+        for (int depth = 0; depth <= 5; depth++) {
+            List<Path> expected;
+            try (Stream<Path> stream = Files.walk(tempDir, depth)) {
+                expected = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            assertEquals(expected, walker.walk(tempDir, WalkOptions.builder().maxDepth(depth).build()),
+                    "depth " + depth);
+        }
+    }
+
+    /**
+     * Verifies that links are skipped by default, followed on request and that link loops terminate.
+     */
+    @Test
+    @DisplayName("Handles symbolic links and link loops")
+    void handlesSymbolicLinks() throws Exception {
+        Path real = touch("real/lib.jar");
+        Path fileLink = Files.createSymbolicLink(tempDir.resolve("link.jar"), real);
+        Files.createSymbolicLink(tempDir.resolve("real/loop"), tempDir);
+        Path linkedDir = Files.createSymbolicLink(tempDir.resolve("linked"), tempDir.resolve("real"));
+        Files.createSymbolicLink(tempDir.resolve("dangling.jar"), tempDir.resolve("missing.jar"));
+
+        assertEquals(List.of(real), walker.walk(tempDir, WalkOptions.builder().build()));
+        assertEquals(List.of(fileLink, real),
+                walker.walk(tempDir, WalkOptions.builder().includeLinkedFiles().build()));
+        assertEquals(List.of(fileLink, linkedDir.resolve("lib.jar"), real),
+                walker.walk(tempDir, WalkOptions.builder().includeLinkedFiles().followLinkedDirectories().build()));
+    }
+
+    /**
+     * Verifies that a missing root is reported as an I/O error.
+     */
+    @Test
+    @DisplayName("Fails when the root cannot be read")
+    void failsForMissingRoot() {
+        assertThrows(NoSuchFileException.class,
+                () -> walker.walk(tempDir.resolve("missing"), WalkOptions.builder().build()));
+    }
+
+    /**
+     * Verifies that an unreadable subdirectory is skipped and passed to the failure handler.
+     */
+    @Test
+    @DisplayName("Reports subdirectories that cannot be listed")
+    void reportsUnreadableSubdirectories() throws Exception {
+        Path readable = touch("a/lib.pom");
+        touch("locked/hidden.pom");
+        Path locked = tempDir.resolve("locked");
+        Files.setPosixFilePermissions(locked, Set.of());
+        try {
+            assumeFalse(Files.isReadable(locked), "directory permissions are not enforced for this user");
+            Map<Path, IOException> failures = new ConcurrentHashMap<>();
+
+            List<Path> files = walker.walk(tempDir, WalkOptions.builder().onFailure(failures::put).build());
+
+            assertEquals(List.of(readable), files);
+            assertEquals(Set.of(locked), failures.keySet());
+            assertInstanceOf(AccessDeniedException.class, failures.get(locked));
+        } finally {
+            Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    /**
+     * Verifies that directories are listed by the walker's own pool instead of the common pool.
+     */
+    @Test
+    @DisplayName("Walks on a dedicated pool")
+    void walksOnDedicatedPool() throws Exception {
+        touch("a/b/lib.pom");
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        walker.walk(tempDir, WalkOptions.builder()
+                .fileNameFilter(fileName -> threads.add(Thread.currentThread().getName()))
+                .build());
+
+        assertFalse(threads.isEmpty());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("xgradle-file-walker-")), threads.toString());
+    }
+
+    private Path touch(String relativePath) throws Exception {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, "x");
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.pom;
+
+import com.google.inject.Guice;
+
+import org.altlinux.xgradle.impl.pom.PomHeader;
+import org.altlinux.xgradle.impl.pom.PomModule;
+import org.altlinux.xgradle.interfaces.pom.PomReader;
+
+import org.apache.maven.model.Model;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PomReader contract")
+class PomReaderTests {
+
+    @TempDir
+    Path tempDir;
+
+    private PomReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = Guice.createInjector(new PomModule()).getInstance(PomReader.class);
+    }
+
+    /**
+     * Verifies that the full model is read with its dependencies.
+     */
+    @Test
+    @DisplayName("Reads the full model")
+    void readsFullModel() throws Exception {
+        Path pom = write("lib.pom", pom("org.example", "lib", "1.0",
+                "<dependencies><dependency><groupId>g</groupId>"
+                        + "<artifactId>d</artifactId></dependency></dependencies>"));
+
+        Model model = reader.read(pom);
+
+        assertEquals("org.example", model.getGroupId());
+        assertEquals("lib", model.getArtifactId());
+        assertEquals("1.0", model.getVersion());
+        assertEquals(1, model.getDependencies().size());
+    }
+
+    /**
+     * Verifies that files larger than the reused buffer are read and the buffer stays usable afterwards.
+     */
+    @Test
+    @DisplayName("Reads files larger than the per-thread buffer")
+    void readsLargeFiles() throws Exception {
+        StringBuilder dependencies = new StringBuilder("<dependencies>");
+        for (int i = 0; i < 5000; i++) {
+            dependencies.append("<dependency><groupId>g").append(i)
+                    .append("</groupId><artifactId>a</artifactId></dependency>");
+        }
+        dependencies.append("</dependencies>");
+        Path pom = write("big.pom", pom("org.example", "big", "1.0", dependencies.toString()));
+
+        assertEquals(5000, reader.read(pom).getDependencies().size());
+        assertEquals("small", reader.read(write("small.pom", pom("g", "small", "1", ""))).getArtifactId());
+    }
+
+    /**
+     * Verifies that the encoding from the XML declaration is used to decode the file.
+     */
+    @Test
+    @DisplayName("Honours the declared encoding")
+    void honoursDeclaredEncoding() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>"
+                + "<project><modelVersion>4.0.0</modelVersion><groupId>g</groupId><artifactId>a</artifactId>"
+                + "<version>1</version><name>Café</name></project>";
+        Path pom = tempDir.resolve("latin.pom");
+        Files.write(pom, xml.getBytes(StandardCharsets.ISO_8859_1));
+
+        assertEquals("Café", reader.read(pom).getName());
+    }
+
+    /**
+     * Verifies that headers inherit group and version from the parent declaration.
+     */
+    @Test
+    @DisplayName("Reads the header with parent fallbacks")
+    void readsHeaderWithParentFallbacks() throws Exception {
+        Path pom = write("child.pom", "<project><modelVersion>4.0.0</modelVersion>"
+                + "<parent><groupId>org.parent</groupId><artifactId>parent</artifactId><version>2.0</version></parent>"
+                + "<artifactId>child</artifactId><packaging>pom</packaging></project>");
+
+        PomHeader header = reader.readHeader(pom);
+
+        assertEquals("org.parent", header.getGroupId());
+        assertEquals("child", header.getArtifactId());
+        assertEquals("2.0", header.getVersion());
+        assertEquals("pom", header.getPackaging());
+        assertEquals("parent", header.getParentArtifactId());
+        assertEquals("org.parent:child:2.0", header.coordinatesKey());
+    }
+
+    /**
+     * Verifies that header reading stops at the first top-level element past the header,
+     * so a malformed dependency section is never reached.
+     */
+    @Test
+    @DisplayName("Stops reading the header before <dependencies>")
+    void stopsReadingHeaderBeforeDependencies() throws Exception {
+        Path pom = write("jar.pom", "<project><modelVersion>4.0.0</modelVersion>"
+                + "<groupId>g</groupId><artifactId>a</artifactId><version>1</version>"
+                + "<dependencies><dependency><groupId>broken");
+
+        PomHeader header = reader.readHeader(pom);
+
+        assertEquals("g:a:1", header.coordinatesKey());
+        assertEquals("jar", header.getPackaging());
+        assertThrows(IOException.class, () -> reader.read(pom));
+    }
+
+    /**
+     * Verifies that elements declared before the version and packaging do not end the header.
+     */
+    @Test
+    @DisplayName("Reads header fields declared after <name> and <properties>")
+    void readsHeaderFieldsAfterOtherElements() throws Exception {
+        Path pom = write("jackson-annotations.pom", "<project><modelVersion>4.0.0</modelVersion>"
+                + "<parent><groupId>com.fasterxml.jackson</groupId><artifactId>jackson-parent</artifactId>"
+                + "<version>2.15</version></parent>"
+                + "<groupId>com.fasterxml.jackson.core</groupId><artifactId>jackson-annotations</artifactId>"
+                + "<name>Jackson-annotations</name><description>Core <b>annotations</b></description>"
+                + "<properties><version>9</version></properties>"
+                + "<version>2.15.2</version><packaging>bundle</packaging>"
+                + "<dependencies><dependency><groupId>broken");
+
+        PomHeader header = reader.readHeader(pom);
+
+        assertEquals("com.fasterxml.jackson.core:jackson-annotations:2.15.2", header.coordinatesKey());
+        assertEquals("bundle", header.getPackaging());
+    }
+
+    /**
+     * Verifies that broken and missing files surface as checked exceptions.
+     */
+    @Test
+    @DisplayName("Reports malformed files through checked exceptions")
+    void reportsMalformedFiles() throws Exception {
+        Path pom = write("broken.pom", "<project><artifactId>x</project>");
+
+        assertThrows(XmlPullParserException.class, () -> reader.read(pom));
+        assertThrows(IOException.class, () -> reader.readHeader(pom));
+        assertThrows(IOException.class, () -> reader.read(tempDir.resolve("missing.pom")));
+    }
+
+    /**
+     * Verifies that concurrent reads do not share parser or buffer state.
+     */
+    @Test
+    @DisplayName("Is safe to use from several threads")
+    void isThreadSafe() throws Exception {
+        List<Path> poms = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            poms.add(write("lib" + i + ".pom", pom("g", "lib" + i, "1", "")));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (Path pom : poms) {
+                tasks.add(() -> reader.read(pom).getArtifactId());
+            }
+            List<Future<String>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("lib" + i, results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+
+    private static String pom(String groupId, String artifactId, String version, String body) {
+        return "<project><modelVersion>4.0.0</modelVersion>"
+                + "<groupId>" + groupId + "</groupId>"
+                + "<artifactId>" + artifactId + "</artifactId>"
+                + "<version>" + version + "</version>"
+                + body + "</project>";
+    }
+}
@@ -26,6 +26,7 @@ val initScriptName = "${project.name}.gradle"
 dependencies {
     compileOnly(gradleApi())
     implementation(project(":xgradle-sbom-generator"))
+    implementation(project(":xgradle-pom-core"))
     implementation(libs.bundles.maven.tooling)
     implementation(libs.guice)
     runtimeOnly(libs.plexus.utils)
@@ -36,6 +37,7 @@ dependencies {
     testRuntimeOnly(libs.bundles.testing.platform)
 
     shadow(project(":xgradle-sbom-generator"))
+    shadow(project(":xgradle-pom-core"))
     shadow(libs.gson)
     shadow(libs.bundles.maven.tooling)
     shadow(libs.plexus.utils)
@@ -17,6 +17,7 @@
 package org.altlinux.xgradle.impl.collectors;
 
 import com.google.inject.AbstractModule;
+import org.altlinux.xgradle.impl.files.FilesModule;
 import org.altlinux.xgradle.interfaces.collectors.ConfigurationInfoCollector;
 import org.altlinux.xgradle.interfaces.collectors.DependencyCollector;
 import org.altlinux.xgradle.interfaces.collectors.PomFilesCollector;
@@ -30,6 +31,8 @@ public final class CollectorsModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new FilesModule());
+
         bind(DependencyCollector.class).to(DefaultDependencyCollector.class);
         bind(ConfigurationInfoCollector.class).to(DefaultConfigurationInfoCollector.class);
         bind(PomFilesCollector.class).to(DefaultPomFilesCollector.class);
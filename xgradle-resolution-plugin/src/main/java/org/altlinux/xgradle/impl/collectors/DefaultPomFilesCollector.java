@@ -18,7 +18,9 @@ package org.altlinux.xgradle.impl.collectors;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import org.altlinux.xgradle.impl.files.WalkOptions;
 import org.altlinux.xgradle.interfaces.collectors.PomFilesCollector;
+import org.altlinux.xgradle.interfaces.files.FileWalker;
 import org.gradle.api.logging.Logger;
 
 import java.io.IOException;
@@ -26,9 +28,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 /**
  * Collector for POM Files.
+ * Version control and hidden directories are not descended into.
  * Implements {@link PomFilesCollector}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -39,11 +41,22 @@ final class DefaultPomFilesCollector implements PomFilesCollector {
 
     private static final int MAX_SEARCH_DEPTH = 10;
 
+    private final FileWalker fileWalker;
     private final Logger logger;
+    private final WalkOptions walkOptions;
 
     @Inject
-    DefaultPomFilesCollector(Logger logger) {
+    DefaultPomFilesCollector(FileWalker fileWalker, Logger logger) {
+        this.fileWalker = fileWalker;
         this.logger = logger;
+        this.walkOptions = WalkOptions.builder()
+                .maxDepth(MAX_SEARCH_DEPTH)
+                .fileSuffix(".pom")
+                .pruneDirectories(".git", ".svn", ".hg")
+                .pruneHiddenDirectories()
+                .includeLinkedFiles()
+                .onFailure((directory, e) -> logger.warn("Cannot list POM directory {}: {}", directory, e.getMessage()))
+                .build();
     }
 
     @Override
@@ -55,13 +68,8 @@ final class DefaultPomFilesCollector implements PomFilesCollector {
             return pomPaths;
         }
 
-        try (Stream<Path> stream = Files.walk(rootDirectory, MAX_SEARCH_DEPTH)) {
-            stream.filter(Files::isRegularFile)
-                    .filter(p -> {
-                        String s = p.toString();
-                        return s.endsWith(".pom");
-                    })
-                    .forEach(pomPaths::add);
+        try {
+            pomPaths.addAll(fileWalker.walk(rootDirectory, walkOptions));
         } catch (IOException e) {
             logger.lifecycle("Error while scanning POM directory {}: {}", rootDirectory, e.getMessage());
         }
@@ -22,6 +22,7 @@ import org.altlinux.xgradle.impl.model.MavenCoordinate;
 import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.impl.models.SbomLicense;
 import org.altlinux.xgradle.interfaces.collectors.SbomComponentCollector;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
 import org.altlinux.xgradle.interfaces.resolution.ResolvedArtifactsRegistry;
 import org.altlinux.xgradle.interfaces.services.PomMetadata;
 import org.altlinux.xgradle.interfaces.services.PomMetadataLicense;
@@ -33,14 +34,22 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Collects SBOM components from resolved Maven coordinates and resolved JAR files.
+ * POM metadata for distinct POM files is read in parallel before components are assembled in order.
+ * Resolved JARs that carry Maven metadata are reported by their packaged coordinates,
+ * so they merge with the matching Maven components instead of appearing as bare files.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
@@ -48,10 +57,15 @@ import java.util.stream.Collectors;
 public final class DefaultSbomComponentCollector implements SbomComponentCollector {
 
     private final PomMetadataReader pomMetadataReader;
+    private final JarCoordinatesIndex jarCoordinatesIndex;
 
     @Inject
-    public DefaultSbomComponentCollector(PomMetadataReader pomMetadataReader) {
+    public DefaultSbomComponentCollector(
+            PomMetadataReader pomMetadataReader,
+            JarCoordinatesIndex jarCoordinatesIndex
+    ) {
         this.pomMetadataReader = pomMetadataReader;
+        this.jarCoordinatesIndex = jarCoordinatesIndex;
     }
 
     @Override
@@ -59,12 +73,34 @@ public final class DefaultSbomComponentCollector implements SbomComponentCollect
             Project rootProject,
             Collection<MavenCoordinate> artifacts,
             Collection<MavenCoordinate> pluginArtifacts
+    ) {
+        return appendResolvedJars(rootProject, collectMavenComponents(artifacts, pluginArtifacts));
+    }
+
+    @Override
+    public List<SbomComponent> collectMavenComponents(
+            Collection<MavenCoordinate> artifacts,
+            Collection<MavenCoordinate> pluginArtifacts
     ) {
         LinkedHashMap<String, SbomComponent> components = new LinkedHashMap<>();
-        Map<Path, PomMetadata> metadataByPomPath = new LinkedHashMap<>();
+        Map<Path, PomMetadata> metadataByPomPath = readPomMetadata(artifacts, pluginArtifacts);
 
         appendLibraryComponents(artifacts, components, metadataByPomPath);
         appendPluginComponents(pluginArtifacts, components, metadataByPomPath);
+
+        return new ArrayList<>(components.values());
+    }
+
+    @Override
+    public List<SbomComponent> appendResolvedJars(
+            Project rootProject,
+            List<SbomComponent> mavenComponents
+    ) {
+        LinkedHashMap<String, SbomComponent> components = new LinkedHashMap<>();
+        if (mavenComponents != null) {
+            mavenComponents.forEach(component -> components.put(component.uniqueKey(), component));
+        }
+
         appendResolvedJarComponents(rootProject, components);
 
         return new ArrayList<>(components.values());
@@ -83,7 +119,7 @@ public final class DefaultSbomComponentCollector implements SbomComponentCollect
                 .filter(this::isEligibleCoordinate)
                 .filter(coordinate -> !components.containsKey(uniqueKey(coordinate)))
                 .forEach(coordinate -> {
-                    PomMetadata metadata = readPomMetadata(coordinate, metadataByPomPath);
+                    PomMetadata metadata = metadataFor(coordinate, metadataByPomPath);
                     SbomComponent component = SbomComponent.maven(
                             coordinate.getGroupId(),
                             coordinate.getArtifactId(),
@@ -108,7 +144,7 @@ public final class DefaultSbomComponentCollector implements SbomComponentCollect
         artifacts.stream()
                 .filter(this::isEligibleCoordinate)
                 .forEach(coordinate -> {
-                    PomMetadata metadata = readPomMetadata(coordinate, metadataByPomPath);
+                    PomMetadata metadata = metadataFor(coordinate, metadataByPomPath);
                     SbomComponent component = SbomComponent.mavenPlugin(
                             coordinate.getGroupId(),
                             coordinate.getArtifactId(),
@@ -130,12 +166,36 @@ public final class DefaultSbomComponentCollector implements SbomComponentCollect
             return;
         }
 
-        resolvedJars.stream()
+        List<Path> jars = resolvedJars.stream()
                 .filter(jar -> jar != null && jar.isFile())
-                .forEach(jar -> {
-                    SbomComponent component = SbomComponent.file(jar.getName());
-                    components.putIfAbsent(component.uniqueKey(), component);
-                });
+                .map(File::toPath)
+                .collect(Collectors.toList());
+        Map<Path, List<MavenCoordinate>> packagedCoordinates = jarCoordinatesIndex.getCoordinates(jars);
+
+        jars.forEach(jar -> {
+            MavenCoordinate packaged = selectPackagedCoordinate(
+                    jar, packagedCoordinates.getOrDefault(jar, List.of()));
+            SbomComponent component = packaged != null
+                    ? SbomComponent.maven(packaged.getGroupId(), packaged.getArtifactId(), packaged.getVersion())
+                    : SbomComponent.file(jar.getFileName().toString());
+            components.putIfAbsent(component.uniqueKey(), component);
+        });
+    }
+
+    /**
+     * Picks the coordinates describing the JAR itself. A JAR that bundles several
+     * artifacts is only attributed to one of them if its file name names it.
+     */
+    private MavenCoordinate selectPackagedCoordinate(Path jar, List<MavenCoordinate> packaged) {
+        if (packaged.size() == 1) {
+            return packaged.get(0);
+        }
+        String fileName = jar.getFileName().toString();
+        return packaged.stream()
+                .filter(coordinate -> fileName.equals(coordinate.getArtifactId() + ".jar")
+                        || fileName.startsWith(coordinate.getArtifactId() + "-"))
+                .max(Comparator.comparingInt(coordinate -> coordinate.getArtifactId().length()))
+                .orElse(null);
     }
 
     private boolean isEligibleCoordinate(MavenCoordinate coordinate) {
@@ -159,7 +219,27 @@ public final class DefaultSbomComponentCollector implements SbomComponentCollect
                 + (version != null ? version : "");
     }
 
-    private PomMetadata readPomMetadata(
+    private Map<Path, PomMetadata> readPomMetadata(
+            Collection<MavenCoordinate> artifacts,
+            Collection<MavenCoordinate> pluginArtifacts
+    ) {
+        Set<Path> pomPaths = Stream.of(artifacts, pluginArtifacts)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .filter(this::isEligibleCoordinate)
+                .map(MavenCoordinate::getPomPath)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Path, PomMetadata> metadataByPomPath = new ConcurrentHashMap<>();
+        pomPaths.parallelStream().forEach(pomPath -> {
+            PomMetadata metadata = pomMetadataReader.read(pomPath);
+            metadataByPomPath.put(pomPath, metadata != null ? metadata : PomMetadata.empty());
+        });
+        return metadataByPomPath;
+    }
+
+    private PomMetadata metadataFor(
             MavenCoordinate coordinate,
             Map<Path, PomMetadata> metadataByPomPath
     ) {
@@ -167,16 +247,7 @@ public final class DefaultSbomComponentCollector implements SbomComponentCollect
         if (pomPath == null) {
             return PomMetadata.empty();
         }
-
-        PomMetadata cached = metadataByPomPath.get(pomPath);
-        if (cached != null) {
-            return cached;
-        }
-
-        PomMetadata metadata = pomMetadataReader.read(pomPath);
-        PomMetadata normalized = metadata != null ? metadata : PomMetadata.empty();
-        metadataByPomPath.put(pomPath, normalized);
-        return normalized;
+        return metadataByPomPath.getOrDefault(pomPath, PomMetadata.empty());
     }
 
     private List<SbomLicense> toSbomLicenses(List<PomMetadataLicense> metadataLicenses) {
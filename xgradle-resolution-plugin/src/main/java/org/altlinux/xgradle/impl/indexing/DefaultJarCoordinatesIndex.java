@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.indexing;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.model.MavenCoordinate;
+import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
+
+import org.gradle.api.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link JarCoordinatesIndex}.
+ * <p>JARs are read with {@link ZipCentralDirectory}. Results are kept by path together
+ * with the size and modification time of the JAR, and stored in
+ * {@code jar-coordinates.tsv} below {@code xgradle.cache.dir} (by default
+ * {@code ~/.xgradle/cache}), so later builds only read JARs that were added or changed.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultJarCoordinatesIndex implements JarCoordinatesIndex {
+
+    private static final String CACHE_DIR_KEY = "xgradle.cache.dir";
+    private static final String CACHE_FILE = "jar-coordinates.tsv";
+    private static final String CACHE_HEADER = "# xgradle jar coordinates v1";
+
+    private final Logger logger;
+    private final Map<Path, IndexedJar> indexedJars = new ConcurrentHashMap<>();
+    private final AtomicBoolean loaded = new AtomicBoolean();
+
+    @Inject
+    DefaultJarCoordinatesIndex(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public Map<Path, List<MavenCoordinate>> getCoordinates(Collection<Path> jars) {
+        if (jars == null || jars.isEmpty()) {
+            return Map.of();
+        }
+        load();
+
+        Map<Path, List<MavenCoordinate>> coordinates = new ConcurrentHashMap<>();
+        AtomicBoolean changed = new AtomicBoolean();
+        jars.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList())
+                .parallelStream()
+                .forEach(jar -> {
+                    Path key = jar.toAbsolutePath().normalize();
+                    IndexedJar indexed = lookup(key);
+                    if (indexed == null) {
+                        return;
+                    }
+                    if (indexed.coordinates == null) {
+                        indexed = index(key, indexed.size, indexed.lastModified);
+                        indexedJars.put(key, indexed);
+                        changed.set(true);
+                    }
+                    coordinates.put(jar, indexed.coordinates);
+                });
+
+        if (changed.get()) {
+            save();
+        }
+
+        Map<Path, List<MavenCoordinate>> ordered = new LinkedHashMap<>();
+        jars.stream()
+                .filter(coordinates::containsKey)
+                .forEach(jar -> ordered.put(jar, coordinates.get(jar)));
+        return ordered;
+    }
+
+    /**
+     * Returns the cached entry of a JAR if it is still current, an entry without coordinates
+     * carrying the current size and modification time if it must be read, or {@code null}
+     * if the JAR does not exist.
+     */
+    private IndexedJar lookup(Path jar) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        } catch (IOException e) {
+            if (indexedJars.remove(jar) != null) {
+                logger.debug("Dropping missing jar {} from the coordinates index", jar);
+            }
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        IndexedJar indexed = indexedJars.get(jar);
+        if (indexed != null && indexed.size == size && indexed.lastModified == lastModified) {
+            return indexed;
+        }
+        return new IndexedJar(size, lastModified, null);
+    }
+
+    private IndexedJar index(Path jar, long size, long lastModified) {
+        List<MavenCoordinate> coordinates;
+        try {
+            coordinates = List.copyOf(ZipCentralDirectory.readCoordinates(jar));
+        } catch (IOException e) {
+            logger.debug("Cannot read Maven metadata from {}: {}", jar, e.getMessage());
+            coordinates = List.of();
+        }
+        return new IndexedJar(size, lastModified, coordinates);
+    }
+
+    private void load() {
+        if (!loaded.compareAndSet(false, true)) {
+            return;
+        }
+        Path cacheFile = getCacheFile();
+        if (cacheFile == null) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            if (!CACHE_HEADER.equals(reader.readLine())) {
+                return;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseLine(line);
+            }
+            logger.info("Loaded {} indexed jars from {}", indexedJars.size(), cacheFile);
+        } catch (NoSuchFileException e) {
+            logger.debug("No jar coordinates cache at {}", cacheFile);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable jar coordinates cache {}: {}", cacheFile, e.getMessage());
+            indexedJars.clear();
+        }
+    }
+
+    private void parseLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 4) {
+            return;
+        }
+        List<MavenCoordinate> coordinates = new ArrayList<>();
+        if (!fields[3].isEmpty()) {
+            for (String gav : fields[3].split(",")) {
+                String[] parts = gav.split(":");
+                if (parts.length == 3) {
+                    coordinates.add(MavenCoordinate.builder()
+                            .groupId(parts[0])
+                            .artifactId(parts[1])
+                            .version(parts[2])
+                            .packaging("jar")
+                            .build());
+                }
+            }
+        }
+        indexedJars.put(Path.of(fields[0]), new IndexedJar(
+                Long.parseLong(fields[1]),
+                Long.parseLong(fields[2]),
+                Collections.unmodifiableList(coordinates)
+        ));
+    }
+
+    /**
+     * Writes the index under a temporary name and renames it into place,
+     * so concurrent builds never read a partially written file.
+     */
+    private synchronized void save() {
+        Path cacheFile = getCacheFile();
+        if (cacheFile == null) {
+            return;
+        }
+
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            tempFile = Files.createTempFile(cacheFile.getParent(), CACHE_FILE + ".", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(CACHE_HEADER);
+                writer.newLine();
+                for (Map.Entry<Path, IndexedJar> entry : new ArrayList<>(indexedJars.entrySet())) {
+                    String path = entry.getKey().toString();
+                    if (path.indexOf('\t') >= 0 || path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0) {
+                        continue;
+                    }
+                    IndexedJar indexed = entry.getValue();
+                    writer.write(path + '\t' + indexed.size + '\t' + indexed.lastModified + '\t'
+                            + indexed.coordinates.stream()
+                                    .map(c -> c.getGroupId() + ":" + c.getArtifactId() + ":" + c.getVersion())
+                                    .collect(Collectors.joining(",")));
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Cannot write jar coordinates cache {}: {}", cacheFile, e.getMessage());
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private Path getCacheFile() {
+        String configured = XGradleConfig.getProperty(CACHE_DIR_KEY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured.trim(), CACHE_FILE).toAbsolutePath().normalize();
+        }
+        String home = System.getProperty("user.home");
+        if (home == null || home.isBlank()) {
+            return null;
+        }
+        return Path.of(home, ".xgradle", "cache", CACHE_FILE).toAbsolutePath().normalize();
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Coordinates of one JAR together with the attributes they were read for.
+     */
+    private static final class IndexedJar {
+
+        private final long size;
+        private final long lastModified;
+        private final List<MavenCoordinate> coordinates;
+
+        private IndexedJar(long size, long lastModified, List<MavenCoordinate> coordinates) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.coordinates = coordinates;
+        }
+    }
+}
@@ -26,9 +26,13 @@ import org.gradle.api.logging.Logger;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 /**
  * Index for POM.
+ * The index can be built in the background with {@link #buildAsync(Path)};
+ * lookups then block only until that build has finished. A rebuild from the
+ * same POM files as the current index is skipped.
  * Implements {@link PomIndex}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -41,8 +45,13 @@ final class DefaultPomIndex implements PomIndex {
     private final PomParser pomParser;
     private final Logger logger;
 
+    private final Object buildAsyncLock = new Object();
+
     private volatile Map<String, MavenCoordinate> byGa = new LinkedHashMap<>();
     private volatile Map<String, List<MavenCoordinate>> byGroup = new LinkedHashMap<>();
+    private volatile CompletableFuture<Void> pendingBuild = CompletableFuture.completedFuture(null);
+    private Path asyncRootDirectory;
+    private Set<Path> builtFrom;
 
     @Inject
     DefaultPomIndex(PomFilesCollector pomFilesCollector, PomParser pomParser, Logger logger) {
@@ -52,13 +61,56 @@ final class DefaultPomIndex implements PomIndex {
     }
 
     @Override
-    public synchronized void build(Path rootDirectory) {
+    public void build(Path rootDirectory) {
+        Path pendingRootDirectory;
+        synchronized (buildAsyncLock) {
+            pendingRootDirectory = asyncRootDirectory;
+        }
+        if (rootDirectory.equals(pendingRootDirectory)) {
+            awaitPendingBuild();
+            return;
+        }
         List<Path> files = pomFilesCollector.collect(rootDirectory);
         build(files);
     }
 
     @Override
-    public synchronized void build(List<Path> pomFiles) {
+    public void buildAsync(Path rootDirectory) {
+        synchronized (buildAsyncLock) {
+            if (rootDirectory.equals(asyncRootDirectory)) {
+                return;
+            }
+            asyncRootDirectory = rootDirectory;
+            CompletableFuture<Void> build = new CompletableFuture<>();
+            pendingBuild = build;
+
+            Thread thread = new Thread(() -> {
+                try {
+                    buildNow(pomFilesCollector.collect(rootDirectory));
+                } catch (RuntimeException e) {
+                    logger.lifecycle("Failed to build POM index from {}: {}", rootDirectory, e.getMessage());
+                } finally {
+                    build.complete(null);
+                }
+            }, "xgradle-pom-index");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void build(List<Path> pomFiles) {
+        awaitPendingBuild();
+        buildNow(pomFiles);
+    }
+
+    private synchronized void buildNow(List<Path> pomFiles) {
+        Set<Path> files = new HashSet<>(pomFiles);
+        if (files.equals(builtFrom)) {
+            logger.info("POM index is up to date: {} files", files.size());
+            return;
+        }
+
         Map<String, MavenCoordinate> newByGa = new LinkedHashMap<>();
         Map<String, List<MavenCoordinate>> newByGroup = new LinkedHashMap<>();
 
@@ -84,25 +136,33 @@ final class DefaultPomIndex implements PomIndex {
 
         byGa = newByGa;
         byGroup = newByGroup;
+        builtFrom = files;
 
         logger.lifecycle("POM index built: {} artifacts, {} groups", byGa.size(), byGroup.size());
     }
 
     @Override
     public Optional<MavenCoordinate> find(String groupId, String artifactId) {
+        awaitPendingBuild();
         return Optional.ofNullable(byGa.get(groupId + ":" + artifactId));
     }
 
     @Override
     public List<MavenCoordinate> findAllForGroup(String groupId) {
+        awaitPendingBuild();
         return byGroup.getOrDefault(groupId, List.of());
     }
 
     @Override
     public Map<String, MavenCoordinate> snapshot() {
+        awaitPendingBuild();
         return Collections.unmodifiableMap(byGa);
     }
 
+    private void awaitPendingBuild() {
+        pendingBuild.join();
+    }
+
     private boolean isNewer(String leftVersion, String rightVersion) {
         return compareVersions(leftVersion, rightVersion) > 0;
     }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.indexing;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.impl.files.WalkOptions;
+import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
+import org.altlinux.xgradle.interfaces.files.FileWalker;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
+
+import org.gradle.api.logging.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Default implementation of {@link SystemJarIndex}.
+ * <p>The system jars directories are walked once up to {@code xgradle.scan.depth}
+ * with the shared {@link FileWalker}, following linked JARs and directories.
+ * The indexed JARs are linked into one directory below {@code xgradle.repository.dir}
+ * (by default {@code ~/.xgradle/repository}), named after a digest of its content, so
+ * a flat directory repository probes a single directory for every module instead of
+ * every scanned subdirectory. A directory with the same content is reused by later builds.
+ * <p>Every use touches the directory. Directories no build used for 30 days, left behind when
+ * the installed JARs changed, are deleted together with temporary directories of interrupted builds.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultSystemJarIndex implements SystemJarIndex {
+
+    private static final String SCAN_DEPTH_KEY = "xgradle.scan.depth";
+    private static final int DEFAULT_SCAN_DEPTH = 3;
+    private static final String REPOSITORY_DIR_KEY = "xgradle.repository.dir";
+    private static final String JAR_SUFFIX = ".jar";
+    private static final Duration UNUSED_REPOSITORY_DIR_AGE = Duration.ofDays(30);
+    private static final Duration STALE_TEMP_DIR_AGE = Duration.ofHours(1);
+    private static final Pattern REPOSITORY_DIR_NAME = Pattern.compile("[0-9a-f]{32}");
+    private static final Pattern TEMP_DIR_NAME = Pattern.compile("[0-9a-f]{32}\\..+");
+    private static final Comparator<Path> SEARCH_ORDER =
+            Comparator.<Path>comparingInt(Path::getNameCount).thenComparing(Comparator.naturalOrder());
+
+    private final FileWalker fileWalker;
+    private final Logger logger;
+    private final Map<List<Path>, Map<String, Path>> jarsByBaseDirs = new ConcurrentHashMap<>();
+    private final Map<List<Path>, List<File>> repositoryDirsByBaseDirs = new ConcurrentHashMap<>();
+
+    @Inject
+    DefaultSystemJarIndex(FileWalker fileWalker, Logger logger) {
+        this.fileWalker = fileWalker;
+        this.logger = logger;
+    }
+
+    @Override
+    public Map<String, Path> getJars(List<File> baseDirs) {
+        return jarsByBaseDirs.computeIfAbsent(toKey(baseDirs), this::scan);
+    }
+
+    @Override
+    public List<File> getRepositoryDirs(List<File> baseDirs) {
+        return repositoryDirsByBaseDirs.computeIfAbsent(toKey(baseDirs), key -> {
+            Map<String, Path> jars = jarsByBaseDirs.computeIfAbsent(key, this::scan);
+            Path repositoryRoot = getRepositoryRoot();
+            if (repositoryRoot != null) {
+                try {
+                    Path viewDir = link(repositoryRoot, jars);
+                    pruneRepositoryRoot(repositoryRoot, viewDir);
+                    return List.of(viewDir.toFile());
+                } catch (IOException | UnsupportedOperationException e) {
+                    logger.warn("Cannot create system repository directory in {}: {}", repositoryRoot, e.getMessage());
+                }
+            }
+            return jars.values().stream()
+                    .map(Path::getParent)
+                    .distinct()
+                    .map(Path::toFile)
+                    .collect(Collectors.toUnmodifiableList());
+        });
+    }
+
+    @Override
+    public File toSystemFile(File file) {
+        Path repositoryRoot = getRepositoryRoot();
+        if (file == null || repositoryRoot == null) {
+            return file;
+        }
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Path viewDir = path.getParent();
+        if (viewDir == null || !repositoryRoot.equals(viewDir.getParent()) || !Files.isSymbolicLink(path)) {
+            return file;
+        }
+        try {
+            return Files.readSymbolicLink(path).toFile();
+        } catch (IOException e) {
+            return file;
+        }
+    }
+
+    private List<Path> toKey(List<File> baseDirs) {
+        if (baseDirs == null) {
+            return List.of();
+        }
+        return baseDirs.stream()
+                .map(dir -> dir.toPath().toAbsolutePath().normalize())
+                .distinct()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Collects the JARs of every root in order. Within a root, JARs in shallower
+     * directories come first, so the file a flat directory repository would find
+     * first wins; JARs at the same depth are ordered by path.
+     */
+    private Map<String, Path> scan(List<Path> roots) {
+        int scanDepth = XGradleConfig.getIntProperty(SCAN_DEPTH_KEY, DEFAULT_SCAN_DEPTH);
+        WalkOptions options = WalkOptions.builder()
+                .maxDepth(scanDepth + 1)
+                .fileSuffix(JAR_SUFFIX)
+                .pruneHiddenDirectories()
+                .includeLinkedFiles()
+                .followLinkedDirectories()
+                .onFailure((directory, e) -> logger.warn("Cannot list system jars directory {}: {}",
+                        directory, e.getMessage()))
+                .build();
+
+        Map<String, Path> jars = new LinkedHashMap<>();
+        for (Path root : roots) {
+            try {
+                fileWalker.walk(root, options).stream()
+                        .sorted(SEARCH_ORDER)
+                        .forEach(jar -> jars.putIfAbsent(jar.getFileName().toString(), jar));
+            } catch (IOException e) {
+                logger.error("Directory scan error: {}", e.getMessage());
+            }
+        }
+        logger.info("Indexed {} system jars", jars.size());
+        return Collections.unmodifiableMap(jars);
+    }
+
+    private Path getRepositoryRoot() {
+        String configured = XGradleConfig.getProperty(REPOSITORY_DIR_KEY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured.trim()).toAbsolutePath().normalize();
+        }
+        String home = System.getProperty("user.home");
+        if (home == null || home.isBlank()) {
+            return null;
+        }
+        return Path.of(home, ".xgradle", "repository").toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns a directory linking every JAR under its indexed file name.
+     * The directory is filled under a temporary name and renamed into place,
+     * so concurrent builds either create it or reuse a complete one.
+     */
+    private Path link(Path repositoryRoot, Map<String, Path> jars) throws IOException {
+        Path viewDir = repositoryRoot.resolve(digest(jars));
+        if (Files.isDirectory(viewDir)) {
+            Files.setLastModifiedTime(viewDir, FileTime.from(Instant.now()));
+            return viewDir;
+        }
+
+        Files.createDirectories(repositoryRoot);
+        Path tempDir = Files.createTempDirectory(repositoryRoot, viewDir.getFileName() + ".");
+        try {
+            for (Map.Entry<String, Path> jar : jars.entrySet()) {
+                Files.createSymbolicLink(tempDir.resolve(jar.getKey()), jar.getValue().toAbsolutePath());
+            }
+            Files.move(tempDir, viewDir, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Created system repository directory {} with {} jars", viewDir, jars.size());
+        } catch (FileAlreadyExistsException e) {
+            logger.debug("System repository directory {} was created concurrently", viewDir);
+        } catch (IOException e) {
+            if (!Files.isDirectory(viewDir)) {
+                throw e;
+            }
+        } finally {
+            deleteQuietly(tempDir);
+        }
+        return viewDir;
+    }
+
+    /**
+     * Deletes repository directories that no build used for {@link #UNUSED_REPOSITORY_DIR_AGE}
+     * and temporary directories old enough to belong to interrupted builds. Every build touches
+     * the directory it uses, so a directory in use by a concurrent build is never deleted.
+     */
+    private void pruneRepositoryRoot(Path repositoryRoot, Path currentDir) {
+        Instant now = Instant.now();
+        List<Path> stale;
+        try (Stream<Path> entries = Files.list(repositoryRoot)) {
+            stale = entries
+                    .filter(dir -> !dir.equals(currentDir))
+                    .filter(dir -> isStale(dir, REPOSITORY_DIR_NAME, now.minus(UNUSED_REPOSITORY_DIR_AGE))
+                            || isStale(dir, TEMP_DIR_NAME, now.minus(STALE_TEMP_DIR_AGE)))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.debug("Cannot list system repository directories in {}: {}", repositoryRoot, e.getMessage());
+            return;
+        }
+
+        for (Path dir : stale) {
+            logger.info("Deleting unused system repository directory {}", dir);
+            deleteQuietly(dir);
+        }
+    }
+
+    private static boolean isStale(Path dir, Pattern name, Instant staleBefore) {
+        if (!name.matcher(dir.getFileName().toString()).matches()) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(dir, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            return attributes.isDirectory() && attributes.lastModifiedTime().toInstant().isBefore(staleBefore);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String digest(Map<String, Path> jars) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        jars.forEach((name, jar) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(jar.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        });
+        StringBuilder hex = new StringBuilder();
+        byte[] hash = digest.digest();
+        for (int i = 0; i < 16; i++) {
+            hex.append(String.format("%02x", hash[i]));
+        }
+        return hex.toString();
+    }
+
+    private void deleteQuietly(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> entries = Files.walk(dir)) {
+            List<Path> paths = entries.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -17,8 +17,11 @@
 package org.altlinux.xgradle.impl.indexing;
 
 import com.google.inject.AbstractModule;
+import org.altlinux.xgradle.impl.files.FilesModule;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
 import org.altlinux.xgradle.interfaces.indexing.PomIndex;
 import org.altlinux.xgradle.interfaces.indexing.PomIndexBuilder;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 /**
  * Guice module for Indexing bindings.
  *
@@ -29,7 +32,11 @@ public final class IndexingModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new FilesModule());
+
         bind(PomIndex.class).to(DefaultPomIndex.class);
         bind(PomIndexBuilder.class).to(DefaultPomIndexBuilder.class);
+        bind(SystemJarIndex.class).to(DefaultSystemJarIndex.class);
+        bind(JarCoordinatesIndex.class).to(DefaultJarCoordinatesIndex.class);
     }
 }
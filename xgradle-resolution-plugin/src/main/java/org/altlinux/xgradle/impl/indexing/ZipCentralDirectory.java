@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.indexing;
+
+import org.altlinux.xgradle.impl.model.MavenCoordinate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the Maven coordinates packaged in a JAR from its zip central directory.
+ * <p>Only the end of the file and the central directory are read, with positional
+ * channel reads into heap buffers, so scanning thousands of JARs leaves no mappings
+ * behind. Entry data is never touched except for the {@code pom.properties} entries,
+ * which are a few hundred bytes each. Both plain and zip64 archives are supported.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class ZipCentralDirectory {
+
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int ENTRY_SIGNATURE = 0x02014b50;
+    private static final int ENTRY_SIZE = 46;
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_SIZE = 30;
+    private static final long UNSIGNED_INT = 0xFFFFFFFFL;
+    private static final int MAX_PROPERTIES_SIZE = 64 * 1024;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private static final byte[] MAVEN_PREFIX = "META-INF/maven/".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PROPERTIES_SUFFIX = "/pom.properties".getBytes(StandardCharsets.UTF_8);
+
+    private ZipCentralDirectory() {
+    }
+
+    /**
+     * Returns the coordinates of every {@code META-INF/maven/*}{@code /*}{@code /pom.properties} entry.
+     *
+     * @param jar JAR file
+     *
+     * @return packaged coordinates, in central directory order
+     *
+     * @throws IOException if the file cannot be read or is not a zip archive
+     */
+    static List<MavenCoordinate> readCoordinates(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < END_SIZE) {
+                throw new ZipException("Not a zip archive: " + jar);
+            }
+
+            int tailSize = (int) Math.min(size, END_SIZE + MAX_COMMENT_SIZE);
+            long tailOffset = size - tailSize;
+            ByteBuffer tail = read(channel, tailOffset, tailSize);
+            int end = findEnd(tail);
+            if (end < 0) {
+                throw new ZipException("No central directory in " + jar);
+            }
+
+            long directorySize = tail.getInt(end + 12) & UNSIGNED_INT;
+            long directoryOffset = tail.getInt(end + 16) & UNSIGNED_INT;
+            if (directorySize == UNSIGNED_INT || directoryOffset == UNSIGNED_INT) {
+                long[] zip64 = readZip64End(channel, tail, end, tailOffset);
+                directorySize = zip64[0];
+                directoryOffset = zip64[1];
+            }
+            if (directoryOffset < 0 || directorySize < 0 || directoryOffset + directorySize > size
+                    || directorySize > Integer.MAX_VALUE) {
+                throw new ZipException("Invalid central directory in " + jar);
+            }
+
+            ByteBuffer directory = read(channel, directoryOffset, (int) directorySize);
+            List<MavenCoordinate> coordinates = new ArrayList<>();
+            int position = 0;
+            while (position + ENTRY_SIZE <= directory.limit() && directory.getInt(position) == ENTRY_SIGNATURE) {
+                int nameLength = directory.getShort(position + 28) & 0xFFFF;
+                int extraLength = directory.getShort(position + 30) & 0xFFFF;
+                int commentLength = directory.getShort(position + 32) & 0xFFFF;
+                int nameStart = position + ENTRY_SIZE;
+                if (nameStart + nameLength > directory.limit()) {
+                    throw new ZipException("Truncated central directory in " + jar);
+                }
+
+                if (isPomProperties(directory, nameStart, nameLength)) {
+                    MavenCoordinate coordinate = toCoordinate(readEntry(channel, directory, position));
+                    if (coordinate != null) {
+                        coordinates.add(coordinate);
+                    }
+                }
+                position = nameStart + nameLength + extraLength + commentLength;
+            }
+            return coordinates;
+        }
+    }
+
+    private static int findEnd(ByteBuffer tail) {
+        for (int position = tail.limit() - END_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_SIGNATURE) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] readZip64End(FileChannel channel, ByteBuffer tail, int end, long tailOffset)
+            throws IOException {
+        int locator = end - ZIP64_LOCATOR_SIZE;
+        if (locator < 0 || tail.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+            throw new ZipException("Missing zip64 end of central directory locator");
+        }
+        long zip64EndOffset = tail.getLong(locator + 8);
+        if (zip64EndOffset < 0 || zip64EndOffset + ZIP64_END_SIZE > tailOffset + end) {
+            throw new ZipException("Invalid zip64 end of central directory offset");
+        }
+        ByteBuffer zip64End = read(channel, zip64EndOffset, ZIP64_END_SIZE);
+        if (zip64End.getInt(0) != ZIP64_END_SIGNATURE) {
+            throw new ZipException("Invalid zip64 end of central directory");
+        }
+        return new long[] {zip64End.getLong(40), zip64End.getLong(48)};
+    }
+
+    private static boolean isPomProperties(ByteBuffer directory, int nameStart, int nameLength) {
+        if (nameLength <= MAVEN_PREFIX.length + PROPERTIES_SUFFIX.length) {
+            return false;
+        }
+        for (int i = 0; i < MAVEN_PREFIX.length; i++) {
+            if (directory.get(nameStart + i) != MAVEN_PREFIX[i]) {
+                return false;
+            }
+        }
+        int suffixStart = nameStart + nameLength - PROPERTIES_SUFFIX.length;
+        for (int i = 0; i < PROPERTIES_SUFFIX.length; i++) {
+            if (directory.get(suffixStart + i) != PROPERTIES_SUFFIX[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the data of one small entry through its local header.
+     */
+    private static byte[] readEntry(FileChannel channel, ByteBuffer directory, int position) throws IOException {
+        int method = directory.getShort(position + 10) & 0xFFFF;
+        long compressedSize = directory.getInt(position + 20) & UNSIGNED_INT;
+        long size = directory.getInt(position + 24) & UNSIGNED_INT;
+        long localOffset = directory.getInt(position + 42) & UNSIGNED_INT;
+        if (compressedSize > MAX_PROPERTIES_SIZE || size > MAX_PROPERTIES_SIZE || localOffset == UNSIGNED_INT) {
+            return null;
+        }
+
+        ByteBuffer local = read(channel, localOffset, LOCAL_SIZE);
+        if (local.getInt(0) != LOCAL_SIGNATURE) {
+            throw new ZipException("Invalid local header at " + localOffset);
+        }
+        long dataOffset = localOffset + LOCAL_SIZE + (local.getShort(26) & 0xFFFF) + (local.getShort(28) & 0xFFFF);
+        byte[] data = new byte[(int) compressedSize];
+        ByteBuffer buffer = read(channel, dataOffset, data.length);
+        buffer.get(data);
+
+        if (method == STORED) {
+            return data;
+        }
+        if (method != DEFLATED) {
+            return null;
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            // A raw inflater may need one byte past the end of the deflate stream.
+            inflater.setInput(Arrays.copyOf(data, data.length + 1));
+            byte[] content = new byte[(int) size];
+            int length = inflater.inflate(content);
+            return length == content.length ? content : null;
+        } catch (DataFormatException e) {
+            throw new ZipException("Corrupt entry at " + localOffset + ": " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new ZipException("Unexpected end of archive at " + offset);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static MavenCoordinate toCoordinate(byte[] content) throws IOException {
+        if (content == null) {
+            return null;
+        }
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(content));
+        MavenCoordinate coordinate = MavenCoordinate.builder()
+                .groupId(trim(properties.getProperty("groupId")))
+                .artifactId(trim(properties.getProperty("artifactId")))
+                .version(trim(properties.getProperty("version")))
+                .packaging("jar")
+                .build();
+        return coordinate.isValid() ? coordinate : null;
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+}
@@ -16,7 +16,7 @@
 package org.altlinux.xgradle.impl.managers;
 
 import com.google.inject.Inject;
-import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 import org.altlinux.xgradle.interfaces.managers.RepositoryManager;
 
 import org.gradle.api.GradleException;
@@ -26,30 +26,28 @@ import org.gradle.api.initialization.Settings;
 import org.gradle.api.logging.Logger;
 
 import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Manages the addition of system-level dependency repositories to a Gradle build.
+ * Both repositories search the directories provided by {@link SystemJarIndex},
+ * so the system jars directories are scanned once per build.
  * Implements {@link RepositoryManager}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
 final class DefaultRepositoryManager implements RepositoryManager {
 
-    private static final String SCAN_DEPTH_KEY = "xgradle.scan.depth";
-    private static final int DEFAULT_SCAN_DEPTH = 3;
+    private static final String PLUGINS_REPOSITORY_NAME = "SystemPluginsRepo";
+    private static final String DEPENDENCIES_REPOSITORY_NAME = "SystemDepsRepo";
 
+    private final SystemJarIndex systemJarIndex;
     private final Logger logger;
 
     @Inject
-    DefaultRepositoryManager(Logger logger) {
+    DefaultRepositoryManager(SystemJarIndex systemJarIndex, Logger logger) {
+        this.systemJarIndex = systemJarIndex;
         this.logger = logger;
     }
 
@@ -59,9 +57,9 @@ final class DefaultRepositoryManager implements RepositoryManager {
             logger.warn("No valid system jars directories for plugin repositories");
             return;
         }
-        List<File> dirs = scanDirectories(validDirs);
+        List<File> dirs = systemJarIndex.getRepositoryDirs(validDirs);
         settings.getPluginManagement().getRepositories().flatDir(repo -> {
-            repo.setName("SystemPluginsRepo");
+            repo.setName(PLUGINS_REPOSITORY_NAME);
             dirs.forEach(repo::dir);
             logger.info("Configured PluginManagement repository with {} directories", dirs.size());
         });
@@ -69,32 +67,15 @@ final class DefaultRepositoryManager implements RepositoryManager {
 
     public void configureDependenciesRepository(RepositoryHandler repos, List<File> baseDirs) {
         List<File> validDirs = requireValidDirectories(baseDirs);
+        if (repos.findByName(DEPENDENCIES_REPOSITORY_NAME) != null) {
+            return;
+        }
 
-        String repoName = "SystemDepsRepo" + UUID.randomUUID();
-        FlatDirectoryArtifactRepository flatRepo = createFlatRepository(repos, repoName, validDirs);
+        FlatDirectoryArtifactRepository flatRepo = createFlatRepository(repos, validDirs);
 
         repos.remove(flatRepo);
         repos.addFirst(flatRepo);
     }
-
-    private List<File> scanDirectories(List<File> baseDirs) {
-        LinkedHashSet<File> allDirs = new LinkedHashSet<>();
-        int scanDepth = XGradleConfig.getIntProperty(SCAN_DEPTH_KEY, DEFAULT_SCAN_DEPTH);
-        baseDirs.forEach(baseDir -> {
-            File root = baseDir.getAbsoluteFile();
-            Path basePath = root.toPath();
-            allDirs.add(root);
-            try (Stream<Path> pathStream = Files.walk(basePath, scanDepth)) {
-                pathStream.filter(Files::isDirectory)
-                        .filter(path -> !path.equals(basePath))
-                        .forEach(path -> allDirs.add(path.toFile()));
-            } catch (Exception e) {
-                logger.error("Directory scan error: {}", e.getMessage());
-            }
-        });
-        return new ArrayList<>(allDirs);
-    }
-
     private List<File> getValidDirectories(List<File> baseDirs) {
         if (baseDirs == null || baseDirs.isEmpty()) {
             return List.of();
@@ -124,12 +105,11 @@ final class DefaultRepositoryManager implements RepositoryManager {
 
     private FlatDirectoryArtifactRepository createFlatRepository(
             RepositoryHandler repos,
-            String repoName,
             List<File> baseDirs
     ) {
         return repos.flatDir(repo -> {
-            repo.setName(repoName);
-            List<File> allDirs = scanDirectories(baseDirs);
+            repo.setName(DEPENDENCIES_REPOSITORY_NAME);
+            List<File> allDirs = systemJarIndex.getRepositoryDirs(baseDirs);
             allDirs.forEach(repo::dir);
             logger.info("Configured DependencyManagement repository with {} directories", allDirs.size());
         });
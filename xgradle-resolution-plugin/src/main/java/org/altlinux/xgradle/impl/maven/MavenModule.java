@@ -17,6 +17,7 @@
 package org.altlinux.xgradle.impl.maven;
 
 import com.google.inject.AbstractModule;
+import org.altlinux.xgradle.impl.pom.PomModule;
 import org.altlinux.xgradle.interfaces.maven.PomFilenameMatcher;
 import org.altlinux.xgradle.interfaces.maven.PomFinder;
 import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
@@ -30,6 +31,8 @@ public final class MavenModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new PomModule());
+
         bind(PomFilenameMatcher.class).to(MavenPomFilenameMatcher.class);
         bind(PomFinder.class).to(MavenPomFinder.class);
         bind(PomHierarchyLoader.class).to(MavenPomHierarchyLoader.class);
@@ -30,6 +30,8 @@ import java.nio.file.Paths;
 import java.util.List;
 /**
  * Finder for Maven POM.
+ * The POM index is built in the background; the first lookup starts the build
+ * if the plugin has not started it already and waits for it to finish.
  * Implements {@link PomFinder}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -45,26 +47,30 @@ final class MavenPomFinder implements PomFinder {
     MavenPomFinder(PomIndex pomIndex, Logger logger) {
         this.pomIndex = pomIndex;
         this.logger = logger;
-
-        String pomsPath = SystemDepsExtension.getPomsPath();
-        if (pomsPath == null || pomsPath.isBlank()) {
-            return;
-        }
-        Path root = Paths.get(pomsPath);
-        try {
-            this.pomIndex.build(root);
-        } catch (RuntimeException e) {
-            logger.lifecycle("Failed to build POM index from {}: {}", root, e.getMessage());
-        }
     }
 
     @Override
     public MavenCoordinate findPomForArtifact(String groupId, String artifactId) {
+        startIndexBuild();
         return pomIndex.find(groupId, artifactId).orElse(null);
     }
 
     @Override
     public List<MavenCoordinate> findAllPomsForGroup(String groupId) {
+        startIndexBuild();
         return pomIndex.findAllForGroup(groupId);
     }
+
+    private void startIndexBuild() {
+        String pomsPath = SystemDepsExtension.getPomsPath();
+        if (pomsPath == null || pomsPath.isBlank()) {
+            return;
+        }
+        Path root = Paths.get(pomsPath);
+        try {
+            pomIndex.buildAsync(root);
+        } catch (RuntimeException e) {
+            logger.lifecycle("Failed to build POM index from {}: {}", root, e.getMessage());
+        }
+    }
 }
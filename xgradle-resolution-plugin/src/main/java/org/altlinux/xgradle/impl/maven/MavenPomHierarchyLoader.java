@@ -15,38 +15,65 @@
  */
 package org.altlinux.xgradle.impl.maven;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
 import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
+import org.altlinux.xgradle.interfaces.pom.PomReader;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.License;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
-import org.apache.maven.model.io.DefaultModelReader;
+import org.apache.maven.model.Scm;
 import org.gradle.api.logging.Logger;
 
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 /**
  * Loads a hierarchy of Maven POM models starting from a specified POM file.
+ * Models are read by the shared {@link PomReader}.
+ * <p>Only a projection of each model is cached: coordinates, parent, properties,
+ * dependencies, dependency management, URL, SCM and licenses, which is all that
+ * resolution and SBOM generation read. The cache is bounded by the total weight of
+ * its entries ({@code xgradle.model.cache.weight}), so evicted models are read again
+ * on demand. Files that could not be read are cached as well.
+ * Callers receive copies of the cached models, so they may modify them freely.
  * Implements {@link PomHierarchyLoader}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
+@Singleton
 final class MavenPomHierarchyLoader implements PomHierarchyLoader {
-    private final Map<String, Model> modelCache = new ConcurrentHashMap<>();
-    private final DefaultModelReader modelReader = new DefaultModelReader();
 
+    private static final String CACHE_WEIGHT_KEY = "xgradle.model.cache.weight";
+    private static final int DEFAULT_CACHE_WEIGHT = 200_000;
+    private static final int MAX_DEPTH = 10;
+
+    private final Cache<String, Optional<Model>> modelCache;
+    private final PomReader pomReader;
     private final Logger logger;
 
     @Inject
-    MavenPomHierarchyLoader(Logger logger) {
+    MavenPomHierarchyLoader(PomReader pomReader, Logger logger) {
+        this.pomReader = pomReader;
         this.logger = logger;
+        this.modelCache = CacheBuilder.newBuilder()
+                .maximumWeight(XGradleConfig.getIntProperty(CACHE_WEIGHT_KEY, DEFAULT_CACHE_WEIGHT))
+                .weigher((Weigher<String, Optional<Model>>) (key, model) -> weigh(model))
+                .recordStats()
+                .build();
     }
 
     @Override
@@ -54,7 +81,6 @@ final class MavenPomHierarchyLoader implements PomHierarchyLoader {
         Deque<Model> stack = new ArrayDeque<>();
         Path currentPath = pomPath;
         int depth = 0;
-        final int MAX_DEPTH = 10;
 
         while (currentPath != null && depth < MAX_DEPTH) {
             Model model = loadModel(currentPath);
@@ -74,18 +100,131 @@ final class MavenPomHierarchyLoader implements PomHierarchyLoader {
         return new ArrayList<>(stack);
     }
 
+    @Override
+    public long getCachedModelCount() {
+        return modelCache.size();
+    }
+
+    @Override
+    public long getCachedModelWeight() {
+        return modelCache.asMap().values().stream()
+                .mapToLong(MavenPomHierarchyLoader::weigh)
+                .sum();
+    }
+
+    @Override
+    public void logStats(Logger statsLogger) {
+        statsLogger.debug(
+                "POM Model Cache: {} models, weight {}, {}",
+                getCachedModelCount(),
+                getCachedModelWeight(),
+                modelCache.stats()
+        );
+    }
+
     private Model loadModel(Path pomPath) {
-        return modelCache.computeIfAbsent(pomPath.toString(), cacheKey -> {
-            try (InputStream inputStream = Files.newInputStream(pomPath)) {
-                return modelReader.read(inputStream, null);
-            } catch (Exception exception) {
-                logger.debug("Failed to load POM: {}", pomPath, exception);
-                return null;
-            }
-        });
+        try {
+            return modelCache.get(pomPath.toString(), () -> Optional.ofNullable(read(pomPath)))
+                    .map(Model::clone)
+                    .orElse(null);
+        } catch (ExecutionException exception) {
+            logger.debug("Failed to load POM: {}", pomPath, exception.getCause());
+            return null;
+        }
+    }
+
+    private Model read(Path pomPath) {
+        try {
+            return project(pomReader.read(pomPath));
+        } catch (Exception exception) {
+            logger.debug("Failed to load POM: {}", pomPath, exception);
+            return null;
+        }
     }
 
     private Path resolveParentPath(Path childPath, Parent parent) {
         return childPath.getParent().resolve(parent.getArtifactId() + ".pom");
     }
+
+    private static int weigh(Optional<Model> cached) {
+        return cached.map(MavenPomHierarchyLoader::weigh).orElse(1);
+    }
+
+    private static int weigh(Model model) {
+        int weight = 1 + model.getDependencies().size() + model.getProperties().size() + model.getLicenses().size();
+        if (model.getDependencyManagement() != null) {
+            weight += model.getDependencyManagement().getDependencies().size();
+        }
+        return weight;
+    }
+
+    private static Model project(Model model) {
+        if (model == null) {
+            return null;
+        }
+
+        Model projection = new Model();
+        projection.setGroupId(model.getGroupId());
+        projection.setArtifactId(model.getArtifactId());
+        projection.setVersion(model.getVersion());
+        projection.setPackaging(model.getPackaging());
+        projection.setUrl(model.getUrl());
+
+        Parent parent = model.getParent();
+        if (parent != null) {
+            Parent parentProjection = new Parent();
+            parentProjection.setGroupId(parent.getGroupId());
+            parentProjection.setArtifactId(parent.getArtifactId());
+            parentProjection.setVersion(parent.getVersion());
+            projection.setParent(parentProjection);
+        }
+
+        Scm scm = model.getScm();
+        if (scm != null) {
+            Scm scmProjection = new Scm();
+            scmProjection.setUrl(scm.getUrl());
+            scmProjection.setConnection(scm.getConnection());
+            scmProjection.setDeveloperConnection(scm.getDeveloperConnection());
+            scmProjection.setTag(scm.getTag());
+            projection.setScm(scmProjection);
+        }
+
+        projection.setLicenses(model.getLicenses().stream()
+                .map(MavenPomHierarchyLoader::project)
+                .collect(Collectors.toList()));
+
+        Properties properties = new Properties();
+        properties.putAll(model.getProperties());
+        projection.setProperties(properties);
+
+        projection.setDependencies(project(model.getDependencies()));
+        DependencyManagement dependencyManagement = model.getDependencyManagement();
+        if (dependencyManagement != null) {
+            DependencyManagement managementProjection = new DependencyManagement();
+            managementProjection.setDependencies(project(dependencyManagement.getDependencies()));
+            projection.setDependencyManagement(managementProjection);
+        }
+        return projection;
+    }
+
+    private static License project(License license) {
+        License projection = new License();
+        projection.setName(license.getName());
+        projection.setUrl(license.getUrl());
+        return projection;
+    }
+
+    private static List<Dependency> project(List<Dependency> dependencies) {
+        return dependencies.stream()
+                .map(dependency -> {
+                    Dependency projection = new Dependency();
+                    projection.setGroupId(dependency.getGroupId());
+                    projection.setArtifactId(dependency.getArtifactId());
+                    projection.setVersion(dependency.getVersion());
+                    projection.setType(dependency.getType());
+                    projection.setScope(dependency.getScope());
+                    return projection;
+                })
+                .collect(Collectors.toList());
+    }
 }
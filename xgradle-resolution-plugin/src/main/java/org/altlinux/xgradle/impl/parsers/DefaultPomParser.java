@@ -21,6 +21,7 @@ import com.google.inject.Singleton;
 import org.altlinux.xgradle.interfaces.caches.PomDataCache;
 import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
+import org.altlinux.xgradle.interfaces.parsers.PropertyInterpolator;
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
 import org.altlinux.xgradle.impl.model.PomCoordinateFactory;
 import org.apache.maven.model.Model;
@@ -50,12 +51,13 @@ final class DefaultPomParser implements PomParser {
     @Inject
     DefaultPomParser(
             PomDataCache cache,
-            PomHierarchyLoader hierarchyLoader
+            PomHierarchyLoader hierarchyLoader,
+            PropertyInterpolator propertyInterpolator
     ) {
         this.cache = cache;
         this.hierarchyLoader = hierarchyLoader;
 
-        this.propertiesCollector = new PomPropertiesCollector();
+        this.propertiesCollector = new PomPropertiesCollector(propertyInterpolator);
         this.coordinateFactory = new PomCoordinateFactory();
         this.dependencyManagementParser =
                 new PomDependencyManagementParser();
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.parsers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+
+import org.altlinux.xgradle.interfaces.parsers.PropertyInterpolator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Property interpolator backed by pre-split templates cached per raw string.
+ * Property maps are resolved once in dependency order with cycle detection,
+ * after which every value is interpolated in a single pass.
+ * Implements {@link PropertyInterpolator}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+@Singleton
+final class DefaultPropertyInterpolator implements PropertyInterpolator {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+
+    private final Cache<String, Template> templates = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .build();
+
+    @Override
+    public Map<String, String> resolveAll(Map<String, String> properties) {
+        if (properties == null || properties.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> resolved = new HashMap<>();
+        Set<String> inProgress = new HashSet<>();
+        properties.keySet().forEach(key -> resolveProperty(key, properties, resolved, inProgress));
+
+        Map<String, String> ordered = new LinkedHashMap<>();
+        properties.keySet().forEach(key -> {
+            String value = resolved.get(key);
+            if (value != null) {
+                ordered.put(key, value);
+            }
+        });
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    @Override
+    public String interpolate(String value, Map<String, String> resolvedProperties) {
+        if (value == null || resolvedProperties == null || value.indexOf(PLACEHOLDER_START) < 0) {
+            return value;
+        }
+        return template(value).render(resolvedProperties::get);
+    }
+
+    private String resolveProperty(
+            String key,
+            Map<String, String> properties,
+            Map<String, String> resolved,
+            Set<String> inProgress
+    ) {
+        String done = resolved.get(key);
+        if (done != null) {
+            return done;
+        }
+
+        String raw = properties.get(key);
+        if (raw == null || !inProgress.add(key)) {
+            return null;
+        }
+
+        String value = raw.indexOf(PLACEHOLDER_START) < 0
+                ? raw
+                : template(raw).render(reference -> properties.containsKey(reference)
+                        ? resolveProperty(reference, properties, resolved, inProgress)
+                        : null);
+
+        inProgress.remove(key);
+        resolved.put(key, value);
+        return value;
+    }
+
+    private Template template(String raw) {
+        Template cached = templates.getIfPresent(raw);
+        if (cached != null) {
+            return cached;
+        }
+
+        Template compiled = Template.compile(raw);
+        templates.put(raw, compiled);
+        return compiled;
+    }
+
+    /**
+     * Raw string split into literal segments and placeholder references,
+     * where {@code literals} has exactly one more element than {@code references}.
+     */
+    private static final class Template {
+
+        private final String raw;
+        private final String[] literals;
+        private final String[] references;
+
+        private Template(String raw, String[] literals, String[] references) {
+            this.raw = raw;
+            this.literals = literals;
+            this.references = references;
+        }
+
+        static Template compile(String raw) {
+            List<String> literals = new ArrayList<>();
+            List<String> references = new ArrayList<>();
+            int position = 0;
+
+            while (true) {
+                int start = raw.indexOf(PLACEHOLDER_START, position);
+                int end = start < 0 ? -1 : raw.indexOf(PLACEHOLDER_END, start + 2);
+                if (end < 0) {
+                    literals.add(raw.substring(position));
+                    break;
+                }
+
+                literals.add(raw.substring(position, start));
+                references.add(raw.substring(start + 2, end));
+                position = end + 1;
+            }
+
+            return new Template(raw, literals.toArray(new String[0]), references.toArray(new String[0]));
+        }
+
+        String render(Function<String, String> lookup) {
+            if (references.length == 0) {
+                return raw;
+            }
+
+            StringBuilder buffer = new StringBuilder(raw.length() + 16 * references.length);
+            for (int index = 0; index < references.length; index++) {
+                buffer.append(literals[index]);
+
+                String replacement = lookup.apply(references[index]);
+                if (replacement != null) {
+                    buffer.append(replacement);
+                } else {
+                    buffer.append(PLACEHOLDER_START).append(references[index]).append(PLACEHOLDER_END);
+                }
+            }
+            return buffer.append(literals[references.length]).toString();
+        }
+    }
+}
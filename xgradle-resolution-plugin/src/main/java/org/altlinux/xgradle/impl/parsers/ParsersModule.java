@@ -17,6 +17,7 @@ package org.altlinux.xgradle.impl.parsers;
 
 import com.google.inject.AbstractModule;
 import org.altlinux.xgradle.interfaces.parsers.PomParser;
+import org.altlinux.xgradle.interfaces.parsers.PropertyInterpolator;
 /**
  * Guice module for Parsers bindings.
  *
@@ -28,5 +29,6 @@ public final class ParsersModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(PomParser.class).to(DefaultPomParser.class);
+        bind(PropertyInterpolator.class).to(DefaultPropertyInterpolator.class);
     }
 }
@@ -15,6 +15,7 @@
  */
 package org.altlinux.xgradle.impl.parsers;
 
+import org.altlinux.xgradle.interfaces.parsers.PropertyInterpolator;
 import org.apache.maven.model.Model;
 
 import java.util.LinkedHashMap;
@@ -28,13 +29,19 @@ import java.util.Map;
  */
 final class PomPropertiesCollector {
 
+    private final PropertyInterpolator propertyInterpolator;
+
+    PomPropertiesCollector(PropertyInterpolator propertyInterpolator) {
+        this.propertyInterpolator = propertyInterpolator;
+    }
+
     Map<String, String> collect(List<Model> pomHierarchy) {
         Map<String, String> properties = new LinkedHashMap<>();
         properties.putIfAbsent("project.build.sourceEncoding", "UTF-8");
         properties.putIfAbsent("project.reporting.outputEncoding", "UTF-8");
 
         if (pomHierarchy == null) {
-            return properties;
+            return propertyInterpolator.resolveAll(properties);
         }
 
         pomHierarchy.stream()
@@ -62,55 +69,11 @@ final class PomPropertiesCollector {
                         );
                     }
                 });
-        return properties;
+        return propertyInterpolator.resolveAll(properties);
     }
 
     String resolve(String value, Map<String, String> properties) {
-        if (value == null || properties == null) {
-            return value;
-        }
-
-        String current = value;
-
-        for (int iteration = 0; iteration < 20; iteration++) {
-            StringBuilder buffer = new StringBuilder();
-            int position = 0;
-            boolean changed = false;
-
-            while (position < current.length()) {
-                int start = current.indexOf("${", position);
-                if (start < 0) {
-                    buffer.append(current.substring(position));
-                    break;
-                }
-
-                int end = current.indexOf('}', start + 2);
-                if (end < 0) {
-                    buffer.append(current.substring(position));
-                    break;
-                }
-
-                buffer.append(current, position, start);
-
-                String key = current.substring(start + 2, end);
-                String replacement = properties.get(key);
-
-                if (replacement != null) {
-                    buffer.append(replacement);
-                    changed = true;
-                } else {
-                    buffer.append("${").append(key).append("}");
-                }
-
-                position = end + 1;
-            }
-
-            if (!changed) {
-                break;
-            }
-            current = buffer.toString();
-        }
-        return current;
+        return propertyInterpolator.interpolate(value, properties);
     }
 
     private static void putIfNotEmpty(
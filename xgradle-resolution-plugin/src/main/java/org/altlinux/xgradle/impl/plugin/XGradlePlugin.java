@@ -19,7 +19,9 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import org.altlinux.xgradle.interfaces.handlers.PluginsDependenciesHandler;
 import org.altlinux.xgradle.interfaces.handlers.ProjectDependenciesHandler;
+import org.altlinux.xgradle.interfaces.indexing.PomIndex;
 import org.altlinux.xgradle.impl.di.XGradlePluginModule;
+import org.altlinux.xgradle.impl.extensions.SystemDepsExtension;
 import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
 
 import org.altlinux.xgradle.impl.utils.ui.LogoPrinter;
@@ -29,10 +31,12 @@ import org.gradle.api.invocation.Gradle;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
 
 /**
  * Class implements {@link Plugin} interface.
  * <p>Core plugin implementation that applies to Gradle itself rather than individual projects.
+ * The POM index starts building in the background here, so it overlaps with settings and project evaluation.
  * Implements {@link Plugin}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -56,10 +60,19 @@ public final class XGradlePlugin implements Plugin<Gradle> {
         PluginsDependenciesHandler plugins = injector.getInstance(PluginsDependenciesHandler.class);
         ProjectDependenciesHandler dependencies = injector.getInstance(ProjectDependenciesHandler.class);
 
+        startPomIndexBuild(injector);
+
         gradle.beforeSettings(plugins::handle);
         gradle.projectsEvaluated(dependencies::handle);
     }
 
+    private void startPomIndexBuild(Injector injector) {
+        String pomsPath = SystemDepsExtension.getPomsPath();
+        if (pomsPath != null && !pomsPath.isBlank()) {
+            injector.getInstance(PomIndex.class).buildAsync(Path.of(pomsPath));
+        }
+    }
+
     private boolean isDisabled() {
         return "true".equalsIgnoreCase(XGradleConfig.getProperty("disable.xgradle", "false"));
     }
@@ -18,6 +18,7 @@ package org.altlinux.xgradle.impl.resolution;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import org.altlinux.xgradle.interfaces.configurators.ArtifactConfigurator;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 import org.altlinux.xgradle.interfaces.resolution.Order;
 import org.altlinux.xgradle.interfaces.resolution.ResolutionStep;
 import org.altlinux.xgradle.interfaces.resolution.ResolvedArtifactsRegistry;
@@ -31,6 +32,7 @@ import java.util.Set;
 
 /**
  * Registers listeners to capture resolved JAR files used by configurations.
+ * Files resolved from the generated system repository directory are recorded as the system JARs they link to.
  * Implements {@link ResolutionStep}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -40,10 +42,12 @@ import java.util.Set;
 final class CollectResolvedJarsStep implements ResolutionStep {
 
     private final ArtifactConfigurator artifactConfigurator;
+    private final SystemJarIndex systemJarIndex;
 
     @Inject
-    CollectResolvedJarsStep(ArtifactConfigurator artifactConfigurator) {
+    CollectResolvedJarsStep(ArtifactConfigurator artifactConfigurator, SystemJarIndex systemJarIndex) {
         this.artifactConfigurator = artifactConfigurator;
+        this.systemJarIndex = systemJarIndex;
     }
 
     @Override
@@ -77,6 +81,7 @@ final class CollectResolvedJarsStep implements ResolutionStep {
                                 configuration.getResolvedConfiguration().getResolvedArtifacts().stream()
                                         .map(ResolvedArtifact::getFile)
                                         .filter(file -> file != null && file.isFile() && isJar(file))
+                                        .map(systemJarIndex::toSystemFile)
                                         .forEach(resolvedJars::add);
                             } catch (RuntimeException exception) {
                                 logger.debug(
@@ -18,7 +18,9 @@ package org.altlinux.xgradle.impl.resolution;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.interfaces.caches.PomDataCache;
 import org.altlinux.xgradle.interfaces.configurators.ArtifactConfigurator;
+import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
 import org.altlinux.xgradle.interfaces.resolution.ResolutionReporter;
 import org.altlinux.xgradle.impl.utils.logging.DependencyLogger;
 
@@ -26,6 +28,7 @@ import org.gradle.api.logging.Logger;
 
 /**
  * Reports resolution results for the current build.
+ * POM cache statistics are logged at debug level.
  * Implements {@link ResolutionReporter}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -34,10 +37,18 @@ import org.gradle.api.logging.Logger;
 final class DefaultResolutionReporter implements ResolutionReporter {
 
     private final ArtifactConfigurator artifactConfigurator;
+    private final PomDataCache pomDataCache;
+    private final PomHierarchyLoader hierarchyLoader;
 
     @Inject
-    DefaultResolutionReporter(ArtifactConfigurator artifactConfigurator) {
+    DefaultResolutionReporter(
+            ArtifactConfigurator artifactConfigurator,
+            PomDataCache pomDataCache,
+            PomHierarchyLoader hierarchyLoader
+    ) {
         this.artifactConfigurator = artifactConfigurator;
+        this.pomDataCache = pomDataCache;
+        this.hierarchyLoader = hierarchyLoader;
     }
 
     @Override
@@ -58,6 +69,8 @@ final class DefaultResolutionReporter implements ResolutionReporter {
         depLogger.logSection("===== DEPENDENCY RESOLUTION COMPLETED =====", logger);
         depLogger.logSection("Added artifacts to configurations", logger);
         depLogger.logConfigurationArtifacts(artifactConfigurator.getConfigurationArtifacts(), logger);
+        pomDataCache.logStats(logger);
+        hierarchyLoader.logStats(logger);
 
         if (!resolutionContext.getNotFound().isEmpty() || !resolutionContext.getSkipped().isEmpty()) {
             depLogger.logSection("Skipped dependencies", logger);
@@ -19,6 +19,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
+import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
 import org.altlinux.xgradle.interfaces.processors.PluginProcessor;
 import org.altlinux.xgradle.interfaces.resolution.Order;
@@ -35,9 +36,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Generates an SBOM report after dependency resolution when enabled by configuration.
+ * Generates SBOM reports after dependency resolution when enabled by configuration.
+ * {@code generate.sbom} accepts a single format or a comma-separated list, e.g. {@code spdx,cyclonedx}.
+ * Maven components are collected in background as soon as the pipeline reaches this step;
+ * the report is completed with resolved JAR files when the build finishes.
  * Implements {@link ResolutionStep}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -67,17 +73,17 @@ final class GenerateSbomStep implements ResolutionStep {
 
     @Override
     public void execute(ResolutionContext resolutionContext) {
-        String configuredFormat = XGradleConfig.getProperty(GENERATE_SBOM_KEY);
-        if (configuredFormat == null || configuredFormat.isBlank()) {
+        String configuredFormats = XGradleConfig.getProperty(GENERATE_SBOM_KEY);
+        if (configuredFormats == null || configuredFormats.isBlank()) {
             return;
         }
 
-        Optional<SbomFormat> parsedFormat = SbomFormat.fromProperty(configuredFormat);
+        Optional<Set<SbomFormat>> parsedFormats = SbomFormat.fromPropertyList(configuredFormats);
         Logger logger = resolutionContext.getGradle().getRootProject().getLogger();
-        if (parsedFormat.isEmpty()) {
+        if (parsedFormats.isEmpty()) {
             logger.warn(
-                    "Unsupported SBOM format '{}'. Allowed values: spdx, cyclonedx",
-                    configuredFormat
+                    "Unsupported SBOM format '{}'. Allowed values: spdx, cyclonedx or a comma-separated list",
+                    configuredFormats
             );
             return;
         }
@@ -85,15 +91,17 @@ final class GenerateSbomStep implements ResolutionStep {
         Gradle gradle = resolutionContext.getGradle();
         Map<String, MavenCoordinate> artifactsSnapshot =
                 new LinkedHashMap<>(resolutionContext.getSystemArtifacts());
-        SbomFormat sbomFormat = parsedFormat.get();
+        Set<SbomFormat> sbomFormats = parsedFormats.get();
         Collection<MavenCoordinate> pluginArtifactsSnapshot =
                 snapshotPluginArtifacts();
 
+        CompletableFuture<List<SbomComponent>> pendingComponents =
+                sbomGenerationService.collectInBackground(artifactsSnapshot, pluginArtifactsSnapshot);
+
         gradle.buildFinished(result -> sbomGenerationService.generate(
                 gradle,
-                sbomFormat,
-                artifactsSnapshot,
-                pluginArtifactsSnapshot,
+                sbomFormats,
+                pendingComponents,
                 logger
         ));
     }
@@ -19,12 +19,14 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
-import org.altlinux.xgradle.interfaces.parsers.PomParser;
+import org.altlinux.xgradle.interfaces.parsers.PropertyInterpolator;
 import org.altlinux.xgradle.interfaces.services.PomMetadata;
 import org.altlinux.xgradle.interfaces.services.PomMetadataLicense;
 import org.altlinux.xgradle.interfaces.services.PomMetadataReader;
 
 import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Scm;
 
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -32,29 +34,33 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Reads metadata required for SBOM enrichment from Maven POM hierarchy.
  * Implements {@link PomMetadataReader}.
  *
+ * <p>Metadata inherited from parent POMs (merged properties and raw URL, SCM
+ * and license templates) is memoized per parent coordinates, so components
+ * sharing the same parents only overlay their own values.</p>
+ *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
 @Singleton
 final class DefaultPomMetadataReader implements PomMetadataReader {
 
     private final PomHierarchyLoader hierarchyLoader;
-    private final PomParser pomParser;
+    private final PropertyInterpolator propertyInterpolator;
+    private final Map<String, InheritedMetadata> inheritedByParent = new ConcurrentHashMap<>();
 
     @Inject
     DefaultPomMetadataReader(
             PomHierarchyLoader hierarchyLoader,
-            PomParser pomParser
+            PropertyInterpolator propertyInterpolator
     ) {
         this.hierarchyLoader = hierarchyLoader;
-        this.pomParser = pomParser;
+        this.propertyInterpolator = propertyInterpolator;
     }
 
     @Override
@@ -68,195 +74,214 @@ final class DefaultPomMetadataReader implements PomMetadataReader {
             return PomMetadata.empty();
         }
 
-        Map<String, String> properties = buildResolutionProperties(pomPath, hierarchy);
+        int childIndex = hierarchy.size() - 1;
+        InheritedMetadata metadata = inheritedFromParents(hierarchy, childIndex)
+                .overlay(hierarchy.get(childIndex));
+        Map<String, String> properties = propertyInterpolator.resolveAll(metadata.resolutionProperties());
 
         return new PomMetadata(
-                resolveProjectUrl(hierarchy, properties),
-                resolveScmUrl(hierarchy, properties),
-                resolveLicenses(hierarchy, properties)
+                normalizeResolved(metadata.projectUrl, properties),
+                normalizeResolved(metadata.scmUrl, properties),
+                resolveLicenses(metadata.licenses, properties)
         );
     }
 
-    private Map<String, String> buildResolutionProperties(
-            Path pomPath,
-            List<Model> hierarchy
-    ) {
-        Map<String, String> properties = new LinkedHashMap<>(pomParser.parseProperties(pomPath));
-
-        String groupId = findFirstFromChild(hierarchy, Model::getGroupId);
-        String artifactId = findFirstFromChild(hierarchy, Model::getArtifactId);
-        String version = findFirstFromChild(hierarchy, Model::getVersion);
-        String packaging = findFirstFromChild(hierarchy, Model::getPackaging);
-        String scmTag = findFirstScmTagFromChild(hierarchy);
-
-        putIfNotEmpty(properties, "project.groupId", groupId);
-        putIfNotEmpty(properties, "groupId", groupId);
-        putIfNotEmpty(properties, "project.artifactId", artifactId);
-        putIfNotEmpty(properties, "artifactId", artifactId);
-        putIfNotEmpty(properties, "project.version", version);
-        putIfNotEmpty(properties, "version", version);
-        putIfNotEmpty(properties, "project.packaging", packaging);
-        putIfNotEmpty(properties, "packaging", packaging);
-        putIfNotEmpty(properties, "project.scm.tag", scmTag);
-        putIfNotEmpty(properties, "scm.tag", scmTag);
-
-        return properties;
-    }
-
-    private String resolveProjectUrl(
+    private InheritedMetadata inheritedFromParents(
             List<Model> hierarchy,
-            Map<String, String> properties
+            int childIndex
     ) {
-        return normalizeResolved(findFirstFromChild(hierarchy, Model::getUrl), properties);
+        InheritedMetadata current = InheritedMetadata.EMPTY;
+
+        for (int index = 0; index < childIndex; index++) {
+            Model parent = hierarchy.get(index);
+            if (parent == null) {
+                continue;
+            }
+
+            InheritedMetadata base = current;
+            String parentKey = parentKey(parent);
+            current = parentKey == null
+                    ? base.overlay(parent)
+                    : inheritedByParent.computeIfAbsent(parentKey, key -> base.overlay(parent));
+        }
+
+        return current;
     }
 
-    private String resolveScmUrl(
-            List<Model> hierarchy,
-            Map<String, String> properties
-    ) {
-        return IntStream.iterate(hierarchy.size() - 1, index -> index >= 0, index -> index - 1)
-                .mapToObj(hierarchy::get)
-                .filter(model -> model != null && model.getScm() != null)
-                .map(model -> normalizeResolved(
-                        firstNonEmpty(
-                                model.getScm().getUrl(),
-                                model.getScm().getConnection(),
-                                model.getScm().getDeveloperConnection()
-                        ),
-                        properties
-                ))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+    private String parentKey(Model model) {
+        Parent parent = model.getParent();
+        String groupId = model.getGroupId() != null
+                ? model.getGroupId()
+                : parent != null ? parent.getGroupId() : null;
+        String version = model.getVersion() != null
+                ? model.getVersion()
+                : parent != null ? parent.getVersion() : null;
+
+        if (groupId == null || model.getArtifactId() == null || version == null) {
+            return null;
+        }
+        return groupId + ":" + model.getArtifactId() + ":" + version;
     }
 
     private List<PomMetadataLicense> resolveLicenses(
-            List<Model> hierarchy,
+            List<PomMetadataLicense> licenses,
             Map<String, String> properties
     ) {
-        return IntStream.iterate(hierarchy.size() - 1, index -> index >= 0, index -> index - 1)
-                .mapToObj(hierarchy::get)
-                .filter(model -> model != null && model.getLicenses() != null && !model.getLicenses().isEmpty())
-                .map(model -> model.getLicenses().stream()
-                        .filter(license -> license != null)
-                        .map(license -> new PomMetadataLicense(
-                                normalizeResolved(license.getName(), properties),
-                                normalizeResolved(license.getUrl(), properties)
-                        ))
-                        .filter(pomLicense -> pomLicense.getName() != null || pomLicense.getUrl() != null)
-                        .collect(Collectors.toList()))
-                .filter(resolved -> !resolved.isEmpty())
-                .findFirst()
-                .map(List::copyOf)
-                .orElse(List.of());
+        return licenses.stream()
+                .map(license -> new PomMetadataLicense(
+                        normalizeResolved(license.getName(), properties),
+                        normalizeResolved(license.getUrl(), properties)
+                ))
+                .filter(license -> license.getName() != null || license.getUrl() != null)
+                .collect(Collectors.toUnmodifiableList());
     }
 
-    private String findFirstFromChild(
-            List<Model> hierarchy,
-            Function<Model, String> extractor
+    private String normalizeResolved(
+            String value,
+            Map<String, String> properties
     ) {
-        return IntStream.iterate(hierarchy.size() - 1, index -> index >= 0, index -> index - 1)
-                .mapToObj(hierarchy::get)
-                .filter(model -> model != null)
-                .map(extractor)
-                .filter(value -> value != null && !value.isBlank())
-                .findFirst()
-                .orElse(null);
+        String normalized = normalize(value);
+        if (normalized == null) {
+            return null;
+        }
+        return normalize(propertyInterpolator.interpolate(normalized, properties));
     }
 
-    private String findFirstScmTagFromChild(List<Model> hierarchy) {
-        return IntStream.iterate(hierarchy.size() - 1, index -> index >= 0, index -> index - 1)
-                .mapToObj(hierarchy::get)
-                .filter(model -> model != null && model.getScm() != null)
-                .map(model -> model.getScm().getTag())
-                .filter(tag -> tag != null && !tag.isBlank())
+    private static String firstNonEmpty(String... values) {
+        return Arrays.stream(values)
+                .map(DefaultPomMetadataReader::normalize)
+                .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(null);
     }
 
-    private String normalizeResolved(
-            String value,
-            Map<String, String> properties
-    ) {
-        String normalized = normalize(value);
-        if (normalized == null) {
+    private static String normalize(String value) {
+        if (value == null) {
             return null;
         }
-        return normalize(resolvePlaceholders(normalized, properties));
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
     }
 
-    private String resolvePlaceholders(
-            String value,
-            Map<String, String> properties
-    ) {
-        if (value == null || properties == null || properties.isEmpty()) {
-            return value;
+    /**
+     * Immutable metadata accumulated along a POM hierarchy, with URL, SCM and
+     * license values kept as unresolved templates.
+     */
+    private static final class InheritedMetadata {
+
+        private static final InheritedMetadata EMPTY = new InheritedMetadata(
+                Map.of(), null, null, null, null, null, null, null, List.of()
+        );
+
+        private final Map<String, String> properties;
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String packaging;
+        private final String scmTag;
+        private final String projectUrl;
+        private final String scmUrl;
+        private final List<PomMetadataLicense> licenses;
+
+        private InheritedMetadata(
+                Map<String, String> properties,
+                String groupId,
+                String artifactId,
+                String version,
+                String packaging,
+                String scmTag,
+                String projectUrl,
+                String scmUrl,
+                List<PomMetadataLicense> licenses
+        ) {
+            this.properties = properties;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.packaging = packaging;
+            this.scmTag = scmTag;
+            this.projectUrl = projectUrl;
+            this.scmUrl = scmUrl;
+            this.licenses = licenses;
         }
 
-        String current = value;
-        for (int iteration = 0; iteration < 20; iteration++) {
-            StringBuilder buffer = new StringBuilder();
-            int position = 0;
-            boolean changed = false;
-
-            while (position < current.length()) {
-                int start = current.indexOf("${", position);
-                if (start < 0) {
-                    buffer.append(current.substring(position));
-                    break;
-                }
-
-                int end = current.indexOf('}', start + 2);
-                if (end < 0) {
-                    buffer.append(current.substring(position));
-                    break;
-                }
-
-                buffer.append(current, position, start);
-                String key = current.substring(start + 2, end);
-                String replacement = properties.get(key);
-
-                if (replacement != null) {
-                    buffer.append(replacement);
-                    changed = true;
-                } else {
-                    buffer.append("${").append(key).append("}");
-                }
-                position = end + 1;
+        InheritedMetadata overlay(Model model) {
+            Map<String, String> mergedProperties = properties;
+            if (model.getProperties() != null && !model.getProperties().isEmpty()) {
+                Map<String, String> merged = new LinkedHashMap<>(properties);
+                model.getProperties().forEach((key, value) -> {
+                    if (key != null && value != null) {
+                        merged.put(key.toString(), value.toString());
+                    }
+                });
+                mergedProperties = Map.copyOf(merged);
             }
 
-            if (!changed) {
-                break;
-            }
-            current = buffer.toString();
+            Scm scm = model.getScm();
+            String ownScmUrl = scm != null
+                    ? firstNonEmpty(scm.getUrl(), scm.getConnection(), scm.getDeveloperConnection())
+                    : null;
+            String ownScmTag = scm != null ? normalize(scm.getTag()) : null;
+            List<PomMetadataLicense> ownLicenses = licensesOf(model);
+
+            return new InheritedMetadata(
+                    mergedProperties,
+                    orInherited(model.getGroupId(), groupId),
+                    orInherited(model.getArtifactId(), artifactId),
+                    orInherited(model.getVersion(), version),
+                    orInherited(model.getPackaging(), packaging),
+                    orInherited(ownScmTag, scmTag),
+                    orInherited(model.getUrl(), projectUrl),
+                    orInherited(ownScmUrl, scmUrl),
+                    ownLicenses.isEmpty() ? licenses : ownLicenses
+            );
         }
 
-        return current;
-    }
+        Map<String, String> resolutionProperties() {
+            Map<String, String> resolved = new LinkedHashMap<>();
+            resolved.put("project.build.sourceEncoding", "UTF-8");
+            resolved.put("project.reporting.outputEncoding", "UTF-8");
+            resolved.putAll(properties);
+
+            putIfNotEmpty(resolved, "project.groupId", groupId);
+            putIfNotEmpty(resolved, "groupId", groupId);
+            putIfNotEmpty(resolved, "project.artifactId", artifactId);
+            putIfNotEmpty(resolved, "artifactId", artifactId);
+            putIfNotEmpty(resolved, "project.version", version);
+            putIfNotEmpty(resolved, "version", version);
+            putIfNotEmpty(resolved, "project.packaging", packaging);
+            putIfNotEmpty(resolved, "packaging", packaging);
+            putIfNotEmpty(resolved, "project.scm.tag", scmTag);
+            putIfNotEmpty(resolved, "scm.tag", scmTag);
+
+            return resolved;
+        }
 
-    private void putIfNotEmpty(
-            Map<String, String> properties,
-            String key,
-            String value
-    ) {
-        if (value != null && !value.isBlank()) {
-            properties.put(key, value);
+        private static List<PomMetadataLicense> licensesOf(Model model) {
+            if (model.getLicenses() == null || model.getLicenses().isEmpty()) {
+                return List.of();
+            }
+
+            return model.getLicenses().stream()
+                    .filter(Objects::nonNull)
+                    .map(license -> new PomMetadataLicense(license.getName(), license.getUrl()))
+                    .filter(license -> license.getName() != null || license.getUrl() != null)
+                    .collect(Collectors.toUnmodifiableList());
         }
-    }
 
-    private String firstNonEmpty(String... values) {
-        return Arrays.stream(values)
-                .map(this::normalize)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
-    }
+        private static String orInherited(String value, String inherited) {
+            String normalized = normalize(value);
+            return normalized != null ? normalized : inherited;
+        }
 
-    private String normalize(String value) {
-        if (value == null) {
-            return null;
+        private static void putIfNotEmpty(
+                Map<String, String> properties,
+                String key,
+                String value
+        ) {
+            if (value != null && !value.isBlank()) {
+                properties.put(key, value);
+            }
         }
-        String trimmed = value.trim();
-        return trimmed.isEmpty() ? null : trimmed;
     }
 }
@@ -31,17 +31,30 @@ import org.gradle.api.logging.Logger;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Generates an SBOM report from snapshots captured during resolution.
+ * Maven components can be collected on a daemon worker right after resolution,
+ * leaving only the resolved JAR merge and document writing for build end.
+ * Several formats can be requested at once; they share one collection pass.
+ * Reports go to {@code build/reports/xgradle}, while the state used to skip unchanged
+ * reports is kept in {@code build/tmp/xgradle-sbom} so it is not published with them.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
 @Singleton
 public final class DefaultSbomGenerationService implements SbomGenerationService {
 
+    private static final String WORKER_THREAD_NAME = "xgradle-sbom-worker";
+
     private final SbomGenerator sbomGenerator;
     private final SbomComponentCollector sbomComponentCollector;
 
@@ -54,37 +67,80 @@ public final class DefaultSbomGenerationService implements SbomGenerationService
         this.sbomComponentCollector = sbomComponentCollector;
     }
 
+    @Override
+    public CompletableFuture<List<SbomComponent>> collectInBackground(
+            Map<String, MavenCoordinate> artifactsSnapshot,
+            Collection<MavenCoordinate> pluginArtifactsSnapshot
+    ) {
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletableFuture<List<SbomComponent>> pendingComponents = CompletableFuture.supplyAsync(
+                () -> sbomComponentCollector.collectMavenComponents(
+                        artifactsSnapshot.values(),
+                        pluginArtifactsSnapshot
+                ),
+                worker
+        );
+        pendingComponents.whenComplete((components, failure) -> worker.shutdown());
+        return pendingComponents;
+    }
+
     @Override
     public void generate(
             Gradle gradle,
-            SbomFormat format,
-            Map<String, MavenCoordinate> artifactsSnapshot,
-            Collection<MavenCoordinate> pluginArtifactsSnapshot,
+            Set<SbomFormat> formats,
+            CompletableFuture<List<SbomComponent>> pendingComponents,
             Logger logger
     ) {
         try {
             Project root = gradle.getRootProject();
-            List<SbomComponent> components = sbomComponentCollector.collect(
+            List<SbomComponent> components = sbomComponentCollector.appendResolvedJars(
                     root,
-                    artifactsSnapshot.values(),
-                    pluginArtifactsSnapshot
+                    pendingComponents.join()
             );
 
-            Path outputPath = resolveOutputPath(root, format);
-            sbomGenerator.generate(
-                    format,
-                    outputPath,
+            Map<SbomFormat, Path> outputPaths = new EnumMap<>(SbomFormat.class);
+            formats.forEach(format -> outputPaths.put(format, resolveOutputPath(root, format)));
+
+            Map<SbomFormat, Boolean> results = sbomGenerator.generate(
+                    outputPaths,
+                    resolveStateDirectory(root),
                     root.getName(),
                     String.valueOf(root.getVersion()),
                     components
             );
-
-            logger.lifecycle("Generated {} SBOM: {}", format.name().toLowerCase(), outputPath);
+            outputPaths.forEach((format, outputPath) ->
+                    logResult(format, outputPath, Boolean.TRUE.equals(results.get(format)), logger)
+            );
+        } catch (CompletionException e) {
+            logger.warn("Failed to generate SBOM", e.getCause() != null ? e.getCause() : e);
         } catch (RuntimeException e) {
             logger.warn("Failed to generate SBOM", e);
         }
     }
 
+    private void logResult(SbomFormat format, Path outputPath, boolean written, Logger logger) {
+        if (written) {
+            logger.lifecycle("Generated {} SBOM: {}", format.name().toLowerCase(), outputPath);
+        } else {
+            logger.lifecycle("{} SBOM is up to date: {}", format.name().toLowerCase(), outputPath);
+        }
+    }
+
+    private Path resolveStateDirectory(Project root) {
+        return root.getLayout()
+                .getBuildDirectory()
+                .getAsFile()
+                .get()
+                .toPath()
+                .resolve("tmp")
+                .resolve("xgradle-sbom");
+    }
+
     private Path resolveOutputPath(Project root, SbomFormat format) {
         return root.getLayout()
                 .getBuildDirectory()
@@ -15,25 +15,36 @@
  */
 package org.altlinux.xgradle.impl.services;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.altlinux.xgradle.impl.files.WalkOptions;
+import org.altlinux.xgradle.interfaces.files.FileWalker;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 import org.altlinux.xgradle.interfaces.services.ArtifactVerifier;
 import org.altlinux.xgradle.impl.enums.MavenPackaging;
 import org.altlinux.xgradle.impl.extensions.SystemDepsExtension;
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
 import org.altlinux.xgradle.impl.utils.config.XGradleConfig;
 
+import org.gradle.api.logging.Logger;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Implementation of {@link ArtifactVerifier} that checks for the physical presence
  * of artifact files in the local filesystem.
+ * JARs whose file names do not follow {@code artifactId[-version].jar} are recognised
+ * by the Maven coordinates packaged in them, see {@link JarCoordinatesIndex}.
  * Implements {@link ArtifactVerifier}.
  *
  * @author Ivan Khanas <xeno@altlinux.org>
@@ -44,6 +55,25 @@ class FileSystemArtifactVerifier implements ArtifactVerifier {
     private static final String SCAN_DEPTH_KEY = "xgradle.scan.depth";
     private static final int DEFAULT_SCAN_DEPTH = 3;
 
+    private final FileWalker fileWalker;
+    private final SystemJarIndex systemJarIndex;
+    private final JarCoordinatesIndex jarCoordinatesIndex;
+    private final Logger logger;
+    private final Map<List<File>, Set<String>> packagedArtifactsByBaseDirs = new ConcurrentHashMap<>();
+
+    @Inject
+    FileSystemArtifactVerifier(
+            FileWalker fileWalker,
+            SystemJarIndex systemJarIndex,
+            JarCoordinatesIndex jarCoordinatesIndex,
+            Logger logger
+    ) {
+        this.fileWalker = fileWalker;
+        this.systemJarIndex = systemJarIndex;
+        this.jarCoordinatesIndex = jarCoordinatesIndex;
+        this.logger = logger;
+    }
+
     @Override
     public boolean verifyArtifactExists(MavenCoordinate coord) {
         if (coord == null || !coord.isValid()) {
@@ -69,7 +99,8 @@ class FileSystemArtifactVerifier implements ArtifactVerifier {
                 .anyMatch(basePath ->
                         checkArtifactExists(basePath, basePattern + ".jar")
                                 || checkArtifactExists(basePath, versionedPattern + ".jar")
-                                || checkRecursively(basePath, basePattern, coord.getVersion()));
+                                || checkRecursively(basePath, basePattern, coord.getVersion()))
+                || checkPackagedCoordinates(basePaths, coord);
     }
 
     private boolean checkArtifactExists(Path baseDir, String fileName) {
@@ -79,18 +110,32 @@ class FileSystemArtifactVerifier implements ArtifactVerifier {
 
     private boolean checkRecursively(Path baseDir, String artifactId, String version) {
         int scanDepth = XGradleConfig.getIntProperty(SCAN_DEPTH_KEY, DEFAULT_SCAN_DEPTH);
-        try (Stream<Path> pathStream = Files.walk(baseDir, scanDepth)) {
-            return pathStream
-                    .filter(Files::isRegularFile)
-                    .anyMatch(path -> {
-                        String fileName = path.getFileName().toString();
-                        return matchesArtifactPattern(fileName, artifactId, version);
-                    });
+        WalkOptions options = WalkOptions.builder()
+                .maxDepth(scanDepth)
+                .fileSuffix(".jar")
+                .fileNameFilter(fileName -> matchesArtifactPattern(fileName, artifactId, version))
+                .includeLinkedFiles()
+                .onFailure((directory, e) -> logger.debug("Cannot list directory {}: {}", directory, e.getMessage()))
+                .build();
+        try {
+            return !fileWalker.walk(baseDir, options).isEmpty();
         } catch (IOException e) {
             return false;
         }
     }
 
+    private boolean checkPackagedCoordinates(List<Path> basePaths, MavenCoordinate coord) {
+        List<File> baseDirs = basePaths.stream()
+                .map(Path::toFile)
+                .collect(Collectors.toUnmodifiableList());
+        Set<String> packagedArtifacts = packagedArtifactsByBaseDirs.computeIfAbsent(baseDirs, dirs ->
+                jarCoordinatesIndex.getCoordinates(systemJarIndex.getJars(dirs).values()).values().stream()
+                        .flatMap(List::stream)
+                        .map(packaged -> packaged.getGroupId() + ":" + packaged.getArtifactId())
+                        .collect(Collectors.toUnmodifiableSet()));
+        return packagedArtifacts.contains(coord.getGroupId() + ":" + coord.getArtifactId());
+    }
+
     private boolean matchesArtifactPattern(String fileName, String artifactId, String version) {
         if (!fileName.endsWith(".jar")) return false;
 
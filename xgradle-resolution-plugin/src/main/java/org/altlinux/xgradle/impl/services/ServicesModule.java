@@ -17,6 +17,7 @@
 package org.altlinux.xgradle.impl.services;
 
 import com.google.inject.AbstractModule;
+import org.altlinux.xgradle.impl.files.FilesModule;
 import org.altlinux.xgradle.interfaces.services.ArtifactVerifier;
 import org.altlinux.xgradle.interfaces.services.PomMetadataReader;
 import org.altlinux.xgradle.interfaces.services.VersionScanner;
@@ -30,6 +31,8 @@ public final class ServicesModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(new FilesModule());
+
         bind(VersionScanner.class).to(DependencyVersionScanner.class);
         bind(ArtifactVerifier.class).to(FileSystemArtifactVerifier.class);
         bind(PomMetadataReader.class).to(DefaultPomMetadataReader.class);
@@ -45,6 +45,8 @@ public final class XGradleConfig {
             "disable.logo",
             "enable.ansi.color",
             "xgradle.scan.depth",
+            "xgradle.repository.dir",
+            "xgradle.cache.dir",
             "generate.sbom"
     );
 
@@ -34,4 +34,21 @@ public interface SbomComponentCollector {
             Collection<MavenCoordinate> artifacts,
             Collection<MavenCoordinate> pluginArtifacts
     );
+
+    /**
+     * Collects library and plugin components without touching the Gradle project model,
+     * so it may run off the build thread.
+     */
+    List<SbomComponent> collectMavenComponents(
+            Collection<MavenCoordinate> artifacts,
+            Collection<MavenCoordinate> pluginArtifacts
+    );
+
+    /**
+     * Appends file components for resolved JARs not already covered by Maven components.
+     */
+    List<SbomComponent> appendResolvedJars(
+            Project rootProject,
+            List<SbomComponent> mavenComponents
+    );
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.indexing;
+
+import org.altlinux.xgradle.impl.model.MavenCoordinate;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the Maven coordinates packaged in JAR files.
+ * The coordinates are taken from the {@code META-INF/maven/<groupId>/<artifactId>/pom.properties}
+ * entries, so JARs are recognised even when their file names do not follow
+ * {@code artifactId[-version].jar}.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface JarCoordinatesIndex {
+
+    /**
+     * Returns the coordinates packaged in each of the given JARs.
+     * JARs that were not indexed yet, or changed since, are read in parallel.
+     *
+     * @param jars JAR files
+     *
+     * @return coordinates by JAR, empty for JARs without Maven metadata
+     */
+    Map<Path, List<MavenCoordinate>> getCoordinates(Collection<Path> jars);
+}
@@ -36,6 +36,14 @@ public interface PomIndex {
  */
 
     void build(Path rootDirectory);
+
+    /**
+     * Starts building the index from the root directory on a background thread.
+     * Lookups wait for the build to finish. Repeated calls for the same directory are ignored.
+     *
+     * @param rootDirectory POM root directory
+     */
+    void buildAsync(Path rootDirectory);
 /**
   * Builds a value.
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.indexing;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the JAR files found below the system jars directories.
+ * The directories are scanned once and the result is shared by the plugin
+ * and the dependency repositories.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface SystemJarIndex {
+
+    /**
+     * Returns the JAR files below the given directories by file name.
+     * When several directories hold a file with the same name, the first base
+     * directory wins, then the shallowest directory, then the first by path.
+     *
+     * @param baseDirs system jars directories
+     *
+     * @return JAR files by file name, in search order
+     */
+    Map<String, Path> getJars(List<File> baseDirs);
+
+    /**
+     * Returns the directories a flat directory repository should search.
+     * This is a single generated directory linking every indexed JAR, or the
+     * directories that hold JARs if such a directory cannot be created.
+     *
+     * @param baseDirs system jars directories
+     *
+     * @return directories to search
+     */
+    List<File> getRepositoryDirs(List<File> baseDirs);
+
+    /**
+     * Maps a file resolved from a generated repository directory back to the system JAR.
+     *
+     * @param file resolved file
+     *
+     * @return the linked system JAR, or the file itself if it is not part of a generated directory
+     */
+    File toSystemFile(File file);
+}
@@ -16,6 +16,7 @@
 package org.altlinux.xgradle.interfaces.maven;
 
 import org.apache.maven.model.Model;
+import org.gradle.api.logging.Logger;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -33,4 +34,20 @@ public interface PomHierarchyLoader {
  */
 
     List<Model> loadHierarchy(Path pomPath);
+
+    /**
+     * Returns the number of POM files whose models are cached, including files that could not be read.
+     */
+    long getCachedModelCount();
+
+    /**
+     * Returns the total weight of the cached models, roughly the number of retained
+     * dependencies, properties and licenses.
+     */
+    long getCachedModelWeight();
+
+    /**
+     * Logs cache occupancy and hit statistics.
+     */
+    void logStats(Logger logger);
 }
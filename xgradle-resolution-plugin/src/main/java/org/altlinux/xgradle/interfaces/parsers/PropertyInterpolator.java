@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.interfaces.parsers;
+
+import java.util.Map;
+
+/**
+ * Interpolates Maven-style {@code ${...}} property placeholders.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+public interface PropertyInterpolator {
+
+    /**
+     * Resolves property values against each other.
+     * References to unknown properties or properties forming a cycle are left unresolved.
+     *
+     * @param properties raw property values
+     *
+     * @return immutable map of fully resolved property values
+     */
+    Map<String, String> resolveAll(Map<String, String> properties);
+
+    /**
+     * Interpolates a value in a single pass.
+     *
+     * @param value raw value (may be null)
+     * @param resolvedProperties properties returned by {@link #resolveAll(Map)}
+     *
+     * @return interpolated value, or the value itself when it contains no placeholders
+     */
+    String interpolate(String value, Map<String, String> resolvedProperties);
+}
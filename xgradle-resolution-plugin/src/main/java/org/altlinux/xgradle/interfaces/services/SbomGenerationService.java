@@ -17,11 +17,15 @@ package org.altlinux.xgradle.interfaces.services;
 
 import org.altlinux.xgradle.impl.enums.SbomFormat;
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
+import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.gradle.api.invocation.Gradle;
 import org.gradle.api.logging.Logger;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Generates SBOM reports from snapshots captured during resolution.
@@ -30,11 +34,28 @@ import java.util.Map;
  */
 public interface SbomGenerationService {
 
+    /**
+     * Starts collecting Maven SBOM components on a background worker.
+     *
+     * @param artifactsSnapshot resolved library coordinates
+     * @param pluginArtifactsSnapshot resolved plugin coordinates
+     *
+     * @return future completed with the collected components
+     */
+    CompletableFuture<List<SbomComponent>> collectInBackground(
+            Map<String, MavenCoordinate> artifactsSnapshot,
+            Collection<MavenCoordinate> pluginArtifactsSnapshot
+    );
+
+    /**
+     * Completes SBOM generation from components collected in background,
+     * merging in resolved JAR files known only at build end.
+     * All requested formats are rendered from the same component list.
+     */
     void generate(
             Gradle gradle,
-            SbomFormat format,
-            Map<String, MavenCoordinate> artifactsSnapshot,
-            Collection<MavenCoordinate> pluginArtifactsSnapshot,
+            Set<SbomFormat> formats,
+            CompletableFuture<List<SbomComponent>> pendingComponents,
             Logger logger
     );
 }
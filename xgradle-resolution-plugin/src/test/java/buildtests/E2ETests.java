@@ -121,6 +121,8 @@ public class E2ETests {
                         "build",
                         "-Dmaven.poms.dir=" + testLibAbsolutePath,
                         "-Djava.library.dir=" + testLibAbsolutePath,
+                        "-Dxgradle.repository.dir=" + new File(tempDir, "repository").getAbsolutePath(),
+                        "-Dxgradle.cache.dir=" + new File(tempDir, "cache").getAbsolutePath(),
                         "--offline"
                 )
                 .forwardOutput()
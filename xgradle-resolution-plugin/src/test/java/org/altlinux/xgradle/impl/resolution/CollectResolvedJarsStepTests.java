@@ -16,6 +16,7 @@
 package org.altlinux.xgradle.impl.resolution;
 
 import org.altlinux.xgradle.interfaces.configurators.ArtifactConfigurator;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 import org.altlinux.xgradle.interfaces.resolution.ResolvedArtifactsRegistry;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
@@ -57,6 +58,9 @@ class CollectResolvedJarsStepTests {
     @Mock
     private ArtifactConfigurator artifactConfigurator;
 
+    @Mock
+    private SystemJarIndex systemJarIndex;
+
     @Mock
     private Gradle gradle;
 
@@ -99,7 +103,7 @@ class CollectResolvedJarsStepTests {
         when(artifactConfigurator.getConfigurationArtifacts()).thenReturn(Map.of());
 
         ResolutionContext context = new ResolutionContext(gradle);
-        CollectResolvedJarsStep step = new CollectResolvedJarsStep(artifactConfigurator);
+        CollectResolvedJarsStep step = new CollectResolvedJarsStep(artifactConfigurator, systemJarIndex);
         step.execute(context);
 
         verifyNoInteractions(gradle);
@@ -128,6 +132,7 @@ class CollectResolvedJarsStepTests {
         when(jarArtifact.getFile()).thenReturn(jar.toFile());
         when(textArtifact.getFile()).thenReturn(txt.toFile());
         when(resolvedConfiguration.getResolvedArtifacts()).thenReturn(Set.of(jarArtifact, textArtifact));
+        when(systemJarIndex.toSystemFile(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         doAnswer(invocation -> {
             @SuppressWarnings("unchecked")
@@ -139,7 +144,7 @@ class CollectResolvedJarsStepTests {
         );
 
         ResolutionContext context = new ResolutionContext(gradle);
-        CollectResolvedJarsStep step = new CollectResolvedJarsStep(artifactConfigurator);
+        CollectResolvedJarsStep step = new CollectResolvedJarsStep(artifactConfigurator, systemJarIndex);
         step.execute(context);
 
         Set<File> resolved = ResolvedArtifactsRegistry.get(rootProject);
@@ -15,7 +15,9 @@
  */
 package org.altlinux.xgradle.impl.resolution;
 
+import org.altlinux.xgradle.interfaces.caches.PomDataCache;
 import org.altlinux.xgradle.interfaces.configurators.ArtifactConfigurator;
+import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.execution.TaskExecutionGraph;
@@ -40,6 +42,12 @@ class DefaultResolutionReporterTests {
     @Mock
     private ArtifactConfigurator configurator;
 
+    @Mock
+    private PomDataCache pomDataCache;
+
+    @Mock
+    private PomHierarchyLoader hierarchyLoader;
+
     @Mock
     private Gradle gradle;
 
@@ -55,7 +63,7 @@ class DefaultResolutionReporterTests {
     @Test
     @DisplayName("Does not register task graph when substitutions empty")
     void skipsTaskGraphWhenEmpty() {
-        DefaultResolutionReporter reporter = new DefaultResolutionReporter(configurator);
+        DefaultResolutionReporter reporter = new DefaultResolutionReporter(configurator, pomDataCache, hierarchyLoader);
 
         when(gradle.getRootProject()).thenReturn(root);
         when(root.getLogger()).thenReturn(logger);
@@ -64,12 +72,14 @@ class DefaultResolutionReporterTests {
         reporter.report(ctx);
 
         verify(graph, never()).whenReady(any(Action.class));
+        verify(pomDataCache).logStats(logger);
+        verify(hierarchyLoader).logStats(logger);
     }
 
     @Test
     @DisplayName("Registers task graph when substitutions present")
     void registersTaskGraphWhenNeeded() {
-        DefaultResolutionReporter reporter = new DefaultResolutionReporter(configurator);
+        DefaultResolutionReporter reporter = new DefaultResolutionReporter(configurator, pomDataCache, hierarchyLoader);
 
         when(gradle.getRootProject()).thenReturn(root);
         when(root.getLogger()).thenReturn(logger);
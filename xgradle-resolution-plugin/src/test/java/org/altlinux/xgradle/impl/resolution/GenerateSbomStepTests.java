@@ -17,6 +17,7 @@ package org.altlinux.xgradle.impl.resolution;
 
 import org.altlinux.xgradle.impl.enums.SbomFormat;
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
+import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.interfaces.processors.PluginProcessor;
 import org.altlinux.xgradle.interfaces.services.SbomGenerationService;
 import org.gradle.api.Action;
@@ -33,10 +34,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,7 +75,7 @@ class GenerateSbomStepTests {
     @Test
     @DisplayName("Snapshots dependencies and delegates generation with plugin artifacts")
     void snapshotsDependenciesAndDelegatesGenerationWithPluginArtifacts() {
-        System.setProperty("generate.sbom", "spdx");
+        System.setProperty("generate.sbom", "spdx, cyclonedx");
 
         MavenCoordinate dependency = MavenCoordinate.builder()
                 .groupId("org.example")
@@ -88,6 +92,8 @@ class GenerateSbomStepTests {
         when(gradle.getRootProject()).thenReturn(rootProject);
         when(rootProject.getLogger()).thenReturn(logger);
         when(pluginProcessor.getResolvedPluginArtifacts()).thenReturn(List.of(pluginArtifact));
+        CompletableFuture<List<SbomComponent>> pendingComponents = new CompletableFuture<>();
+        when(sbomGenerationService.collectInBackground(any(), any())).thenReturn(pendingComponents);
 
         doAnswer(invocation -> {
             @SuppressWarnings("unchecked")
@@ -105,16 +111,19 @@ class GenerateSbomStepTests {
         );
         step.execute(resolutionContext);
 
-        verify(sbomGenerationService).generate(
-                eq(gradle),
-                eq(SbomFormat.SPDX),
+        verify(sbomGenerationService).collectInBackground(
                 argThat(this::containsDependency),
                 argThat(plugins -> containsCoordinate(
                         plugins,
                         "com.acme.plugin",
                         "awesome-gradle-plugin",
                         "2.0.0"
-                )),
+                ))
+        );
+        verify(sbomGenerationService).generate(
+                eq(gradle),
+                eq(Set.of(SbomFormat.SPDX, SbomFormat.CYCLONEDX)),
+                same(pendingComponents),
                 eq(logger)
         );
     }
@@ -19,6 +19,7 @@ import org.altlinux.xgradle.impl.collectors.DefaultSbomComponentCollector;
 import org.altlinux.xgradle.impl.enums.SbomComponentKind;
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
 import org.altlinux.xgradle.impl.models.SbomComponent;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
 import org.altlinux.xgradle.interfaces.resolution.ResolvedArtifactsRegistry;
 import org.altlinux.xgradle.interfaces.services.PomMetadata;
 import org.altlinux.xgradle.interfaces.services.PomMetadataLicense;
@@ -36,7 +37,9 @@ import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -51,6 +54,9 @@ class DefaultSbomComponentCollectorTests {
     @Mock
     private PomMetadataReader pomMetadataReader;
 
+    @Mock
+    private JarCoordinatesIndex jarCoordinatesIndex;
+
     @Test
     @DisplayName("Collects library plugin and resolved jar components")
     void collectsLibraryPluginAndResolvedJarComponents(@TempDir Path tempDir) throws Exception {
@@ -88,7 +94,8 @@ class DefaultSbomComponentCollectorTests {
                 pomPath
         );
 
-        DefaultSbomComponentCollector collector = new DefaultSbomComponentCollector(pomMetadataReader);
+        DefaultSbomComponentCollector collector =
+                new DefaultSbomComponentCollector(pomMetadataReader, jarCoordinatesIndex);
         List<SbomComponent> components = collector.collect(
                 root,
                 List.of(library, bom),
@@ -141,7 +148,8 @@ class DefaultSbomComponentCollectorTests {
                 null
         );
 
-        DefaultSbomComponentCollector collector = new DefaultSbomComponentCollector(pomMetadataReader);
+        DefaultSbomComponentCollector collector =
+                new DefaultSbomComponentCollector(pomMetadataReader, jarCoordinatesIndex);
         List<SbomComponent> components = collector.collect(
                 root,
                 List.of(missingGroup, noPomPath),
@@ -156,6 +164,36 @@ class DefaultSbomComponentCollectorTests {
         verifyNoInteractions(pomMetadataReader);
     }
 
+    @Test
+    @DisplayName("Reports resolved jars by their packaged coordinates")
+    void reportsResolvedJarsByPackagedCoordinates(@TempDir Path tempDir) throws Exception {
+        Project root = ProjectBuilder.builder().withName("root").build();
+        Set<File> resolvedJars = ResolvedArtifactsRegistry.getOrCreate(root);
+        Path renamed = Files.createFile(tempDir.resolve("core.jar"));
+        Path shaded = Files.createFile(tempDir.resolve("tool-all-2.0.jar"));
+        resolvedJars.add(renamed.toFile());
+        resolvedJars.add(shaded.toFile());
+
+        MavenCoordinate library = coordinate("org.example", "core-lib", "1.0.0", "jar", null);
+        when(jarCoordinatesIndex.getCoordinates(anyCollection())).thenReturn(Map.of(
+                renamed, List.of(library),
+                shaded, List.of(
+                        coordinate("org.example", "tool", "2.0", "jar", null),
+                        coordinate("org.example", "tool-all", "2.0", "jar", null),
+                        coordinate("com.other", "bundled", "0.1", "jar", null)
+                )
+        ));
+
+        DefaultSbomComponentCollector collector =
+                new DefaultSbomComponentCollector(pomMetadataReader, jarCoordinatesIndex);
+        List<SbomComponent> components = collector.collect(root, List.of(library), null);
+
+        assertEquals(
+                List.of("org.example:core-lib:1.0.0", "org.example:tool-all:2.0"),
+                components.stream().map(SbomComponent::uniqueKey).sorted().collect(Collectors.toList())
+        );
+    }
+
     private MavenCoordinate coordinate(
             String groupId,
             String artifactId,
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.indexing;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+
+import org.altlinux.xgradle.impl.indexing.IndexingModule;
+import org.altlinux.xgradle.impl.model.MavenCoordinate;
+import org.altlinux.xgradle.interfaces.collectors.PomFilesCollector;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
+import org.altlinux.xgradle.interfaces.parsers.PomParser;
+
+import org.gradle.api.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Ivan Khanas xeno@altlinux.org
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JarCoordinatesIndex contract")
+class JarCoordinatesIndexTests {
+
+    private static final String CACHE_DIR_KEY = "xgradle.cache.dir";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private PomFilesCollector pomFilesCollector;
+
+    @Mock
+    private PomParser pomParser;
+
+    @Mock
+    private Logger logger;
+
+    private Path cacheDir;
+    private String prevCacheDir;
+
+    @BeforeEach
+    void setUp() {
+        prevCacheDir = System.getProperty(CACHE_DIR_KEY);
+        cacheDir = tempDir.resolve("cache");
+        System.setProperty(CACHE_DIR_KEY, cacheDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (prevCacheDir == null) {
+            System.clearProperty(CACHE_DIR_KEY);
+        } else {
+            System.setProperty(CACHE_DIR_KEY, prevCacheDir);
+        }
+    }
+
+    @Test
+    @DisplayName("Reads packaged coordinates from deflated and stored entries")
+    void readsPackagedCoordinates() throws Exception {
+        Path shaded = writeJar("bar.jar",
+                "META-INF/maven/org.example/foo/pom.properties", "groupId=org.example\nartifactId=foo\nversion=1.2\n",
+                "META-INF/maven/com.other/bundled/pom.properties",
+                "groupId=com.other\nartifactId=bundled\nversion=3\n");
+        Path plain = writeJar("plain.jar", "org/example/Foo.class", "class");
+        Path broken = Files.writeString(tempDir.resolve("broken.jar"), "not a zip archive");
+
+        Map<Path, List<MavenCoordinate>> coordinates = createIndex().getCoordinates(
+                List.of(shaded, plain, broken, tempDir.resolve("missing.jar")));
+
+        assertEquals(List.of(shaded, plain, broken), List.copyOf(coordinates.keySet()));
+        assertEquals(List.of("org.example:foo:1.2", "com.other:bundled:3"), gavs(coordinates.get(shaded)));
+        assertTrue(coordinates.get(plain).isEmpty());
+        assertTrue(coordinates.get(broken).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Persists the index and reads changed jars again")
+    void persistsIndexByPathAndModificationTime() throws Exception {
+        Path jar = writeJar("foo.jar",
+                "META-INF/maven/org.example/foo/pom.properties", "groupId=org.example\nartifactId=foo\nversion=1.0\n");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000_000L));
+        createIndex().getCoordinates(List.of(jar));
+
+        Path cacheFile = cacheDir.resolve("jar-coordinates.tsv");
+        String cached = Files.readString(cacheFile);
+        assertTrue(cached.contains(jar.toAbsolutePath() + "\t"), cached);
+        Files.writeString(cacheFile, cached.replace("org.example:foo:1.0", "org.example:foo:cached"));
+
+        assertEquals(List.of("org.example:foo:cached"), gavs(createIndex().getCoordinates(List.of(jar)).get(jar)));
+
+        writeJar("foo.jar",
+                "META-INF/maven/org.example/foo/pom.properties", "groupId=org.example\nartifactId=foo\nversion=2.0\n");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(2_000_000L));
+
+        assertEquals(List.of("org.example:foo:2.0"), gavs(createIndex().getCoordinates(List.of(jar)).get(jar)));
+        assertTrue(Files.readString(cacheFile).contains("org.example:foo:2.0"));
+    }
+
+    private JarCoordinatesIndex createIndex() {
+        return Guice.createInjector(
+                Modules.override(new IndexingModule()).with(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(PomFilesCollector.class).toInstance(pomFilesCollector);
+                        bind(PomParser.class).toInstance(pomParser);
+                        bind(Logger.class).toInstance(logger);
+                    }
+                })
+        ).getInstance(JarCoordinatesIndex.class);
+    }
+
+    /**
+     * Writes a zip archive from name and content pairs, storing every second entry uncompressed.
+     */
+    private Path writeJar(String fileName, String... entries) throws Exception {
+        Path jar = tempDir.resolve(fileName);
+        try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                byte[] content = entries[i + 1].getBytes(StandardCharsets.ISO_8859_1);
+                ZipEntry entry = new ZipEntry(entries[i]);
+                if (i % 4 == 2) {
+                    CRC32 crc = new CRC32();
+                    crc.update(content);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(content.length);
+                    entry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(entry);
+                zip.write(content);
+                zip.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private List<String> gavs(List<MavenCoordinate> coordinates) {
+        return coordinates.stream()
+                .map(c -> c.getGroupId() + ":" + c.getArtifactId() + ":" + c.getVersion())
+                .collect(Collectors.toList());
+    }
+}
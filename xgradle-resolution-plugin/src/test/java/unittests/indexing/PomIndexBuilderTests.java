@@ -24,6 +24,8 @@ import org.altlinux.xgradle.interfaces.indexing.PomIndex;
 import org.altlinux.xgradle.interfaces.indexing.PomIndexBuilder;
 import org.altlinux.xgradle.impl.indexing.IndexingModule;
 
+import org.gradle.api.logging.Logger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,6 +50,9 @@ class PomIndexBuilderTests {
     @Mock
     private PomIndex pomIndex;
 
+    @Mock
+    private Logger logger;
+
     private PomIndexBuilder pomIndexBuilder;
 
     @BeforeEach
@@ -57,6 +62,7 @@ class PomIndexBuilderTests {
                     @Override
                     protected void configure() {
                         bind(PomIndex.class).toInstance(pomIndex);
+                        bind(Logger.class).toInstance(logger);
                     }
                 })
         );
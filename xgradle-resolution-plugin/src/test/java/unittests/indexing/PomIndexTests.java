@@ -40,6 +40,8 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -154,4 +156,36 @@ class PomIndexTests {
         assertTrue(pomIndex.find("g", "a").isPresent());
         assertTrue(pomIndex.findAllForGroup("missing").isEmpty());
     }
+
+    @Test
+    @DisplayName("buildAsync builds in background, lookups wait and same files are not parsed again")
+    void buildAsyncWaitsAndSkipsUnchangedRebuild() {
+        Path root = Path.of("/repo");
+        Path pom = root.resolve("a.pom");
+        CountDownLatch parsing = new CountDownLatch(1);
+
+        MavenCoordinate a1 = MavenCoordinate.builder()
+                .groupId("g")
+                .artifactId("a")
+                .version("1")
+                .build();
+
+        when(pomFilesCollector.collect(root)).thenReturn(List.of(pom));
+        when(pomParser.parsePom(pom)).thenAnswer(invocation -> {
+            assertTrue(parsing.await(10, TimeUnit.SECONDS));
+            return a1;
+        });
+
+        pomIndex.buildAsync(root);
+        pomIndex.buildAsync(root);
+        parsing.countDown();
+
+        assertEquals(Optional.of(a1), pomIndex.find("g", "a"));
+
+        pomIndex.build(root);
+        pomIndex.build(List.of(pom));
+
+        verify(pomFilesCollector, times(1)).collect(root);
+        verify(pomParser, times(1)).parsePom(pom);
+    }
 }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.indexing;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+
+import org.altlinux.xgradle.impl.indexing.IndexingModule;
+import org.altlinux.xgradle.interfaces.collectors.PomFilesCollector;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
+import org.altlinux.xgradle.interfaces.parsers.PomParser;
+
+import org.gradle.api.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Ivan Khanas xeno@altlinux.org
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SystemJarIndex contract")
+class SystemJarIndexTests {
+
+    private static final String REPOSITORY_DIR_KEY = "xgradle.repository.dir";
+    private static final String SCAN_DEPTH_KEY = "xgradle.scan.depth";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private PomFilesCollector pomFilesCollector;
+
+    @Mock
+    private PomParser pomParser;
+
+    @Mock
+    private Logger logger;
+
+    private SystemJarIndex systemJarIndex;
+    private Path repositoryDir;
+    private String prevRepositoryDir;
+    private String prevScanDepth;
+
+    @BeforeEach
+    void setUp() {
+        prevRepositoryDir = System.getProperty(REPOSITORY_DIR_KEY);
+        prevScanDepth = System.getProperty(SCAN_DEPTH_KEY);
+        repositoryDir = tempDir.resolve("repository");
+        System.setProperty(REPOSITORY_DIR_KEY, repositoryDir.toString());
+        System.setProperty(SCAN_DEPTH_KEY, "2");
+
+        systemJarIndex = createIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        restoreProperty(REPOSITORY_DIR_KEY, prevRepositoryDir);
+        restoreProperty(SCAN_DEPTH_KEY, prevScanDepth);
+    }
+
+    @Test
+    @DisplayName("Indexes jars up to scan depth and keeps the first directory in search order")
+    void indexesJarsInSearchOrder() throws Exception {
+        Path lib = tempDir.resolve("java");
+        Path nested = Files.createDirectories(lib.resolve("a/b"));
+        Path tooDeep = Files.createDirectories(lib.resolve("a/b/c"));
+        Path rootJar = Files.createFile(lib.resolve("dup.jar"));
+        Files.createFile(nested.resolve("dup.jar"));
+        Path nestedJar = Files.createFile(nested.resolve("nested-1.0.jar"));
+        Files.createFile(tooDeep.resolve("deep.jar"));
+        Files.createFile(lib.resolve("notes.txt"));
+        Path link = Files.createSymbolicLink(lib.resolve("nested.jar"), nestedJar);
+
+        Map<String, Path> jars = systemJarIndex.getJars(List.of(lib.toFile()));
+
+        assertEquals(3, jars.size(), jars.toString());
+        assertEquals(rootJar, jars.get("dup.jar"));
+        assertEquals(nestedJar, jars.get("nested-1.0.jar"));
+        assertEquals(link, jars.get("nested.jar"));
+        assertSame(jars, systemJarIndex.getJars(List.of(lib.toFile())));
+    }
+
+    @Test
+    @DisplayName("Links indexed jars into one reusable repository directory")
+    void linksJarsIntoRepositoryDirectory() throws Exception {
+        Path lib = tempDir.resolve("java");
+        Path nested = Files.createDirectories(lib.resolve("sub"));
+        Path jar = Files.createFile(nested.resolve("lib-2.0.jar"));
+
+        List<File> dirs = systemJarIndex.getRepositoryDirs(List.of(lib.toFile()));
+
+        assertEquals(1, dirs.size());
+        Path viewDir = dirs.get(0).toPath();
+        assertEquals(repositoryDir, viewDir.getParent());
+        Path linked = viewDir.resolve("lib-2.0.jar");
+        assertTrue(Files.isSymbolicLink(linked));
+        assertEquals(jar.toFile(), systemJarIndex.toSystemFile(linked.toFile()));
+        assertEquals(jar.toFile(), systemJarIndex.toSystemFile(jar.toFile()));
+
+        assertEquals(dirs, createIndex().getRepositoryDirs(List.of(lib.toFile())));
+        try (var entries = Files.list(repositoryDir)) {
+            assertEquals(1, entries.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deletes repository directories unused for a month and stale temporary directories")
+    void prunesUnusedRepositoryDirectories() throws Exception {
+        Path lib = tempDir.resolve("java");
+        Files.createDirectories(lib);
+        Files.createFile(lib.resolve("lib.jar"));
+        Instant now = Instant.now();
+        Path recent = repositoryDir(String.format("%032x", 1), now.minus(Duration.ofDays(1)));
+        Path olderButUsed = repositoryDir(String.format("%032x", 2), now.minus(Duration.ofDays(29)));
+        Path unused = repositoryDir(String.format("%032x", 3), now.minus(Duration.ofDays(31)));
+        Path longUnused = repositoryDir(String.format("%032x", 4), now.minus(Duration.ofDays(365)));
+        Path staleTemp = repositoryDir(String.format("%032x", 5) + ".123", now.minus(Duration.ofDays(1)));
+        Path freshTemp = repositoryDir(String.format("%032x", 6) + ".456", now);
+        Path foreign = repositoryDir("keep-me", now.minus(Duration.ofDays(365)));
+
+        Path viewDir = systemJarIndex.getRepositoryDirs(List.of(lib.toFile())).get(0).toPath();
+
+        assertTrue(Files.isDirectory(viewDir));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(olderButUsed));
+        assertFalse(Files.exists(unused));
+        assertFalse(Files.exists(longUnused));
+        assertFalse(Files.exists(staleTemp));
+        assertTrue(Files.exists(freshTemp));
+        assertTrue(Files.exists(foreign));
+    }
+
+    @Test
+    @DisplayName("Touches a reused repository directory")
+    void touchesReusedRepositoryDirectory() throws Exception {
+        Path lib = tempDir.resolve("java");
+        Files.createDirectories(lib);
+        Files.createFile(lib.resolve("lib.jar"));
+        Path viewDir = systemJarIndex.getRepositoryDirs(List.of(lib.toFile())).get(0).toPath();
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(10)));
+        Files.setLastModifiedTime(viewDir, old);
+
+        assertEquals(viewDir, createIndex().getRepositoryDirs(List.of(lib.toFile())).get(0).toPath());
+
+        assertTrue(Files.getLastModifiedTime(viewDir).compareTo(old) > 0);
+    }
+
+    @Test
+    @DisplayName("Falls back to directories holding jars when the repository directory cannot be created")
+    void fallsBackToJarDirectories() throws Exception {
+        Files.writeString(repositoryDir, "not a directory");
+        Path lib = tempDir.resolve("java");
+        Path nested = Files.createDirectories(lib.resolve("sub"));
+        Files.createDirectories(lib.resolve("empty"));
+        Files.createFile(nested.resolve("lib.jar"));
+
+        List<File> dirs = systemJarIndex.getRepositoryDirs(List.of(lib.toFile()));
+
+        assertEquals(List.of(nested.toFile()), dirs);
+    }
+
+    private Path repositoryDir(String name, Instant lastUsed) throws Exception {
+        Path dir = Files.createDirectories(repositoryDir.resolve(name));
+        Files.createFile(dir.resolve("old.jar"));
+        Files.setLastModifiedTime(dir, FileTime.from(lastUsed));
+        return dir;
+    }
+
+    private SystemJarIndex createIndex() {
+        Injector injector = Guice.createInjector(
+                Modules.override(new IndexingModule()).with(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(PomFilesCollector.class).toInstance(pomFilesCollector);
+                        bind(PomParser.class).toInstance(pomParser);
+                        bind(Logger.class).toInstance(logger);
+                    }
+                })
+        );
+        return injector.getInstance(SystemJarIndex.class);
+    }
+
+    private void restoreProperty(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 import org.altlinux.xgradle.impl.managers.ManagersModule;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 import org.altlinux.xgradle.interfaces.managers.PluginManager;
 import org.altlinux.xgradle.interfaces.managers.RepositoryManager;
 import org.altlinux.xgradle.interfaces.managers.ScopeManager;
@@ -82,12 +83,17 @@ class RepositoryManagerTests {
     @Mock
     private FlatDirectoryArtifactRepository flatRepo;
 
+    @Mock
+    private SystemJarIndex systemJarIndex;
+
     @Test
-    @DisplayName("configureDependenciesRepository adds flat repo to front")
+    @DisplayName("configureDependenciesRepository adds flat repo with indexed dirs to front once")
     void configuresDependenciesRepo(@TempDir Path tempDir) throws Exception {
         Path base = tempDir.resolve("repo");
+        Path view = tempDir.resolve("view");
         Files.createDirectories(base);
-        Files.createDirectories(base.resolve("nested"));
+        Files.createDirectories(view);
+        when(systemJarIndex.getRepositoryDirs(List.of(base.toFile()))).thenReturn(List.of(view.toFile()));
 
         Injector injector = Guice.createInjector(
                 Modules.override(new ManagersModule()).with(new AbstractModule() {
@@ -96,6 +102,7 @@ class RepositoryManagerTests {
                         bind(PluginManager.class).toInstance(pluginManager);
                         bind(ScopeManager.class).toInstance(scopeManager);
                         bind(TransitiveDependencyManager.class).toInstance(transitiveDependencyManager);
+                        bind(SystemJarIndex.class).toInstance(systemJarIndex);
                         bind(Logger.class).toInstance(logger);
                     }
                 })
@@ -105,6 +112,7 @@ class RepositoryManagerTests {
         Project project = ProjectBuilder.builder().build();
         RepositoryHandler repos = project.getRepositories();
 
+        manager.configureDependenciesRepository(repos, List.of(base.toFile()));
         manager.configureDependenciesRepository(repos, List.of(base.toFile()));
 
         assertEquals(1, repos.size());
@@ -112,7 +120,7 @@ class RepositoryManagerTests {
 
         FlatDirectoryArtifactRepository flat = (FlatDirectoryArtifactRepository) repos.get(0);
         Set<File> dirs = flat.getDirs();
-        assertTrue(dirs.contains(base.toFile()));
+        assertEquals(Set.of(view.toFile()), dirs);
     }
 
     @Test
@@ -127,6 +135,7 @@ class RepositoryManagerTests {
                         bind(PluginManager.class).toInstance(pluginManager);
                         bind(ScopeManager.class).toInstance(scopeManager);
                         bind(TransitiveDependencyManager.class).toInstance(transitiveDependencyManager);
+                        bind(SystemJarIndex.class).toInstance(systemJarIndex);
                         bind(Logger.class).toInstance(logger);
                     }
                 })
@@ -143,11 +152,11 @@ class RepositoryManagerTests {
     }
 
     @Test
-    @DisplayName("configurePluginsRepository wires flatDir with scanned dirs")
+    @DisplayName("configurePluginsRepository wires flatDir with indexed dirs")
     void configuresPluginRepositories(@TempDir Path tempDir) throws Exception {
         Path base = tempDir.resolve("plugins");
         Files.createDirectories(base);
-        Files.createDirectories(base.resolve("nested"));
+        when(systemJarIndex.getRepositoryDirs(List.of(base.toFile()))).thenReturn(List.of(base.toFile()));
 
         when(settings.getPluginManagement()).thenReturn(pluginManagement);
         when(pluginManagement.getRepositories()).thenReturn(repos);
@@ -166,6 +175,7 @@ class RepositoryManagerTests {
                         bind(PluginManager.class).toInstance(pluginManager);
                         bind(ScopeManager.class).toInstance(scopeManager);
                         bind(TransitiveDependencyManager.class).toInstance(transitiveDependencyManager);
+                        bind(SystemJarIndex.class).toInstance(systemJarIndex);
                         bind(Logger.class).toInstance(logger);
                     }
                 })
@@ -176,6 +186,6 @@ class RepositoryManagerTests {
 
         verify(repos).flatDir(any(Action.class));
         verify(flatRepo).setName("SystemPluginsRepo");
-        verify(flatRepo, atLeastOnce()).dir(any(File.class));
+        verify(flatRepo).dir(base.toFile());
     }
 }
@@ -52,7 +52,7 @@ class PomFinderTests {
     private Logger logger;
 
     @Test
-    @DisplayName("Delegates to PomIndex and builds on construction")
+    @DisplayName("Delegates to PomIndex and starts building it on first lookup")
     void delegatesToIndex(@TempDir Path tempDir) {
         MavenCoordinate coord = MavenCoordinate.builder()
                 .groupId("g")
@@ -78,8 +78,9 @@ class PomFinderTests {
 
             PomFinder finder = injector.getInstance(PomFinder.class);
 
-            verify(pomIndex).build(Path.of(tempDir.toString()));
+            verifyNoInteractions(pomIndex);
             assertEquals(coord, finder.findPomForArtifact("g", "a"));
+            verify(pomIndex, atLeastOnce()).buildAsync(Path.of(tempDir.toString()));
             assertEquals(List.of(coord), finder.findAllPomsForGroup("g"));
         } finally {
             if (prev != null) {
@@ -91,4 +91,112 @@ class PomHierarchyLoaderTests {
         assertEquals("parent", hierarchy.get(0).getArtifactId());
         assertEquals("child", hierarchy.get(1).getArtifactId());
     }
+
+    @Test
+    @DisplayName("Caches compact model projections and unreadable files")
+    void cachesCompactProjections(@TempDir Path tempDir) throws Exception {
+        Path pom = tempDir.resolve("lib.pom");
+        Path broken = tempDir.resolve("broken.pom");
+
+        Files.writeString(pom,
+                "<project>\n" +
+                        "  <modelVersion>4.0.0</modelVersion>\n" +
+                        "  <groupId>g</groupId>\n" +
+                        "  <artifactId>lib</artifactId>\n" +
+                        "  <version>1</version>\n" +
+                        "  <description>Library</description>\n" +
+                        "  <properties><dep.version>2</dep.version></properties>\n" +
+                        "  <dependencies>\n" +
+                        "    <dependency>\n" +
+                        "      <groupId>g</groupId>\n" +
+                        "      <artifactId>dep</artifactId>\n" +
+                        "      <version>${dep.version}</version>\n" +
+                        "      <scope>test</scope>\n" +
+                        "      <exclusions><exclusion><groupId>x</groupId><artifactId>y</artifactId></exclusion>" +
+                        "</exclusions>\n" +
+                        "    </dependency>\n" +
+                        "  </dependencies>\n" +
+                        "  <build><plugins><plugin><artifactId>maven-jar-plugin</artifactId></plugin>" +
+                        "</plugins></build>\n" +
+                        "</project>\n");
+        Files.writeString(broken, "<project>");
+
+        Injector injector = Guice.createInjector(
+                Modules.override(new MavenModule()).with(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(Logger.class).toInstance(logger);
+                        bind(PomFinder.class).toInstance(pomFinder);
+                    }
+                })
+        );
+
+        PomHierarchyLoader loader = injector.getInstance(PomHierarchyLoader.class);
+        Model model = loader.loadHierarchy(pom).get(0);
+
+        assertEquals("lib", model.getArtifactId());
+        assertEquals("2", model.getProperties().getProperty("dep.version"));
+        assertEquals(1, model.getDependencies().size());
+        assertEquals("${dep.version}", model.getDependencies().get(0).getVersion());
+        assertEquals("test", model.getDependencies().get(0).getScope());
+        assertTrue(model.getDependencies().get(0).getExclusions().isEmpty());
+        assertNull(model.getDescription());
+        assertNull(model.getBuild());
+
+        assertTrue(loader.loadHierarchy(broken).isEmpty());
+        assertTrue(loader.loadHierarchy(broken).isEmpty());
+        Model cached = injector.getInstance(PomHierarchyLoader.class).loadHierarchy(pom).get(0);
+        assertNotSame(model, cached);
+        assertEquals("lib", cached.getArtifactId());
+
+        assertEquals(2, loader.getCachedModelCount());
+        assertEquals(4, loader.getCachedModelWeight());
+    }
+
+    @Test
+    @DisplayName("Returns copies that do not share state with the cache")
+    void returnsIndependentCopies(@TempDir Path tempDir) throws Exception {
+        Path pom = tempDir.resolve("lib.pom");
+
+        Files.writeString(pom,
+                "<project>\n" +
+                        "  <modelVersion>4.0.0</modelVersion>\n" +
+                        "  <groupId>g</groupId>\n" +
+                        "  <artifactId>lib</artifactId>\n" +
+                        "  <version>1</version>\n" +
+                        "  <properties><dep.version>2</dep.version></properties>\n" +
+                        "  <dependencies>\n" +
+                        "    <dependency>\n" +
+                        "      <groupId>g</groupId>\n" +
+                        "      <artifactId>dep</artifactId>\n" +
+                        "      <version>${dep.version}</version>\n" +
+                        "    </dependency>\n" +
+                        "  </dependencies>\n" +
+                        "</project>\n");
+
+        Injector injector = Guice.createInjector(
+                Modules.override(new MavenModule()).with(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(Logger.class).toInstance(logger);
+                        bind(PomFinder.class).toInstance(pomFinder);
+                    }
+                })
+        );
+
+        PomHierarchyLoader loader = injector.getInstance(PomHierarchyLoader.class);
+        Model model = loader.loadHierarchy(pom).get(0);
+        model.setVersion("9");
+        model.getProperties().setProperty("dep.version", "9");
+        model.getDependencies().get(0).setVersion("9");
+        model.getDependencies().clear();
+
+        Model next = loader.loadHierarchy(pom).get(0);
+
+        assertEquals("1", next.getVersion());
+        assertEquals("2", next.getProperties().getProperty("dep.version"));
+        assertEquals(1, next.getDependencies().size());
+        assertEquals("${dep.version}", next.getDependencies().get(0).getVersion());
+        assertEquals(1, loader.getCachedModelCount());
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package unittests.parsers;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+import org.altlinux.xgradle.impl.parsers.ParsersModule;
+import org.altlinux.xgradle.interfaces.caches.PomDataCache;
+import org.altlinux.xgradle.interfaces.maven.PomHierarchyLoader;
+import org.altlinux.xgradle.interfaces.parsers.PropertyInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Ivan Khanas xeno@altlinux.org
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PropertyInterpolator contract")
+class PropertyInterpolatorTests {
+
+    @Mock
+    private PomDataCache cache;
+
+    @Mock
+    private PomHierarchyLoader loader;
+
+    private PropertyInterpolator interpolator;
+
+    @BeforeEach
+    void setUp() {
+        interpolator = Guice.createInjector(
+                Modules.override(new ParsersModule()).with(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(PomDataCache.class).toInstance(cache);
+                        bind(PomHierarchyLoader.class).toInstance(loader);
+                    }
+                })
+        ).getInstance(PropertyInterpolator.class);
+    }
+
+    @Test
+    @DisplayName("Resolves chained references regardless of declaration order")
+    void resolvesChainedReferences() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("full", "${prefix}-${version}");
+        properties.put("prefix", "lib-${name}");
+        properties.put("name", "core");
+        properties.put("version", "1.0");
+
+        Map<String, String> resolved = interpolator.resolveAll(properties);
+
+        assertEquals("lib-core-1.0", resolved.get("full"));
+        assertEquals("lib-core", resolved.get("prefix"));
+        assertEquals("lib-core-1.0/x", interpolator.interpolate("${full}/x", resolved));
+    }
+
+    @Test
+    @DisplayName("Leaves unknown and cyclic references unresolved")
+    void leavesUnknownAndCyclicReferences() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("first", "${second}");
+        properties.put("second", "${first}");
+        properties.put("partial", "a-${missing}");
+
+        Map<String, String> resolved = interpolator.resolveAll(properties);
+
+        assertEquals("a-${missing}", resolved.get("partial"));
+        assertTrue(resolved.get("first").contains("${"));
+        assertTrue(resolved.get("second").contains("${"));
+        assertEquals("${missing}-b", interpolator.interpolate("${missing}-b", resolved));
+    }
+
+    @Test
+    @DisplayName("Keeps values without complete placeholders intact")
+    void keepsPlainValues() {
+        Map<String, String> resolved = interpolator.resolveAll(Map.of("key", "value"));
+
+        assertEquals("plain", interpolator.interpolate("plain", resolved));
+        assertEquals("${key", interpolator.interpolate("${key", resolved));
+        assertEquals("value}", interpolator.interpolate("${key}}", resolved));
+        assertNull(interpolator.interpolate(null, resolved));
+    }
+}
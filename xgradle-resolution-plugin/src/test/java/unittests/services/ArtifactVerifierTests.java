@@ -21,9 +21,12 @@ import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 import org.altlinux.xgradle.impl.model.MavenCoordinate;
 import org.altlinux.xgradle.impl.services.ServicesModule;
+import org.altlinux.xgradle.interfaces.indexing.JarCoordinatesIndex;
+import org.altlinux.xgradle.interfaces.indexing.SystemJarIndex;
 import org.altlinux.xgradle.interfaces.services.ArtifactVerifier;
 import org.altlinux.xgradle.interfaces.services.PomMetadataReader;
 import org.altlinux.xgradle.interfaces.services.VersionScanner;
+import org.gradle.api.logging.Logger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -33,8 +36,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Ivan Khanas xeno@altlinux.org
@@ -49,6 +55,15 @@ class ArtifactVerifierTests {
     @Mock
     private PomMetadataReader pomMetadataReader;
 
+    @Mock
+    private SystemJarIndex systemJarIndex;
+
+    @Mock
+    private JarCoordinatesIndex jarCoordinatesIndex;
+
+    @Mock
+    private Logger logger;
+
     @Test
     @DisplayName("Recognizes POM packaging without jar file")
     void pomPackagingAlwaysExists() {
@@ -58,6 +73,9 @@ class ArtifactVerifierTests {
                     protected void configure() {
                         bind(VersionScanner.class).toInstance(versionScanner);
                         bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                        bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                        bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                        bind(Logger.class).toInstance(logger);
                     }
                 })
         );
@@ -87,6 +105,9 @@ class ArtifactVerifierTests {
                         protected void configure() {
                             bind(VersionScanner.class).toInstance(versionScanner);
                             bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                            bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                            bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                            bind(Logger.class).toInstance(logger);
                         }
                     })
             );
@@ -107,6 +128,47 @@ class ArtifactVerifierTests {
         }
     }
 
+    @Test
+    @DisplayName("Finds jar by packaged coordinates when the file name differs")
+    void findsJarByPackagedCoordinates(@TempDir Path tempDir) throws Exception {
+        String prev = System.getProperty("java.library.dir");
+        System.setProperty("java.library.dir", tempDir.toString());
+        try {
+            Path jar = Files.writeString(tempDir.resolve("renamed.jar"), "jar");
+            MavenCoordinate packaged = MavenCoordinate.builder()
+                    .groupId("g")
+                    .artifactId("lib")
+                    .version("2.0")
+                    .build();
+            when(systemJarIndex.getJars(anyList())).thenReturn(Map.of("renamed.jar", jar));
+            when(jarCoordinatesIndex.getCoordinates(anyCollection())).thenReturn(Map.of(jar, List.of(packaged)));
+
+            Injector injector = Guice.createInjector(
+                    Modules.override(new ServicesModule()).with(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(VersionScanner.class).toInstance(versionScanner);
+                            bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                            bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                            bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                            bind(Logger.class).toInstance(logger);
+                        }
+                    })
+            );
+            ArtifactVerifier verifier = injector.getInstance(ArtifactVerifier.class);
+
+            assertTrue(verifier.verifyArtifactExists(packaged.toBuilder().version("1.0").build()));
+            assertFalse(verifier.verifyArtifactExists(packaged.toBuilder().groupId("other").build()));
+            verify(jarCoordinatesIndex, times(1)).getCoordinates(anyCollection());
+        } finally {
+            if (prev != null) {
+                System.setProperty("java.library.dir", prev);
+            } else {
+                System.clearProperty("java.library.dir");
+            }
+        }
+    }
+
     @Test
     @DisplayName("Returns false for null coordinate")
     void returnsFalseForNullCoord() {
@@ -116,6 +178,9 @@ class ArtifactVerifierTests {
                     protected void configure() {
                         bind(VersionScanner.class).toInstance(versionScanner);
                         bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                        bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                        bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                        bind(Logger.class).toInstance(logger);
                     }
                 })
         );
@@ -133,6 +198,9 @@ class ArtifactVerifierTests {
                     protected void configure() {
                         bind(VersionScanner.class).toInstance(versionScanner);
                         bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                        bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                        bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                        bind(Logger.class).toInstance(logger);
                     }
                 })
         );
@@ -157,6 +225,9 @@ class ArtifactVerifierTests {
                         protected void configure() {
                             bind(VersionScanner.class).toInstance(versionScanner);
                             bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                            bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                            bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                            bind(Logger.class).toInstance(logger);
                         }
                     })
             );
@@ -187,6 +258,9 @@ class ArtifactVerifierTests {
                         protected void configure() {
                             bind(VersionScanner.class).toInstance(versionScanner);
                             bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                            bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                            bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                            bind(Logger.class).toInstance(logger);
                         }
                     })
             );
@@ -221,6 +295,9 @@ class ArtifactVerifierTests {
                         protected void configure() {
                             bind(VersionScanner.class).toInstance(versionScanner);
                             bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                            bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                            bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                            bind(Logger.class).toInstance(logger);
                         }
                     })
             );
@@ -256,6 +333,9 @@ class ArtifactVerifierTests {
                         protected void configure() {
                             bind(VersionScanner.class).toInstance(versionScanner);
                             bind(PomMetadataReader.class).toInstance(pomMetadataReader);
+                            bind(SystemJarIndex.class).toInstance(systemJarIndex);
+                            bind(JarCoordinatesIndex.class).toInstance(jarCoordinatesIndex);
+                            bind(Logger.class).toInstance(logger);
                         }
                     })
             );
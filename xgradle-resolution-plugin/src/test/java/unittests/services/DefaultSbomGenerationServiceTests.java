@@ -16,7 +16,6 @@
 package unittests.services;
 
 import org.altlinux.xgradle.impl.enums.SbomFormat;
-import org.altlinux.xgradle.impl.model.MavenCoordinate;
 import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.impl.services.DefaultSbomGenerationService;
 import org.altlinux.xgradle.interfaces.collectors.SbomComponentCollector;
@@ -32,9 +31,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.*;
@@ -66,33 +66,27 @@ class DefaultSbomGenerationServiceTests {
         root.setVersion("1.2.3");
         when(gradle.getRootProject()).thenReturn(root);
 
-        MavenCoordinate coordinate = MavenCoordinate.builder()
-                .groupId("org.example")
-                .artifactId("core")
-                .version("1.0.0")
-                .build();
-
-        Collection<SbomComponent> components = List.of(
+        List<SbomComponent> components = List.of(
                 SbomComponent.maven("org.example", "core", "1.0.0")
         );
-        when(sbomComponentCollector.collect(eq(root), anyCollection(), anyCollection()))
-                .thenReturn((List<SbomComponent>) components);
+        when(sbomComponentCollector.appendResolvedJars(root, components)).thenReturn(components);
+        when(sbomGenerator.generate(anyMap(), any(Path.class), anyString(), anyString(), anyCollection()))
+                .thenReturn(Map.of(SbomFormat.CYCLONEDX, true));
 
         DefaultSbomGenerationService service =
                 new DefaultSbomGenerationService(sbomGenerator, sbomComponentCollector);
         service.generate(
                 gradle,
-                SbomFormat.CYCLONEDX,
-                Map.of("org.example:core", coordinate),
-                List.of(),
+                Set.of(SbomFormat.CYCLONEDX),
+                CompletableFuture.completedFuture(components),
                 logger
         );
 
         verify(sbomGenerator).generate(
-                eq(SbomFormat.CYCLONEDX),
-                argThat(path -> path.toString().endsWith(
-                        "build/reports/xgradle/sbom-cyclonedx.json"
-                )),
+                argThat((Map<SbomFormat, Path> outputPaths) -> outputPaths.size() == 1
+                        && outputPaths.get(SbomFormat.CYCLONEDX).toString()
+                        .endsWith("build/reports/xgradle/sbom-cyclonedx.json")),
+                argThat((Path stateDirectory) -> stateDirectory.endsWith(Path.of("build", "tmp", "xgradle-sbom"))),
                 eq("demo-root"),
                 eq("1.2.3"),
                 eq(components)
@@ -105,11 +99,10 @@ class DefaultSbomGenerationServiceTests {
     void catchesRuntimeExceptionAndLogsWarning() {
         Project root = ProjectBuilder.builder().withName("demo-root").build();
         when(gradle.getRootProject()).thenReturn(root);
-        when(sbomComponentCollector.collect(eq(root), anyCollection(), anyCollection()))
-                .thenReturn(List.of());
+        when(sbomComponentCollector.appendResolvedJars(eq(root), anyList())).thenReturn(List.of());
         doThrow(new RuntimeException("boom")).when(sbomGenerator).generate(
-                any(),
-                any(),
+                anyMap(),
+                any(Path.class),
                 anyString(),
                 anyString(),
                 anyCollection()
@@ -120,12 +113,71 @@ class DefaultSbomGenerationServiceTests {
 
         assertDoesNotThrow(() -> service.generate(
                 gradle,
-                SbomFormat.SPDX,
-                Map.of(),
-                List.of(),
+                Set.of(SbomFormat.SPDX),
+                CompletableFuture.completedFuture(List.of()),
                 logger
         ));
 
         verify(logger).warn(eq("Failed to generate SBOM"), any(RuntimeException.class));
     }
+
+    @Test
+    @DisplayName("Collects Maven components in background and renders every format at build end")
+    void collectsInBackgroundAndMergesResolvedJars() {
+        Project root = ProjectBuilder.builder().withName("demo-root").build();
+        root.setVersion("1.2.3");
+        when(gradle.getRootProject()).thenReturn(root);
+
+        List<SbomComponent> mavenComponents = List.of(
+                SbomComponent.maven("org.example", "core", "1.0.0")
+        );
+        List<SbomComponent> mergedComponents = List.of(
+                SbomComponent.maven("org.example", "core", "1.0.0"),
+                SbomComponent.file("extra.jar")
+        );
+        when(sbomComponentCollector.collectMavenComponents(anyCollection(), anyCollection()))
+                .thenReturn(mavenComponents);
+        when(sbomComponentCollector.appendResolvedJars(root, mavenComponents))
+                .thenReturn(mergedComponents);
+        when(sbomGenerator.generate(anyMap(), any(Path.class), anyString(), anyString(), anyCollection()))
+                .thenReturn(Map.of(SbomFormat.SPDX, true, SbomFormat.CYCLONEDX, false));
+
+        DefaultSbomGenerationService service =
+                new DefaultSbomGenerationService(sbomGenerator, sbomComponentCollector);
+        CompletableFuture<List<SbomComponent>> pendingComponents =
+                service.collectInBackground(Map.of(), List.of());
+        service.generate(gradle, Set.of(SbomFormat.SPDX, SbomFormat.CYCLONEDX), pendingComponents, logger);
+
+        verify(sbomGenerator).generate(
+                argThat((Map<SbomFormat, Path> outputPaths) -> outputPaths.keySet()
+                        .equals(Set.of(SbomFormat.SPDX, SbomFormat.CYCLONEDX))),
+                any(Path.class),
+                eq("demo-root"),
+                eq("1.2.3"),
+                eq(mergedComponents)
+        );
+        verify(sbomComponentCollector, times(1)).collectMavenComponents(anyCollection(), anyCollection());
+        verify(sbomComponentCollector, never()).collect(any(), any(), any());
+        verify(logger).lifecycle(eq("Generated {} SBOM: {}"), eq("spdx"), any(Path.class));
+        verify(logger).lifecycle(eq("{} SBOM is up to date: {}"), eq("cyclonedx"), any(Path.class));
+    }
+
+    @Test
+    @DisplayName("Surfaces background collection failure as warning at build end")
+    void surfacesBackgroundFailureAsWarning() {
+        Project root = ProjectBuilder.builder().withName("demo-root").build();
+        when(gradle.getRootProject()).thenReturn(root);
+        when(sbomComponentCollector.collectMavenComponents(anyCollection(), anyCollection()))
+                .thenThrow(new IllegalStateException("boom"));
+
+        DefaultSbomGenerationService service =
+                new DefaultSbomGenerationService(sbomGenerator, sbomComponentCollector);
+        CompletableFuture<List<SbomComponent>> pendingComponents =
+                service.collectInBackground(Map.of(), List.of());
+
+        assertDoesNotThrow(() -> service.generate(gradle, Set.of(SbomFormat.SPDX), pendingComponents, logger));
+
+        verify(logger).warn(eq("Failed to generate SBOM"), any(IllegalStateException.class));
+        verifyNoInteractions(sbomGenerator);
+    }
 }
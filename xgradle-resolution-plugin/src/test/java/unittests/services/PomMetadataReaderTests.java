@@ -32,9 +32,11 @@ import org.gradle.api.logging.Logger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -91,6 +93,47 @@ class PomMetadataReaderTests {
         );
     }
 
+    @Test
+    @DisplayName("Resolves inherited templates against each child sharing a parent")
+    void resolvesSharedParentTemplatesPerChild(@TempDir Path tempDir) throws Exception {
+        Files.writeString(tempDir.resolve("shared-parent.pom"), "<project>"
+                + "<modelVersion>4.0.0</modelVersion>"
+                + "<groupId>org.example</groupId>"
+                + "<artifactId>shared-parent</artifactId>"
+                + "<version>1.0</version>"
+                + "<packaging>pom</packaging>"
+                + "<url>https://example.org/${project.artifactId}</url>"
+                + "<properties><scm.host>https://scm.example.org</scm.host></properties>"
+                + "<scm><url>${scm.host}/${project.artifactId}</url></scm>"
+                + "<licenses><license><name>Apache-2.0</name></license></licenses>"
+                + "</project>");
+        Path first = writeChild(tempDir, "first-child", "");
+        Path second = writeChild(tempDir, "second-child", "<url>https://second.example.org</url>");
+
+        PomMetadataReader reader = createInjector().getInstance(PomMetadataReader.class);
+        PomMetadata firstMetadata = reader.read(first);
+        PomMetadata secondMetadata = reader.read(second);
+
+        assertEquals("https://example.org/first-child", firstMetadata.getProjectUrl());
+        assertEquals("https://scm.example.org/first-child", firstMetadata.getScmUrl());
+        assertEquals("Apache-2.0", firstMetadata.getLicenses().get(0).getName());
+        assertEquals("https://second.example.org", secondMetadata.getProjectUrl());
+        assertEquals("https://scm.example.org/second-child", secondMetadata.getScmUrl());
+        assertEquals("Apache-2.0", secondMetadata.getLicenses().get(0).getName());
+    }
+
+    private Path writeChild(Path directory, String artifactId, String extra) throws Exception {
+        Path pom = directory.resolve(artifactId + ".pom");
+        Files.writeString(pom, "<project>"
+                + "<modelVersion>4.0.0</modelVersion>"
+                + "<parent><groupId>org.example</groupId>"
+                + "<artifactId>shared-parent</artifactId><version>1.0</version></parent>"
+                + "<artifactId>" + artifactId + "</artifactId>"
+                + extra
+                + "</project>");
+        return pom;
+    }
+
     private Injector createInjector() {
         return Guice.createInjector(
                 Modules.override(
@@ -38,6 +38,8 @@ import java.util.List;
 @Singleton
 final class DefaultCycloneDxSbomDocumentBuilder implements SbomDocumentBuilder {
 
+    private static final String SPEC_VERSION = "1.5";
+
     @Inject
     DefaultCycloneDxSbomDocumentBuilder() {
     }
@@ -48,16 +50,58 @@ final class DefaultCycloneDxSbomDocumentBuilder implements SbomDocumentBuilder {
     }
 
     @Override
-    public JsonObject build(
+    public String specVersion() {
+        return SPEC_VERSION;
+    }
+
+    @Override
+    public JsonObject buildComponent(SbomComponent component) {
+        JsonObject componentObject = new JsonObject();
+        componentObject.addProperty("type", toCycloneDxType(component));
+
+        if (component.getGroupId() != null) {
+            componentObject.addProperty("group", component.getGroupId());
+        }
+
+        componentObject.addProperty(
+                "name",
+                component.getArtifactId() != null ? component.getArtifactId() : component.displayName()
+        );
+
+        if (component.getVersion() != null) {
+            componentObject.addProperty("version", component.getVersion());
+        }
+
+        if (component.getGroupId() != null
+                && component.getArtifactId() != null
+                && component.getVersion() != null) {
+            componentObject.addProperty(
+                    "purl",
+                    "pkg:maven/" + component.getGroupId()
+                            + "/"
+                            + component.getArtifactId()
+                            + "@"
+                            + component.getVersion()
+            );
+        }
+
+        addCycloneDxExternalReferences(componentObject, component);
+        addCycloneDxLicenses(componentObject, component);
+        addCycloneDxProperties(componentObject, component);
+        return componentObject;
+    }
+
+    @Override
+    public JsonObject assemble(
             String projectName,
             String projectVersion,
-            List<SbomComponent> components
+            List<JsonObject> componentFragments
     ) {
         String now = Instant.now().toString();
 
         JsonObject document = new JsonObject();
         document.addProperty("bomFormat", "CycloneDX");
-        document.addProperty("specVersion", "1.5");
+        document.addProperty("specVersion", SPEC_VERSION);
         document.addProperty("version", 1);
 
         JsonObject metadata = new JsonObject();
@@ -80,41 +124,7 @@ final class DefaultCycloneDxSbomDocumentBuilder implements SbomDocumentBuilder {
         document.add("metadata", metadata);
 
         JsonArray componentsArray = new JsonArray();
-        components.stream().forEach(component -> {
-            JsonObject componentObject = new JsonObject();
-            componentObject.addProperty("type", toCycloneDxType(component));
-
-            if (component.getGroupId() != null) {
-                componentObject.addProperty("group", component.getGroupId());
-            }
-
-            componentObject.addProperty(
-                    "name",
-                    component.getArtifactId() != null ? component.getArtifactId() : component.displayName()
-            );
-
-            if (component.getVersion() != null) {
-                componentObject.addProperty("version", component.getVersion());
-            }
-
-            if (component.getGroupId() != null
-                    && component.getArtifactId() != null
-                    && component.getVersion() != null) {
-                componentObject.addProperty(
-                        "purl",
-                        "pkg:maven/" + component.getGroupId()
-                                + "/"
-                                + component.getArtifactId()
-                                + "@"
-                                + component.getVersion()
-                );
-            }
-
-            addCycloneDxExternalReferences(componentObject, component);
-            addCycloneDxLicenses(componentObject, component);
-            addCycloneDxProperties(componentObject, component);
-            componentsArray.add(componentObject);
-        });
+        componentFragments.forEach(componentsArray::add);
 
         document.add("components", componentsArray);
         return document;
@@ -42,6 +42,8 @@ import java.util.stream.IntStream;
 @Singleton
 final class DefaultSpdxSbomDocumentBuilder implements SbomDocumentBuilder {
 
+    private static final String SPDX_VERSION = "SPDX-2.3";
+
     private final SpdxLicenseMapper spdxLicenseMapper;
 
     @Inject
@@ -55,15 +57,37 @@ final class DefaultSpdxSbomDocumentBuilder implements SbomDocumentBuilder {
     }
 
     @Override
-    public JsonObject build(
+    public String specVersion() {
+        return SPDX_VERSION;
+    }
+
+    @Override
+    public JsonObject buildComponent(SbomComponent component) {
+        JsonObject packageObject = new JsonObject();
+        packageObject.addProperty("name", component.displayName());
+        packageObject.addProperty(
+                "versionInfo",
+                component.getVersion() != null ? component.getVersion() : "NOASSERTION"
+        );
+        packageObject.addProperty("licenseDeclared", toSpdxLicenseExpression(component.getLicenses()));
+        packageObject.addProperty(
+                "homepage",
+                firstNonBlank(component.getProjectUrl(), component.getScmUrl(), "NOASSERTION")
+        );
+        packageObject.addProperty("filesAnalyzed", false);
+        return packageObject;
+    }
+
+    @Override
+    public JsonObject assemble(
             String projectName,
             String projectVersion,
-            List<SbomComponent> components
+            List<JsonObject> componentFragments
     ) {
         String now = Instant.now().toString();
 
         JsonObject document = new JsonObject();
-        document.addProperty("spdxVersion", "SPDX-2.3");
+        document.addProperty("spdxVersion", SPDX_VERSION);
         document.addProperty("dataLicense", "CC0-1.0");
         document.addProperty("SPDXID", "SPDXRef-DOCUMENT");
         document.addProperty("name", projectName + "-sbom");
@@ -77,21 +101,14 @@ final class DefaultSpdxSbomDocumentBuilder implements SbomDocumentBuilder {
         document.add("creationInfo", creationInfo);
 
         JsonArray packages = new JsonArray();
-        IntStream.range(0, components.size()).forEach(index -> {
-            SbomComponent component = components.get(index);
+        IntStream.range(0, componentFragments.size()).forEach(index -> {
+            JsonObject fragment = componentFragments.get(index);
             JsonObject packageObject = new JsonObject();
-            packageObject.addProperty("name", component.displayName());
+            packageObject.add("name", fragment.get("name"));
             packageObject.addProperty("SPDXID", "SPDXRef-Package-" + (index + 1));
-            packageObject.addProperty(
-                    "versionInfo",
-                    component.getVersion() != null ? component.getVersion() : "NOASSERTION"
-            );
-            packageObject.addProperty("licenseDeclared", toSpdxLicenseExpression(component.getLicenses()));
-            packageObject.addProperty(
-                    "homepage",
-                    firstNonBlank(component.getProjectUrl(), component.getScmUrl(), "NOASSERTION")
-            );
-            packageObject.addProperty("filesAnalyzed", false);
+            fragment.entrySet().stream()
+                    .filter(entry -> !"name".equals(entry.getKey()))
+                    .forEach(entry -> packageObject.add(entry.getKey(), entry.getValue()));
             packages.add(packageObject);
         });
 
@@ -18,7 +18,10 @@ package org.altlinux.xgradle.impl.enums;
 import org.altlinux.xgradle.impl.validation.SbomValidationUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Supported SBOM output formats.
@@ -55,4 +58,27 @@ public enum SbomFormat {
                 .filter(format -> format.propertyValue.equals(normalizedValue))
                 .findFirst();
     }
+
+    /**
+     * Parses a comma-separated list of formats, e.g. {@code spdx,cyclonedx}.
+     *
+     * @param value raw property value
+     * @return parsed formats, or empty if the list is blank or contains an unsupported format
+     */
+    public static Optional<Set<SbomFormat>> fromPropertyList(String value) {
+        String normalized = SbomValidationUtils.normalizeNullable(value);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+
+        Set<SbomFormat> formats = EnumSet.noneOf(SbomFormat.class);
+        for (String token : normalized.split(",", -1)) {
+            Optional<SbomFormat> format = fromProperty(token);
+            if (format.isEmpty()) {
+                return Optional.empty();
+            }
+            formats.add(format.get());
+        }
+        return Optional.of(Collections.unmodifiableSet(formats));
+    }
 }
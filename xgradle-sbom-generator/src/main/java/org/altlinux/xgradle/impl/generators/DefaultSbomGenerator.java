@@ -24,25 +24,40 @@ import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.impl.validation.SbomValidationUtils;
 import org.altlinux.xgradle.interfaces.builders.SbomDocumentBuilder;
 import org.altlinux.xgradle.interfaces.generators.SbomGenerator;
+import org.altlinux.xgradle.interfaces.licenses.SpdxLicenseMapper;
 import org.altlinux.xgradle.interfaces.preprocessors.SbomComponentPreprocessor;
 import org.altlinux.xgradle.interfaces.writers.SbomOutputWriter;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Default implementation of {@link SbomGenerator}.
  *
+ * <p>A fingerprint of the component set, the document specification version and the generator,
+ * builder and license mapper implementations is stored in the state directory together with
+ * per-component fragments. Generation is skipped when the fingerprint is unchanged, and only
+ * changed components are rebuilt otherwise.</p>
+ *
+ * <p>When several formats are requested, components are preprocessed once and every
+ * builder renders from the same immutable component list concurrently.</p>
+ *
  * @author Ivan Khanas <xeno@altlinux.org>
  */
 @Singleton
 final class DefaultSbomGenerator implements SbomGenerator {
 
     private final Map<SbomFormat, SbomDocumentBuilder> buildersByFormat;
+    private final Map<SbomFormat, String> generatorIdentitiesByFormat;
     private final SbomComponentPreprocessor componentPreprocessor;
     private final SbomOutputWriter sbomOutputWriter;
 
@@ -50,34 +65,130 @@ final class DefaultSbomGenerator implements SbomGenerator {
     DefaultSbomGenerator(
             Set<SbomDocumentBuilder> sbomDocumentBuilders,
             SbomComponentPreprocessor componentPreprocessor,
-            SbomOutputWriter sbomOutputWriter
+            SbomOutputWriter sbomOutputWriter,
+            SpdxLicenseMapper spdxLicenseMapper
     ) {
         this.buildersByFormat = indexBuilders(sbomDocumentBuilders);
+        this.generatorIdentitiesByFormat = identifyGenerators(buildersByFormat, spdxLicenseMapper);
         this.componentPreprocessor = componentPreprocessor;
         this.sbomOutputWriter = sbomOutputWriter;
     }
 
     @Override
-    public void generate(
+    public boolean generate(
             SbomFormat format,
             Path outputPath,
+            Path stateDirectory,
             String projectName,
             String projectVersion,
             Collection<SbomComponent> components
     ) {
         SbomValidationUtils.requireNonNull(format, "SBOM format must not be null");
         SbomValidationUtils.requireOutputPath(outputPath);
+        SbomValidationUtils.requireNonNull(stateDirectory, "SBOM state directory must not be null");
+
+        return render(
+                format,
+                outputPath,
+                stateDirectory,
+                SbomValidationUtils.requireProjectNameOrDefault(projectName),
+                SbomValidationUtils.requireProjectVersionOrDefault(projectVersion),
+                componentPreprocessor.preprocess(components)
+        );
+    }
+
+    @Override
+    public Map<SbomFormat, Boolean> generate(
+            Map<SbomFormat, Path> outputPaths,
+            Path stateDirectory,
+            String projectName,
+            String projectVersion,
+            Collection<SbomComponent> components
+    ) {
+        SbomValidationUtils.requireNonNull(outputPaths, "SBOM output paths must not be null");
+        SbomValidationUtils.requireNonNull(stateDirectory, "SBOM state directory must not be null");
+        outputPaths.forEach((format, outputPath) -> {
+            SbomValidationUtils.requireNonNull(format, "SBOM format must not be null");
+            SbomValidationUtils.requireOutputPath(outputPath);
+            resolveBuilder(format);
+        });
 
         String normalizedProjectName = SbomValidationUtils.requireProjectNameOrDefault(projectName);
         String normalizedProjectVersion = SbomValidationUtils.requireProjectVersionOrDefault(projectVersion);
-        List<SbomComponent> orderedComponents = componentPreprocessor.preprocess(components);
-        JsonObject report = resolveBuilder(format).build(
+        List<SbomComponent> orderedComponents = List.copyOf(componentPreprocessor.preprocess(components));
+
+        Map<SbomFormat, Boolean> results = outputPaths.entrySet()
+                .parallelStream()
+                .collect(Collectors.toConcurrentMap(
+                        Map.Entry::getKey,
+                        entry -> render(
+                                entry.getKey(),
+                                entry.getValue(),
+                                stateDirectory,
+                                normalizedProjectName,
+                                normalizedProjectVersion,
+                                orderedComponents
+                        )
+                ));
+        Map<SbomFormat, Boolean> orderedResults = new EnumMap<>(SbomFormat.class);
+        orderedResults.putAll(results);
+        return Collections.unmodifiableMap(orderedResults);
+    }
+
+    private boolean render(
+            SbomFormat format,
+            Path outputPath,
+            Path stateDirectory,
+            String normalizedProjectName,
+            String normalizedProjectVersion,
+            List<SbomComponent> orderedComponents
+    ) {
+        SbomDocumentBuilder builder = resolveBuilder(format);
+
+        String generatorIdentity = generatorIdentitiesByFormat.get(format);
+        List<String> componentHashes = orderedComponents.stream()
+                .map(SbomOutputState::componentHash)
+                .collect(Collectors.toList());
+        String fingerprint = SbomOutputState.fingerprint(
+                format,
+                builder.specVersion(),
+                generatorIdentity,
                 normalizedProjectName,
                 normalizedProjectVersion,
-                orderedComponents
+                componentHashes
+        );
+
+        Path statePath = SbomOutputState.statePath(stateDirectory, outputPath);
+        SbomOutputState previousState = SbomOutputState.read(statePath, generatorIdentity);
+        if (previousState.matches(fingerprint) && Files.isRegularFile(outputPath)) {
+            return false;
+        }
+
+        Map<String, JsonObject> fragmentsByHash = new LinkedHashMap<>();
+        List<JsonObject> fragments = IntStream.range(0, orderedComponents.size())
+                .mapToObj(index -> {
+                    String componentHash = componentHashes.get(index);
+                    JsonObject fragment = previousState.fragment(componentHash);
+                    if (fragment == null) {
+                        fragment = builder.buildComponent(orderedComponents.get(index));
+                    }
+                    if (fragment != null) {
+                        fragmentsByHash.put(componentHash, fragment);
+                    }
+                    return fragment;
+                })
+                .collect(Collectors.toList());
+
+        JsonObject report = builder.assemble(
+                normalizedProjectName,
+                normalizedProjectVersion,
+                fragments
         );
 
         sbomOutputWriter.write(outputPath, report);
+        SbomOutputState state = new SbomOutputState(generatorIdentity, fingerprint, fragmentsByHash);
+        sbomOutputWriter.write(statePath, state.toJson());
+        return true;
     }
 
     private Map<SbomFormat, SbomDocumentBuilder> indexBuilders(Set<SbomDocumentBuilder> builders) {
@@ -96,6 +207,19 @@ final class DefaultSbomGenerator implements SbomGenerator {
         return Map.copyOf(indexedBuilders);
     }
 
+    private Map<SbomFormat, String> identifyGenerators(
+            Map<SbomFormat, SbomDocumentBuilder> builders,
+            SpdxLicenseMapper spdxLicenseMapper
+    ) {
+        Map<SbomFormat, String> identities = new EnumMap<>(SbomFormat.class);
+        builders.forEach((format, builder) -> identities.put(format, SbomOutputState.generatorIdentity(
+                DefaultSbomGenerator.class,
+                builder.getClass(),
+                spdxLicenseMapper.getClass()
+        )));
+        return Map.copyOf(identities);
+    }
+
     private SbomDocumentBuilder resolveBuilder(SbomFormat format) {
         SbomDocumentBuilder builder = buildersByFormat.get(format);
         if (builder == null) {
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 BaseALT Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.altlinux.xgradle.impl.generators;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.altlinux.xgradle.impl.enums.SbomFormat;
+import org.altlinux.xgradle.impl.models.SbomComponent;
+import org.altlinux.xgradle.impl.models.SbomLicense;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fingerprint and per-component fragments of a previously generated SBOM report,
+ * persisted in a state directory apart from the reports to skip or patch regeneration.
+ * The fingerprint covers the generator implementation as well as its input, so
+ * reports are rebuilt after an upgrade that changes the output or the license mapping.
+ *
+ * @author Ivan Khanas <xeno@altlinux.org>
+ */
+final class SbomOutputState {
+
+    private static final String STATE_FILE_SUFFIX = ".state";
+    private static final int STATE_VERSION = 2;
+
+    private static final SbomOutputState EMPTY = new SbomOutputState(null, null, Map.of());
+
+    private final String generatorIdentity;
+    private final String fingerprint;
+    private final Map<String, JsonObject> fragmentsByComponentHash;
+
+    SbomOutputState(
+            String generatorIdentity,
+            String fingerprint,
+            Map<String, JsonObject> fragmentsByComponentHash
+    ) {
+        this.generatorIdentity = generatorIdentity;
+        this.fingerprint = fingerprint;
+        this.fragmentsByComponentHash = fragmentsByComponentHash;
+    }
+
+    static Path statePath(Path stateDirectory, Path outputPath) {
+        return stateDirectory.resolve(outputPath.getFileName() + STATE_FILE_SUFFIX);
+    }
+
+    /**
+     * Describes the classes taking part in rendering: their names, implementation
+     * versions and the size and modification time of the archives they were loaded from.
+     */
+    static String generatorIdentity(Class<?>... implementations) {
+        StringBuilder identity = new StringBuilder();
+        for (Class<?> implementation : implementations) {
+            identity.append(implementation.getName());
+            Package implementationPackage = implementation.getPackage();
+            if (implementationPackage != null && implementationPackage.getImplementationVersion() != null) {
+                identity.append('@').append(implementationPackage.getImplementationVersion());
+            }
+            identity.append('\u0000').append(describeCodeSource(implementation)).append('\n');
+        }
+        return sha256(identity.toString());
+    }
+
+    /**
+     * Reads a previous state, discarding it when it was produced by a different generator,
+     * since its component fragments would no longer match the current rendering.
+     */
+    static SbomOutputState read(Path statePath, String currentGeneratorIdentity) {
+        if (!Files.isRegularFile(statePath)) {
+            return EMPTY;
+        }
+
+        try {
+            JsonObject state = JsonParser.parseString(Files.readString(statePath, StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            if (!state.has("stateVersion") || state.get("stateVersion").getAsInt() != STATE_VERSION) {
+                return EMPTY;
+            }
+            if (!state.has("generator") || !state.get("generator").getAsString().equals(currentGeneratorIdentity)) {
+                return EMPTY;
+            }
+
+            Map<String, JsonObject> fragments = new LinkedHashMap<>();
+            state.getAsJsonObject("fragments").entrySet()
+                    .forEach(entry -> fragments.put(entry.getKey(), entry.getValue().getAsJsonObject()));
+            return new SbomOutputState(currentGeneratorIdentity, state.get("fingerprint").getAsString(), fragments);
+        } catch (IOException | RuntimeException e) {
+            return EMPTY;
+        }
+    }
+
+    static String fingerprint(
+            SbomFormat format,
+            String specVersion,
+            String generatorIdentity,
+            String projectName,
+            String projectVersion,
+            List<String> componentHashes
+    ) {
+        StringBuilder canonical = new StringBuilder()
+                .append(STATE_VERSION).append('\n')
+                .append(format).append('\n')
+                .append(specVersion).append('\n')
+                .append(generatorIdentity).append('\n')
+                .append(projectName).append('\n')
+                .append(projectVersion).append('\n');
+        componentHashes.forEach(hash -> canonical.append(hash).append('\n'));
+        return sha256(canonical.toString());
+    }
+
+    static String componentHash(SbomComponent component) {
+        StringBuilder canonical = new StringBuilder()
+                .append(component.getComponentKind()).append('\u0000')
+                .append(component.getGroupId()).append('\u0000')
+                .append(component.getArtifactId()).append('\u0000')
+                .append(component.getVersion()).append('\u0000')
+                .append(component.getFileName()).append('\u0000')
+                .append(component.getProjectUrl()).append('\u0000')
+                .append(component.getScmUrl());
+        for (SbomLicense license : component.getLicenses()) {
+            canonical.append('\u0000').append(license.getName()).append('\u0000').append(license.getUrl());
+        }
+        return sha256(canonical.toString());
+    }
+
+    boolean matches(String currentFingerprint) {
+        return fingerprint != null && fingerprint.equals(currentFingerprint);
+    }
+
+    JsonObject fragment(String componentHash) {
+        JsonObject fragment = fragmentsByComponentHash.get(componentHash);
+        return fragment != null ? fragment.deepCopy() : null;
+    }
+
+    JsonObject toJson() {
+        JsonObject fragments = new JsonObject();
+        fragmentsByComponentHash.forEach(fragments::add);
+
+        JsonObject state = new JsonObject();
+        state.addProperty("stateVersion", STATE_VERSION);
+        state.addProperty("generator", generatorIdentity);
+        state.addProperty("fingerprint", fingerprint);
+        state.add("fragments", fragments);
+        return state;
+    }
+
+    private static String describeCodeSource(Class<?> implementation) {
+        try {
+            CodeSource codeSource = implementation.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return "";
+            }
+            Path location = Path.of(codeSource.getLocation().toURI());
+            if (!Files.isRegularFile(location)) {
+                return location.toString();
+            }
+            return location + "\u0000" + Files.size(location)
+                    + "\u0000" + Files.getLastModifiedTime(location).toMillis();
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return "";
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte current : digest) {
+                hex.append(Character.forDigit((current >> 4) & 0xF, 16))
+                        .append(Character.forDigit(current & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.altlinux.xgradle.impl.enums.SbomFormat;
 import org.altlinux.xgradle.impl.models.SbomComponent;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Builds a format-specific SBOM JSON document from normalized components.
@@ -35,6 +36,13 @@ public interface SbomDocumentBuilder {
      */
     SbomFormat format();
 
+    /**
+     * Returns specification version of generated documents.
+     *
+     * @return document specification version
+     */
+    String specVersion();
+
     /**
      * Builds a format-specific SBOM document from normalized project data.
      *
@@ -43,9 +51,40 @@ public interface SbomDocumentBuilder {
      * @param components normalized and preprocessed SBOM components
      * @return generated SBOM JSON payload
      */
-    JsonObject build(
+    default JsonObject build(
             String projectName,
             String projectVersion,
             List<SbomComponent> components
+    ) {
+        return assemble(
+                projectName,
+                projectVersion,
+                components.stream()
+                        .map(this::buildComponent)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Builds the document fragment describing a single component.
+     * Fragments must not depend on the component position, so they can be reused between reports.
+     *
+     * @param component normalized SBOM component
+     * @return component JSON fragment
+     */
+    JsonObject buildComponent(SbomComponent component);
+
+    /**
+     * Assembles a format-specific SBOM document from component fragments.
+     *
+     * @param projectName project name used for top-level metadata
+     * @param projectVersion project version used for top-level metadata
+     * @param componentFragments fragments built by {@link #buildComponent(SbomComponent)}, in output order
+     * @return generated SBOM JSON payload
+     */
+    JsonObject assemble(
+            String projectName,
+            String projectVersion,
+            List<JsonObject> componentFragments
     );
 }
@@ -20,6 +20,7 @@ import org.altlinux.xgradle.impl.models.SbomComponent;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Generates SBOM documents in a supported format.
@@ -30,16 +31,39 @@ public interface SbomGenerator {
 
     /**
      * Generates SBOM report file for given project metadata and components.
+     * Regeneration is skipped when an existing report was produced from the same input.
      *
      * @param format output SBOM format
      * @param outputPath target file path for generated report
+     * @param stateDirectory directory for the up-to-date state, kept apart from published reports
      * @param projectName project name to include into report metadata
      * @param projectVersion project version to include into report metadata
      * @param components project components to serialize into SBOM
+     * @return {@code true} if the report was written, {@code false} if the existing report is up to date
      */
-    void generate(
+    boolean generate(
             SbomFormat format,
             Path outputPath,
+            Path stateDirectory,
+            String projectName,
+            String projectVersion,
+            Collection<SbomComponent> components
+    );
+
+    /**
+     * Generates SBOM reports in several formats from a single component set.
+     * Components are preprocessed once and the format builders run concurrently.
+     *
+     * @param outputPaths target file path for each requested format
+     * @param stateDirectory directory for the up-to-date state, kept apart from published reports
+     * @param projectName project name to include into report metadata
+     * @param projectVersion project version to include into report metadata
+     * @param components project components to serialize into SBOM
+     * @return per-format result, {@code true} if the report was written
+     */
+    Map<SbomFormat, Boolean> generate(
+            Map<SbomFormat, Path> outputPaths,
+            Path stateDirectory,
             String projectName,
             String projectVersion,
             Collection<SbomComponent> components
@@ -19,6 +19,8 @@ import org.altlinux.xgradle.impl.enums.SbomFormat;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -57,4 +59,22 @@ class SbomFormatTests {
         assertTrue(SbomFormat.fromProperty("").isEmpty());
         assertTrue(SbomFormat.fromProperty(null).isEmpty());
     }
+
+    @Test
+    @DisplayName("Parses comma-separated format list")
+    void parsesFormatList() {
+        assertEquals(Set.of(SbomFormat.SPDX), SbomFormat.fromPropertyList("spdx").orElseThrow());
+        assertEquals(
+                Set.of(SbomFormat.SPDX, SbomFormat.CYCLONEDX),
+                SbomFormat.fromPropertyList(" spdx , Cyclone-DX,spdx").orElseThrow()
+        );
+    }
+
+    @Test
+    @DisplayName("Rejects format list with unsupported entries")
+    void rejectsFormatListWithUnsupportedEntries() {
+        assertTrue(SbomFormat.fromPropertyList("spdx,xml").isEmpty());
+        assertTrue(SbomFormat.fromPropertyList("spdx,").isEmpty());
+        assertTrue(SbomFormat.fromPropertyList(null).isEmpty());
+    }
 }
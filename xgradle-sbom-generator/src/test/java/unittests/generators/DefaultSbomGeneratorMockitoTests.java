@@ -25,6 +25,7 @@ import org.altlinux.xgradle.impl.generators.GeneratorsModule;
 import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.interfaces.builders.SbomDocumentBuilder;
 import org.altlinux.xgradle.interfaces.generators.SbomGenerator;
+import org.altlinux.xgradle.interfaces.licenses.SpdxLicenseMapper;
 import org.altlinux.xgradle.interfaces.preprocessors.SbomComponentPreprocessor;
 import org.altlinux.xgradle.interfaces.writers.SbomOutputWriter;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +46,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("Default SBOM generator interactions")
 class DefaultSbomGeneratorMockitoTests {
 
+    private static final Path STATE_DIRECTORY = Path.of("build/tmp/xgradle-sbom");
+
     @Mock
     private SbomDocumentBuilder spdxBuilder;
 
@@ -54,6 +57,9 @@ class DefaultSbomGeneratorMockitoTests {
     @Mock
     private SbomOutputWriter sbomOutputWriter;
 
+    @Mock
+    private SpdxLicenseMapper spdxLicenseMapper;
+
     @Test
     @DisplayName("Delegates generation pipeline to preprocessor builder and writer")
     void delegatesGenerationPipelineToCollaborators() {
@@ -63,15 +69,18 @@ class DefaultSbomGeneratorMockitoTests {
         Path outputPath = Path.of("build/reports/xgradle/sbom-spdx.json");
         List<SbomComponent> inputComponents = List.of(SbomComponent.maven("org.example", "demo-lib", "1.0.0"));
         List<SbomComponent> orderedComponents = List.of(SbomComponent.maven("org.example", "demo-lib", "1.0.0"));
+        JsonObject fragment = new JsonObject();
         JsonObject report = new JsonObject();
 
         when(componentPreprocessor.preprocess(inputComponents)).thenReturn(orderedComponents);
-        when(spdxBuilder.build("demo", "1.0.0", orderedComponents)).thenReturn(report);
+        when(spdxBuilder.buildComponent(orderedComponents.get(0))).thenReturn(fragment);
+        when(spdxBuilder.assemble("demo", "1.0.0", List.of(fragment))).thenReturn(report);
 
-        generator.generate(SbomFormat.SPDX, outputPath, "demo", "1.0.0", inputComponents);
+        generator.generate(SbomFormat.SPDX, outputPath, STATE_DIRECTORY, "demo", "1.0.0", inputComponents);
 
         verify(componentPreprocessor).preprocess(inputComponents);
-        verify(spdxBuilder).build("demo", "1.0.0", orderedComponents);
+        verify(spdxBuilder).buildComponent(orderedComponents.get(0));
+        verify(spdxBuilder).assemble("demo", "1.0.0", List.of(fragment));
         verify(sbomOutputWriter).write(outputPath, report);
     }
 
@@ -86,11 +95,11 @@ class DefaultSbomGeneratorMockitoTests {
         JsonObject report = new JsonObject();
 
         when(componentPreprocessor.preprocess(null)).thenReturn(orderedComponents);
-        when(spdxBuilder.build(anyString(), anyString(), eq(orderedComponents))).thenReturn(report);
+        when(spdxBuilder.assemble(anyString(), anyString(), eq(List.of()))).thenReturn(report);
 
-        generator.generate(SbomFormat.SPDX, outputPath, "   ", null, null);
+        generator.generate(SbomFormat.SPDX, outputPath, STATE_DIRECTORY, "   ", null, null);
 
-        verify(spdxBuilder).build("xgradle-project", "unspecified", orderedComponents);
+        verify(spdxBuilder).assemble("xgradle-project", "unspecified", List.of());
         verify(sbomOutputWriter).write(outputPath, report);
     }
 
@@ -104,6 +113,7 @@ class DefaultSbomGeneratorMockitoTests {
                     protected void configure() {
                         bind(SbomComponentPreprocessor.class).toInstance(componentPreprocessor);
                         bind(SbomOutputWriter.class).toInstance(sbomOutputWriter);
+                        bind(SpdxLicenseMapper.class).toInstance(spdxLicenseMapper);
 
                         Multibinder<SbomDocumentBuilder> builders = Multibinder.newSetBinder(
                                 binder(),
@@ -15,10 +15,16 @@
  */
 package unittests.generators;
 
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+import org.altlinux.xgradle.impl.di.SbomModule;
 import org.altlinux.xgradle.impl.enums.SbomFormat;
 import org.altlinux.xgradle.impl.models.SbomComponent;
 import org.altlinux.xgradle.impl.models.SbomLicense;
 import org.altlinux.xgradle.interfaces.generators.SbomGenerator;
+import org.altlinux.xgradle.interfaces.licenses.SpdxLicenseMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -26,8 +32,12 @@ import org.junit.jupiter.api.io.TempDir;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import unittests.AbstractSbomModuleTest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -41,6 +51,13 @@ class DefaultSbomGeneratorTests extends AbstractSbomModuleTest {
 
     private final SbomGenerator generator = injector.getInstance(SbomGenerator.class);
 
+    private Path stateDir;
+
+    @BeforeEach
+    void setUp() {
+        stateDir = tempDir.resolve("tmp");
+    }
+
     @Test
     @DisplayName("Generates SPDX JSON file")
     void generatesSpdx() throws Exception {
@@ -49,6 +66,7 @@ class DefaultSbomGeneratorTests extends AbstractSbomModuleTest {
         generator.generate(
                 SbomFormat.SPDX,
                 target,
+                stateDir,
                 "demo-project",
                 "1.0.0",
                 List.of(
@@ -84,6 +102,7 @@ class DefaultSbomGeneratorTests extends AbstractSbomModuleTest {
         generator.generate(
                 SbomFormat.CYCLONEDX,
                 target,
+                stateDir,
                 "demo-project",
                 "1.0.0",
                 List.of(
@@ -119,4 +138,103 @@ class DefaultSbomGeneratorTests extends AbstractSbomModuleTest {
         assertTrue(content.contains("\"xgradle:component-kind\""));
         assertTrue(content.contains("\"value\": \"gradle-plugin\""));
     }
+
+    @Test
+    @DisplayName("Skips regeneration when component set is unchanged")
+    void skipsUnchangedComponentSet() throws Exception {
+        Path target = tempDir.resolve("sbom-spdx.json");
+        List<SbomComponent> components = List.of(SbomComponent.maven("org.example", "demo-lib", "1.2.3"));
+
+        assertTrue(generator.generate(SbomFormat.SPDX, target, stateDir, "demo-project", "1.0.0", components));
+        String firstContent = Files.readString(target);
+
+        assertFalse(generator.generate(SbomFormat.SPDX, target, stateDir, "demo-project", "1.0.0", components));
+        assertEquals(firstContent, Files.readString(target));
+        assertTrue(Files.isRegularFile(stateDir.resolve("sbom-spdx.json.state")));
+        assertFalse(Files.exists(tempDir.resolve("sbom-spdx.json.state")));
+    }
+
+    @Test
+    @DisplayName("Regenerates unchanged components after the license mapping changes")
+    void regeneratesWhenGeneratorChanges() throws Exception {
+        Path target = tempDir.resolve("sbom-spdx.json");
+        List<SbomComponent> components = List.of(SbomComponent.maven(
+                "org.example", "demo-lib", "1.2.3", null, null, List.of(new SbomLicense("Custom", null))));
+        generator.generate(SbomFormat.SPDX, target, stateDir, "demo-project", "1.0.0", components);
+
+        SbomGenerator upgradedGenerator = Guice.createInjector(Modules.override(new SbomModule())
+                .with(new AbstractModule() {
+                    @Override
+                    protected void configure() {
+                        bind(SpdxLicenseMapper.class).toInstance(license -> Optional.of("MIT"));
+                    }
+                })).getInstance(SbomGenerator.class);
+
+        assertTrue(upgradedGenerator.generate(SbomFormat.SPDX, target, stateDir, "demo-project", "1.0.0", components));
+        assertTrue(Files.readString(target).contains("\"MIT\""));
+    }
+
+    @Test
+    @DisplayName("Patches report when components change")
+    void patchesReportWhenComponentsChange() throws Exception {
+        Path target = tempDir.resolve("sbom-spdx.json");
+
+        generator.generate(
+                SbomFormat.SPDX,
+                target,
+                stateDir,
+                "demo-project",
+                "1.0.0",
+                List.of(SbomComponent.maven("org.example", "demo-lib", "1.2.3"))
+        );
+        boolean written = generator.generate(
+                SbomFormat.SPDX,
+                target,
+                stateDir,
+                "demo-project",
+                "1.0.0",
+                List.of(
+                        SbomComponent.maven("org.example", "demo-lib", "1.2.3"),
+                        SbomComponent.maven("org.example", "another-lib", "2.0.0")
+                )
+        );
+
+        String content = Files.readString(target);
+        assertTrue(written);
+        assertTrue(content.contains("\"name\": \"org.example:demo-lib\""));
+        assertTrue(content.contains("\"name\": \"org.example:another-lib\""));
+        assertTrue(content.contains("\"SPDXID\": \"SPDXRef-Package-2\""));
+    }
+
+    @Test
+    @DisplayName("Regenerates missing report even when fingerprint matches")
+    void regeneratesMissingReport() throws Exception {
+        Path target = tempDir.resolve("sbom-cyclonedx.json");
+        List<SbomComponent> components = List.of(SbomComponent.file("standalone.jar"));
+
+        generator.generate(SbomFormat.CYCLONEDX, target, stateDir, "demo-project", "1.0.0", components);
+        Files.delete(target);
+
+        assertTrue(generator.generate(SbomFormat.CYCLONEDX, target, stateDir, "demo-project", "1.0.0", components));
+        assertTrue(Files.readString(target).contains("\"name\": \"standalone.jar\""));
+    }
+
+    @Test
+    @DisplayName("Generates several formats from one component set")
+    void generatesSeveralFormats() throws Exception {
+        Path spdxTarget = tempDir.resolve("sbom-spdx.json");
+        Path cycloneDxTarget = tempDir.resolve("sbom-cyclonedx.json");
+
+        Map<SbomFormat, Boolean> results = generator.generate(
+                Map.of(SbomFormat.SPDX, spdxTarget, SbomFormat.CYCLONEDX, cycloneDxTarget),
+                stateDir,
+                "demo-project",
+                "1.0.0",
+                List.of(SbomComponent.maven("org.example", "demo-lib", "1.2.3"))
+        );
+
+        assertEquals(Map.of(SbomFormat.SPDX, true, SbomFormat.CYCLONEDX, true), results);
+        assertTrue(Files.readString(spdxTarget).contains("\"spdxVersion\": \"SPDX-2.3\""));
+        assertTrue(Files.readString(cycloneDxTarget).contains("\"bomFormat\": \"CycloneDX\""));
+    }
 }
@@ -26,6 +26,7 @@ import com.google.inject.ProvisionException;
 import com.google.inject.multibindings.Multibinder;
 import org.altlinux.xgradle.impl.di.SbomModule;
 import org.altlinux.xgradle.impl.generators.GeneratorsModule;
+import org.altlinux.xgradle.impl.licenses.LicensesModule;
 import org.altlinux.xgradle.impl.preprocessors.PreprocessorsModule;
 import org.altlinux.xgradle.impl.writers.WritersModule;
 import org.altlinux.xgradle.impl.enums.SbomFormat;
@@ -65,6 +66,7 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
         generator.generate(
                 SbomFormat.SPDX,
                 target,
+                tempDir.resolve("tmp"),
                 "   ",
                 null,
                 List.of()
@@ -86,6 +88,7 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
                 () -> generator.generate(
                         null,
                         tempDir.resolve("out.json"),
+                        tempDir.resolve("tmp"),
                         "demo",
                         "1.0",
                         List.of()
@@ -101,6 +104,7 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
                 () -> generator.generate(
                         SbomFormat.SPDX,
                         null,
+                        tempDir.resolve("tmp"),
                         "demo",
                         "1.0",
                         List.of()
@@ -130,6 +134,7 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
         generator.generate(
                 SbomFormat.SPDX,
                 target,
+                tempDir.resolve("tmp"),
                 "demo",
                 "1.0.0",
                 null
@@ -144,6 +149,7 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
     void failsWhenNoBuilderIsRegistered() {
         Injector injectorWithoutBuilders = Guice.createInjector(
                 new GeneratorsModule(),
+                new LicensesModule(),
                 new PreprocessorsModule(),
                 new WritersModule(),
                 new NoBuildersModule()
@@ -160,6 +166,7 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
                 () -> generatorWithoutBuilders.generate(
                         SbomFormat.SPDX,
                         tempDir.resolve("out.json"),
+                        tempDir.resolve("tmp"),
                         "demo",
                         "1.0",
                         List.of()
@@ -211,15 +218,27 @@ class SbomGeneratorContractTests extends AbstractSbomModuleTest {
         }
 
         @Override
-        public JsonObject build(
+        public String specVersion() {
+            return "fake";
+        }
+
+        @Override
+        public JsonObject buildComponent(SbomComponent component) {
+            JsonObject fragment = new JsonObject();
+            fragment.addProperty("key", component.uniqueKey());
+            return fragment;
+        }
+
+        @Override
+        public JsonObject assemble(
                 String projectName,
                 String projectVersion,
-                List<SbomComponent> components
+                List<JsonObject> componentFragments
         ) {
             JsonObject payload = new JsonObject();
             payload.addProperty("name", projectName);
             payload.addProperty("version", projectVersion);
-            payload.addProperty("components", components != null ? components.size() : 0);
+            payload.addProperty("components", componentFragments != null ? componentFragments.size() : 0);
             return payload;
         }
     }